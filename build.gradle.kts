@@ -23,6 +23,21 @@ repositories {
     mavenCentral()
 }
 
+// Runtime libraries of the generator, used by both the plugin and the standalone CLI
+val runtimeLibraries = listOf(
+    // Freemarker for template processing
+    "org.freemarker:freemarker:2.3.32",
+    // YAML processing for configuration
+    "org.yaml:snakeyaml:2.2",
+    // HTTP client for downloading templates
+    "com.squareup.okhttp3:okhttp:4.12.0",
+    // JSON processing
+    "com.google.code.gson:gson:2.10.1",
+    // Logging
+    "org.slf4j:slf4j-api:2.0.9",
+    "ch.qos.logback:logback-classic:1.4.14"
+)
+
 dependencies {
     // Lombok for reducing boilerplate
     compileOnly("org.projectlombok:lombok:1.18.30")
@@ -31,21 +46,7 @@ dependencies {
     testCompileOnly("org.projectlombok:lombok:1.18.30")
     testAnnotationProcessor("org.projectlombok:lombok:1.18.30")
     
-    // Freemarker for template processing
-    implementation("org.freemarker:freemarker:2.3.32")
-    
-    // YAML processing for configuration
-    implementation("org.yaml:snakeyaml:2.2")
-    
-    // HTTP client for downloading templates
-    implementation("com.squareup.okhttp3:okhttp:4.12.0")
-    
-    // JSON processing
-    implementation("com.google.code.gson:gson:2.10.1")
-    
-    // Logging
-    implementation("org.slf4j:slf4j-api:2.0.9")
-    implementation("ch.qos.logback:logback-classic:1.4.14")
+    runtimeLibraries.forEach { implementation(it) }
     
     // Testing - JUnit
     testImplementation("org.junit.jupiter:junit-jupiter:5.10.1")
@@ -127,6 +128,125 @@ tasks.withType<ProcessResources> {
     duplicatesStrategy = DuplicatesStrategy.INCLUDE
 }
 
+// Expose the plugin version at runtime (recorded in the generation manifest)
+tasks.jar {
+    manifest {
+        attributes("Implementation-Version" to project.version)
+    }
+}
+
+// Standalone CLI: the generator and its runtime libraries in one jar, without the Gradle API.
+// Its libraries are declared explicitly because implementation inherits the gradleApi() file
+// dependency that java-gradle-plugin adds to api, which attributes cannot filter out.
+val cliRuntimeClasspath by configurations.creating {
+    isCanBeConsumed = false
+    isCanBeResolved = true
+    attributes {
+        attribute(Usage.USAGE_ATTRIBUTE, objects.named(Usage.JAVA_RUNTIME))
+        attribute(Category.CATEGORY_ATTRIBUTE, objects.named(Category.LIBRARY))
+        attribute(LibraryElements.LIBRARY_ELEMENTS_ATTRIBUTE, objects.named(LibraryElements.JAR))
+        attribute(Bundling.BUNDLING_ATTRIBUTE, objects.named(Bundling.EXTERNAL))
+    }
+}
+
+dependencies {
+    // OkHttp brings the Kotlin standard library it needs at runtime
+    runtimeLibraries.forEach { cliRuntimeClasspath(it) }
+}
+
+val cliJar by tasks.registering(Jar::class) {
+    group = "distribution"
+    description = "Assembles the standalone generator CLI as a self-contained jar"
+    archiveBaseName.set("cleanarch-cli")
+    manifest {
+        attributes(
+            "Main-Class" to "com.pragma.archetype.infrastructure.adapter.in.cli.GeneratorCli",
+            "Implementation-Version" to project.version
+        )
+    }
+    duplicatesStrategy = DuplicatesStrategy.EXCLUDE
+    from(sourceSets.main.get().output)
+    from({ cliRuntimeClasspath.filter { it.name.endsWith(".jar") }.map { zipTree(it) } })
+    exclude("META-INF/*.SF", "META-INF/*.DSA", "META-INF/*.RSA", "**/module-info.class")
+    doLast {
+        val jarFile = archiveFile.get().asFile
+        java.util.zip.ZipFile(jarFile).use { zip ->
+            val gradleEntry = zip.entries().asSequence().firstOrNull { it.name.startsWith("org/gradle/") }
+            check(gradleEntry == null) { "CLI jar must not bundle the Gradle API, found ${gradleEntry?.name}" }
+            logger.lifecycle("CLI jar: ${zip.size()} entries, ${jarFile.length() / 1024} KiB")
+        }
+    }
+}
+
+val cliJava = javaToolchains.launcherFor {
+    languageVersion.set(JavaLanguageVersion.of(21))
+}
+val cliCdsArchiveFile = layout.buildDirectory.file("libs/cleanarch-cli.jsa")
+
+// AppCDS archive of the classes loaded by a training run of every generation.
+// Run the CLI with: java -XX:SharedArchiveFile=build/libs/cleanarch-cli.jsa -jar build/libs/cleanarch-cli-<version>.jar
+val cliCdsArchive by tasks.registering(Exec::class) {
+    group = "distribution"
+    description = "Creates an AppCDS archive for the CLI from a training run"
+    val jar = cliJar.flatMap { it.archiveFile }
+    inputs.file(jar)
+    outputs.file(cliCdsArchiveFile)
+    argumentProviders.add(CommandLineArgumentProvider {
+        listOf("-XX:ArchiveClassesAtExit=${cliCdsArchiveFile.get().asFile}", "-jar", jar.get().asFile.path, "warmup")
+    })
+    doFirst {
+        executable = cliJava.get().executablePath.asFile.absolutePath
+    }
+}
+
+// Compares cold starts of a dry-run generateEntity without CDS, with the JDK's default
+// CDS archive and with the CLI's AppCDS archive. Runs per variant: -PbenchmarkRuns=10
+tasks.register("benchmarkCliStartup") {
+    group = "verification"
+    description = "Measures CLI startup with and without the AppCDS archive"
+    dependsOn(cliJar, cliCdsArchive)
+    val runs = (findProperty("benchmarkRuns") as String?)?.toInt() ?: 10
+    val scratch = layout.buildDirectory.dir("cli-benchmark/project")
+
+    doLast {
+        val java = cliJava.get().executablePath.asFile.absolutePath
+        val jar = cliJar.get().archiveFile.get().asFile.path
+        val archive = cliCdsArchiveFile.get().asFile.path
+        val projectDir = scratch.get().asFile
+        projectDir.deleteRecursively()
+        projectDir.mkdirs()
+
+        fun launch(command: List<String>): Long {
+            val start = System.nanoTime()
+            val process = ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start()
+            check(process.waitFor() == 0) { "CLI run failed: ${command.joinToString(" ")}" }
+            return (System.nanoTime() - start) / 1_000_000
+        }
+
+        launch(listOf(java, "-jar", jar, "initProject", "--projectPath=$projectDir", "--basePackage=com.example.benchmark"))
+        val generateEntity = listOf(
+            "-jar", jar, "generateEntity", "--projectPath=$projectDir", "--name=Order", "--dryRun",
+            "--params={\"fields\": [{\"name\": \"total\", \"type\": \"BigDecimal\"}]}"
+        )
+        val variants = linkedMapOf(
+            "without CDS" to listOf("-Xshare:off"),
+            "JDK default CDS" to emptyList(),
+            "AppCDS" to listOf("-XX:SharedArchiveFile=$archive")
+        )
+
+        logger.lifecycle("CLI startup, dry-run generateEntity, $runs run(s) each:")
+        variants.forEach { (name, flags) ->
+            val command = listOf(java) + flags + generateEntity
+            launch(command) // discard the first run, which warms the OS file cache
+            val times = (1..runs).map { launch(command) }.sorted()
+            logger.lifecycle(String.format("  %-16s median %5d ms   min %5d ms   max %5d ms", name, times[times.size / 2], times.first(), times.last()))
+        }
+    }
+}
+
 // Maven Central Publishing Configuration
 publishing {
     publications {
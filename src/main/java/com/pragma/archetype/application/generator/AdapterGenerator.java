@@ -23,6 +23,8 @@ import com.pragma.archetype.domain.port.out.TemplateRepository;
  */
 public class AdapterGenerator {
 
+  private static final String APP_SERVICE_MODULE = "application/app-service";
+
   private final TemplateRepository templateRepository;
   private final FileSystemPort fileSystemPort;
   private final PathResolver pathResolver;
@@ -54,6 +56,20 @@ public class AdapterGenerator {
     return generatedFiles;
   }
 
+  /**
+   * Gets the existing build files that {@link #generate} edits through the
+   * file system port, besides the files it returns.
+   *
+   * @return build files edited when adapters are generated as modules, empty
+   *         otherwise
+   */
+  public List<Path> editedBuildFiles(Path projectPath, ProjectConfig projectConfig) {
+    if (projectConfig != null && projectConfig.adaptersAsModules()) {
+      return List.of(projectPath.resolve(APP_SERVICE_MODULE).resolve("build.gradle.kts"));
+    }
+    return List.of();
+  }
+
   /**
    * Generates adapter as a new Gradle module (for granular architectures).
    */
@@ -88,7 +104,7 @@ public class AdapterGenerator {
     projectGenerator.addModuleToSettings(projectPath, modulePathForSettings);
 
     // 5. Add dependency from app-service to this adapter module
-    projectGenerator.addDependencyToModule(projectPath, "application/app-service", ":" + modulePathForSettings);
+    projectGenerator.addDependencyToModule(projectPath, APP_SERVICE_MODULE, ":" + modulePathForSettings);
 
     return generatedFiles;
   }
@@ -3,8 +3,14 @@ package com.pragma.archetype.application.generator;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 import com.pragma.archetype.domain.model.config.ProjectConfig;
 import com.pragma.archetype.domain.model.file.GeneratedFile;
@@ -12,6 +18,7 @@ import com.pragma.archetype.domain.model.project.ArchitectureType;
 import com.pragma.archetype.domain.model.structure.StructureMetadata;
 import com.pragma.archetype.domain.port.out.FileSystemPort;
 import com.pragma.archetype.domain.port.out.TemplateRepository;
+import com.pragma.archetype.domain.service.KotlinDslEditor;
 
 /**
  * Application service responsible for generating project structure.
@@ -19,12 +26,51 @@ import com.pragma.archetype.domain.port.out.TemplateRepository;
  */
 public class ProjectGenerator {
 
+        /**
+         * Exception thrown when one or more modules of a multi-module project
+         * fail to generate.
+         */
+        public static class ModuleGenerationException extends RuntimeException {
+                public ModuleGenerationException(String message, Throwable cause) {
+                        super(message, cause);
+                }
+        }
+
+        /**
+         * Renders one module, recording the directories it needs instead of
+         * creating them.
+         */
+        @FunctionalInterface
+        private interface ModuleTask {
+                List<GeneratedFile> generate(List<Path> directories);
+        }
+
         private final TemplateRepository templateRepository;
         private final FileSystemPort fileSystemPort;
+        private final int parallelism;
 
         public ProjectGenerator(TemplateRepository templateRepository, FileSystemPort fileSystemPort) {
+                this(templateRepository, fileSystemPort, Runtime.getRuntime().availableProcessors());
+        }
+
+        /**
+         * Creates a project generator.
+         *
+         * @param templateRepository template repository, must be safe for
+         *                           concurrent use when parallelism is above 1
+         * @param fileSystemPort     file system port, only used from the calling
+         *                           thread
+         * @param parallelism        maximum number of modules rendered at the
+         *                           same time
+         */
+        public ProjectGenerator(TemplateRepository templateRepository, FileSystemPort fileSystemPort,
+                        int parallelism) {
+                if (parallelism < 1) {
+                        throw new IllegalArgumentException("Parallelism must be at least 1");
+                }
                 this.templateRepository = templateRepository;
                 this.fileSystemPort = fileSystemPort;
+                this.parallelism = parallelism;
         }
 
         /**
@@ -76,17 +122,12 @@ public class ProjectGenerator {
                         throw new RuntimeException("settings.gradle.kts not found");
                 }
 
-                String content = fileSystemPort.readFile(settingsFile);
-                String includeStatement = "include(\"" + modulePath + "\")";
+                KotlinDslEditor editor = KotlinDslEditor.parse(fileSystemPort.readFile(settingsFile));
 
-                // Check if already included
-                if (content.contains(includeStatement)) {
-                        return; // Already included
+                // Only write if the module was not already included
+                if (editor.addInclude(modulePath)) {
+                        fileSystemPort.writeFile(GeneratedFile.create(settingsFile, editor.apply()));
                 }
-
-                // Add the include statement at the end
-                String newContent = content.trim() + "\n" + includeStatement + "\n";
-                fileSystemPort.writeFile(GeneratedFile.create(settingsFile, newContent));
         }
 
         /**
@@ -105,23 +146,14 @@ public class ProjectGenerator {
                         throw new RuntimeException("build.gradle.kts not found for module: " + modulePath);
                 }
 
-                String content = fileSystemPort.readFile(buildFile);
-                String dependencyStatement = "    implementation(project(\"" + dependencyPath + "\"))";
-
-                // Check if already added
-                if (content.contains(dependencyStatement)) {
-                        return; // Already added
+                KotlinDslEditor editor = KotlinDslEditor.parse(fileSystemPort.readFile(buildFile));
+                if (!editor.hasBlock("dependencies")) {
+                        throw new RuntimeException("dependencies block not found in build.gradle.kts");
                 }
 
-                // Find the dependencies block and add the dependency
-                if (content.contains("dependencies {")) {
-                        // Add after "dependencies {"
-                        String newContent = content.replace(
-                                        "dependencies {",
-                                        "dependencies {\n" + dependencyStatement);
-                        fileSystemPort.writeFile(GeneratedFile.create(buildFile, newContent));
-                } else {
-                        throw new RuntimeException("dependencies block not found in build.gradle.kts");
+                // Only write if the dependency was not already present
+                if (editor.appendToBlock("dependencies", "implementation(project(\"" + dependencyPath + "\"))")) {
+                        fileSystemPort.writeFile(GeneratedFile.create(buildFile, editor.apply()));
                 }
         }
 
@@ -442,6 +474,9 @@ public class ProjectGenerator {
         /**
          * Generates multi-module project structure.
          * Creates separate modules with their own build files and source directories.
+         * Modules are rendered concurrently, at most {@code parallelism} at a time;
+         * their files and directories are merged back in module order on the
+         * calling thread.
          *
          * @param projectPath the project root path
          * @param config      the project configuration
@@ -453,23 +488,118 @@ public class ProjectGenerator {
                         ProjectConfig config,
                         Map<String, Object> context) {
 
-                List<GeneratedFile> files = new ArrayList<>();
-
                 String architecturePath = "architectures/"
                                 + config.architecture().getValue();
 
+                Map<String, ModuleTask> modules = new LinkedHashMap<>();
+
                 // For hexagonal-multi: domain, application, infrastructure
                 if (config.architecture() == ArchitectureType.HEXAGONAL_MULTI) {
-                        files.addAll(generateDomainModule(projectPath, config, context, architecturePath));
-                        files.addAll(generateApplicationModule(projectPath, config, context, architecturePath));
-                        files.addAll(generateInfrastructureModule(projectPath, config, context, architecturePath));
+                        modules.put("domain", directories -> generateDomainModule(
+                                        projectPath, config, context, architecturePath, directories));
+                        modules.put("application", directories -> generateApplicationModule(
+                                        projectPath, config, context, architecturePath, directories));
+                        modules.put("infrastructure", directories -> generateInfrastructureModule(
+                                        projectPath, config, context, architecturePath, directories));
                 }
 
                 // For hexagonal-multi-granular: domain modules + app-service
+                // Infrastructure adapters are created dynamically when generating adapters.
                 if (config.architecture() == ArchitectureType.HEXAGONAL_MULTI_GRANULAR) {
-                        files.addAll(generateGranularStructure(projectPath, config, context, architecturePath));
+                        // Create organizing folders (not Gradle modules)
+                        fileSystemPort.createDirectory(projectPath.resolve("domain"));
+                        fileSystemPort.createDirectory(projectPath.resolve("application"));
+                        fileSystemPort.createDirectory(projectPath.resolve("infrastructure/entry-points"));
+                        fileSystemPort.createDirectory(projectPath.resolve("infrastructure/driven-adapters"));
+
+                        modules.put("domain/model", directories -> generateGranularDomainModelModule(
+                                        projectPath, config, context, architecturePath, directories));
+                        modules.put("domain/ports", directories -> generateGranularDomainPortsModule(
+                                        projectPath, config, context, architecturePath, directories));
+                        modules.put("domain/usecase", directories -> generateGranularDomainUseCaseModule(
+                                        projectPath, config, context, architecturePath, directories));
+                        modules.put("application/app-service", directories -> generateGranularAppServiceModule(
+                                        projectPath, config, context, architecturePath, directories));
                 }
 
+                return generateModules(modules);
+        }
+
+        /**
+         * Renders modules, at most {@code parallelism} at a time, then creates
+         * their directories and collects their files in module order.
+         * Module generators only render templates; every file system change
+         * happens on the calling thread.
+         *
+         * @param modules module generators by module path
+         * @return generated files of all modules
+         * @throws ModuleGenerationException listing every failed module if any fails
+         */
+        private List<GeneratedFile> generateModules(Map<String, ModuleTask> modules) {
+                List<String> names = List.copyOf(modules.keySet());
+                List<List<Path>> directories = new ArrayList<>(names.size());
+                List<List<GeneratedFile>> results = new ArrayList<>(names.size());
+                Map<String, Throwable> failures = new LinkedHashMap<>();
+
+                if (names.size() <= 1 || parallelism == 1) {
+                        for (String name : names) {
+                                List<Path> moduleDirectories = new ArrayList<>();
+                                try {
+                                        results.add(modules.get(name).generate(moduleDirectories));
+                                        directories.add(moduleDirectories);
+                                } catch (RuntimeException e) {
+                                        failures.put(name, e);
+                                }
+                        }
+                } else {
+                        Semaphore permits = new Semaphore(parallelism);
+                        List<List<Path>> pending = new ArrayList<>(names.size());
+                        List<Future<List<GeneratedFile>>> futures = new ArrayList<>(names.size());
+                        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                                for (String name : names) {
+                                        List<Path> moduleDirectories = new ArrayList<>();
+                                        pending.add(moduleDirectories);
+                                        futures.add(executor.submit(() -> {
+                                                permits.acquire();
+                                                try {
+                                                        return modules.get(name).generate(moduleDirectories);
+                                                } finally {
+                                                        permits.release();
+                                                }
+                                        }));
+                                }
+                        }
+
+                        for (int i = 0; i < names.size(); i++) {
+                                try {
+                                        results.add(futures.get(i).get());
+                                        directories.add(pending.get(i));
+                                } catch (ExecutionException e) {
+                                        failures.put(names.get(i), e.getCause());
+                                } catch (InterruptedException e) {
+                                        Thread.currentThread().interrupt();
+                                        failures.put(names.get(i), e);
+                                }
+                        }
+                }
+
+                if (!failures.isEmpty()) {
+                        StringBuilder message = new StringBuilder()
+                                        .append("Failed to generate ").append(failures.size())
+                                        .append(" of ").append(names.size()).append(" module(s)");
+                        failures.forEach((name, cause) -> message.append("\n  - ").append(name).append(": ")
+                                        .append(cause.getMessage()));
+
+                        ModuleGenerationException exception = new ModuleGenerationException(
+                                        message.toString(), failures.values().iterator().next());
+                        failures.values().stream().skip(1).forEach(exception::addSuppressed);
+                        throw exception;
+                }
+
+                // Merge back in module order
+                List<GeneratedFile> files = new ArrayList<>();
+                directories.forEach(moduleDirectories -> moduleDirectories.forEach(fileSystemPort::createDirectory));
+                results.forEach(files::addAll);
                 return files;
         }
 
@@ -480,7 +610,8 @@ public class ProjectGenerator {
                         Path projectPath,
                         ProjectConfig config,
                         Map<String, Object> context,
-                        String architecturePath) {
+                        String architecturePath,
+                        List<Path> directories) {
 
                 List<GeneratedFile> files = new ArrayList<>();
                 Path domainPath = projectPath.resolve("domain");
@@ -499,9 +630,9 @@ public class ProjectGenerator {
                                 .resolve(config.basePackage().replace('.', '/'))
                                 .resolve("domain");
 
-                fileSystemPort.createDirectory(domainSrcPath.resolve("model"));
-                fileSystemPort.createDirectory(domainSrcPath.resolve("port/in"));
-                fileSystemPort.createDirectory(domainSrcPath.resolve("port/out"));
+                directories.add(domainSrcPath.resolve("model"));
+                directories.add(domainSrcPath.resolve("port/in"));
+                directories.add(domainSrcPath.resolve("port/out"));
 
                 // Add .gitkeep files
                 files.add(GeneratedFile.create(domainSrcPath.resolve("model/.gitkeep"), ""));
@@ -518,7 +649,8 @@ public class ProjectGenerator {
                         Path projectPath,
                         ProjectConfig config,
                         Map<String, Object> context,
-                        String architecturePath) {
+                        String architecturePath,
+                        List<Path> directories) {
 
                 List<GeneratedFile> files = new ArrayList<>();
                 Path applicationPath = projectPath.resolve("application");
@@ -537,7 +669,7 @@ public class ProjectGenerator {
                                 .resolve(config.basePackage().replace('.', '/'))
                                 .resolve("application");
 
-                fileSystemPort.createDirectory(applicationSrcPath.resolve("usecase"));
+                directories.add(applicationSrcPath.resolve("usecase"));
 
                 // Add .gitkeep file
                 files.add(GeneratedFile.create(applicationSrcPath.resolve("usecase/.gitkeep"), ""));
@@ -552,7 +684,8 @@ public class ProjectGenerator {
                         Path projectPath,
                         ProjectConfig config,
                         Map<String, Object> context,
-                        String architecturePath) {
+                        String architecturePath,
+                        List<Path> directories) {
 
                 List<GeneratedFile> files = new ArrayList<>();
                 Path infrastructurePath = projectPath.resolve("infrastructure");
@@ -571,9 +704,9 @@ public class ProjectGenerator {
                                 .resolve(config.basePackage().replace('.', '/'))
                                 .resolve("infrastructure");
 
-                fileSystemPort.createDirectory(infrastructureSrcPath.resolve("entrypoints/rest"));
-                fileSystemPort.createDirectory(infrastructureSrcPath.resolve("drivenadapters"));
-                fileSystemPort.createDirectory(infrastructureSrcPath.resolve("config"));
+                directories.add(infrastructureSrcPath.resolve("entrypoints/rest"));
+                directories.add(infrastructureSrcPath.resolve("drivenadapters"));
+                directories.add(infrastructureSrcPath.resolve("config"));
 
                 // Add .gitkeep files
                 files.add(GeneratedFile.create(infrastructureSrcPath.resolve("entrypoints/rest/.gitkeep"), ""));
@@ -588,7 +721,7 @@ public class ProjectGenerator {
                                 context);
 
                 Path resourcesPath = infrastructurePath.resolve("src/main/resources");
-                fileSystemPort.createDirectory(resourcesPath);
+                directories.add(resourcesPath);
 
                 files.add(GeneratedFile.create(
                                 resourcesPath.resolve("application.yml"),
@@ -624,41 +757,12 @@ public class ProjectGenerator {
                 return files;
         }
 
-        /**
-         * Generates granular multi-module structure.
-         * Creates domain modules (model, ports, usecase) and app-service module.
-         * Infrastructure adapters are created dynamically when generating adapters.
-         */
-        private List<GeneratedFile> generateGranularStructure(
-                        Path projectPath,
-                        ProjectConfig config,
-                        Map<String, Object> context,
-                        String architecturePath) {
-
-                List<GeneratedFile> files = new ArrayList<>();
-
-                // Create organizing folders (not Gradle modules)
-                fileSystemPort.createDirectory(projectPath.resolve("domain"));
-                fileSystemPort.createDirectory(projectPath.resolve("application"));
-                fileSystemPort.createDirectory(projectPath.resolve("infrastructure/entry-points"));
-                fileSystemPort.createDirectory(projectPath.resolve("infrastructure/driven-adapters"));
-
-                // Generate domain modules
-                files.addAll(generateGranularDomainModelModule(projectPath, config, context, architecturePath));
-                files.addAll(generateGranularDomainPortsModule(projectPath, config, context, architecturePath));
-                files.addAll(generateGranularDomainUseCaseModule(projectPath, config, context, architecturePath));
-
-                // Generate application module
-                files.addAll(generateGranularAppServiceModule(projectPath, config, context, architecturePath));
-
-                return files;
-        }
-
         private List<GeneratedFile> generateGranularDomainModelModule(
                         Path projectPath,
                         ProjectConfig config,
                         Map<String, Object> context,
-                        String architecturePath) {
+                        String architecturePath,
+                        List<Path> directories) {
 
                 List<GeneratedFile> files = new ArrayList<>();
                 Path modulePath = projectPath.resolve("domain/model");
@@ -677,7 +781,7 @@ public class ProjectGenerator {
                                 .resolve(config.basePackage().replace('.', '/'))
                                 .resolve("domain/model");
 
-                fileSystemPort.createDirectory(srcPath);
+                directories.add(srcPath);
                 files.add(GeneratedFile.create(srcPath.resolve(".gitkeep"), ""));
 
                 return files;
@@ -687,7 +791,8 @@ public class ProjectGenerator {
                         Path projectPath,
                         ProjectConfig config,
                         Map<String, Object> context,
-                        String architecturePath) {
+                        String architecturePath,
+                        List<Path> directories) {
 
                 List<GeneratedFile> files = new ArrayList<>();
                 Path modulePath = projectPath.resolve("domain/ports");
@@ -706,8 +811,8 @@ public class ProjectGenerator {
                                 .resolve(config.basePackage().replace('.', '/'))
                                 .resolve("domain/port");
 
-                fileSystemPort.createDirectory(srcPath.resolve("in"));
-                fileSystemPort.createDirectory(srcPath.resolve("out"));
+                directories.add(srcPath.resolve("in"));
+                directories.add(srcPath.resolve("out"));
                 files.add(GeneratedFile.create(srcPath.resolve("in/.gitkeep"), ""));
                 files.add(GeneratedFile.create(srcPath.resolve("out/.gitkeep"), ""));
 
@@ -718,7 +823,8 @@ public class ProjectGenerator {
                         Path projectPath,
                         ProjectConfig config,
                         Map<String, Object> context,
-                        String architecturePath) {
+                        String architecturePath,
+                        List<Path> directories) {
 
                 List<GeneratedFile> files = new ArrayList<>();
                 Path modulePath = projectPath.resolve("domain/usecase");
@@ -737,7 +843,7 @@ public class ProjectGenerator {
                                 .resolve(config.basePackage().replace('.', '/'))
                                 .resolve("domain/usecase");
 
-                fileSystemPort.createDirectory(srcPath);
+                directories.add(srcPath);
                 files.add(GeneratedFile.create(srcPath.resolve(".gitkeep"), ""));
 
                 return files;
@@ -747,7 +853,8 @@ public class ProjectGenerator {
                         Path projectPath,
                         ProjectConfig config,
                         Map<String, Object> context,
-                        String architecturePath) {
+                        String architecturePath,
+                        List<Path> directories) {
 
                 List<GeneratedFile> files = new ArrayList<>();
                 Path modulePath = projectPath.resolve("application/app-service");
@@ -766,7 +873,7 @@ public class ProjectGenerator {
                                 .resolve(config.basePackage().replace('.', '/'))
                                 .resolve("config");
 
-                fileSystemPort.createDirectory(srcPath);
+                directories.add(srcPath);
 
                 // Generate application.yml
                 String frameworkPath = "frameworks/" + config.framework().name().toLowerCase() + "/"
@@ -777,7 +884,7 @@ public class ProjectGenerator {
                                 context);
 
                 Path resourcesPath = modulePath.resolve("src/main/resources");
-                fileSystemPort.createDirectory(resourcesPath);
+                directories.add(resourcesPath);
 
                 files.add(GeneratedFile.create(
                                 resourcesPath.resolve("application.yml"),
@@ -0,0 +1,96 @@
+package com.pragma.archetype.application.plan;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Steps of a generation and the order they depend on.
+ * Steps are added after the steps they depend on, so the order of addition is
+ * always a valid order to run them in; steps without a path between them may
+ * run concurrently.
+ */
+public class GenerationPlan {
+
+  private final String name;
+  private final Map<String, PlanNode> nodes = new LinkedHashMap<>();
+  private boolean continueOnFailure;
+
+  public GenerationPlan(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Adds a step.
+   *
+   * @param node step to add
+   * @return this plan
+   * @throws IllegalArgumentException if the id is taken or a dependency has
+   *                                  not been added yet
+   */
+  public GenerationPlan add(PlanNode node) {
+    if (nodes.containsKey(node.id())) {
+      throw new IllegalArgumentException("Duplicate plan step: " + node.id());
+    }
+    for (String dependency : node.dependsOn()) {
+      if (!nodes.containsKey(dependency)) {
+        throw new IllegalArgumentException(
+            "Plan step " + node.id() + " depends on unknown step: " + dependency);
+      }
+    }
+    nodes.put(node.id(), node);
+    return this;
+  }
+
+  /**
+   * Keeps running steps that do not depend on a failed step, so every failure
+   * is reported. By default no new step starts after the first failure.
+   *
+   * @return this plan
+   */
+  public GenerationPlan continueOnFailure() {
+    this.continueOnFailure = true;
+    return this;
+  }
+
+  public boolean isContinueOnFailure() {
+    return continueOnFailure;
+  }
+
+  public String name() {
+    return name;
+  }
+
+  /**
+   * Gets the steps in the order they were added.
+   */
+  public List<PlanNode> nodes() {
+    return new ArrayList<>(nodes.values());
+  }
+
+  public int size() {
+    return nodes.size();
+  }
+
+  /**
+   * Describes the plan, one line per step, for dry runs and logs.
+   *
+   * @return step descriptions in order
+   */
+  public List<String> describe() {
+    List<String> lines = new ArrayList<>(nodes.size());
+    for (PlanNode node : nodes.values()) {
+      StringBuilder line = new StringBuilder()
+          .append(node.kind()).append(' ').append(node.id());
+      if (node.description() != null) {
+        line.append(": ").append(node.description());
+      }
+      if (!node.dependsOn().isEmpty()) {
+        line.append(" (after ").append(String.join(", ", node.dependsOn())).append(')');
+      }
+      lines.add(line.toString());
+    }
+    return lines;
+  }
+}
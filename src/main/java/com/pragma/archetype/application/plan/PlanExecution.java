@@ -0,0 +1,163 @@
+package com.pragma.archetype.application.plan;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Outcome of running a generation plan: the result, failure and duration of
+ * every step.
+ * Steps that depend on a failed step, or that were still waiting when a
+ * fail-fast plan failed, are skipped.
+ */
+public class PlanExecution implements PlanResults {
+
+  /**
+   * Exception thrown when steps of a plan failed.
+   */
+  public static class PlanExecutionException extends RuntimeException {
+    public PlanExecutionException(String message, Throwable cause) {
+      super(message, cause);
+    }
+  }
+
+  private static final Object NULL = new Object();
+
+  private final GenerationPlan plan;
+  private final Map<String, Object> results = new ConcurrentHashMap<>();
+  private final Map<String, Throwable> failures = new ConcurrentHashMap<>();
+  private final Map<String, Duration> timings = new ConcurrentHashMap<>();
+  private final AtomicBoolean aborted = new AtomicBoolean();
+  private volatile Duration elapsed = Duration.ZERO;
+
+  PlanExecution(GenerationPlan plan) {
+    this.plan = plan;
+  }
+
+  /**
+   * Runs a step and records its result or failure. Errors are recorded too,
+   * so they never escape a concurrently running plan unrecorded.
+   */
+  void run(PlanNode node) {
+    long start = System.nanoTime();
+    try {
+      Object result = node.action().run(this);
+      results.put(node.id(), result != null ? result : NULL);
+    } catch (Exception | Error e) {
+      failures.put(node.id(), e);
+      if (!plan.isContinueOnFailure()) {
+        aborted.set(true);
+      }
+    } finally {
+      timings.put(node.id(), Duration.ofNanos(System.nanoTime() - start));
+    }
+  }
+
+  /**
+   * Checks whether a step can run: nothing aborted the plan and every step it
+   * waits for produced a result.
+   */
+  boolean isReady(PlanNode node) {
+    return !aborted.get() && node.dependsOn().stream().allMatch(results::containsKey);
+  }
+
+  void finish(Duration elapsed) {
+    this.elapsed = elapsed;
+  }
+
+  public GenerationPlan plan() {
+    return plan;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(String id) {
+    Object result = results.get(id);
+    if (result == null) {
+      throw new IllegalStateException("Plan step has no result: " + id);
+    }
+    return result == NULL ? null : (T) result;
+  }
+
+  /**
+   * Checks whether every step completed.
+   */
+  public boolean succeeded() {
+    return results.size() == plan.size();
+  }
+
+  /**
+   * Gets the failures of the steps that failed, in plan order.
+   */
+  public Map<String, Throwable> failures() {
+    Map<String, Throwable> ordered = new LinkedHashMap<>();
+    for (PlanNode node : plan.nodes()) {
+      if (failures.containsKey(node.id())) {
+        ordered.put(node.id(), failures.get(node.id()));
+      }
+    }
+    return ordered;
+  }
+
+  /**
+   * Gets the ids of the steps that did not run because of a failure.
+   */
+  public List<String> skipped() {
+    List<String> skipped = new ArrayList<>();
+    for (PlanNode node : plan.nodes()) {
+      if (!results.containsKey(node.id()) && !failures.containsKey(node.id())) {
+        skipped.add(node.id());
+      }
+    }
+    return skipped;
+  }
+
+  /**
+   * Gets how long each step that ran took, in plan order.
+   */
+  public Map<String, Duration> timings() {
+    Map<String, Duration> ordered = new LinkedHashMap<>();
+    for (PlanNode node : plan.nodes()) {
+      if (timings.containsKey(node.id())) {
+        ordered.put(node.id(), timings.get(node.id()));
+      }
+    }
+    return ordered;
+  }
+
+  /**
+   * Gets the wall-clock time of the whole plan.
+   */
+  public Duration elapsed() {
+    return elapsed;
+  }
+
+  /**
+   * Rethrows the failure of a failed plan. A single unchecked failure is
+   * rethrown as is; otherwise the first failure is the cause and the others
+   * are suppressed.
+   *
+   * @throws RuntimeException if any step failed
+   */
+  public void throwIfFailed() {
+    Map<String, Throwable> failed = failures();
+    if (failed.isEmpty()) {
+      return;
+    }
+
+    List<Throwable> causes = new ArrayList<>(failed.values());
+    if (causes.size() == 1 && causes.get(0) instanceof RuntimeException single) {
+      throw single;
+    }
+    PlanExecutionException exception = new PlanExecutionException(
+        "Failed to run " + causes.size() + " of " + plan.size() + " step(s) of " + plan.name()
+            + ": " + causes.get(0).getMessage(),
+        causes.get(0));
+    causes.subList(1, causes.size()).forEach(exception::addSuppressed);
+    throw exception;
+  }
+}
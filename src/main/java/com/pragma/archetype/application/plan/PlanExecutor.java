@@ -0,0 +1,125 @@
+package com.pragma.archetype.application.plan;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs generation plans.
+ * Each step starts once the steps it depends on completed, at most
+ * {@code parallelism} at a time. With a parallelism of 1 steps run on the
+ * calling thread in plan order, which callers whose steps share state that is
+ * not thread-safe rely on.
+ */
+public class PlanExecutor {
+
+  /**
+   * Observes plans, e.g. to print them in a dry run or log step timings.
+   */
+  public interface Listener {
+    default void planned(GenerationPlan plan) {
+    }
+
+    default void completed(PlanExecution execution) {
+    }
+  }
+
+  private static final Listener NO_LISTENER = new Listener() {
+  };
+
+  private final int parallelism;
+  private final Listener listener;
+
+  public PlanExecutor(int parallelism) {
+    this(parallelism, NO_LISTENER);
+  }
+
+  public PlanExecutor(int parallelism, Listener listener) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be at least 1");
+    }
+    this.parallelism = parallelism;
+    this.listener = listener;
+  }
+
+  /**
+   * Creates an executor that runs steps in plan order on the calling thread.
+   */
+  public static PlanExecutor sequential() {
+    return new PlanExecutor(1);
+  }
+
+  public int parallelism() {
+    return parallelism;
+  }
+
+  /**
+   * Runs a plan. Failures are recorded in the execution rather than thrown.
+   *
+   * @param plan plan to run
+   * @return outcome of every step
+   */
+  public PlanExecution execute(GenerationPlan plan) {
+    listener.planned(plan);
+
+    PlanExecution execution = new PlanExecution(plan);
+    long start = System.nanoTime();
+    if (parallelism == 1 || plan.size() <= 1) {
+      runInOrder(plan, execution);
+    } else {
+      runConcurrently(plan, execution);
+    }
+    execution.finish(Duration.ofNanos(System.nanoTime() - start));
+
+    listener.completed(execution);
+    return execution;
+  }
+
+  private void runInOrder(GenerationPlan plan, PlanExecution execution) {
+    for (PlanNode node : plan.nodes()) {
+      step(node, execution, null);
+    }
+  }
+
+  private void runConcurrently(GenerationPlan plan, PlanExecution execution) {
+    Map<String, CompletableFuture<Void>> futures = new HashMap<>();
+    Semaphore permits = new Semaphore(parallelism);
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (PlanNode node : plan.nodes()) {
+        CompletableFuture<?>[] dependencies = node.dependsOn().stream()
+            .map(futures::get)
+            .toArray(CompletableFuture[]::new);
+        futures.put(node.id(), CompletableFuture.allOf(dependencies)
+            .thenRunAsync(() -> step(node, execution, permits), executor));
+      }
+
+      CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+    }
+  }
+
+  /**
+   * Runs one step unless a failure prevents it. Never throws, so a failed step
+   * only holds back the steps that depend on it.
+   */
+  private void step(PlanNode node, PlanExecution execution, Semaphore permits) {
+    if (!execution.isReady(node)) {
+      return;
+    }
+
+    if (permits == null) {
+      execution.run(node);
+      return;
+    }
+    permits.acquireUninterruptibly();
+    try {
+      execution.run(node);
+    } finally {
+      permits.release();
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.pragma.archetype.application.plan;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One step of a generation plan.
+ *
+ * @param id          Unique id of the step within its plan
+ * @param kind        What the step does
+ * @param description Human readable description, shown in plan output
+ * @param dependsOn   Ids of the steps that must complete first
+ * @param action      Work of the step
+ */
+public record PlanNode(
+    String id,
+    Kind kind,
+    String description,
+    List<String> dependsOn,
+    Action action) {
+
+  /**
+   * Kind of work a step does.
+   */
+  public enum Kind {
+    /** Loads configuration, metadata or existing files. */
+    FETCH,
+    /** Copies files that are about to change. */
+    BACKUP,
+    /** Renders templates into files, without writing them. */
+    RENDER,
+    /** Writes rendered files. */
+    WRITE,
+    /** Merges content into existing files, such as application.yml. */
+    MERGE,
+    /** Edits existing files in place, such as build files. */
+    EDIT
+  }
+
+  /**
+   * Work of a step.
+   */
+  @FunctionalInterface
+  public interface Action {
+    /**
+     * Runs the step.
+     *
+     * @param results results of the steps run so far, including every
+     *                dependency
+     * @return result of the step, or null
+     */
+    Object run(PlanResults results) throws Exception;
+  }
+
+  public PlanNode {
+    Objects.requireNonNull(id, "Id cannot be null");
+    Objects.requireNonNull(kind, "Kind cannot be null");
+    Objects.requireNonNull(action, "Action cannot be null");
+    dependsOn = dependsOn != null ? List.copyOf(dependsOn) : List.of();
+  }
+
+  /**
+   * Creates a step without dependencies.
+   */
+  public static PlanNode of(String id, Kind kind, String description, Action action) {
+    return new PlanNode(id, kind, description, List.of(), action);
+  }
+
+  /**
+   * Creates a copy of this step that runs after the given steps.
+   *
+   * @param ids ids of the steps to wait for
+   * @return new step
+   */
+  public PlanNode after(String... ids) {
+    return new PlanNode(id, kind, description, List.of(ids), action);
+  }
+}
@@ -0,0 +1,17 @@
+package com.pragma.archetype.application.plan;
+
+/**
+ * Results of the steps of a plan that have completed.
+ */
+public interface PlanResults {
+
+  /**
+   * Gets the result of a completed step.
+   *
+   * @param id  id of the step
+   * @param <T> type of the result
+   * @return result of the step, or null if it returned none
+   * @throws IllegalStateException if the step has not completed
+   */
+  <T> T get(String id);
+}
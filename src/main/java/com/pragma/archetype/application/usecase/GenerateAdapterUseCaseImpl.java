@@ -5,14 +5,21 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.pragma.archetype.application.generator.AdapterGenerator;
+import com.pragma.archetype.application.plan.GenerationPlan;
+import com.pragma.archetype.application.plan.PlanExecution;
+import com.pragma.archetype.application.plan.PlanExecutor;
+import com.pragma.archetype.application.plan.PlanNode;
+import com.pragma.archetype.application.plan.PlanNode.Kind;
 import com.pragma.archetype.domain.model.adapter.AdapterConfig;
 import com.pragma.archetype.domain.model.adapter.AdapterType;
 import com.pragma.archetype.domain.model.adapter.AdapterMetadata;
+import com.pragma.archetype.domain.model.config.ProjectConfig;
 import com.pragma.archetype.domain.model.file.GeneratedFile;
 import com.pragma.archetype.domain.model.validation.ValidationResult;
 import com.pragma.archetype.domain.port.in.GenerateAdapterUseCase;
@@ -21,7 +28,10 @@ import com.pragma.archetype.domain.port.out.FileSystemPort;
 import com.pragma.archetype.domain.port.out.TemplateRepository;
 import com.pragma.archetype.domain.service.AdapterValidator;
 import com.pragma.archetype.domain.service.BackupService;
+import com.pragma.archetype.domain.service.DependencyIndex;
+import com.pragma.archetype.domain.service.KotlinDslEditor;
 import com.pragma.archetype.infrastructure.adapter.out.config.YamlConfigurationAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.config.YamlMergeAccumulator;
 
 /**
  * Implementation of the GenerateAdapterUseCase.
@@ -39,6 +49,7 @@ public class GenerateAdapterUseCaseImpl implements GenerateAdapterUseCase {
   private final YamlConfigurationAdapter yamlConfigurationAdapter;
   private final BackupService backupService;
   private final com.pragma.archetype.domain.service.DependencyConflictDetector conflictDetector;
+  private final PlanExecutor planExecutor;
 
   public GenerateAdapterUseCaseImpl(
       AdapterValidator validator,
@@ -48,6 +59,25 @@ public class GenerateAdapterUseCaseImpl implements GenerateAdapterUseCase {
       TemplateRepository templateRepository,
       YamlConfigurationAdapter yamlConfigurationAdapter,
       BackupService backupService) {
+    this(validator, generator, configurationPort, fileSystemPort, templateRepository, yamlConfigurationAdapter,
+        backupService, PlanExecutor.sequential());
+  }
+
+  /**
+   * Creates the use case with the executor for its generation plans. Plan
+   * steps share the properties accumulator and dependency index, which are
+   * not thread-safe, so the executor should run them in order; it is passed
+   * in to observe plans and timings.
+   */
+  public GenerateAdapterUseCaseImpl(
+      AdapterValidator validator,
+      AdapterGenerator generator,
+      ConfigurationPort configurationPort,
+      FileSystemPort fileSystemPort,
+      TemplateRepository templateRepository,
+      YamlConfigurationAdapter yamlConfigurationAdapter,
+      BackupService backupService,
+      PlanExecutor planExecutor) {
     this.validator = validator;
     this.generator = generator;
     this.configurationPort = configurationPort;
@@ -56,71 +86,96 @@ public class GenerateAdapterUseCaseImpl implements GenerateAdapterUseCase {
     this.yamlConfigurationAdapter = yamlConfigurationAdapter;
     this.backupService = backupService;
     this.conflictDetector = new com.pragma.archetype.domain.service.DependencyConflictDetector();
+    this.planExecutor = planExecutor;
   }
 
   @Override
   public GenerationResult execute(Path projectPath, AdapterConfig config) {
+    return execute(projectPath, config, configurationPort.readConfiguration(projectPath).orElse(null),
+        new YamlMergeAccumulator(yamlConfigurationAdapter), new DependencyIndex(fileSystemPort, projectPath), true);
+  }
+
+  @Override
+  public List<GenerationResult> executeAll(Path projectPath, List<AdapterConfig> configs) {
+    List<GenerationResult> results = stageAll(projectPath, configs);
+    fileSystemPort.flush();
+    return results;
+  }
+
+  @Override
+  public List<GenerationResult> stageAll(Path projectPath, List<AdapterConfig> configs) {
+    // Application properties from every adapter are merged once after all
+    // adapters have been generated. The dependency index is scanned once and
+    // kept up to date as build files are edited. Adapters do not change the
+    // project configuration, so it is read once for all of them.
+    ProjectConfig projectConfig = configurationPort.readConfiguration(projectPath).orElse(null);
+    YamlMergeAccumulator propertiesAccumulator = new YamlMergeAccumulator(yamlConfigurationAdapter);
+    DependencyIndex dependencyIndex = new DependencyIndex(fileSystemPort, projectPath);
+    List<GenerationResult> results = new ArrayList<>();
+    for (AdapterConfig config : configs) {
+      // A failed adapter's buffered edits and queued properties are dropped,
+      // so they are not written with the other adapters' changes
+      FileSystemPort.Checkpoint checkpoint = fileSystemPort.checkpoint();
+      YamlMergeAccumulator.Snapshot queuedProperties = propertiesAccumulator.snapshot();
+
+      GenerationResult result = execute(projectPath, config, projectConfig, propertiesAccumulator,
+          dependencyIndex, false);
+      if (result.isFailure()) {
+        fileSystemPort.rollbackTo(checkpoint);
+        propertiesAccumulator.restore(queuedProperties);
+        dependencyIndex.invalidate();
+      }
+      results.add(result);
+    }
+    // Written through the port if the YAML adapter uses it, so the caller's
+    // commit includes them
+    flushApplicationProperties(propertiesAccumulator);
+    return results;
+  }
+
+  private GenerationResult execute(Path projectPath, AdapterConfig config, ProjectConfig projectConfig,
+      YamlMergeAccumulator propertiesAccumulator, DependencyIndex dependencyIndex, boolean flushEdits) {
     // 1. Validate configuration
     ValidationResult validationResult = validator.validate(projectPath, config);
     if (!validationResult.valid()) {
       return GenerationResult.failure(validationResult.errors());
     }
 
-    // 2. Read project configuration to check adaptersAsModules flag
-    var projectConfig = configurationPort.readConfiguration(projectPath).orElse(null);
+    // 2. Load adapter metadata once; the plan steps use the same metadata the
+    // templates are validated against
+    AdapterMetadata metadata;
+    try {
+      metadata = loadAdapterMetadata(config, projectConfig);
+    } catch (TemplateRepository.TemplateNotFoundException e) {
+      return templateValidationFailure(List.of(String.format("Adapter metadata not found for '%s': %s",
+          config.type().name(), e.getMessage())));
+    } catch (Exception e) {
+      logger.error("Unexpected error during template validation: {}", e.getMessage(), e);
+      return templateValidationFailure(List.of(String.format("Template validation failed: %s", e.getMessage())));
+    }
 
     // 3. Validate all templates before processing (validation-before-modification)
-    ValidationResult templateValidation = validateAllTemplates(config, projectConfig);
+    ValidationResult templateValidation = validateAllTemplates(config, projectConfig, metadata);
     if (!templateValidation.valid()) {
-      logger.error("Template validation failed. Displaying all errors before generation:");
-      templateValidation.errors().forEach(error -> logger.error("  - {}", error));
-      return GenerationResult.failure(templateValidation.errors());
+      return templateValidationFailure(templateValidation.errors());
     }
 
-    String backupId = null;
-    List<Path> filesToBackup = new ArrayList<>();
+    AtomicReference<String> backupId = new AtomicReference<>();
 
     try {
+      // 4. Plan and run the generation steps
+      GenerationPlan plan = planGeneration(projectPath, config, projectConfig, metadata, propertiesAccumulator,
+          dependencyIndex, flushEdits, backupId);
+      PlanExecution execution = planExecutor.execute(plan);
+      execution.throwIfFailed();
 
-      // 3. Identify files that will be modified
-      filesToBackup = identifyFilesToBackup(projectPath, config, projectConfig);
-
-      // 4. Create backup before any modifications
-      if (!filesToBackup.isEmpty()) {
-        backupId = backupService.createBackup(projectPath, filesToBackup);
-        logger.info("Created backup with ID: {}", backupId);
-      }
-
-      // 5. Generate adapter files
-      List<GeneratedFile> generatedFiles = new ArrayList<>(generator.generate(projectPath, config, projectConfig));
-
-      // 6. Write files to disk
-      for (GeneratedFile file : generatedFiles) {
-        fileSystemPort.writeFile(file);
-      }
-
-      // 7. Merge application properties if adapter has applicationPropertiesTemplate
-      mergeApplicationPropertiesIfNeeded(projectPath, config);
-
-      // 8. Generate configuration classes if adapter has configurationClasses
-      List<GeneratedFile> configFiles = generateConfigurationClassesIfNeeded(projectPath, config);
-      generatedFiles.addAll(configFiles);
-
-      // Write configuration class files to disk
-      for (GeneratedFile file : configFiles) {
-        fileSystemPort.writeFile(file);
-      }
-
-      // 9. Check for dependency conflicts before adding dependencies
-      checkDependencyConflicts(projectPath, config, projectConfig);
-
-      // 10. Add test dependencies if adapter has testDependencies
-      addTestDependenciesIfNeeded(projectPath, config);
+      List<GeneratedFile> generatedFiles = new ArrayList<>(execution.<List<GeneratedFile>>get("render"));
+      generatedFiles.addAll(execution.<List<GeneratedFile>>get("configuration-classes"));
 
-      // 11. Delete backup on success
-      if (backupId != null) {
-        backupService.deleteBackup(projectPath, backupId);
-        logger.info("Deleted backup after successful generation: {}", backupId);
+      // 5. Delete backup on success
+      if (backupId.get() != null) {
+        backupService.deleteBackup(projectPath, backupId.get());
+        logger.info("Deleted backup after successful generation: {}", backupId.get());
       }
 
       return GenerationResult.success(generatedFiles);
@@ -128,17 +183,20 @@ public class GenerateAdapterUseCaseImpl implements GenerateAdapterUseCase {
     } catch (Exception e) {
       logger.error("Adapter generation failed: {}", e.getMessage(), e);
 
-      // 11. Restore backup on failure
-      if (backupId != null) {
+      // 6. Drop buffered edits and restore backup on failure
+      if (flushEdits) {
+        fileSystemPort.discard();
+      }
+      if (backupId.get() != null) {
         try {
-          backupService.restoreBackup(projectPath, backupId);
-          logger.info("Successfully restored backup: {}", backupId);
+          backupService.restoreBackup(projectPath, backupId.get());
+          logger.info("Successfully restored backup: {}", backupId.get());
           return GenerationResult.failure(List.of(
               "Failed to generate adapter: " + e.getMessage(),
               "All changes have been rolled back."));
         } catch (BackupService.BackupException restoreException) {
           logger.error("Failed to restore backup: {}", restoreException.getMessage(), restoreException);
-          Path backupLocation = projectPath.resolve(".cleanarch/backups").resolve(backupId);
+          Path backupLocation = projectPath.resolve(".cleanarch/backups").resolve(backupId.get());
           return GenerationResult.failure(List.of(
               "Failed to generate adapter: " + e.getMessage(),
               "Failed to restore backup automatically.",
@@ -151,6 +209,109 @@ public class GenerateAdapterUseCaseImpl implements GenerateAdapterUseCase {
     }
   }
 
+  /**
+   * Plans the steps that generate one adapter. The project configuration and
+   * adapter metadata are loaded before the plan runs and handed to every step
+   * through the "config" and "metadata" results.
+   *
+   * @param backupId receives the id of the backup taken before files change
+   * @return plan in the order the steps used to run
+   */
+  private GenerationPlan planGeneration(Path projectPath, AdapterConfig config, ProjectConfig projectConfig,
+      AdapterMetadata metadata, YamlMergeAccumulator propertiesAccumulator, DependencyIndex dependencyIndex,
+      boolean flushEdits, AtomicReference<String> backupId) {
+    String adapterTypeLower = config.type().name().toLowerCase();
+    GenerationPlan plan = new GenerationPlan("adapter " + config.name())
+        .add(PlanNode.of("config", Kind.FETCH, "Use project configuration",
+            results -> projectConfig))
+        .add(PlanNode.of("metadata", Kind.FETCH, "Use " + adapterTypeLower + " adapter metadata",
+            results -> metadata))
+        .add(PlanNode.of("backup", Kind.BACKUP, "Back up files that will be modified", results -> {
+          List<Path> filesToBackup = identifyFilesToBackup(projectPath, config, results.get("metadata"),
+              results.get("config"));
+          if (!filesToBackup.isEmpty()) {
+            backupId.set(backupService.createBackup(projectPath, filesToBackup));
+            logger.info("Created backup with ID: {}", backupId.get());
+          }
+          return null;
+        }).after("config", "metadata"))
+        .add(PlanNode.of("render", Kind.RENDER, "Render adapter " + config.name(),
+            results -> generator.generate(projectPath, config, results.get("config"))).after("backup"))
+        .add(PlanNode.of("write", Kind.WRITE, "Write adapter files", results -> {
+          for (GeneratedFile file : results.<List<GeneratedFile>>get("render")) {
+            fileSystemPort.writeFile(file);
+          }
+          // Later adapters and the test dependency step see the new module's
+          // build file and the module dependency the generator added
+          indexBuildFiles(results.get("render"), generator.editedBuildFiles(projectPath, results.get("config")),
+              dependencyIndex);
+          return null;
+        }).after("render"))
+        .add(PlanNode.of("application-properties", Kind.MERGE, "Merge application properties", results -> {
+          mergeApplicationPropertiesIfNeeded(projectPath, config, results.get("metadata"), results.get("config"),
+              propertiesAccumulator);
+          if (flushEdits) {
+            flushApplicationProperties(propertiesAccumulator);
+          }
+          return null;
+        }).after("write"))
+        .add(PlanNode.of("configuration-classes", Kind.RENDER, "Render configuration classes",
+            results -> generateConfigurationClassesIfNeeded(projectPath, config, results.get("metadata"),
+                results.get("config")))
+            .after("backup"))
+        .add(PlanNode.of("write-configuration-classes", Kind.WRITE, "Write configuration classes", results -> {
+          for (GeneratedFile file : results.<List<GeneratedFile>>get("configuration-classes")) {
+            fileSystemPort.writeFile(file);
+          }
+          return null;
+        }).after("configuration-classes"))
+        .add(PlanNode.of("dependency-conflicts", Kind.FETCH, "Check dependency conflicts", results -> {
+          checkDependencyConflicts(config, results.get("metadata"), results.get("config"), dependencyIndex);
+          return null;
+        }).after("config", "metadata"))
+        .add(PlanNode.of("test-dependencies", Kind.EDIT, "Add test dependencies", results -> {
+          addTestDependenciesIfNeeded(projectPath, config, results.get("metadata"), results.get("config"),
+              dependencyIndex);
+          return null;
+        }).after("write", "dependency-conflicts"));
+
+    // Write buffered build and settings file edits once
+    if (flushEdits) {
+      plan.add(PlanNode.of("commit", Kind.EDIT, "Write buffered file edits", results -> {
+        fileSystemPort.flush();
+        return null;
+      }).after("write", "application-properties", "write-configuration-classes", "test-dependencies"));
+    }
+    return plan;
+  }
+
+  /**
+   * Loads adapter metadata using the framework-aware path if the project
+   * configuration is available, otherwise the legacy path.
+   *
+   * @param config        adapter configuration
+   * @param projectConfig project configuration, or null
+   * @return adapter metadata
+   * @throws TemplateRepository.TemplateNotFoundException if no metadata exists
+   */
+  private AdapterMetadata loadAdapterMetadata(AdapterConfig config, ProjectConfig projectConfig) {
+    String adapterTypeLower = config.type().name().toLowerCase();
+    if (projectConfig == null) {
+      return templateRepository.loadAdapterMetadata(adapterTypeLower);
+    }
+    return templateRepository.loadAdapterMetadata(
+        adapterTypeLower,
+        projectConfig.framework().name().toLowerCase(),
+        projectConfig.paradigm().name().toLowerCase(),
+        determineAdapterTypeCategory(config));
+  }
+
+  private GenerationResult templateValidationFailure(List<String> errors) {
+    logger.error("Template validation failed. Displaying all errors before generation:");
+    errors.forEach(error -> logger.error("  - {}", error));
+    return GenerationResult.failure(errors);
+  }
+
   /**
    * Validates all templates required for adapter generation before any file
    * modifications.
@@ -160,46 +321,24 @@ public class GenerateAdapterUseCaseImpl implements GenerateAdapterUseCase {
    * 
    * @param config        adapter configuration
    * @param projectConfig project configuration
+   * @param metadata      adapter metadata
    * @return ValidationResult with all validation errors collected
    */
-  private ValidationResult validateAllTemplates(AdapterConfig config,
-      com.pragma.archetype.domain.model.config.ProjectConfig projectConfig) {
+  private ValidationResult validateAllTemplates(AdapterConfig config, ProjectConfig projectConfig,
+      AdapterMetadata metadata) {
     List<String> errors = new ArrayList<>();
     List<String> warnings = new ArrayList<>();
 
     try {
-      // 1. Load adapter metadata using framework-aware path
       String adapterTypeLower = config.type().name().toLowerCase();
-      AdapterMetadata metadata;
-      try {
-        if (projectConfig != null) {
-          // Use framework-aware loading
-          String framework = projectConfig.framework().name().toLowerCase();
-          String paradigm = projectConfig.paradigm().name().toLowerCase();
-          String adapterTypeCategory = determineAdapterTypeCategory(config);
-
-          metadata = templateRepository.loadAdapterMetadata(
-              adapterTypeLower,
-              framework,
-              paradigm,
-              adapterTypeCategory);
-        } else {
-          // Fallback to legacy loading if projectConfig not available
-          metadata = templateRepository.loadAdapterMetadata(adapterTypeLower);
-        }
-      } catch (TemplateRepository.TemplateNotFoundException e) {
-        errors.add(String.format("Adapter metadata not found for '%s': %s",
-            config.type().name(), e.getMessage()));
-        return ValidationResult.failure(errors);
-      }
 
-      // 2. Validate adapter metadata
+      // 1. Validate adapter metadata
       ValidationResult metadataValidation = metadata.validate();
       if (!metadataValidation.valid()) {
         errors.addAll(metadataValidation.errors());
       }
 
-      // 3. Validate main adapter templates (from AdapterGenerator)
+      // 2. Validate main adapter templates (from AdapterGenerator)
       String adapterTemplate = getAdapterTemplatePath(config.type());
       ValidationResult adapterTemplateValidation = templateRepository.validateTemplate(adapterTemplate);
       if (!adapterTemplateValidation.valid()) {
@@ -221,7 +360,7 @@ public class GenerateAdapterUseCaseImpl implements GenerateAdapterUseCase {
             mapperTemplateValidation.errors().get(0)));
       }
 
-      // 4. Validate application properties template if present
+      // 3. Validate application properties template if present
       if (metadata.hasApplicationProperties()) {
         String propertiesTemplatePath = String.format("adapters/%s/%s",
             adapterTypeLower, metadata.applicationPropertiesTemplate());
@@ -239,7 +378,7 @@ public class GenerateAdapterUseCaseImpl implements GenerateAdapterUseCase {
         }
       }
 
-      // 5. Validate configuration class templates if present
+      // 4. Validate configuration class templates if present
       if (metadata.hasConfigurationClasses()) {
         for (AdapterMetadata.ConfigurationClass configClass : metadata.configurationClasses()) {
           String configTemplatePath = String.format("adapters/%s/%s",
@@ -259,7 +398,7 @@ public class GenerateAdapterUseCaseImpl implements GenerateAdapterUseCase {
         }
       }
 
-      // 6. Validate module build template if adaptersAsModules is enabled
+      // 5. Validate module build template if adaptersAsModules is enabled
       if (projectConfig != null && projectConfig.adaptersAsModules()) {
         String moduleBuildTemplate = "frameworks/spring/reactive/adapters/driven-adapters/module-build.gradle.kts.ftl";
         if (!templateRepository.templateExists(moduleBuildTemplate)) {
@@ -275,7 +414,7 @@ public class GenerateAdapterUseCaseImpl implements GenerateAdapterUseCase {
         }
       }
 
-      // 7. Return validation result
+      // 6. Return validation result
       if (!errors.isEmpty()) {
         logger.error("Template validation found {} error(s)", errors.size());
         return ValidationResult.failure(errors);
@@ -337,32 +476,34 @@ public class GenerateAdapterUseCaseImpl implements GenerateAdapterUseCase {
    *
    * @param projectPath   path to the project root
    * @param config        adapter configuration
-   * @param projectConfig project configuration
+   * @param metadata      adapter metadata
+   * @param projectConfig project configuration, or null
    * @return list of file paths to backup (relative to project root)
    */
-  private List<Path> identifyFilesToBackup(Path projectPath, AdapterConfig config,
-      com.pragma.archetype.domain.model.config.ProjectConfig projectConfig) {
+  private List<Path> identifyFilesToBackup(Path projectPath, AdapterConfig config, AdapterMetadata metadata,
+      ProjectConfig projectConfig) {
     List<Path> filesToBackup = new ArrayList<>();
 
     try {
-      // 1. Application.yml will be modified if adapter has application properties
-      AdapterMetadata metadata = loadAdapterMetadataWithFallback(
-          config.type().name().toLowerCase(),
-          projectPath,
-          config);
-      if (metadata.hasApplicationProperties()) {
+      // 1. Application.yml will be modified if adapter has application properties.
+      // It is only covered by the transaction if the YAML adapter writes through
+      // the same port.
+      boolean yamlStaged = fileSystemPort.isTransactional()
+          && yamlConfigurationAdapter.writesThrough(fileSystemPort);
+      if (metadata.hasApplicationProperties() && !yamlStaged) {
         Path applicationYml = Path.of("src/main/resources/application.yml");
         if (fileSystemPort.exists(projectPath.resolve(applicationYml))) {
           filesToBackup.add(applicationYml);
         }
       }
 
-      // 2. Build file will be modified if adapter has test dependencies
-      if (metadata.hasTestDependencies()) {
-        Path buildFile = determineBuildFilePath(projectPath, config).getFileName();
+      // 2. Build file will be modified if adapter has test dependencies.
+      // A transactional port stages its writes, so no copy is needed.
+      if (metadata.hasTestDependencies() && !fileSystemPort.isTransactional()) {
+        Path buildFile = determineBuildFilePath(projectPath, config, projectConfig).getFileName();
         if (buildFile != null && fileSystemPort.exists(projectPath.resolve(buildFile))) {
           // Get relative path from project root
-          Path relativeBuildPath = projectPath.relativize(determineBuildFilePath(projectPath, config));
+          Path relativeBuildPath = projectPath.relativize(determineBuildFilePath(projectPath, config, projectConfig));
           filesToBackup.add(relativeBuildPath);
         }
       }
@@ -376,21 +517,21 @@ public class GenerateAdapterUseCaseImpl implements GenerateAdapterUseCase {
   }
 
   /**
-   * Merges application properties from adapter template into existing
+   * Queues application properties from adapter template for merging into
    * application.yml.
-   * Only merges if the adapter has an applicationPropertiesTemplate defined.
+   * Only queues if the adapter has an applicationPropertiesTemplate defined.
    *
-   * @param projectPath path to the project root
-   * @param config      adapter configuration
+   * @param projectPath           path to the project root
+   * @param config                adapter configuration
+   * @param metadata              adapter metadata
+   * @param projectConfig         project configuration, or null
+   * @param propertiesAccumulator accumulator collecting properties for this
+   *                              command
    */
-  private void mergeApplicationPropertiesIfNeeded(Path projectPath, AdapterConfig config) {
+  private void mergeApplicationPropertiesIfNeeded(Path projectPath, AdapterConfig config,
+      AdapterMetadata metadata, ProjectConfig projectConfig, YamlMergeAccumulator propertiesAccumulator) {
     try {
-      // 1. Load adapter metadata to check if it has applicationPropertiesTemplate
-      AdapterMetadata metadata = loadAdapterMetadataWithFallback(
-          config.type().name().toLowerCase(),
-          projectPath,
-          config);
-
+      // 1. Check if the adapter has applicationPropertiesTemplate
       if (!metadata.hasApplicationProperties()) {
         logger.debug("Adapter {} does not have application properties template, skipping merge",
             config.name());
@@ -400,7 +541,7 @@ public class GenerateAdapterUseCaseImpl implements GenerateAdapterUseCase {
       logger.info("Processing application properties template for adapter: {}", config.name());
 
       // 2. Prepare template context with adapter information
-      Map<String, Object> templateContext = prepareApplicationPropertiesContext(config);
+      Map<String, Object> templateContext = prepareApplicationPropertiesContext(config, projectConfig);
 
       // 3. Process the application properties template
       String adapterTypeLower = config.type().name().toLowerCase();
@@ -417,19 +558,12 @@ public class GenerateAdapterUseCaseImpl implements GenerateAdapterUseCase {
         return;
       }
 
-      // 5. Determine application.yml path
+      // 5. Queue the properties for application.yml; they are merged and
+      // written when the accumulator is flushed
       Path applicationYmlPath = projectPath.resolve("src/main/resources/application.yml");
+      propertiesAccumulator.add(applicationYmlPath, newProperties);
 
-      // 6. Read existing application.yml if it exists
-      Map<String, Object> existingProperties = yamlConfigurationAdapter.readYaml(applicationYmlPath);
-
-      // 7. Merge new properties using YamlConfigurationAdapter
-      Map<String, Object> mergedProperties = yamlConfigurationAdapter.mergeYaml(existingProperties, newProperties);
-
-      // 8. Write merged properties back to application.yml
-      yamlConfigurationAdapter.writeYaml(applicationYmlPath, mergedProperties);
-
-      logger.info("Successfully merged application properties for adapter: {}", config.name());
+      logger.info("Queued application properties for adapter: {}", config.name());
 
     } catch (TemplateRepository.TemplateNotFoundException e) {
       logger.warn("Application properties template not found for adapter {}: {}",
@@ -442,13 +576,34 @@ public class GenerateAdapterUseCaseImpl implements GenerateAdapterUseCase {
     }
   }
 
+  /**
+   * Writes queued application properties, reading and writing each file once.
+   * Failures are logged but do not fail generation, since the adapter code is
+   * already generated and properties can be added manually.
+   *
+   * @param propertiesAccumulator accumulator with queued properties
+   */
+  private void flushApplicationProperties(YamlMergeAccumulator propertiesAccumulator) {
+    if (!propertiesAccumulator.hasPending()) {
+      return;
+    }
+    try {
+      int written = propertiesAccumulator.flush();
+      logger.info("Successfully merged application properties ({} file(s) updated)", written);
+    } catch (Exception e) {
+      logger.error("Failed to merge application properties: {}", e.getMessage(), e);
+    }
+  }
+
   /**
    * Prepares template context for processing application properties template.
    *
-   * @param config adapter configuration
+   * @param config        adapter configuration
+   * @param projectConfig project configuration, or null
    * @return template context map
    */
-  private Map<String, Object> prepareApplicationPropertiesContext(AdapterConfig config) {
+  private Map<String, Object> prepareApplicationPropertiesContext(AdapterConfig config,
+      ProjectConfig projectConfig) {
     Map<String, Object> context = new HashMap<>();
     context.put("adapterName", config.name());
     context.put("adapterType", config.type().name().toLowerCase());
@@ -456,14 +611,9 @@ public class GenerateAdapterUseCaseImpl implements GenerateAdapterUseCase {
     context.put("entityName", config.entityName());
 
     // Add project name if available (useful for database names, etc.)
-    try {
-      var projectConfig = configurationPort.readConfiguration(Path.of(".")).orElse(null);
-      if (projectConfig != null) {
-        context.put("projectName", projectConfig.name());
-        context.put("basePackage", projectConfig.basePackage());
-      }
-    } catch (Exception e) {
-      logger.debug("Could not read project configuration for template context: {}", e.getMessage());
+    if (projectConfig != null) {
+      context.put("projectName", projectConfig.name());
+      context.put("basePackage", projectConfig.basePackage());
     }
 
     return context;
@@ -475,18 +625,16 @@ public class GenerateAdapterUseCaseImpl implements GenerateAdapterUseCase {
    * 
    * @param projectPath path to the project root
    * @param config      adapter configuration
+   * @param metadata      adapter metadata
+   * @param projectConfig project configuration, or null
    * @return list of generated configuration class files
    */
-  private List<GeneratedFile> generateConfigurationClassesIfNeeded(Path projectPath, AdapterConfig config) {
+  private List<GeneratedFile> generateConfigurationClassesIfNeeded(Path projectPath, AdapterConfig config,
+      AdapterMetadata metadata, ProjectConfig projectConfig) {
     List<GeneratedFile> configFiles = new ArrayList<>();
 
     try {
-      // 1. Load adapter metadata to check if it has configuration classes
-      AdapterMetadata metadata = loadAdapterMetadataWithFallback(
-          config.type().name().toLowerCase(),
-          projectPath,
-          config);
-
+      // 1. Check if the adapter has configuration classes
       if (!metadata.hasConfigurationClasses()) {
         logger.debug("Adapter {} does not have configuration classes, skipping generation",
             config.name());
@@ -495,8 +643,7 @@ public class GenerateAdapterUseCaseImpl implements GenerateAdapterUseCase {
 
       logger.info("Generating configuration classes for adapter: {}", config.name());
 
-      // 2. Read project configuration to get base package
-      var projectConfig = configurationPort.readConfiguration(projectPath).orElse(null);
+      // 2. The base package comes from the project configuration
       if (projectConfig == null) {
         logger.warn("Could not read project configuration, skipping configuration class generation");
         return configFiles;
@@ -578,21 +725,39 @@ public class GenerateAdapterUseCaseImpl implements GenerateAdapterUseCase {
     return context;
   }
 
+  /**
+   * Re-indexes the build files an adapter generated or edited.
+   *
+   * @param generatedFiles   files rendered for the adapter
+   * @param editedBuildFiles existing build files edited by the generator
+   * @param dependencyIndex  index to update
+   */
+  private void indexBuildFiles(List<GeneratedFile> generatedFiles, List<Path> editedBuildFiles,
+      DependencyIndex dependencyIndex) {
+    for (GeneratedFile file : generatedFiles) {
+      if ("build.gradle.kts".equals(file.path().getFileName().toString())) {
+        dependencyIndex.update(file.path(), file.content());
+      }
+    }
+    for (Path buildFile : editedBuildFiles) {
+      dependencyIndex.refresh(buildFile);
+    }
+  }
+
   /**
    * Adds test dependencies to the build file if the adapter has testDependencies.
    * Test dependencies are added with testImplementation scope in Gradle.
    *
-   * @param projectPath path to the project root
-   * @param config      adapter configuration
+   * @param projectPath     path to the project root
+   * @param config          adapter configuration
+   * @param metadata        adapter metadata
+   * @param projectConfig   project configuration, or null
+   * @param dependencyIndex index to refresh after the build file is edited
    */
-  private void addTestDependenciesIfNeeded(Path projectPath, AdapterConfig config) {
+  private void addTestDependenciesIfNeeded(Path projectPath, AdapterConfig config,
+      AdapterMetadata metadata, ProjectConfig projectConfig, DependencyIndex dependencyIndex) {
     try {
-      // 1. Load adapter metadata to check if it has test dependencies
-      AdapterMetadata metadata = loadAdapterMetadataWithFallback(
-          config.type().name().toLowerCase(),
-          projectPath,
-          config);
-
+      // 1. Check if the adapter has test dependencies
       if (!metadata.hasTestDependencies()) {
         logger.debug("Adapter {} does not have test dependencies, skipping", config.name());
         return;
@@ -603,7 +768,7 @@ public class GenerateAdapterUseCaseImpl implements GenerateAdapterUseCase {
       // 2. Determine the build file path
       // For single-module projects: build.gradle.kts at project root
       // For multi-module projects: build.gradle.kts in the adapter module
-      Path buildFilePath = determineBuildFilePath(projectPath, config);
+      Path buildFilePath = determineBuildFilePath(projectPath, config, projectConfig);
 
       if (!fileSystemPort.exists(buildFilePath)) {
         logger.warn("Build file not found at {}, skipping test dependency addition", buildFilePath);
@@ -613,15 +778,13 @@ public class GenerateAdapterUseCaseImpl implements GenerateAdapterUseCase {
       // 3. Read the current build file content
       String buildFileContent = fileSystemPort.readFile(buildFilePath);
 
-      // 4. Add each test dependency
-      String updatedContent = buildFileContent;
-      for (AdapterMetadata.Dependency testDep : metadata.testDependencies()) {
-        updatedContent = addTestDependencyToBuildFile(updatedContent, testDep);
-      }
+      // 4. Add all test dependencies in one edit
+      String updatedContent = addTestDependenciesToBuildFile(buildFileContent, metadata.testDependencies());
 
       // 5. Write the updated build file if changes were made
       if (!updatedContent.equals(buildFileContent)) {
         fileSystemPort.writeFile(GeneratedFile.create(buildFilePath, updatedContent));
+        dependencyIndex.update(buildFilePath, updatedContent);
         logger.info("Successfully added {} test dependencies for adapter: {}",
             metadata.testDependencies().size(), config.name());
       } else {
@@ -641,22 +804,17 @@ public class GenerateAdapterUseCaseImpl implements GenerateAdapterUseCase {
   /**
    * Determines the build file path based on project structure.
    *
-   * @param projectPath path to the project root
-   * @param config      adapter configuration
+   * @param projectPath   path to the project root
+   * @param config        adapter configuration
+   * @param projectConfig project configuration, or null
    * @return path to the build file
    */
-  private Path determineBuildFilePath(Path projectPath, AdapterConfig config) {
-    try {
-      var projectConfig = configurationPort.readConfiguration(projectPath).orElse(null);
-
-      // For multi-module projects with adaptersAsModules=true
-      if (projectConfig != null && projectConfig.adaptersAsModules()) {
-        String moduleName = config.name().toLowerCase().replaceAll("([a-z])([A-Z])", "$1-$2").toLowerCase();
-        String modulePath = "infrastructure/driven-adapters/" + moduleName;
-        return projectPath.resolve(modulePath).resolve("build.gradle.kts");
-      }
-    } catch (Exception e) {
-      logger.debug("Could not read project configuration: {}", e.getMessage());
+  private Path determineBuildFilePath(Path projectPath, AdapterConfig config, ProjectConfig projectConfig) {
+    // For multi-module projects with adaptersAsModules=true
+    if (projectConfig != null && projectConfig.adaptersAsModules()) {
+      String moduleName = config.name().toLowerCase().replaceAll("([a-z])([A-Z])", "$1-$2").toLowerCase();
+      String modulePath = "infrastructure/driven-adapters/" + moduleName;
+      return projectPath.resolve(modulePath).resolve("build.gradle.kts");
     }
 
     // Default: single-module project
@@ -664,81 +822,65 @@ public class GenerateAdapterUseCaseImpl implements GenerateAdapterUseCase {
   }
 
   /**
-   * Adds a test dependency to the build file content.
-   * Uses testImplementation scope for Gradle.
+   * Adds test dependencies to the build file content.
+   * Uses testImplementation scope for Gradle. New dependencies go after the
+   * last existing testImplementation, or at the end of the top-level
+   * dependencies block under a "Test dependencies" comment.
    *
    * @param buildFileContent current build file content
-   * @param dependency       test dependency to add
+   * @param dependencies     test dependencies to add
    * @return updated build file content
    */
-  private String addTestDependencyToBuildFile(String buildFileContent, AdapterMetadata.Dependency dependency) {
-    // Format: testImplementation("group:artifact:version")
-    String dependencyStatement = String.format("    testImplementation(\"%s:%s:%s\")",
-        dependency.group(), dependency.artifact(), dependency.version());
-
-    // Check if dependency is already present
-    if (buildFileContent.contains(dependencyStatement)) {
-      logger.debug("Test dependency already present: {}", dependency.toCoordinate());
+  private String addTestDependenciesToBuildFile(String buildFileContent,
+      List<AdapterMetadata.Dependency> dependencies) {
+    KotlinDslEditor editor = KotlinDslEditor.parse(buildFileContent);
+
+    if (!editor.hasBlock("dependencies")) {
+      logger.warn("Could not find dependencies block in build file, test dependencies not added");
       return buildFileContent;
     }
 
-    // Find the dependencies block and add the test dependency
-    if (buildFileContent.contains("dependencies {")) {
-      // Look for existing test dependencies section or add at the end of dependencies
-      // block
-      if (buildFileContent.contains("testImplementation(")) {
-        // Add after the last testImplementation
-        int lastTestImpl = buildFileContent.lastIndexOf("testImplementation(");
-        int endOfLine = buildFileContent.indexOf('\n', lastTestImpl);
-        if (endOfLine != -1) {
-          return buildFileContent.substring(0, endOfLine + 1) +
-              dependencyStatement + "\n" +
-              buildFileContent.substring(endOfLine + 1);
-        }
+    boolean hasTestDependencies = editor.blockContainsCall("dependencies", "testImplementation");
+    boolean commentAdded = false;
+
+    for (AdapterMetadata.Dependency dependency : dependencies) {
+      // Format: testImplementation("group:artifact:version")
+      String dependencyStatement = String.format("testImplementation(\"%s:%s:%s\")",
+          dependency.group(), dependency.artifact(), dependency.version());
+
+      if (editor.containsStatement(dependencyStatement)) {
+        logger.debug("Test dependency already present: {}", dependency.toCoordinate());
+        continue;
       }
 
-      // If no testImplementation found, add before the closing brace of dependencies
-      // block
-      int dependenciesStart = buildFileContent.indexOf("dependencies {");
-      int dependenciesEnd = findMatchingClosingBrace(buildFileContent, dependenciesStart + "dependencies {".length());
-
-      if (dependenciesEnd != -1) {
-        // Add before the closing brace
-        return buildFileContent.substring(0, dependenciesEnd) +
-            "\n    // Test dependencies\n" +
-            dependencyStatement + "\n" +
-            buildFileContent.substring(dependenciesEnd);
+      if (!hasTestDependencies && !commentAdded) {
+        editor.appendLineToBlock("dependencies", "// Test dependencies");
+        commentAdded = true;
       }
+      editor.appendAfterLast("dependencies", "testImplementation", dependencyStatement);
     }
 
-    logger.warn("Could not find dependencies block in build file, dependency not added: {}",
-        dependency.toCoordinate());
-    return buildFileContent;
+    return editor.apply();
   }
 
   /**
    * Checks for dependency conflicts before adding new dependencies.
    * Logs warnings for detected conflicts and suggests resolutions.
    * 
-   * @param projectPath   the project root path
-   * @param config        the adapter configuration
-   * @param projectConfig the project configuration
+   * @param config          the adapter configuration
+   * @param metadata        the adapter metadata
+   * @param projectConfig   the project configuration
+   * @param dependencyIndex index of dependencies declared in the project
    */
-  private void checkDependencyConflicts(Path projectPath, AdapterConfig config,
-      com.pragma.archetype.domain.model.config.ProjectConfig projectConfig) {
+  private void checkDependencyConflicts(AdapterConfig config, AdapterMetadata metadata,
+      com.pragma.archetype.domain.model.config.ProjectConfig projectConfig,
+      DependencyIndex dependencyIndex) {
 
     if (projectConfig == null) {
       return;
     }
 
     try {
-      // Load adapter metadata
-      String adapterTypeLower = config.type().name().toLowerCase();
-      AdapterMetadata metadata = loadAdapterMetadataWithFallback(
-          adapterTypeLower,
-          projectPath,
-          config);
-
       // Get all dependencies (regular + test)
       List<AdapterMetadata.Dependency> allNewDependencies = new ArrayList<>();
       if (metadata.dependencies() != null) {
@@ -759,13 +901,9 @@ public class GenerateAdapterUseCaseImpl implements GenerateAdapterUseCase {
         logger.info("Applied {} dependency version overrides", projectConfig.dependencyOverrides().size());
       }
 
-      // TODO: Load existing dependencies from build.gradle
-      // For now, we'll just check framework conflicts
-      List<AdapterMetadata.Dependency> existingDependencies = List.of();
-
-      // Detect version conflicts
+      // Detect version conflicts against dependencies declared in build files
       List<String> versionConflicts = conflictDetector.detectVersionConflicts(
-          existingDependencies, allNewDependencies);
+          dependencyIndex, allNewDependencies);
 
       // Detect framework conflicts
       String frameworkName = projectConfig.framework().name().toLowerCase();
@@ -797,29 +935,6 @@ public class GenerateAdapterUseCaseImpl implements GenerateAdapterUseCase {
     }
   }
 
-  /**
-   * Finds the matching closing brace for a given opening position.
-   *
-   * @param content  the content to search
-   * @param startPos position after the opening brace
-   * @return position of the matching closing brace, or -1 if not found
-   */
-  private int findMatchingClosingBrace(String content, int startPos) {
-    int braceCount = 1;
-    for (int i = startPos; i < content.length(); i++) {
-      char c = content.charAt(i);
-      if (c == '{') {
-        braceCount++;
-      } else if (c == '}') {
-        braceCount--;
-        if (braceCount == 0) {
-          return i;
-        }
-      }
-    }
-    return -1;
-  }
-
   /**
    * Determines the adapter type category for framework-aware template loading.
    * Maps adapter types to their category: "driven-adapters" or "entry-points".
@@ -833,42 +948,4 @@ public class GenerateAdapterUseCaseImpl implements GenerateAdapterUseCase {
     // In the future, entry points (REST, GRAPHQL, GRPC, WEBSOCKET) will be added
     return "driven-adapters";
   }
-
-  /**
-   * Loads adapter metadata using framework-aware path if projectConfig is
-   * available,
-   * otherwise falls back to legacy loading.
-   * 
-   * @param adapterTypeLower adapter type in lowercase
-   * @param projectPath      path to project (to read config if needed)
-   * @param config           adapter configuration
-   * @return AdapterMetadata
-   */
-  private AdapterMetadata loadAdapterMetadataWithFallback(
-      String adapterTypeLower,
-      Path projectPath,
-      AdapterConfig config) {
-    try {
-      // Try to read project config
-      var projectConfig = configurationPort.readConfiguration(projectPath).orElse(null);
-
-      if (projectConfig != null) {
-        // Use framework-aware loading
-        String framework = projectConfig.framework().name().toLowerCase();
-        String paradigm = projectConfig.paradigm().name().toLowerCase();
-        String adapterTypeCategory = determineAdapterTypeCategory(config);
-
-        return templateRepository.loadAdapterMetadata(
-            adapterTypeLower,
-            framework,
-            paradigm,
-            adapterTypeCategory);
-      }
-    } catch (Exception e) {
-      logger.debug("Could not load with framework-aware path, falling back to legacy: {}", e.getMessage());
-    }
-
-    // Fallback to legacy loading
-    return templateRepository.loadAdapterMetadata(adapterTypeLower);
-  }
 }
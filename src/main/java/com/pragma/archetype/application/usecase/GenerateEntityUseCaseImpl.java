@@ -4,6 +4,11 @@ import java.nio.file.Path;
 import java.util.List;
 
 import com.pragma.archetype.application.generator.EntityGenerator;
+import com.pragma.archetype.application.plan.GenerationPlan;
+import com.pragma.archetype.application.plan.PlanExecution;
+import com.pragma.archetype.application.plan.PlanExecutor;
+import com.pragma.archetype.application.plan.PlanNode;
+import com.pragma.archetype.application.plan.PlanNode.Kind;
 import com.pragma.archetype.domain.model.config.ProjectConfig;
 import com.pragma.archetype.domain.model.entity.EntityConfig;
 import com.pragma.archetype.domain.model.file.GeneratedFile;
@@ -22,16 +27,27 @@ public class GenerateEntityUseCaseImpl implements GenerateEntityUseCase {
   private final EntityGenerator generator;
   private final ConfigurationPort configurationPort;
   private final FileSystemPort fileSystemPort;
+  private final PlanExecutor planExecutor;
 
   public GenerateEntityUseCaseImpl(
       EntityValidator validator,
       EntityGenerator generator,
       ConfigurationPort configurationPort,
       FileSystemPort fileSystemPort) {
+    this(validator, generator, configurationPort, fileSystemPort, PlanExecutor.sequential());
+  }
+
+  public GenerateEntityUseCaseImpl(
+      EntityValidator validator,
+      EntityGenerator generator,
+      ConfigurationPort configurationPort,
+      FileSystemPort fileSystemPort,
+      PlanExecutor planExecutor) {
     this.validator = validator;
     this.generator = generator;
     this.configurationPort = configurationPort;
     this.fileSystemPort = fileSystemPort;
+    this.planExecutor = planExecutor;
   }
 
   @Override
@@ -43,17 +59,25 @@ public class GenerateEntityUseCaseImpl implements GenerateEntityUseCase {
         return GenerationResult.failure(validationResult.errors());
       }
 
-      // 2. Load project configuration
-      ProjectConfig projectConfig = configurationPort.readConfiguration(projectPath)
-          .orElseThrow(() -> new RuntimeException(
-              "Project configuration not found. Run 'initCleanArch' first."));
-
-      // 3. Generate entity
-      List<GeneratedFile> files = generator.generateEntity(projectPath, projectConfig, config);
+      // 2. Load project configuration, render and write the entity
+      GenerationPlan plan = new GenerationPlan("entity " + config.name())
+          .add(PlanNode.of("config", Kind.FETCH, "Read project configuration",
+              results -> configurationPort.readConfiguration(projectPath)
+                  .orElseThrow(() -> new RuntimeException(
+                      "Project configuration not found. Run 'initCleanArch' first."))))
+          .add(PlanNode.of("render", Kind.RENDER, "Render entity " + config.name(),
+              results -> generator.generateEntity(projectPath, results.<ProjectConfig>get("config"), config))
+              .after("config"))
+          .add(PlanNode.of("write", Kind.WRITE, "Write entity files", results -> {
+            fileSystemPort.writeFiles(results.get("render"));
+            return null;
+          }).after("render"));
 
-      // 4. Write files
-      fileSystemPort.writeFiles(files);
+      // 3. Execute plan
+      PlanExecution execution = planExecutor.execute(plan);
+      execution.throwIfFailed();
 
+      List<GeneratedFile> files = execution.get("render");
       return GenerationResult.success(files);
 
     } catch (Exception e) {
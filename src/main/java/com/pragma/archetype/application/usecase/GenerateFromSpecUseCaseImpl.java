@@ -0,0 +1,259 @@
+package com.pragma.archetype.application.usecase;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.pragma.archetype.application.generator.EntityGenerator;
+import com.pragma.archetype.application.generator.InputAdapterGenerator;
+import com.pragma.archetype.application.generator.UseCaseGenerator;
+import com.pragma.archetype.application.plan.GenerationPlan;
+import com.pragma.archetype.application.plan.PlanExecution;
+import com.pragma.archetype.application.plan.PlanExecutor;
+import com.pragma.archetype.application.plan.PlanNode;
+import com.pragma.archetype.application.plan.PlanNode.Kind;
+import com.pragma.archetype.domain.model.adapter.AdapterConfig;
+import com.pragma.archetype.domain.model.adapter.InputAdapterConfig;
+import com.pragma.archetype.domain.model.config.ProjectConfig;
+import com.pragma.archetype.domain.model.entity.EntityConfig;
+import com.pragma.archetype.domain.model.file.GeneratedFile;
+import com.pragma.archetype.domain.model.spec.GenerationSpec;
+import com.pragma.archetype.domain.model.usecase.UseCaseConfig;
+import com.pragma.archetype.domain.model.validation.ValidationResult;
+import com.pragma.archetype.domain.port.in.GenerateAdapterUseCase;
+import com.pragma.archetype.domain.port.in.GenerateFromSpecUseCase;
+import com.pragma.archetype.domain.port.out.ConfigurationPort;
+import com.pragma.archetype.domain.port.out.FileSystemPort;
+import com.pragma.archetype.domain.service.AdapterValidator;
+import com.pragma.archetype.domain.service.EntityValidator;
+import com.pragma.archetype.domain.service.InputAdapterValidator;
+import com.pragma.archetype.domain.service.UseCaseValidator;
+
+/**
+ * Implementation of GenerateFromSpecUseCase.
+ *
+ * Every component is validated before anything is written. Entities, use
+ * cases and input adapters only add files of their own, so they are rendered
+ * concurrently by the plan executor and written together.
+ * Output adapters edit shared build files and application.yml, so they run in
+ * order through {@link GenerateAdapterUseCase#stageAll}, which leaves the file
+ * system port uncommitted. The port is flushed only if every component
+ * succeeded and discarded otherwise, so on a transactional port the whole
+ * spec is applied as one transaction.
+ */
+public class GenerateFromSpecUseCaseImpl implements GenerateFromSpecUseCase {
+
+  private static final Logger logger = LoggerFactory.getLogger(GenerateFromSpecUseCaseImpl.class);
+
+  private final EntityValidator entityValidator;
+  private final EntityGenerator entityGenerator;
+  private final UseCaseValidator useCaseValidator;
+  private final UseCaseGenerator useCaseGenerator;
+  private final InputAdapterValidator inputAdapterValidator;
+  private final InputAdapterGenerator inputAdapterGenerator;
+  private final AdapterValidator adapterValidator;
+  private final GenerateAdapterUseCase adapterUseCase;
+  private final ConfigurationPort configurationPort;
+  private final FileSystemPort fileSystemPort;
+  private final PlanExecutor planExecutor;
+
+  public GenerateFromSpecUseCaseImpl(
+      EntityValidator entityValidator,
+      EntityGenerator entityGenerator,
+      UseCaseValidator useCaseValidator,
+      UseCaseGenerator useCaseGenerator,
+      InputAdapterValidator inputAdapterValidator,
+      InputAdapterGenerator inputAdapterGenerator,
+      AdapterValidator adapterValidator,
+      GenerateAdapterUseCase adapterUseCase,
+      ConfigurationPort configurationPort,
+      FileSystemPort fileSystemPort,
+      int parallelism) {
+    this(entityValidator, entityGenerator, useCaseValidator, useCaseGenerator, inputAdapterValidator,
+        inputAdapterGenerator, adapterValidator, adapterUseCase, configurationPort, fileSystemPort,
+        new PlanExecutor(parallelism));
+  }
+
+  public GenerateFromSpecUseCaseImpl(
+      EntityValidator entityValidator,
+      EntityGenerator entityGenerator,
+      UseCaseValidator useCaseValidator,
+      UseCaseGenerator useCaseGenerator,
+      InputAdapterValidator inputAdapterValidator,
+      InputAdapterGenerator inputAdapterGenerator,
+      AdapterValidator adapterValidator,
+      GenerateAdapterUseCase adapterUseCase,
+      ConfigurationPort configurationPort,
+      FileSystemPort fileSystemPort,
+      PlanExecutor planExecutor) {
+    this.entityValidator = entityValidator;
+    this.entityGenerator = entityGenerator;
+    this.useCaseValidator = useCaseValidator;
+    this.useCaseGenerator = useCaseGenerator;
+    this.inputAdapterValidator = inputAdapterValidator;
+    this.inputAdapterGenerator = inputAdapterGenerator;
+    this.adapterValidator = adapterValidator;
+    this.adapterUseCase = adapterUseCase;
+    this.configurationPort = configurationPort;
+    this.fileSystemPort = fileSystemPort;
+    this.planExecutor = planExecutor;
+  }
+
+  @Override
+  public GenerationResult execute(Path projectPath, GenerationSpec spec) {
+    // 1. Load project configuration once
+    ProjectConfig projectConfig = configurationPort.readConfiguration(projectPath).orElse(null);
+    if (projectConfig == null) {
+      return GenerationResult.failure(List.of(
+          "Project configuration not found. Run 'initCleanArch' first."));
+    }
+
+    // 2. Validate every component before anything is written
+    List<String> errors = validate(projectPath, spec);
+    if (!errors.isEmpty()) {
+      return GenerationResult.failure(errors);
+    }
+
+    // 3. Plan rendering, writing and output adapter generation. A failed
+    // rendering skips the writes, but the other renderings still run so every
+    // error is reported.
+    GenerationPlan plan = new GenerationPlan("spec").continueOnFailure();
+    List<String> renderings = new ArrayList<>();
+    for (EntityConfig config : spec.entities()) {
+      renderings.add(render(plan, "Entity " + config.name(),
+          results -> entityGenerator.generateEntity(projectPath, projectConfig, config)));
+    }
+    for (UseCaseConfig config : spec.useCases()) {
+      renderings.add(render(plan, "Use case " + config.name(),
+          results -> useCaseGenerator.generate(projectPath, config)));
+    }
+    for (InputAdapterConfig config : spec.inputAdapters()) {
+      renderings.add(render(plan, "Input adapter " + config.name(),
+          results -> inputAdapterGenerator.generate(projectPath, config)));
+    }
+
+    // Write rendered files in component order; a transactional port only
+    // stages them
+    plan.add(PlanNode.of("write", Kind.WRITE, "Write rendered files", results -> {
+      List<GeneratedFile> files = new ArrayList<>();
+      for (String rendering : renderings) {
+        files.addAll(results.<List<GeneratedFile>>get(rendering));
+      }
+      fileSystemPort.writeFiles(files);
+      return files;
+    }).after(renderings.toArray(String[]::new)));
+
+    // Generate output adapters in order; their changes are staged with the
+    // rendered files
+    plan.add(PlanNode.of("output-adapters", Kind.EDIT, "Generate output adapters", results -> {
+      if (spec.outputAdapters().isEmpty()) {
+        return List.<GenerateAdapterUseCase.GenerationResult>of();
+      }
+      return adapterUseCase.stageAll(projectPath, spec.outputAdapters());
+    }).after("write"));
+
+    // 4. Run the plan
+    PlanExecution execution = planExecutor.execute(plan);
+    Map<String, Throwable> failures = execution.failures();
+    for (String rendering : renderings) {
+      if (failures.containsKey(rendering)) {
+        errors.add(rendering + ": " + failures.get(rendering).getMessage());
+      }
+    }
+    if (!errors.isEmpty()) {
+      fileSystemPort.discard();
+      return GenerationResult.failure(errors);
+    }
+    if (!failures.isEmpty()) {
+      Throwable failure = failures.values().iterator().next();
+      logger.error("Spec generation failed: {}", failure.getMessage(), failure);
+      fileSystemPort.discard();
+      return GenerationResult.failure(List.of("Failed to generate from spec: " + failure.getMessage()));
+    }
+
+    // 5. Collect files and errors of the output adapters
+    List<GeneratedFile> generatedFiles = new ArrayList<>(execution.<List<GeneratedFile>>get("write"));
+    List<GenerateAdapterUseCase.GenerationResult> adapterResults = execution.get("output-adapters");
+    for (int i = 0; i < adapterResults.size(); i++) {
+      GenerateAdapterUseCase.GenerationResult result = adapterResults.get(i);
+      if (result.success()) {
+        generatedFiles.addAll(result.generatedFiles());
+      } else {
+        String label = "Output adapter " + spec.outputAdapters().get(i).name();
+        result.errors().forEach(error -> errors.add(label + ": " + error));
+      }
+    }
+
+    // 6. Commit the whole spec, or nothing if any output adapter failed
+    if (!errors.isEmpty()) {
+      fileSystemPort.discard();
+      return GenerationResult.failure(errors);
+    }
+    fileSystemPort.flush();
+    return GenerationResult.success(generatedFiles);
+  }
+
+  /**
+   * Validates all components and rejects duplicate names within a section.
+   *
+   * @return error messages, prefixed with the component
+   */
+  private List<String> validate(Path projectPath, GenerationSpec spec) {
+    List<String> errors = new ArrayList<>();
+
+    rejectDuplicates("Entity", spec.entities(), EntityConfig::name, errors);
+    rejectDuplicates("Use case", spec.useCases(), UseCaseConfig::name, errors);
+    rejectDuplicates("Input adapter", spec.inputAdapters(), InputAdapterConfig::name, errors);
+    rejectDuplicates("Output adapter", spec.outputAdapters(), AdapterConfig::name, errors);
+
+    for (EntityConfig config : spec.entities()) {
+      collect("Entity " + config.name(), entityValidator.validate(projectPath, config), errors);
+    }
+    for (UseCaseConfig config : spec.useCases()) {
+      collect("Use case " + config.name(), useCaseValidator.validate(projectPath, config), errors);
+    }
+    for (InputAdapterConfig config : spec.inputAdapters()) {
+      collect("Input adapter " + config.name(), inputAdapterValidator.validate(projectPath, config), errors);
+    }
+    for (AdapterConfig config : spec.outputAdapters()) {
+      collect("Output adapter " + config.name(), adapterValidator.validate(projectPath, config), errors);
+    }
+
+    return errors;
+  }
+
+  private <T> void rejectDuplicates(String kind, List<T> configs, Function<T, String> name, List<String> errors) {
+    Set<String> seen = new HashSet<>();
+    for (T config : configs) {
+      if (!seen.add(name.apply(config))) {
+        errors.add(kind + " " + name.apply(config) + ": declared more than once");
+      }
+    }
+  }
+
+  private void collect(String label, ValidationResult result, List<String> errors) {
+    if (!result.valid()) {
+      result.errors().forEach(error -> errors.add(label + ": " + error));
+    }
+  }
+
+  /**
+   * Adds the rendering of one component to the plan.
+   *
+   * @param plan   plan to add the step to
+   * @param label  component label, used as step id and error prefix
+   * @param render renders the component's files
+   * @return id of the step
+   */
+  private String render(GenerationPlan plan, String label, PlanNode.Action render) {
+    plan.add(PlanNode.of(label, Kind.RENDER, null, render));
+    return label;
+  }
+}
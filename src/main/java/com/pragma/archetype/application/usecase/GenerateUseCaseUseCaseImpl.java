@@ -4,6 +4,11 @@ import java.nio.file.Path;
 import java.util.List;
 
 import com.pragma.archetype.application.generator.UseCaseGenerator;
+import com.pragma.archetype.application.plan.GenerationPlan;
+import com.pragma.archetype.application.plan.PlanExecution;
+import com.pragma.archetype.application.plan.PlanExecutor;
+import com.pragma.archetype.application.plan.PlanNode;
+import com.pragma.archetype.application.plan.PlanNode.Kind;
 import com.pragma.archetype.domain.model.file.GeneratedFile;
 import com.pragma.archetype.domain.model.usecase.UseCaseConfig;
 import com.pragma.archetype.domain.model.validation.ValidationResult;
@@ -22,16 +27,27 @@ public class GenerateUseCaseUseCaseImpl implements GenerateUseCaseUseCase {
   private final UseCaseGenerator generator;
   private final ConfigurationPort configurationPort;
   private final FileSystemPort fileSystemPort;
+  private final PlanExecutor planExecutor;
 
   public GenerateUseCaseUseCaseImpl(
       UseCaseValidator validator,
       UseCaseGenerator generator,
       ConfigurationPort configurationPort,
       FileSystemPort fileSystemPort) {
+    this(validator, generator, configurationPort, fileSystemPort, PlanExecutor.sequential());
+  }
+
+  public GenerateUseCaseUseCaseImpl(
+      UseCaseValidator validator,
+      UseCaseGenerator generator,
+      ConfigurationPort configurationPort,
+      FileSystemPort fileSystemPort,
+      PlanExecutor planExecutor) {
     this.validator = validator;
     this.generator = generator;
     this.configurationPort = configurationPort;
     this.fileSystemPort = fileSystemPort;
+    this.planExecutor = planExecutor;
   }
 
   @Override
@@ -43,14 +59,22 @@ public class GenerateUseCaseUseCaseImpl implements GenerateUseCaseUseCase {
     }
 
     try {
-      // 2. Generate use case files
-      List<GeneratedFile> generatedFiles = generator.generate(projectPath, config);
+      // 2. Render use case files, then write them to disk
+      GenerationPlan plan = new GenerationPlan("use case " + config.name())
+          .add(PlanNode.of("render", Kind.RENDER, "Render use case " + config.name(),
+              results -> generator.generate(projectPath, config)))
+          .add(PlanNode.of("write", Kind.WRITE, "Write use case files", results -> {
+            for (GeneratedFile file : results.<List<GeneratedFile>>get("render")) {
+              fileSystemPort.writeFile(file);
+            }
+            return null;
+          }).after("render"));
 
-      // 3. Write files to disk
-      for (GeneratedFile file : generatedFiles) {
-        fileSystemPort.writeFile(file);
-      }
+      // 3. Execute plan
+      PlanExecution execution = planExecutor.execute(plan);
+      execution.throwIfFailed();
 
+      List<GeneratedFile> generatedFiles = execution.get("render");
       return GenerationResult.success(generatedFiles);
 
     } catch (Exception e) {
@@ -4,6 +4,11 @@ import java.nio.file.Path;
 import java.util.List;
 
 import com.pragma.archetype.application.generator.ProjectGenerator;
+import com.pragma.archetype.application.plan.GenerationPlan;
+import com.pragma.archetype.application.plan.PlanExecution;
+import com.pragma.archetype.application.plan.PlanExecutor;
+import com.pragma.archetype.application.plan.PlanNode;
+import com.pragma.archetype.application.plan.PlanNode.Kind;
 import com.pragma.archetype.domain.model.config.ProjectConfig;
 import com.pragma.archetype.domain.model.file.GeneratedFile;
 import com.pragma.archetype.domain.model.validation.ValidationResult;
@@ -47,14 +52,24 @@ public class InitializeProjectUseCaseImpl implements InitializeProjectUseCase {
   private final ProjectGenerator projectGenerator;
 
   private final ConfigurationPort configurationPort;
+  private final PlanExecutor planExecutor;
 
   public InitializeProjectUseCaseImpl(
       ProjectValidator projectValidator,
       ProjectGenerator projectGenerator,
       ConfigurationPort configurationPort) {
+    this(projectValidator, projectGenerator, configurationPort, PlanExecutor.sequential());
+  }
+
+  public InitializeProjectUseCaseImpl(
+      ProjectValidator projectValidator,
+      ProjectGenerator projectGenerator,
+      ConfigurationPort configurationPort,
+      PlanExecutor planExecutor) {
     this.projectValidator = projectValidator;
     this.projectGenerator = projectGenerator;
     this.configurationPort = configurationPort;
+    this.planExecutor = planExecutor;
   }
 
   /**
@@ -73,13 +88,20 @@ public class InitializeProjectUseCaseImpl implements InitializeProjectUseCase {
     }
 
     try {
-      // 2. Generate project structure
-      List<GeneratedFile> generatedFiles = projectGenerator.generateProject(projectPath, config);
-
-      // 3. Save configuration
-      configurationPort.writeConfiguration(projectPath, config);
-
-      // 4. Return success result
+      // 2. Generate project structure, then save configuration
+      GenerationPlan plan = new GenerationPlan("project " + config.name())
+          .add(PlanNode.of("structure", Kind.RENDER, "Render and write project structure",
+              results -> projectGenerator.generateProject(projectPath, config)))
+          .add(PlanNode.of("config", Kind.WRITE, "Write .cleanarch.yml", results -> {
+            configurationPort.writeConfiguration(projectPath, config);
+            return null;
+          }).after("structure"));
+
+      PlanExecution execution = planExecutor.execute(plan);
+      execution.throwIfFailed();
+
+      // 3. Return success result
+      List<GeneratedFile> generatedFiles = execution.get("structure");
       return InitializationResult.success(generatedFiles);
 
     } catch (Exception e) {
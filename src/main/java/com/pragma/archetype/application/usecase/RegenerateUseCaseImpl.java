@@ -0,0 +1,98 @@
+package com.pragma.archetype.application.usecase;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.pragma.archetype.domain.model.file.GeneratedFile;
+import com.pragma.archetype.domain.model.manifest.GenerationManifest;
+import com.pragma.archetype.domain.model.manifest.ManifestEntry;
+import com.pragma.archetype.domain.port.in.RegenerateUseCase;
+import com.pragma.archetype.domain.port.out.FileSystemPort;
+import com.pragma.archetype.domain.port.out.GenerationManifestPort;
+import com.pragma.archetype.domain.port.out.TemplateRepository;
+
+/**
+ * Implementation of RegenerateUseCase.
+ * Compares each manifest entry with the file on disk and the current template:
+ * files edited by hand are left alone, files whose template and plugin version
+ * are unchanged are skipped, and the rest are re-rendered from their stored
+ * context.
+ */
+public class RegenerateUseCaseImpl implements RegenerateUseCase {
+
+  private final TemplateRepository templateRepository;
+  private final FileSystemPort fileSystemPort;
+  private final GenerationManifestPort manifestPort;
+
+  public RegenerateUseCaseImpl(
+      TemplateRepository templateRepository,
+      FileSystemPort fileSystemPort,
+      GenerationManifestPort manifestPort) {
+    this.templateRepository = templateRepository;
+    this.fileSystemPort = fileSystemPort;
+    this.manifestPort = manifestPort;
+  }
+
+  @Override
+  public RegenerationResult execute(Path projectPath, String pluginVersion, boolean force) {
+    GenerationManifest manifest = manifestPort.read(projectPath);
+
+    List<GeneratedFile> writes = new ArrayList<>();
+    List<Path> regenerated = new ArrayList<>();
+    List<Path> userModified = new ArrayList<>();
+    List<Path> missing = new ArrayList<>();
+    List<String> errors = new ArrayList<>();
+    int upToDate = 0;
+
+    for (ManifestEntry entry : manifest.entries()) {
+      Path file = projectPath.resolve(entry.path());
+
+      // 1. Leave deleted and hand-edited files alone
+      if (!fileSystemPort.exists(file)) {
+        missing.add(file);
+        continue;
+      }
+      String currentHash = GenerationManifest.hash(fileSystemPort.readFile(file));
+      if (!currentHash.equals(entry.outputHash())) {
+        userModified.add(file);
+        continue;
+      }
+
+      try {
+        // 2. Skip files whose inputs did not change
+        String templateHash = GenerationManifest.hash(templateRepository.getTemplateContent(entry.templatePath()));
+        if (!force && templateHash.equals(entry.templateHash()) && pluginVersion.equals(entry.pluginVersion())) {
+          upToDate++;
+          continue;
+        }
+
+        // 3. Re-render from the stored context
+        GeneratedFile rendered = GeneratedFile.create(file,
+            templateRepository.processTemplate(entry.templatePath(), entry.context()));
+        if (rendered.contentHash().equals(currentHash)) {
+          upToDate++;
+        } else {
+          writes.add(rendered);
+          regenerated.add(file);
+        }
+        manifest.put(entry.rendered(templateHash, pluginVersion, rendered.contentHash()));
+      } catch (RuntimeException e) {
+        errors.add(entry.path() + ": " + e.getMessage());
+      }
+    }
+
+    // 4. Write the new content and the updated manifest, or neither
+    try {
+      fileSystemPort.writeFiles(writes);
+      manifestPort.write(projectPath, manifest);
+      fileSystemPort.flush();
+    } catch (RuntimeException e) {
+      fileSystemPort.discard();
+      errors.add("Failed to write regenerated files: " + e.getMessage());
+      return new RegenerationResult(List.of(), upToDate, userModified, missing, errors);
+    }
+
+    return new RegenerationResult(regenerated, upToDate, userModified, missing, errors);
+  }
+}
@@ -0,0 +1,30 @@
+package com.pragma.archetype.domain.model.backup;
+
+import java.time.Duration;
+
+/**
+ * Limits applied when pruning backups. Newer backups are always kept in
+ * preference to older ones.
+ *
+ * @param maxBackups    maximum number of backups to keep, 0 for no limit
+ * @param maxAge        maximum age of a backup, null for no limit
+ * @param maxTotalBytes maximum size of the blobs referenced by the kept
+ *                      backups, 0 for no limit
+ */
+public record BackupRetentionPolicy(
+    int maxBackups,
+    Duration maxAge,
+    long maxTotalBytes) {
+
+  public BackupRetentionPolicy {
+    if (maxBackups < 0) {
+      throw new IllegalArgumentException("Max backups cannot be negative");
+    }
+    if (maxAge != null && maxAge.isNegative()) {
+      throw new IllegalArgumentException("Max age cannot be negative");
+    }
+    if (maxTotalBytes < 0) {
+      throw new IllegalArgumentException("Max total bytes cannot be negative");
+    }
+  }
+}
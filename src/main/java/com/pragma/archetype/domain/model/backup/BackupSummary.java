@@ -0,0 +1,26 @@
+package com.pragma.archetype.domain.model.backup;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * A backup set found under .cleanarch/backups.
+ *
+ * @param backupId  the backup ID
+ * @param createdAt when the backup was created
+ * @param fileCount number of files in the backup
+ * @param blobs     SHA-256 hashes of the blobs the backup references; empty
+ *                  for legacy backups that hold full copies
+ * @param sizeBytes total size of the backed up files
+ */
+public record BackupSummary(
+    String backupId,
+    Instant createdAt,
+    int fileCount,
+    Set<String> blobs,
+    long sizeBytes) {
+
+  public BackupSummary {
+    blobs = blobs != null ? Set.copyOf(blobs) : Set.of();
+  }
+}
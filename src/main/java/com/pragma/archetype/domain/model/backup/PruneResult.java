@@ -0,0 +1,20 @@
+package com.pragma.archetype.domain.model.backup;
+
+import java.util.List;
+
+/**
+ * Result of pruning backups.
+ *
+ * @param deletedBackups IDs of the deleted backups, oldest first
+ * @param deletedBlobs   number of blobs no longer referenced and removed
+ * @param freedBytes     bytes freed on disk
+ */
+public record PruneResult(
+    List<String> deletedBackups,
+    int deletedBlobs,
+    long freedBytes) {
+
+  public PruneResult {
+    deletedBackups = deletedBackups != null ? List.copyOf(deletedBackups) : List.of();
+  }
+}
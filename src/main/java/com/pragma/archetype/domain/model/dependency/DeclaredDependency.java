@@ -0,0 +1,35 @@
+package com.pragma.archetype.domain.model.dependency;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+import com.pragma.archetype.domain.model.adapter.AdapterMetadata;
+
+/**
+ * A dependency declared in a project build file.
+ *
+ * @param dependency    the dependency coordinates; version is null when it is
+ *                      managed elsewhere (BOM, platform) or cannot be resolved
+ * @param configuration the Gradle configuration it is declared in (e.g.
+ *                      implementation, testImplementation)
+ * @param buildFile     the build file that declares it
+ */
+public record DeclaredDependency(
+    AdapterMetadata.Dependency dependency,
+    String configuration,
+    Path buildFile) {
+
+  public DeclaredDependency {
+    Objects.requireNonNull(dependency, "Dependency cannot be null");
+    Objects.requireNonNull(configuration, "Configuration cannot be null");
+  }
+
+  /**
+   * Gets the index key for this dependency.
+   *
+   * @return group:artifact
+   */
+  public String key() {
+    return dependency.group() + ":" + dependency.artifact();
+  }
+}
@@ -1,21 +1,58 @@
 package com.pragma.archetype.domain.model.file;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.Objects;
 
 /**
  * Represents a file to be generated.
- * Uses Java 21 record for immutability.
+ * Immutable; content is held either as a String or as UTF-8 bytes, whichever
+ * it was created from. The other form is computed on first use and cached,
+ * so a file is encoded at most once however many consumers (change
+ * detection, hashing, writing) read it.
  */
-public record GeneratedFile(
-    Path path,
-    String content,
-    FileType type) {
+public final class GeneratedFile {
 
-  public GeneratedFile {
-    Objects.requireNonNull(path, "Path cannot be null");
+  private final Path path;
+  private final FileType type;
+  private volatile String content;
+  private volatile byte[] bytes;
+  private volatile String contentHash;
+
+  public GeneratedFile(Path path, String content, FileType type) {
+    this(path, content, null, type);
     Objects.requireNonNull(content, "Content cannot be null");
+  }
+
+  private GeneratedFile(Path path, String content, byte[] bytes, FileType type) {
+    Objects.requireNonNull(path, "Path cannot be null");
     Objects.requireNonNull(type, "File type cannot be null");
+    this.path = path;
+    this.content = content;
+    this.bytes = bytes;
+    this.type = type;
+  }
+
+  /**
+   * Creates a file from UTF-8 encoded content.
+   * The array is copied, so later changes to it do not affect the file.
+   */
+  public static GeneratedFile fromBytes(Path path, byte[] content, FileType type) {
+    Objects.requireNonNull(content, "Content cannot be null");
+    return new GeneratedFile(path, null, content.clone(), type);
+  }
+
+  /**
+   * Creates a file from UTF-8 encoded content with automatic type detection.
+   */
+  public static GeneratedFile fromBytes(Path path, byte[] content) {
+    Objects.requireNonNull(path, "Path cannot be null");
+    return fromBytes(path, content, detectType(path));
   }
 
   /**
@@ -50,26 +87,122 @@ public record GeneratedFile(
    * Creates a generic file with automatic type detection.
    */
   public static GeneratedFile create(Path path, String content) {
+    Objects.requireNonNull(path, "Path cannot be null");
+    return new GeneratedFile(path, content, detectType(path));
+  }
+
+  public Path path() {
+    return path;
+  }
+
+  public FileType type() {
+    return type;
+  }
+
+  /**
+   * Gets the content as a String, decoding it on first use if the file was
+   * created from bytes.
+   */
+  public String content() {
+    String value = content;
+    if (value == null) {
+      value = new String(bytes, StandardCharsets.UTF_8);
+      content = value;
+    }
+    return value;
+  }
+
+  /**
+   * Gets the UTF-8 content as a read-only buffer over the cached bytes,
+   * ready for FileChannel.write without copying.
+   * Each call returns a new buffer positioned at the start.
+   */
+  public ByteBuffer contentBuffer() {
+    return ByteBuffer.wrap(encoded()).asReadOnlyBuffer();
+  }
+
+  /**
+   * Gets the size of the UTF-8 content in bytes.
+   */
+  public int size() {
+    return encoded().length;
+  }
+
+  /**
+   * Gets the SHA-256 of the UTF-8 content as lowercase hex.
+   * Computed once per file.
+   */
+  public String contentHash() {
+    String value = contentHash;
+    if (value == null) {
+      try {
+        value = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(encoded()));
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException("SHA-256 not available", e);
+      }
+      contentHash = value;
+    }
+    return value;
+  }
+
+  private byte[] encoded() {
+    byte[] value = bytes;
+    if (value == null) {
+      value = content.getBytes(StandardCharsets.UTF_8);
+      bytes = value;
+    }
+    return value;
+  }
+
+  private static FileType detectType(Path path) {
     String fileName = path.getFileName().toString().toLowerCase();
 
     if (fileName.endsWith(".java")) {
-      return javaSource(path, content);
+      return FileType.JAVA_SOURCE;
     } else if (fileName.endsWith(".kt") || fileName.endsWith(".kts")) {
-      return new GeneratedFile(path, content, FileType.KOTLIN_SOURCE);
+      return FileType.KOTLIN_SOURCE;
     } else if (fileName.equals("build.gradle.kts") || fileName.equals("build.gradle")) {
-      return gradleBuild(path, content);
+      return FileType.GRADLE_BUILD;
     } else if (fileName.equals("settings.gradle.kts") || fileName.equals("settings.gradle")) {
-      return new GeneratedFile(path, content, FileType.GRADLE_SETTINGS);
+      return FileType.GRADLE_SETTINGS;
     } else if (fileName.endsWith(".yml") || fileName.endsWith(".yaml")) {
-      return yamlConfig(path, content);
+      return FileType.YAML_CONFIG;
     } else if (fileName.endsWith(".properties")) {
-      return new GeneratedFile(path, content, FileType.PROPERTIES_CONFIG);
+      return FileType.PROPERTIES_CONFIG;
     } else if (fileName.endsWith(".md")) {
-      return markdown(path, content);
+      return FileType.MARKDOWN;
     } else if (fileName.equals(".gitignore")) {
-      return new GeneratedFile(path, content, FileType.GITIGNORE);
+      return FileType.GITIGNORE;
     } else {
-      return new GeneratedFile(path, content, FileType.OTHER);
+      return FileType.OTHER;
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof GeneratedFile other)) {
+      return false;
     }
+    if (!path.equals(other.path) || type != other.type) {
+      return false;
+    }
+    // Compare in whichever form both already have, encoding only if needed
+    if (content != null && other.content != null) {
+      return content.equals(other.content);
+    }
+    return Arrays.equals(encoded(), other.encoded());
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(path, type, Arrays.hashCode(encoded()));
+  }
+
+  @Override
+  public String toString() {
+    return "GeneratedFile[path=" + path + ", type=" + type + ", size=" + size() + "]";
   }
 }
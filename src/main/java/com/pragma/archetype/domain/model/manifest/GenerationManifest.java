@@ -0,0 +1,97 @@
+package com.pragma.archetype.domain.model.manifest;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Generated files of a project and the inputs they were rendered from.
+ * Lets later runs tell which files are stale because their template or the
+ * plugin changed, and which were edited by hand since they were generated.
+ */
+public class GenerationManifest {
+
+  /**
+   * Location of the manifest relative to the project root.
+   */
+  public static final String FILE_NAME = ".cleanarch/manifest.yml";
+
+  private final Map<String, ManifestEntry> entries = new TreeMap<>();
+
+  public GenerationManifest() {
+  }
+
+  public GenerationManifest(Collection<ManifestEntry> entries) {
+    entries.forEach(this::put);
+  }
+
+  /**
+   * Adds an entry, replacing any previous entry for the same file.
+   *
+   * @param entry entry to add
+   */
+  public void put(ManifestEntry entry) {
+    entries.put(entry.path(), entry);
+  }
+
+  /**
+   * Gets the entry for a file.
+   *
+   * @param path file path relative to the project root
+   * @return the entry, if the file is in the manifest
+   */
+  public Optional<ManifestEntry> entry(String path) {
+    return Optional.ofNullable(entries.get(path));
+  }
+
+  /**
+   * Gets all entries, ordered by path.
+   */
+  public List<ManifestEntry> entries() {
+    return new ArrayList<>(entries.values());
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public boolean isEmpty() {
+    return entries.isEmpty();
+  }
+
+  /**
+   * Converts a file path into the key used by the manifest.
+   *
+   * @param projectPath project root
+   * @param file        generated file, absolute or relative to the root
+   * @return path relative to the project root with '/' separators
+   */
+  public static String relativePath(Path projectPath, Path file) {
+    Path resolved = projectPath.resolve(file).normalize();
+    return projectPath.normalize().relativize(resolved).toString().replace('\\', '/');
+  }
+
+  /**
+   * Computes the SHA-256 of a text, the same hash generated files use for their
+   * content.
+   *
+   * @param content text to hash
+   * @return lowercase hex digest
+   */
+  public static String hash(String content) {
+    try {
+      return HexFormat.of().formatHex(
+          MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+}
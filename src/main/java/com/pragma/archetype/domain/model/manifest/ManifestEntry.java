@@ -0,0 +1,44 @@
+package com.pragma.archetype.domain.model.manifest;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Records how one generated file was produced.
+ *
+ * @param path          File path relative to the project root, using '/'
+ * @param templatePath  Template the file was rendered from
+ * @param templateHash  SHA-256 of the template content
+ * @param contextHash   SHA-256 of the template context
+ * @param pluginVersion Plugin version that rendered the file
+ * @param outputHash    SHA-256 of the content written to the file
+ * @param context       Template context, kept so the file can be re-rendered
+ */
+public record ManifestEntry(
+    String path,
+    String templatePath,
+    String templateHash,
+    String contextHash,
+    String pluginVersion,
+    String outputHash,
+    Map<String, Object> context) {
+
+  public ManifestEntry {
+    Objects.requireNonNull(path, "Path cannot be null");
+    Objects.requireNonNull(templatePath, "Template path cannot be null");
+    context = context != null ? context : Map.of();
+  }
+
+  /**
+   * Creates a copy of this entry for a new rendering of the same template and
+   * context.
+   *
+   * @param templateHash  hash of the template that was rendered
+   * @param pluginVersion plugin version that rendered it
+   * @param outputHash    hash of the new output
+   * @return updated entry
+   */
+  public ManifestEntry rendered(String templateHash, String pluginVersion, String outputHash) {
+    return new ManifestEntry(path, templatePath, templateHash, contextHash, pluginVersion, outputHash, context);
+  }
+}
@@ -0,0 +1,47 @@
+package com.pragma.archetype.domain.model.spec;
+
+import java.util.List;
+
+import com.pragma.archetype.domain.model.adapter.AdapterConfig;
+import com.pragma.archetype.domain.model.adapter.InputAdapterConfig;
+import com.pragma.archetype.domain.model.entity.EntityConfig;
+import com.pragma.archetype.domain.model.usecase.UseCaseConfig;
+
+/**
+ * Components to generate in one batch.
+ *
+ * @param entities       Domain entities
+ * @param useCases       Use cases
+ * @param inputAdapters  Input adapters (entry points)
+ * @param outputAdapters Output adapters (driven adapters)
+ */
+public record GenerationSpec(
+    List<EntityConfig> entities,
+    List<UseCaseConfig> useCases,
+    List<InputAdapterConfig> inputAdapters,
+    List<AdapterConfig> outputAdapters) {
+
+  /**
+   * Compact constructor treating missing sections as empty.
+   */
+  public GenerationSpec {
+    entities = entities != null ? List.copyOf(entities) : List.of();
+    useCases = useCases != null ? List.copyOf(useCases) : List.of();
+    inputAdapters = inputAdapters != null ? List.copyOf(inputAdapters) : List.of();
+    outputAdapters = outputAdapters != null ? List.copyOf(outputAdapters) : List.of();
+  }
+
+  /**
+   * Gets the number of components in the spec.
+   */
+  public int size() {
+    return entities.size() + useCases.size() + inputAdapters.size() + outputAdapters.size();
+  }
+
+  /**
+   * Checks if the spec has no components.
+   */
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+}
@@ -1,10 +1,12 @@
 package com.pragma.archetype.domain.model.structure;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.RandomAccess;
 
 /**
  * Result of a YAML merge operation.
@@ -19,7 +21,9 @@ public record MergeResult(
     Objects.requireNonNull(merged, "Merged map cannot be null");
     Objects.requireNonNull(conflicts, "Conflicts list cannot be null");
     Objects.requireNonNull(addedKeys, "Added keys list cannot be null");
-    conflicts = Collections.unmodifiableList(new ArrayList<>(conflicts));
+    if (!(conflicts instanceof ConflictDescriptions)) {
+      conflicts = Collections.unmodifiableList(new ArrayList<>(conflicts));
+    }
     addedKeys = Collections.unmodifiableList(new ArrayList<>(addedKeys));
   }
 
@@ -37,6 +41,16 @@ public record MergeResult(
     return new MergeResult(merged, conflicts, addedKeys);
   }
 
+  /**
+   * Creates a merge result from structured conflicts.
+   * Conflict messages are only formatted when they are read.
+   */
+  public static MergeResult fromConflicts(Map<String, Object> merged, List<Conflict> conflicts,
+      List<String> addedKeys) {
+    Objects.requireNonNull(conflicts, "Conflicts list cannot be null");
+    return new MergeResult(merged, new ConflictDescriptions(conflicts), addedKeys);
+  }
+
   /**
    * Checks if there were any conflicts during the merge.
    */
@@ -57,4 +71,53 @@ public record MergeResult(
   public String getAllConflicts() {
     return String.join("\n", conflicts);
   }
+
+  /**
+   * A key that exists in both maps with different values.
+   * The existing value is always kept.
+   */
+  public record Conflict(String path, Object existingValue, Object newValue) {
+
+    public Conflict {
+      Objects.requireNonNull(path, "Conflict path cannot be null");
+    }
+
+    /**
+     * Gets the human-readable description of this conflict.
+     */
+    public String describe() {
+      return String.format(
+          "Property '%s' already exists with value '%s', keeping existing value (new value: '%s')",
+          path, existingValue, newValue);
+    }
+  }
+
+  /**
+   * Immutable list view that formats conflict descriptions on first access.
+   */
+  private static final class ConflictDescriptions extends AbstractList<String> implements RandomAccess {
+
+    private final List<Conflict> conflicts;
+    private final String[] descriptions;
+
+    private ConflictDescriptions(List<Conflict> conflicts) {
+      this.conflicts = List.copyOf(conflicts);
+      this.descriptions = new String[this.conflicts.size()];
+    }
+
+    @Override
+    public String get(int index) {
+      String description = descriptions[index];
+      if (description == null) {
+        description = conflicts.get(index).describe();
+        descriptions[index] = description;
+      }
+      return description;
+    }
+
+    @Override
+    public int size() {
+      return conflicts.size();
+    }
+  }
 }
@@ -41,4 +41,28 @@ public interface GenerateAdapterUseCase {
    * @return Generation result with generated files or errors
    */
   GenerationResult execute(Path projectPath, AdapterConfig config);
+
+  /**
+   * Generates several output adapters in one run.
+   * Application properties contributed by all adapters are merged in memory
+   * and application.yml is written once at the end.
+   *
+   * @param projectPath Path to the project root
+   * @param configs     Adapter configurations, generated in order
+   * @return One generation result per configuration, in the same order
+   */
+  List<GenerationResult> executeAll(Path projectPath, List<AdapterConfig> configs);
+
+  /**
+   * Generates several output adapters like {@link #executeAll} but does not
+   * commit the file system port: build file edits stay buffered and generated
+   * files stay staged, so the caller can flush them together with its own
+   * changes or discard them all.
+   * A failed adapter's changes are dropped either way.
+   *
+   * @param projectPath Path to the project root
+   * @param configs     Adapter configurations, generated in order
+   * @return One generation result per configuration, in the same order
+   */
+  List<GenerationResult> stageAll(Path projectPath, List<AdapterConfig> configs);
 }
@@ -0,0 +1,47 @@
+package com.pragma.archetype.domain.port.in;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import com.pragma.archetype.domain.model.file.GeneratedFile;
+import com.pragma.archetype.domain.model.spec.GenerationSpec;
+
+/**
+ * Use case for generating every component of a spec in one run.
+ */
+public interface GenerateFromSpecUseCase {
+
+  /**
+   * Result of spec generation.
+   *
+   * @param success        Whether every component was generated
+   * @param generatedFiles List of generated files
+   * @param errors         List of error messages, prefixed with the component
+   */
+  record GenerationResult(
+      boolean success,
+      List<GeneratedFile> generatedFiles,
+      List<String> errors) {
+    public static GenerationResult success(List<GeneratedFile> files) {
+      return new GenerationResult(true, files, List.of());
+    }
+
+    public static GenerationResult failure(List<String> errors) {
+      return new GenerationResult(false, List.of(), errors);
+    }
+
+    public boolean isFailure() {
+      return !success;
+    }
+  }
+
+  /**
+   * Generates all components of the spec.
+   * Nothing is written unless every component passes validation.
+   *
+   * @param projectPath Path to the project root
+   * @param spec        Components to generate
+   * @return Result of the generation
+   */
+  GenerationResult execute(Path projectPath, GenerationSpec spec);
+}
@@ -0,0 +1,42 @@
+package com.pragma.archetype.domain.port.in;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Use case for re-rendering generated files after their templates or the
+ * plugin changed, without touching files edited by hand.
+ */
+public interface RegenerateUseCase {
+
+  /**
+   * Result of a regeneration.
+   *
+   * @param regenerated  Files re-rendered with new content
+   * @param upToDate     Number of files whose inputs did not change
+   * @param userModified Files skipped because they were edited since generation
+   * @param missing      Files in the manifest that no longer exist
+   * @param errors       Files that could not be re-rendered, with the reason
+   */
+  record RegenerationResult(
+      List<Path> regenerated,
+      int upToDate,
+      List<Path> userModified,
+      List<Path> missing,
+      List<String> errors) {
+
+    public boolean success() {
+      return errors.isEmpty();
+    }
+  }
+
+  /**
+   * Re-renders the files recorded in the project's generation manifest.
+   *
+   * @param projectPath   Path to the project root
+   * @param pluginVersion Version of the running plugin
+   * @param force         Re-render even files whose inputs did not change
+   * @return Result of the regeneration
+   */
+  RegenerationResult execute(Path projectPath, String pluginVersion, boolean force);
+}
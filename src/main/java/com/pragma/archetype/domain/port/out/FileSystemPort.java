@@ -97,4 +97,73 @@ public interface FileSystemPort {
    * @throws FileWriteException if appending fails
    */
   void appendToFile(Path path, String content);
+
+  /**
+   * Deletes a file if it exists.
+   *
+   * @param path the file path
+   * @throws FileWriteException if deletion fails
+   */
+  void deleteFile(Path path);
+
+  /**
+   * Writes any changes this port has buffered.
+   * Ports that write through immediately do nothing.
+   *
+   * @throws FileWriteException if writing fails
+   */
+  default void flush() {
+    // Nothing buffered by default
+  }
+
+  /**
+   * Drops buffered changes without writing them.
+   * Ports that write through immediately do nothing.
+   */
+  default void discard() {
+    // Nothing buffered by default
+  }
+
+  /**
+   * Marks the buffered changes made so far, so that later changes can be
+   * dropped with {@link #rollbackTo(Checkpoint)} while earlier ones stay
+   * buffered.
+   * Ports that write through immediately return a checkpoint that rolls back
+   * nothing.
+   *
+   * @return checkpoint of the current buffered state
+   */
+  default Checkpoint checkpoint() {
+    return Checkpoint.NONE;
+  }
+
+  /**
+   * Drops the buffered changes made since a checkpoint without writing them.
+   * Ports that write through immediately do nothing.
+   *
+   * @param checkpoint checkpoint returned by {@link #checkpoint()} on this port
+   */
+  default void rollbackTo(Checkpoint checkpoint) {
+    // Nothing buffered by default
+  }
+
+  /**
+   * Buffered state of a port at one point, see {@link #checkpoint()}.
+   */
+  interface Checkpoint {
+    Checkpoint NONE = new Checkpoint() {
+    };
+  }
+
+  /**
+   * Checks if writes are staged until {@link #flush()}, so that
+   * {@link #discard()} leaves the file system untouched.
+   * Callers can skip backing up files that are only written through such a
+   * port.
+   *
+   * @return true if writes are transactional, false otherwise
+   */
+  default boolean isTransactional() {
+    return false;
+  }
 }
@@ -0,0 +1,27 @@
+package com.pragma.archetype.domain.port.out;
+
+import java.nio.file.Path;
+
+import com.pragma.archetype.domain.model.manifest.GenerationManifest;
+
+/**
+ * Port for reading and writing the generation manifest of a project.
+ */
+public interface GenerationManifestPort {
+
+  /**
+   * Reads the manifest of a project.
+   *
+   * @param projectPath project root
+   * @return the manifest, empty if the project has none yet
+   */
+  GenerationManifest read(Path projectPath);
+
+  /**
+   * Writes the manifest of a project.
+   *
+   * @param projectPath project root
+   * @param manifest    manifest to write
+   */
+  void write(Path projectPath, GenerationManifest manifest);
+}
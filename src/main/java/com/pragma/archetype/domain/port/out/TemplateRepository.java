@@ -116,4 +116,14 @@ public interface TemplateRepository {
    * @throws TemplateNotFoundException if template is not found
    */
   java.util.Set<String> extractRequiredVariables(String templatePath);
+
+  /**
+   * Drops what is cached for the given templates, e.g. after they were edited,
+   * so they are parsed again on next use. Repositories that cache nothing
+   * ignore it.
+   *
+   * @param templatePaths paths of the changed templates
+   */
+  default void invalidate(java.util.Collection<String> templatePaths) {
+  }
 }
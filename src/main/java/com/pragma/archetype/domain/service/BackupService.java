@@ -1,21 +1,60 @@
 package com.pragma.archetype.domain.service;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
+import com.pragma.archetype.domain.model.backup.BackupRetentionPolicy;
+import com.pragma.archetype.domain.model.backup.BackupSummary;
+import com.pragma.archetype.domain.model.backup.PruneResult;
 import com.pragma.archetype.domain.port.out.FileSystemPort;
 
 /**
  * Service for backing up and restoring files during generation operations.
  * Provides rollback capability if generation fails.
+ *
+ * File contents are stored once as content-addressed blobs under
+ * .cleanarch/backups/objects/&lt;aa&gt;/&lt;sha256&gt; and shared by every
+ * backup set. Each backup set is a directory holding a small manifest:
+ *
+ * <pre>
+ * cleanarch-backup 1
+ * created 2026-01-01T10:00:00Z
+ * &lt;sha256&gt; &lt;size&gt; &lt;relative path&gt;
+ * </pre>
+ *
+ * Blobs are removed once no backup set references them. Backups written by
+ * older versions (full copies plus backup_metadata.txt) can still be restored.
+ *
+ * Files are hashed, stored and restored concurrently on virtual threads, at
+ * most {@code parallelism} at a time. Every file is attempted and all
+ * failures are reported together.
  */
 public class BackupService {
 
@@ -32,18 +71,77 @@ public class BackupService {
     }
   }
 
+  /**
+   * A file recorded in a backup set.
+   *
+   * @param originalPath path relative to the project root
+   * @param source       file holding the backed up content
+   * @param hash         SHA-256 of the content, null for legacy backups
+   * @param size         content size in bytes, -1 if unknown
+   */
+  private record BackupEntry(Path originalPath, Path source, String hash, long size) {
+  }
+
+  /**
+   * An I/O operation applied to one file of a backup.
+   */
+  @FunctionalInterface
+  private interface FileTask<T, R> {
+    R run(T item) throws IOException;
+  }
+
   private static final String BACKUP_DIR = ".cleanarch/backups";
+  private static final String BACKUP_PREFIX = "backup_";
+  private static final String OBJECTS_DIR = "objects";
+  private static final String MANIFEST_FILE = "manifest";
+  private static final String MANIFEST_HEADER = "cleanarch-backup 1";
+  private static final String LEGACY_METADATA_FILE = "backup_metadata.txt";
+  private static final String TEMP_SUFFIX = ".tmp";
+
+  private static final int DEFAULT_PARALLELISM = 8;
 
   private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSS");
 
   private final FileSystemPort fileSystemPort;
+  private final boolean useHardLinks;
+  private final int parallelism;
 
   public BackupService(FileSystemPort fileSystemPort) {
+    this(fileSystemPort, false);
+  }
+
+  public BackupService(FileSystemPort fileSystemPort, boolean useHardLinks) {
+    this(fileSystemPort, useHardLinks, DEFAULT_PARALLELISM);
+  }
+
+  /**
+   * Creates a backup service.
+   *
+   * Hard links are only safe backups when every writer replaces files by
+   * writing a temporary file and renaming it over the original, which never
+   * mutates the original inode. Only enable them when that holds for all
+   * files being backed up. A blob changed in place anyway no longer matches
+   * its hash: restores refuse it and the next backup of that content stores
+   * it again.
+   *
+   * @param fileSystemPort file system port
+   * @param useHardLinks   true to store new blobs as hard links when the file
+   *                       system supports it, false to always copy
+   * @param parallelism    maximum number of files copied at the same time
+   */
+  public BackupService(FileSystemPort fileSystemPort, boolean useHardLinks, int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be at least 1");
+    }
     this.fileSystemPort = fileSystemPort;
+    this.useHardLinks = useHardLinks;
+    this.parallelism = parallelism;
   }
 
   /**
    * Creates a backup of the specified files before modification.
+   * Files whose content is already stored by another backup are not copied
+   * again.
    *
    * @param projectPath   the project root path
    * @param filesToBackup list of file paths to backup (relative to project root)
@@ -55,35 +153,78 @@ public class BackupService {
       throw new BackupException("No files specified for backup");
     }
 
-    String backupId = generateBackupId();
-    Path backupPath = projectPath.resolve(BACKUP_DIR).resolve(backupId);
+    Path backupsRoot = projectPath.resolve(BACKUP_DIR);
+    String backupId = generateBackupId(backupsRoot);
+    Path backupPath = backupsRoot.resolve(backupId);
+    List<Path> createdBlobs = new ArrayList<>();
 
     try {
       // Create backup directory
       fileSystemPort.createDirectory(backupPath);
 
-      // Backup each file
-      Map<Path, Path> backupMap = new HashMap<>();
-      for (Path fileToBackup : filesToBackup) {
-        Path absoluteFilePath = projectPath.resolve(fileToBackup);
+      // Only backup files that exist, once each
+      List<Path> existingFiles = filesToBackup.stream()
+          .distinct()
+          .filter(file -> fileSystemPort.exists(projectPath.resolve(file)))
+          .toList();
+
+      // Hash all files concurrently
+      List<String> hashes = runForEachFile("hash", existingFiles, Function.identity(),
+          file -> sha256(projectPath.resolve(file)));
+
+      // Reuse a stored blob only while it still matches its hash; a hard-linked
+      // blob changes with its source file when that file is edited in place
+      List<String> storedHashes = hashes.stream().distinct()
+          .filter(hash -> Files.exists(blobPath(backupsRoot, hash)))
+          .toList();
+      List<Boolean> intact = runForEachFile("verify", storedHashes, hash -> blobPath(backupsRoot, hash),
+          hash -> isIntact(blobPath(backupsRoot, hash), hash));
+      Set<String> reusableBlobs = new HashSet<>();
+      for (int i = 0; i < storedHashes.size(); i++) {
+        if (intact.get(i)) {
+          reusableBlobs.add(storedHashes.get(i));
+        }
+      }
 
-        // Only backup if file exists
-        if (fileSystemPort.exists(absoluteFilePath)) {
-          Path relativeBackupPath = backupPath.resolve(fileToBackup);
-          backupFile(absoluteFilePath, relativeBackupPath);
-          backupMap.put(fileToBackup, relativeBackupPath);
+      // Store each missing or modified content once, linking while the file
+      // system allows it
+      Map<String, Path> missingBlobs = new LinkedHashMap<>();
+      for (int i = 0; i < existingFiles.size(); i++) {
+        if (!reusableBlobs.contains(hashes.get(i))) {
+          missingBlobs.putIfAbsent(hashes.get(i), projectPath.resolve(existingFiles.get(i)));
         }
       }
+      AtomicBoolean linkFiles = new AtomicBoolean(useHardLinks);
+      List<Map.Entry<String, Path>> blobsToStore = List.copyOf(missingBlobs.entrySet());
+      blobsToStore.stream()
+          .filter(blob -> !storedHashes.contains(blob.getKey()))
+          .forEach(blob -> createdBlobs.add(blobPath(backupsRoot, blob.getKey())));
+      runForEachFile("back up", blobsToStore, Map.Entry::getValue, blob -> {
+        Path blobPath = blobPath(backupsRoot, blob.getKey());
+        if (!storeBlob(blob.getValue(), blobPath, linkFiles.get())) {
+          linkFiles.set(false);
+        }
+        return blobPath;
+      });
+
+      List<BackupEntry> entries = new ArrayList<>();
+      for (int i = 0; i < existingFiles.size(); i++) {
+        Path blob = blobPath(backupsRoot, hashes.get(i));
+        entries.add(new BackupEntry(existingFiles.get(i), blob, hashes.get(i), Files.size(blob)));
+      }
 
-      // Store backup metadata
-      storeBackupMetadata(backupPath, backupMap);
+      // Store backup manifest
+      storeManifest(backupPath, entries);
 
       return backupId;
 
     } catch (Exception e) {
-      // Clean up partial backup on failure
+      // Clean up partial backup on failure, including blobs stored before the failure
       try {
         deleteBackupDirectory(backupPath);
+        for (Path blob : createdBlobs) {
+          Files.deleteIfExists(blob);
+        }
       } catch (Exception cleanupException) {
         // Log but don't throw - original exception is more important
       }
@@ -106,18 +247,35 @@ public class BackupService {
     }
 
     try {
-      // Read backup metadata
-      Map<Path, Path> backupMap = readBackupMetadata(backupPath);
-
-      // Restore each file
-      for (Map.Entry<Path, Path> entry : backupMap.entrySet()) {
-        Path originalPath = projectPath.resolve(entry.getKey());
-        Path backupFilePath = entry.getValue();
-
-        if (fileSystemPort.exists(backupFilePath)) {
-          restoreFile(backupFilePath, originalPath);
+      // Read backup manifest
+      List<BackupEntry> entries = readBackupEntries(backupPath);
+
+      // Check every blob against its hash before touching the project
+      List<BackupEntry> toRestore = new ArrayList<>();
+      List<BackupEntry> toVerify = new ArrayList<>();
+      for (BackupEntry entry : entries) {
+        if (entry.hash() == null) {
+          // Legacy backups skip files that were never copied
+          if (fileSystemPort.exists(entry.source())) {
+            toRestore.add(entry);
+          }
+          continue;
         }
+        toVerify.add(entry);
       }
+      runForEachFile("verify", toVerify, BackupEntry::originalPath, entry -> {
+        if (!Files.exists(entry.source()) || !isIntact(entry.source(), entry.hash())) {
+          throw new BackupException("Backup content missing or modified");
+        }
+        return entry;
+      });
+      toRestore.addAll(toVerify);
+
+      // Restore all files concurrently
+      runForEachFile("restore", toRestore, BackupEntry::originalPath, entry -> {
+        restoreFile(entry.source(), projectPath.resolve(entry.originalPath()));
+        return entry;
+      });
 
     } catch (Exception e) {
       throw new BackupException(
@@ -128,14 +286,16 @@ public class BackupService {
   }
 
   /**
-   * Deletes a backup after successful generation.
+   * Deletes a backup after successful generation, along with any blobs no
+   * other backup references.
    *
    * @param projectPath the project root path
    * @param backupId    the backup ID returned from createBackup()
    * @throws BackupException if deletion fails
    */
   public void deleteBackup(Path projectPath, String backupId) {
-    Path backupPath = projectPath.resolve(BACKUP_DIR).resolve(backupId);
+    Path backupsRoot = projectPath.resolve(BACKUP_DIR);
+    Path backupPath = backupsRoot.resolve(backupId);
 
     if (!fileSystemPort.directoryExists(backupPath)) {
       // Backup doesn't exist - this is fine, nothing to delete
@@ -143,31 +303,265 @@ public class BackupService {
     }
 
     try {
+      // Only manifests reference shared blobs; legacy and partial backups own their files
+      Set<String> blobs = new HashSet<>();
+      Path manifestFile = backupPath.resolve(MANIFEST_FILE);
+      if (Files.exists(manifestFile)) {
+        for (BackupEntry entry : readManifest(backupsRoot, manifestFile)) {
+          blobs.add(entry.hash());
+        }
+      }
+
       deleteBackupDirectory(backupPath);
+
+      if (!blobs.isEmpty()) {
+        blobs.removeAll(referencedBlobs(listBackups(projectPath)));
+        for (String hash : blobs) {
+          Files.deleteIfExists(blobPath(backupsRoot, hash));
+        }
+      }
     } catch (Exception e) {
       throw new BackupException("Failed to delete backup: " + backupId, e);
     }
   }
 
+  /**
+   * Lists the backups of a project, including backups left behind by
+   * failed restores and backups in the legacy format.
+   *
+   * @param projectPath the project root path
+   * @return backups, newest first
+   * @throws BackupException if the backups cannot be read
+   */
+  public List<BackupSummary> listBackups(Path projectPath) {
+    Path backupsRoot = projectPath.resolve(BACKUP_DIR);
+    if (!Files.isDirectory(backupsRoot)) {
+      return List.of();
+    }
+
+    List<BackupSummary> backups = new ArrayList<>();
+    try (Stream<Path> children = Files.list(backupsRoot)) {
+      for (Path backupPath : children.toList()) {
+        String name = backupPath.getFileName().toString();
+        if (Files.isDirectory(backupPath) && name.startsWith(BACKUP_PREFIX)) {
+          backups.add(summarize(backupPath));
+        }
+      }
+    } catch (IOException e) {
+      throw new BackupException("Failed to list backups in " + backupsRoot, e);
+    }
+
+    backups.sort(Comparator.comparing(BackupSummary::createdAt)
+        .thenComparing(BackupSummary::backupId)
+        .reversed());
+    return backups;
+  }
+
+  /**
+   * Deletes the backups that fall outside a retention policy, then removes
+   * every blob no remaining backup references.
+   *
+   * @param projectPath the project root path
+   * @param policy      retention limits
+   * @return what was deleted
+   * @throws BackupException if pruning fails
+   */
+  public PruneResult pruneBackups(Path projectPath, BackupRetentionPolicy policy) {
+    Path backupsRoot = projectPath.resolve(BACKUP_DIR);
+    List<BackupSummary> backups = listBackups(projectPath);
+    Instant oldestAllowed = policy.maxAge() != null ? Instant.now().minus(policy.maxAge()) : null;
+
+    try {
+      // 1. Walk from newest to oldest, keeping backups while they fit the policy
+      List<BackupSummary> kept = new ArrayList<>();
+      List<BackupSummary> expired = new ArrayList<>();
+      Set<String> keptBlobs = new HashSet<>();
+      long keptBytes = 0;
+      boolean sizeExceeded = false;
+
+      for (BackupSummary backup : backups) {
+        boolean expire = sizeExceeded
+            || (policy.maxBackups() > 0 && kept.size() >= policy.maxBackups())
+            || (oldestAllowed != null && backup.createdAt().isBefore(oldestAllowed));
+
+        if (!expire && policy.maxTotalBytes() > 0) {
+          long addedBytes = backup.blobs().isEmpty() ? backup.sizeBytes() : 0;
+          for (String hash : backup.blobs()) {
+            if (!keptBlobs.contains(hash)) {
+              addedBytes += sizeOf(blobPath(backupsRoot, hash));
+            }
+          }
+          if (keptBytes + addedBytes > policy.maxTotalBytes()) {
+            expire = true;
+            sizeExceeded = true;
+          } else {
+            keptBytes += addedBytes;
+          }
+        }
+
+        if (expire) {
+          expired.add(backup);
+        } else {
+          kept.add(backup);
+          keptBlobs.addAll(backup.blobs());
+        }
+      }
+
+      // 2. Delete expired backup sets, oldest first
+      List<String> deletedBackups = new ArrayList<>();
+      long freedBytes = 0;
+      for (BackupSummary backup : expired.reversed()) {
+        Path backupPath = backupsRoot.resolve(backup.backupId());
+        if (backup.blobs().isEmpty()) {
+          freedBytes += directorySize(backupPath);
+        }
+        deleteBackupDirectory(backupPath);
+        deletedBackups.add(backup.backupId());
+      }
+
+      // 3. Sweep blobs nothing references anymore, including leftover temp files
+      int deletedBlobs = 0;
+      Set<String> referenced = referencedBlobs(kept);
+      Path objectsPath = backupsRoot.resolve(OBJECTS_DIR);
+      if (Files.isDirectory(objectsPath)) {
+        List<Path> unreferenced;
+        try (Stream<Path> walk = Files.walk(objectsPath)) {
+          unreferenced = walk
+              .filter(Files::isRegularFile)
+              .filter(path -> !referenced.contains(path.getFileName().toString()))
+              .toList();
+        }
+        for (Path blob : unreferenced) {
+          freedBytes += sizeOf(blob);
+          Files.deleteIfExists(blob);
+          if (!blob.getFileName().toString().endsWith(TEMP_SUFFIX)) {
+            deletedBlobs++;
+          }
+        }
+      }
+
+      return new PruneResult(deletedBackups, deletedBlobs, freedBytes);
+
+    } catch (IOException e) {
+      throw new BackupException("Failed to prune backups in " + backupsRoot, e);
+    }
+  }
+
+  /**
+   * Runs a task for every file, at most {@code parallelism} at a time.
+   * A single file runs on the calling thread.
+   *
+   * @param action   verb used in the error message
+   * @param items    items to process
+   * @param describe gets the file an item refers to, for error messages
+   * @param task     task to run per item
+   * @return task results, in item order
+   * @throws BackupException listing every failed file if any task fails
+   */
+  private <T, R> List<R> runForEachFile(String action, List<T> items, Function<T, ?> describe,
+      FileTask<T, R> task) {
+    List<R> results = new ArrayList<>(items.size());
+    Map<Object, Throwable> failures = new LinkedHashMap<>();
+
+    if (items.size() <= 1 || parallelism == 1) {
+      for (T item : items) {
+        try {
+          results.add(task.run(item));
+        } catch (IOException | RuntimeException e) {
+          failures.put(describe.apply(item), e);
+        }
+      }
+    } else {
+      Semaphore permits = new Semaphore(parallelism);
+      List<Future<R>> futures = new ArrayList<>(items.size());
+      try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+        for (T item : items) {
+          futures.add(executor.submit(() -> {
+            permits.acquire();
+            try {
+              return task.run(item);
+            } finally {
+              permits.release();
+            }
+          }));
+        }
+      }
+
+      for (int i = 0; i < items.size(); i++) {
+        try {
+          results.add(futures.get(i).get());
+        } catch (ExecutionException e) {
+          failures.put(describe.apply(items.get(i)), e.getCause());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          failures.put(describe.apply(items.get(i)), e);
+        }
+      }
+    }
+
+    if (!failures.isEmpty()) {
+      StringBuilder message = new StringBuilder()
+          .append("Failed to ").append(action).append(" ")
+          .append(failures.size()).append(" of ").append(items.size()).append(" file(s)");
+      failures.forEach((file, cause) -> message.append("\n  - ").append(file).append(": ").append(cause.getMessage()));
+
+      BackupException exception = new BackupException(message.toString());
+      failures.values().forEach(exception::addSuppressed);
+      throw exception;
+    }
+    return results;
+  }
+
   /**
    * Generates a unique backup ID based on timestamp.
    */
-  private String generateBackupId() {
-    return "backup_" + LocalDateTime.now().format(TIMESTAMP_FORMAT);
+  private String generateBackupId(Path backupsRoot) {
+    String backupId = BACKUP_PREFIX + LocalDateTime.now().format(TIMESTAMP_FORMAT);
+    String candidate = backupId;
+    for (int suffix = 1; Files.exists(backupsRoot.resolve(candidate)); suffix++) {
+      candidate = backupId + "_" + suffix;
+    }
+    return candidate;
   }
 
   /**
-   * Backs up a single file to the backup location.
+   * Gets the blob path for a content hash.
+   * The first two hex digits fan blobs out over subdirectories.
    */
-  private void backupFile(Path source, Path destination) throws IOException {
-    // Create parent directories for destination
-    Path parent = destination.getParent();
-    if (parent != null && !Files.exists(parent)) {
-      Files.createDirectories(parent);
+  private Path blobPath(Path backupsRoot, String hash) {
+    return backupsRoot.resolve(OBJECTS_DIR).resolve(hash.substring(0, 2)).resolve(hash);
+  }
+
+  /**
+   * Stores a file's content as a new blob.
+   * Tries a hard link first (constant time regardless of file size) and falls
+   * back to a copy when links are unsupported, e.g. across devices or on file
+   * systems without link support. The blob appears atomically, so a crash
+   * never leaves a truncated blob under its hash.
+   *
+   * @param linkFile whether to try a hard link
+   * @return whether later files should still try hard links
+   */
+  private boolean storeBlob(Path source, Path blob, boolean linkFile) throws IOException {
+    Files.createDirectories(blob.getParent());
+    Path tempFile = blob.resolveSibling(blob.getFileName() + TEMP_SUFFIX);
+    Files.deleteIfExists(tempFile);
+
+    if (linkFile) {
+      try {
+        Files.createLink(tempFile, source);
+        Files.move(tempFile, blob, StandardCopyOption.ATOMIC_MOVE);
+        return true;
+      } catch (UnsupportedOperationException | FileSystemException e) {
+        // Links are not available here; copy this and the remaining files
+        Files.deleteIfExists(tempFile);
+      }
     }
 
     // Copy file
-    Files.copy(source, destination, StandardCopyOption.REPLACE_EXISTING);
+    Files.copy(source, tempFile, StandardCopyOption.REPLACE_EXISTING);
+    Files.move(tempFile, blob, StandardCopyOption.ATOMIC_MOVE);
+    return false;
   }
 
   /**
@@ -185,34 +579,90 @@ public class BackupService {
   }
 
   /**
-   * Stores backup metadata (mapping of original paths to backup paths).
+   * Stores the backup manifest.
    */
-  private void storeBackupMetadata(Path backupPath, Map<Path, Path> backupMap) throws IOException {
-    StringBuilder metadata = new StringBuilder();
-    metadata.append("# Backup Metadata\n");
-    metadata.append("# Format: original_path|backup_path\n");
-
-    for (Map.Entry<Path, Path> entry : backupMap.entrySet()) {
-      metadata.append(entry.getKey().toString())
-          .append("|")
-          .append(entry.getValue().toString())
+  private void storeManifest(Path backupPath, List<BackupEntry> entries) throws IOException {
+    StringBuilder manifest = new StringBuilder();
+    manifest.append(MANIFEST_HEADER).append("\n");
+    manifest.append("created ").append(Instant.now()).append("\n");
+
+    for (BackupEntry entry : entries) {
+      // The path goes last so it may contain spaces
+      manifest.append(entry.hash())
+          .append(" ")
+          .append(entry.size())
+          .append(" ")
+          .append(entry.originalPath())
           .append("\n");
     }
 
-    Path metadataFile = backupPath.resolve("backup_metadata.txt");
+    Path manifestFile = backupPath.resolve(MANIFEST_FILE);
 
     // Atomic write: write to temporary file first, then rename
-    Path tempFile = metadataFile.resolveSibling(metadataFile.getFileName() + ".tmp");
-    Files.writeString(tempFile, metadata.toString());
-    Files.move(tempFile, metadataFile, java.nio.file.StandardCopyOption.REPLACE_EXISTING,
-        java.nio.file.StandardCopyOption.ATOMIC_MOVE);
+    Path tempFile = manifestFile.resolveSibling(manifestFile.getFileName() + TEMP_SUFFIX);
+    Files.writeString(tempFile, manifest.toString());
+    Files.move(tempFile, manifestFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Reads the files recorded in a backup set, from its manifest or from
+   * legacy metadata.
+   */
+  private List<BackupEntry> readBackupEntries(Path backupPath) throws IOException {
+    Path manifestFile = backupPath.resolve(MANIFEST_FILE);
+    if (Files.exists(manifestFile)) {
+      return readManifest(backupPath.getParent(), manifestFile);
+    }
+
+    List<BackupEntry> entries = new ArrayList<>();
+    for (Map.Entry<Path, Path> entry : readBackupMetadata(backupPath).entrySet()) {
+      entries.add(new BackupEntry(entry.getKey(), entry.getValue(), null, -1));
+    }
+    return entries;
   }
 
   /**
-   * Reads backup metadata.
+   * Reads a backup manifest.
+   */
+  private List<BackupEntry> readManifest(Path backupsRoot, Path manifestFile) throws IOException {
+    List<String> lines = Files.readAllLines(manifestFile);
+    if (lines.isEmpty() || !MANIFEST_HEADER.equals(lines.get(0))) {
+      throw new BackupException("Unsupported backup manifest: " + manifestFile);
+    }
+
+    List<BackupEntry> entries = new ArrayList<>();
+    for (String line : lines.subList(1, lines.size())) {
+      if (line.isBlank() || line.startsWith("created ")) {
+        continue;
+      }
+
+      String[] parts = line.split(" ", 3);
+      if (parts.length != 3) {
+        throw new BackupException("Malformed backup manifest line in " + manifestFile + ": " + line);
+      }
+      entries.add(new BackupEntry(Path.of(parts[2]), blobPath(backupsRoot, parts[0]), parts[0],
+          Long.parseLong(parts[1])));
+    }
+    return entries;
+  }
+
+  /**
+   * Reads the creation time from a backup manifest.
+   */
+  private Instant readCreatedAt(Path manifestFile) throws IOException {
+    try (Stream<String> lines = Files.lines(manifestFile)) {
+      return lines.filter(line -> line.startsWith("created "))
+          .findFirst()
+          .map(line -> Instant.parse(line.substring("created ".length()).trim()))
+          .orElse(Files.getLastModifiedTime(manifestFile).toInstant());
+    }
+  }
+
+  /**
+   * Reads legacy backup metadata (mapping of original paths to backup paths).
    */
   private Map<Path, Path> readBackupMetadata(Path backupPath) throws IOException {
-    Path metadataFile = backupPath.resolve("backup_metadata.txt");
+    Path metadataFile = backupPath.resolve(LEGACY_METADATA_FILE);
 
     if (!Files.exists(metadataFile)) {
       throw new BackupException("Backup metadata not found: " + metadataFile);
@@ -236,6 +686,82 @@ public class BackupService {
     return backupMap;
   }
 
+  /**
+   * Summarizes a backup set. Directories without a manifest or metadata are
+   * backups interrupted before completion and are reported with no files.
+   */
+  private BackupSummary summarize(Path backupPath) throws IOException {
+    String backupId = backupPath.getFileName().toString();
+    Path manifestFile = backupPath.resolve(MANIFEST_FILE);
+
+    if (Files.exists(manifestFile)) {
+      List<BackupEntry> entries = readManifest(backupPath.getParent(), manifestFile);
+      Set<String> blobs = new LinkedHashSet<>();
+      long size = 0;
+      for (BackupEntry entry : entries) {
+        blobs.add(entry.hash());
+        size += entry.size();
+      }
+      return new BackupSummary(backupId, readCreatedAt(manifestFile), entries.size(), blobs, size);
+    }
+
+    Instant createdAt = Files.getLastModifiedTime(backupPath).toInstant();
+    int fileCount = Files.exists(backupPath.resolve(LEGACY_METADATA_FILE))
+        ? readBackupMetadata(backupPath).size()
+        : 0;
+    return new BackupSummary(backupId, createdAt, fileCount, Set.of(), directorySize(backupPath));
+  }
+
+  private Set<String> referencedBlobs(List<BackupSummary> backups) {
+    Set<String> referenced = new HashSet<>();
+    for (BackupSummary backup : backups) {
+      referenced.addAll(backup.blobs());
+    }
+    return referenced;
+  }
+
+  private long directorySize(Path directory) throws IOException {
+    try (Stream<Path> walk = Files.walk(directory)) {
+      return walk.filter(Files::isRegularFile).mapToLong(this::sizeOf).sum();
+    }
+  }
+
+  private long sizeOf(Path file) {
+    try {
+      return Files.exists(file) ? Files.size(file) : 0;
+    } catch (IOException e) {
+      return 0;
+    }
+  }
+
+  /**
+   * Computes the SHA-256 of a file without loading it into memory.
+   */
+  private String sha256(Path file) throws IOException {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+
+    byte[] buffer = new byte[8192];
+    try (InputStream in = Files.newInputStream(file)) {
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /**
+   * Checks that a blob still holds the content its hash was computed from.
+   */
+  private boolean isIntact(Path blob, String hash) throws IOException {
+    return sha256(blob).equals(hash);
+  }
+
   /**
    * Recursively deletes a backup directory.
    */
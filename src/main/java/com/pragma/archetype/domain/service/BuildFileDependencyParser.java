@@ -0,0 +1,369 @@
+package com.pragma.archetype.domain.service;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.pragma.archetype.domain.model.adapter.AdapterMetadata;
+import com.pragma.archetype.domain.model.dependency.DeclaredDependency;
+
+/**
+ * Extracts declared dependencies from Gradle Kotlin DSL build files.
+ * Supports string notation ("group:artifact:version"), named arguments
+ * (group = ..., name = ..., version = ...), platform/enforcedPlatform
+ * wrappers and version catalog references (libs.xxx, libs.bundles.xxx).
+ *
+ * This is a lightweight text parser, not a Kotlin evaluator: versions that use
+ * string interpolation are reported as null.
+ */
+public class BuildFileDependencyParser {
+
+  private static final String CALL = "\\b([A-Za-z][A-Za-z0-9]*)\\s*\\(\\s*";
+  private static final String PLATFORM = "(?:(?:platform|enforcedPlatform)\\s*\\(\\s*)?";
+
+  private static final Pattern STRING_NOTATION = Pattern.compile(
+      CALL + PLATFORM + "\"([\\w.\\-]+):([\\w.\\-]+)(?::([^\":@\\s]+))?(?::[^\"@\\s]*)?(?:@\\w+)?\"");
+
+  private static final Pattern NAMED_NOTATION = Pattern.compile(
+      CALL + "group\\s*=\\s*\"([^\"]+)\"\\s*,\\s*name\\s*=\\s*\"([^\"]+)\""
+          + "(?:\\s*,\\s*version\\s*=\\s*\"([^\"]+)\")?");
+
+  private static final Pattern CATALOG_NOTATION = Pattern.compile(
+      CALL + PLATFORM + "libs\\.([A-Za-z0-9_.]+)");
+
+  private static final Pattern TOML_PAIR = Pattern.compile("([\\w.\\-]+)\\s*=\\s*\"([^\"]*)\"");
+  private static final Pattern TOML_STRING = Pattern.compile("\"([^\"]*)\"");
+
+  private static final Set<String> NON_DEPENDENCY_CALLS = Set.of("exclude", "id", "include", "plugin");
+
+  /**
+   * Parsed contents of a gradle/libs.versions.toml version catalog.
+   *
+   * @param libraries libraries by accessor (e.g. "spring.boot.starter")
+   * @param bundles   bundle accessors to library accessors
+   */
+  public record VersionCatalog(
+      Map<String, AdapterMetadata.Dependency> libraries,
+      Map<String, List<String>> bundles) {
+
+    public static VersionCatalog empty() {
+      return new VersionCatalog(Map.of(), Map.of());
+    }
+  }
+
+  /**
+   * Parses the dependencies declared in a build.gradle.kts file.
+   *
+   * @param buildFile path of the build file, recorded on each result
+   * @param content   build file content
+   * @param catalog   version catalog used to resolve libs.xxx references
+   * @return declared dependencies in declaration order
+   */
+  public List<DeclaredDependency> parse(Path buildFile, String content, VersionCatalog catalog) {
+    if (content == null || content.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    String code = stripComments(content);
+
+    // Collect matches with their position so results keep declaration order
+    Map<Integer, DeclaredDependency> byPosition = new TreeMap<>();
+
+    Matcher matcher = STRING_NOTATION.matcher(code);
+    while (matcher.find()) {
+      String configuration = matcher.group(1);
+      if (!NON_DEPENDENCY_CALLS.contains(configuration)) {
+        byPosition.put(matcher.start(), declared(buildFile, configuration,
+            matcher.group(2), matcher.group(3), matcher.group(4)));
+      }
+    }
+
+    matcher = NAMED_NOTATION.matcher(code);
+    while (matcher.find()) {
+      String configuration = matcher.group(1);
+      if (!NON_DEPENDENCY_CALLS.contains(configuration)) {
+        byPosition.put(matcher.start(), declared(buildFile, configuration,
+            matcher.group(2), matcher.group(3), matcher.group(4)));
+      }
+    }
+
+    matcher = CATALOG_NOTATION.matcher(code);
+    while (matcher.find()) {
+      String configuration = matcher.group(1);
+      String accessor = matcher.group(2);
+      if (NON_DEPENDENCY_CALLS.contains(configuration)) {
+        continue;
+      }
+
+      if (accessor.startsWith("bundles.")) {
+        List<String> libraries = catalog.bundles().getOrDefault(accessor.substring("bundles.".length()), List.of());
+        int offset = 0;
+        for (String library : libraries) {
+          AdapterMetadata.Dependency dependency = catalog.libraries().get(library);
+          if (dependency != null) {
+            byPosition.put(matcher.start() + offset++, declared(buildFile, configuration,
+                dependency.group(), dependency.artifact(), dependency.version()));
+          }
+        }
+      } else {
+        AdapterMetadata.Dependency dependency = catalog.libraries().get(accessor);
+        if (dependency != null) {
+          byPosition.put(matcher.start(), declared(buildFile, configuration,
+              dependency.group(), dependency.artifact(), dependency.version()));
+        }
+      }
+    }
+
+    return new ArrayList<>(byPosition.values());
+  }
+
+  /**
+   * Parses a gradle/libs.versions.toml version catalog.
+   * Only the [versions], [libraries] and [bundles] tables are read.
+   *
+   * @param content TOML content
+   * @return parsed catalog, empty if content is null or blank
+   */
+  public VersionCatalog parseVersionCatalog(String content) {
+    if (content == null || content.isBlank()) {
+      return VersionCatalog.empty();
+    }
+
+    Map<String, String> versions = new HashMap<>();
+    Map<String, String> libraryDefinitions = new LinkedHashMap<>();
+    Map<String, List<String>> bundles = new LinkedHashMap<>();
+
+    String section = "";
+    for (String entry : joinTomlEntries(content)) {
+      if (entry.startsWith("[")) {
+        section = entry.replaceAll("[\\[\\]\\s]", "");
+        continue;
+      }
+
+      int equals = entry.indexOf('=');
+      if (equals <= 0) {
+        continue;
+      }
+      String key = unquote(entry.substring(0, equals).trim());
+      String value = entry.substring(equals + 1).trim();
+
+      switch (section) {
+        case "versions" -> versions.put(key, parseTomlVersion(value));
+        case "libraries" -> libraryDefinitions.put(toAccessor(key), value);
+        case "bundles" -> {
+          List<String> members = new ArrayList<>();
+          Matcher matcher = TOML_STRING.matcher(value);
+          while (matcher.find()) {
+            members.add(toAccessor(matcher.group(1)));
+          }
+          bundles.put(toAccessor(key), members);
+        }
+        default -> {
+          // Other tables (plugins, metadata) do not declare dependencies
+        }
+      }
+    }
+
+    Map<String, AdapterMetadata.Dependency> libraries = new LinkedHashMap<>();
+    libraryDefinitions.forEach((accessor, value) -> {
+      AdapterMetadata.Dependency dependency = parseTomlLibrary(value, versions);
+      if (dependency != null) {
+        libraries.put(accessor, dependency);
+      }
+    });
+
+    return new VersionCatalog(libraries, bundles);
+  }
+
+  private DeclaredDependency declared(Path buildFile, String configuration,
+      String group, String artifact, String version) {
+    String resolvedVersion = version == null || version.contains("$") ? null : version;
+    String scope = configuration.toLowerCase().startsWith("test") ? "test" : "compile";
+    return new DeclaredDependency(
+        new AdapterMetadata.Dependency(group, artifact, resolvedVersion, scope),
+        configuration,
+        buildFile);
+  }
+
+  private AdapterMetadata.Dependency parseTomlLibrary(String value, Map<String, String> versions) {
+    if (value.startsWith("\"")) {
+      // "group:artifact:version" or "group:artifact"
+      String[] parts = unquote(value).split(":");
+      if (parts.length < 2) {
+        return null;
+      }
+      return new AdapterMetadata.Dependency(parts[0], parts[1], parts.length > 2 ? parts[2] : null, "compile");
+    }
+
+    Map<String, String> pairs = new HashMap<>();
+    Matcher matcher = TOML_PAIR.matcher(value);
+    while (matcher.find()) {
+      pairs.putIfAbsent(matcher.group(1), matcher.group(2));
+    }
+
+    String group;
+    String artifact;
+    if (pairs.containsKey("module")) {
+      String[] parts = pairs.get("module").split(":");
+      if (parts.length < 2) {
+        return null;
+      }
+      group = parts[0];
+      artifact = parts[1];
+    } else if (pairs.containsKey("group") && pairs.containsKey("name")) {
+      group = pairs.get("group");
+      artifact = pairs.get("name");
+    } else {
+      return null;
+    }
+
+    String version = pairs.get("version");
+    if (version == null && pairs.containsKey("version.ref")) {
+      version = versions.get(pairs.get("version.ref"));
+    }
+    if (version == null) {
+      version = firstPresent(pairs, "strictly", "require", "prefer");
+    }
+
+    return new AdapterMetadata.Dependency(group, artifact, version, "compile");
+  }
+
+  private String parseTomlVersion(String value) {
+    if (value.startsWith("\"")) {
+      return unquote(value);
+    }
+    Map<String, String> pairs = new HashMap<>();
+    Matcher matcher = TOML_PAIR.matcher(value);
+    while (matcher.find()) {
+      pairs.putIfAbsent(matcher.group(1), matcher.group(2));
+    }
+    return firstPresent(pairs, "strictly", "require", "prefer");
+  }
+
+  private String firstPresent(Map<String, String> pairs, String... keys) {
+    for (String key : keys) {
+      if (pairs.containsKey(key)) {
+        return pairs.get(key);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Splits TOML content into logical entries, dropping comments and joining
+   * multi-line arrays.
+   */
+  private List<String> joinTomlEntries(String content) {
+    List<String> entries = new ArrayList<>();
+    StringBuilder current = new StringBuilder();
+    int openBrackets = 0;
+
+    for (String rawLine : content.split("\\R")) {
+      String line = stripTomlComment(rawLine).trim();
+      if (line.isEmpty()) {
+        continue;
+      }
+
+      if (current.length() == 0 && line.startsWith("[")) {
+        entries.add(line);
+        continue;
+      }
+
+      current.append(current.length() == 0 ? "" : " ").append(line);
+      for (char c : line.toCharArray()) {
+        if (c == '[') {
+          openBrackets++;
+        } else if (c == ']') {
+          openBrackets--;
+        }
+      }
+
+      if (openBrackets <= 0) {
+        entries.add(current.toString());
+        current.setLength(0);
+        openBrackets = 0;
+      }
+    }
+
+    if (current.length() > 0) {
+      entries.add(current.toString());
+    }
+    return entries;
+  }
+
+  private String stripTomlComment(String line) {
+    boolean inString = false;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (c == '"') {
+        inString = !inString;
+      } else if (c == '#' && !inString) {
+        return line.substring(0, i);
+      }
+    }
+    return line;
+  }
+
+  /**
+   * Removes // and block comments, leaving string literals untouched.
+   */
+  private String stripComments(String content) {
+    StringBuilder result = new StringBuilder(content.length());
+    boolean inString = false;
+    int i = 0;
+
+    while (i < content.length()) {
+      char c = content.charAt(i);
+      char next = i + 1 < content.length() ? content.charAt(i + 1) : '\0';
+
+      if (inString) {
+        result.append(c);
+        if (c == '\\' && next != '\0') {
+          result.append(next);
+          i += 2;
+          continue;
+        }
+        if (c == '"') {
+          inString = false;
+        }
+        i++;
+      } else if (c == '"') {
+        inString = true;
+        result.append(c);
+        i++;
+      } else if (c == '/' && next == '/') {
+        while (i < content.length() && content.charAt(i) != '\n') {
+          i++;
+        }
+      } else if (c == '/' && next == '*') {
+        int end = content.indexOf("*/", i + 2);
+        i = end == -1 ? content.length() : end + 2;
+        result.append(' ');
+      } else {
+        result.append(c);
+        i++;
+      }
+    }
+
+    return result.toString();
+  }
+
+  private String unquote(String value) {
+    String trimmed = value.trim();
+    if (trimmed.length() >= 2 && trimmed.startsWith("\"") && trimmed.endsWith("\"")) {
+      return trimmed.substring(1, trimmed.length() - 1);
+    }
+    return trimmed;
+  }
+
+  private String toAccessor(String alias) {
+    return alias.replace('-', '.').replace('_', '.');
+  }
+}
@@ -52,6 +52,36 @@ public class DependencyConflictDetector {
     return conflicts;
   }
 
+  /**
+   * Detects version conflicts between the dependencies declared in the project
+   * and new dependencies, using a prebuilt index for constant-time lookups.
+   *
+   * @param existingDependencies index of dependencies declared in the project
+   * @param newDependencies      list of new dependencies to be added
+   * @return list of conflict descriptions
+   */
+  public List<String> detectVersionConflicts(
+      DependencyIndex existingDependencies,
+      List<AdapterMetadata.Dependency> newDependencies) {
+
+    Objects.requireNonNull(existingDependencies, "Existing dependencies cannot be null");
+    Objects.requireNonNull(newDependencies, "New dependencies cannot be null");
+
+    List<String> conflicts = new ArrayList<>();
+
+    for (AdapterMetadata.Dependency newDep : newDependencies) {
+      String existingVersion = existingDependencies.versionOf(newDep.group(), newDep.artifact());
+
+      if (existingVersion != null && !existingVersion.equals(newDep.version())) {
+        conflicts.add(String.format(
+            "Version conflict for %s:%s: existing version %s, new version %s",
+            newDep.group(), newDep.artifact(), existingVersion, newDep.version()));
+      }
+    }
+
+    return conflicts;
+  }
+
   /**
    * Detects conflicts with framework dependencies.
    * Checks for incompatibilities between adapter dependencies and the project
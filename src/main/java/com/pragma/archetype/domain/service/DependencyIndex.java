@@ -0,0 +1,214 @@
+package com.pragma.archetype.domain.service;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.pragma.archetype.domain.model.dependency.DeclaredDependency;
+import com.pragma.archetype.domain.port.out.FileSystemPort;
+
+/**
+ * Index of the dependencies declared in every build.gradle.kts of a project,
+ * keyed by group:artifact.
+ * The project is scanned lazily on first lookup, so the index is built at
+ * most once per command. Only the root build file and those of the modules
+ * included in settings.gradle.kts are read; without a settings file the
+ * project tree is walked, skipping source and output directories. When the
+ * generator adds or edits a build file it calls {@link #update(Path, String)}
+ * or {@link #refresh(Path)} to re-index just that file.
+ */
+public class DependencyIndex {
+
+  private static final Logger logger = LoggerFactory.getLogger(DependencyIndex.class);
+
+  private static final String BUILD_FILE_NAME = "build.gradle.kts";
+  private static final String SETTINGS_FILE_NAME = "settings.gradle.kts";
+  private static final String VERSION_CATALOG = "gradle/libs.versions.toml";
+  private static final Set<String> SKIPPED_DIRECTORIES = Set.of("build", "node_modules", "out", "src");
+
+  private final FileSystemPort fileSystemPort;
+  private final Path projectPath;
+  private final BuildFileDependencyParser parser;
+
+  private BuildFileDependencyParser.VersionCatalog catalog;
+  private Map<Path, List<DeclaredDependency>> byBuildFile;
+  private Map<String, List<DeclaredDependency>> byKey;
+
+  public DependencyIndex(FileSystemPort fileSystemPort, Path projectPath) {
+    this(fileSystemPort, projectPath, new BuildFileDependencyParser());
+  }
+
+  public DependencyIndex(FileSystemPort fileSystemPort, Path projectPath, BuildFileDependencyParser parser) {
+    this.fileSystemPort = fileSystemPort;
+    this.projectPath = projectPath;
+    this.parser = parser;
+  }
+
+  /**
+   * Finds every declaration of a dependency across the project.
+   *
+   * @param group    dependency group
+   * @param artifact dependency artifact
+   * @return declarations in scan order, empty if not declared
+   */
+  public List<DeclaredDependency> find(String group, String artifact) {
+    ensureLoaded();
+    return byKey.getOrDefault(group + ":" + artifact, List.of());
+  }
+
+  /**
+   * Gets the first explicit version declared for a dependency.
+   *
+   * @param group    dependency group
+   * @param artifact dependency artifact
+   * @return declared version, or null if not declared or managed elsewhere
+   */
+  public String versionOf(String group, String artifact) {
+    for (DeclaredDependency declared : find(group, artifact)) {
+      if (declared.dependency().version() != null) {
+        return declared.dependency().version();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Gets all indexed declarations.
+   *
+   * @return declarations grouped by build file, in scan order
+   */
+  public List<DeclaredDependency> all() {
+    ensureLoaded();
+    List<DeclaredDependency> all = new ArrayList<>();
+    byBuildFile.values().forEach(all::addAll);
+    return all;
+  }
+
+  /**
+   * Re-indexes a single build file after it has been modified.
+   * Does nothing if the index has not been loaded yet; the next lookup will
+   * scan the file from disk.
+   *
+   * @param buildFile absolute path to the build file
+   * @param content   new content of the build file
+   */
+  public void update(Path buildFile, String content) {
+    if (byBuildFile == null) {
+      return;
+    }
+
+    List<DeclaredDependency> previous = byBuildFile.remove(buildFile);
+    if (previous != null) {
+      for (DeclaredDependency declared : previous) {
+        List<DeclaredDependency> entries = byKey.get(declared.key());
+        if (entries != null) {
+          entries.remove(declared);
+          if (entries.isEmpty()) {
+            byKey.remove(declared.key());
+          }
+        }
+      }
+    }
+
+    index(buildFile, content);
+  }
+
+  /**
+   * Re-indexes a single build file from the file system port after it has
+   * been edited through it. Does nothing if the index has not been loaded
+   * yet.
+   *
+   * @param buildFile absolute path to the build file
+   */
+  public void refresh(Path buildFile) {
+    if (byBuildFile != null && fileSystemPort.exists(buildFile)) {
+      update(buildFile, fileSystemPort.readFile(buildFile));
+    }
+  }
+
+  /**
+   * Forgets the index, so the next lookup scans the project again. Used after
+   * buffered build file edits were rolled back.
+   */
+  public void invalidate() {
+    byBuildFile = null;
+    byKey = null;
+  }
+
+  private void ensureLoaded() {
+    if (byBuildFile != null) {
+      return;
+    }
+
+    byBuildFile = new LinkedHashMap<>();
+    byKey = new HashMap<>();
+
+    Path catalogPath = projectPath.resolve(VERSION_CATALOG);
+    catalog = fileSystemPort.exists(catalogPath)
+        ? parser.parseVersionCatalog(fileSystemPort.readFile(catalogPath))
+        : BuildFileDependencyParser.VersionCatalog.empty();
+
+    List<Path> buildFiles = findBuildFiles();
+    for (Path buildFile : buildFiles) {
+      index(buildFile, fileSystemPort.readFile(buildFile));
+    }
+
+    logger.debug("Indexed {} dependency declarations from {} build file(s)",
+        byBuildFile.values().stream().mapToInt(List::size).sum(), buildFiles.size());
+  }
+
+  private void index(Path buildFile, String content) {
+    List<DeclaredDependency> declarations = parser.parse(buildFile, content, catalog);
+    byBuildFile.put(buildFile, declarations);
+    for (DeclaredDependency declared : declarations) {
+      byKey.computeIfAbsent(declared.key(), key -> new ArrayList<>()).add(declared);
+    }
+  }
+
+  /**
+   * Finds the root build file and those of the included modules.
+   *
+   * @return existing build files, root first, then in include order
+   */
+  private List<Path> findBuildFiles() {
+    List<Path> buildFiles = new ArrayList<>();
+    Path settingsFile = projectPath.resolve(SETTINGS_FILE_NAME);
+    if (!fileSystemPort.exists(settingsFile)) {
+      collectBuildFiles(projectPath, buildFiles);
+      return buildFiles;
+    }
+
+    List<Path> moduleDirectories = new ArrayList<>();
+    moduleDirectories.add(projectPath);
+    for (String module : KotlinDslEditor.parse(fileSystemPort.readFile(settingsFile)).includedModules()) {
+      moduleDirectories.add(projectPath.resolve(module.replace(':', '/')));
+    }
+    for (Path moduleDirectory : moduleDirectories) {
+      Path buildFile = moduleDirectory.resolve(BUILD_FILE_NAME);
+      if (fileSystemPort.exists(buildFile) && !buildFiles.contains(buildFile)) {
+        buildFiles.add(buildFile);
+      }
+    }
+    return buildFiles;
+  }
+
+  private void collectBuildFiles(Path directory, List<Path> buildFiles) {
+    for (Path path : fileSystemPort.listFiles(directory)) {
+      String name = path.getFileName().toString();
+      if (fileSystemPort.directoryExists(path)) {
+        if (!name.startsWith(".") && !SKIPPED_DIRECTORIES.contains(name)) {
+          collectBuildFiles(path, buildFiles);
+        }
+      } else if (BUILD_FILE_NAME.equals(name)) {
+        buildFiles.add(path);
+      }
+    }
+  }
+}
@@ -0,0 +1,482 @@
+package com.pragma.archetype.domain.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Block-aware editor for Gradle Kotlin DSL files (build.gradle.kts,
+ * settings.gradle.kts).
+ *
+ * The content is tokenized once: comments, string literals (including raw
+ * strings) and character literals are recognised, so braces and statements
+ * inside them are never mistaken for code. Insertions are queued against the
+ * original offsets and applied together by {@link #apply()}, so a batch of
+ * edits costs one pass and the caller writes the file once.
+ */
+public class KotlinDslEditor {
+
+  private static final String DEFAULT_INDENT = "    ";
+  private static final Pattern INCLUDE_CALL = Pattern.compile("\\binclude\\s*\\(([^)]*)\\)");
+  private static final Pattern STRING_LITERAL = Pattern.compile("\"([^\"]*)\"");
+
+  /**
+   * A block such as {@code dependencies { ... }}.
+   *
+   * @param name       identifier before the opening brace, empty for lambdas
+   * @param depth      nesting depth, 0 for top-level blocks
+   * @param openIndex  offset of the opening brace
+   * @param closeIndex offset of the matching closing brace
+   */
+  public record Block(String name, int depth, int openIndex, int closeIndex) {
+  }
+
+  private record Insertion(int offset, int sequence, String text) {
+  }
+
+  private final String content;
+  private final String code;
+  private final List<Block> blocks;
+  private final List<Insertion> insertions = new ArrayList<>();
+  private final Set<String> pendingStatements = new LinkedHashSet<>();
+  private String normalizedCode;
+
+  private KotlinDslEditor(String content) {
+    this.content = content;
+    this.blocks = new ArrayList<>();
+    this.code = tokenize(content, blocks);
+  }
+
+  /**
+   * Tokenizes Kotlin DSL content.
+   *
+   * @param content file content
+   * @return editor over the content
+   */
+  public static KotlinDslEditor parse(String content) {
+    return new KotlinDslEditor(content == null ? "" : content);
+  }
+
+  /**
+   * Finds the first top-level block with the given name.
+   *
+   * @param name block name (e.g. "dependencies")
+   * @return the block, or empty if not present
+   */
+  public Optional<Block> findBlock(String name) {
+    return blocks.stream()
+        .filter(block -> block.depth() == 0 && block.name().equals(name))
+        .findFirst();
+  }
+
+  /**
+   * Checks if a top-level block exists.
+   *
+   * @param name block name
+   * @return true if the block exists
+   */
+  public boolean hasBlock(String name) {
+    return findBlock(name).isPresent();
+  }
+
+  /**
+   * Checks if a statement is present in code, ignoring comments and
+   * whitespace, or has already been queued on this editor.
+   *
+   * @param statement statement to look for (e.g. implementation("g:a:v"))
+   * @return true if present
+   */
+  public boolean containsStatement(String statement) {
+    String normalized = removeWhitespace(statement);
+    if (normalizedCode == null) {
+      normalizedCode = removeWhitespace(code);
+    }
+    return pendingStatements.contains(normalized) || normalizedCode.contains(normalized);
+  }
+
+  /**
+   * Lists the modules included by include(...) calls, without leading colon.
+   * Handles calls with several arguments.
+   *
+   * @return included module paths in declaration order
+   */
+  public List<String> includedModules() {
+    List<String> modules = new ArrayList<>();
+    Matcher call = INCLUDE_CALL.matcher(code);
+    while (call.find()) {
+      Matcher argument = STRING_LITERAL.matcher(call.group(1));
+      while (argument.find()) {
+        modules.add(stripLeadingColon(argument.group(1)));
+      }
+    }
+    return modules;
+  }
+
+  /**
+   * Checks if a module is included in a settings file.
+   *
+   * @param modulePath module path, with or without leading colon
+   * @return true if included in the file or already queued
+   */
+  public boolean includesModule(String modulePath) {
+    String module = stripLeadingColon(modulePath);
+    return includedModules().contains(module)
+        || pendingStatements.contains(removeWhitespace(includeStatement(module)));
+  }
+
+  /**
+   * Queues an include(...) statement at the end of a settings file, unless the
+   * module is already included.
+   *
+   * @param modulePath module path (e.g. "infrastructure:driven-adapters:redis")
+   * @return true if an insertion was queued
+   */
+  public boolean addInclude(String modulePath) {
+    if (includesModule(modulePath)) {
+      return false;
+    }
+    String statement = includeStatement(stripLeadingColon(modulePath));
+    pendingStatements.add(removeWhitespace(statement));
+    queueAtEnd(statement);
+    return true;
+  }
+
+  /**
+   * Queues a statement at the end of a top-level block, unless it is already
+   * present.
+   *
+   * @param blockName block name (e.g. "dependencies")
+   * @param statement statement without indentation
+   * @return true if queued, false if already present
+   * @throws IllegalStateException if the block does not exist
+   */
+  public boolean appendToBlock(String blockName, String statement) {
+    Block block = requireBlock(blockName);
+    if (containsStatement(statement)) {
+      return false;
+    }
+    pendingStatements.add(removeWhitespace(statement));
+    queueInBlock(block, statement);
+    return true;
+  }
+
+  /**
+   * Queues a statement right after the last statement in a top-level block
+   * that calls the given function, falling back to the end of the block.
+   *
+   * @param blockName block name (e.g. "dependencies")
+   * @param callName  function name to group with (e.g. "testImplementation")
+   * @param statement statement without indentation
+   * @return true if queued, false if already present
+   * @throws IllegalStateException if the block does not exist
+   */
+  public boolean appendAfterLast(String blockName, String callName, String statement) {
+    Block block = requireBlock(blockName);
+    if (containsStatement(statement)) {
+      return false;
+    }
+    pendingStatements.add(removeWhitespace(statement));
+
+    int lastCallEnd = findLastCallEnd(block, callName);
+    if (lastCallEnd == -1) {
+      queueInBlock(block, statement);
+    } else {
+      queue(lastCallEnd, indentOf(block) + statement + "\n");
+    }
+    return true;
+  }
+
+  /**
+   * Queues a line (such as a comment) at the end of a top-level block without
+   * duplicate checks.
+   *
+   * @param blockName block name
+   * @param line      line without indentation
+   * @throws IllegalStateException if the block does not exist
+   */
+  public void appendLineToBlock(String blockName, String line) {
+    queueInBlock(requireBlock(blockName), line);
+  }
+
+  /**
+   * Checks if a top-level block contains a call to the given function.
+   *
+   * @param blockName block name
+   * @param callName  function name
+   * @return true if at least one call is present
+   */
+  public boolean blockContainsCall(String blockName, String callName) {
+    return findBlock(blockName).map(block -> findLastCallEnd(block, callName) != -1).orElse(false);
+  }
+
+  /**
+   * Checks if any insertion has been queued.
+   *
+   * @return true if {@link #apply()} would change the content
+   */
+  public boolean hasChanges() {
+    return !insertions.isEmpty();
+  }
+
+  /**
+   * Applies all queued insertions in a single pass.
+   *
+   * @return the edited content, or the original content if nothing was queued
+   */
+  public String apply() {
+    if (insertions.isEmpty()) {
+      return content;
+    }
+
+    List<Insertion> ordered = new ArrayList<>(insertions);
+    ordered.sort(Comparator.comparingInt(Insertion::offset).thenComparingInt(Insertion::sequence));
+
+    StringBuilder result = new StringBuilder(content.length() + ordered.size() * 64);
+    int position = 0;
+    for (Insertion insertion : ordered) {
+      result.append(content, position, insertion.offset());
+      result.append(insertion.text());
+      position = insertion.offset();
+    }
+    result.append(content, position, content.length());
+    return result.toString();
+  }
+
+  private Block requireBlock(String blockName) {
+    return findBlock(blockName)
+        .orElseThrow(() -> new IllegalStateException(blockName + " block not found"));
+  }
+
+  private void queueAtEnd(String statement) {
+    // Insert after the last non-whitespace character so trailing newlines
+    // stay at the end of the file
+    int end = content.length();
+    while (end > 0 && Character.isWhitespace(content.charAt(end - 1))) {
+      end--;
+    }
+    final int offset = end;
+    boolean first = insertions.stream().noneMatch(insertion -> insertion.offset() == offset);
+
+    if (end < content.length()) {
+      queue(end, (end == 0 && first ? "" : "\n") + statement);
+    } else {
+      queue(end, (end > 0 && first ? "\n" : "") + statement + "\n");
+    }
+  }
+
+  private void queueInBlock(Block block, String line) {
+    int close = block.closeIndex();
+    int lineStart = content.lastIndexOf('\n', close - 1) + 1;
+    boolean braceOnOwnLine = content.substring(lineStart, close).isBlank() && lineStart > block.openIndex();
+
+    if (braceOnOwnLine) {
+      queue(lineStart, indentOf(block) + line + "\n");
+    } else {
+      queue(close, "\n" + indentOf(block) + line + "\n");
+    }
+  }
+
+  private void queue(int offset, String text) {
+    insertions.add(new Insertion(offset, insertions.size(), text));
+  }
+
+  /**
+   * Finds the offset just after the line that ends the last direct-child
+   * statement calling the given function, or -1 if there is none.
+   */
+  private int findLastCallEnd(Block block, String callName) {
+    Pattern call = Pattern.compile("(?m)^[ \\t]*" + Pattern.quote(callName) + "\\s*\\(");
+    Matcher matcher = call.matcher(code);
+    matcher.region(block.openIndex() + 1, block.closeIndex());
+
+    int lastEnd = -1;
+    while (matcher.find()) {
+      if (depthAt(matcher.start()) != block.depth() + 1) {
+        continue;
+      }
+      int statementEnd = findStatementEnd(matcher.end() - 1);
+      int lineEnd = content.indexOf('\n', statementEnd);
+      lastEnd = lineEnd == -1 ? content.length() : lineEnd + 1;
+    }
+    return lastEnd;
+  }
+
+  /**
+   * Finds the end of a call starting at an opening parenthesis, including a
+   * trailing configuration lambda.
+   */
+  private int findStatementEnd(int openParen) {
+    int end = matchClosing(openParen, '(', ')');
+    int next = end + 1;
+    while (next < code.length() && (code.charAt(next) == ' ' || code.charAt(next) == '\t')) {
+      next++;
+    }
+    if (next < code.length() && code.charAt(next) == '{') {
+      end = matchClosing(next, '{', '}');
+    }
+    return end;
+  }
+
+  private int matchClosing(int openIndex, char open, char close) {
+    int depth = 0;
+    for (int i = openIndex; i < code.length(); i++) {
+      char c = code.charAt(i);
+      if (c == open) {
+        depth++;
+      } else if (c == close) {
+        depth--;
+        if (depth == 0) {
+          return i;
+        }
+      }
+    }
+    return code.length() - 1;
+  }
+
+  private int depthAt(int offset) {
+    int depth = 0;
+    for (Block block : blocks) {
+      if (block.openIndex() < offset && offset < block.closeIndex()) {
+        depth = Math.max(depth, block.depth() + 1);
+      }
+    }
+    return depth;
+  }
+
+  private String indentOf(Block block) {
+    // Use the indentation of the first non-blank line inside the block
+    int lineStart = content.indexOf('\n', block.openIndex()) + 1;
+    while (lineStart > 0 && lineStart < block.closeIndex()) {
+      int lineEnd = content.indexOf('\n', lineStart);
+      if (lineEnd == -1 || lineEnd > block.closeIndex()) {
+        break;
+      }
+      String line = content.substring(lineStart, lineEnd);
+      if (!line.isBlank()) {
+        return line.substring(0, line.length() - line.stripLeading().length());
+      }
+      lineStart = lineEnd + 1;
+    }
+    return DEFAULT_INDENT.repeat(block.depth() + 1);
+  }
+
+  /**
+   * Scans the content once, recording blocks and returning a copy of the
+   * content with the same offsets where comments, raw strings and character
+   * literals are blanked out, as are braces inside string literals. Regular
+   * string contents are kept so statements and arguments can still be read.
+   */
+  private static String tokenize(String content, List<Block> blocks) {
+    char[] masked = content.toCharArray();
+    List<int[]> openBlocks = new ArrayList<>();
+    List<String> openNames = new ArrayList<>();
+    int length = content.length();
+    int i = 0;
+
+    while (i < length) {
+      char c = content.charAt(i);
+
+      if (c == '/' && i + 1 < length && content.charAt(i + 1) == '/') {
+        while (i < length && content.charAt(i) != '\n') {
+          masked[i++] = ' ';
+        }
+      } else if (c == '/' && i + 1 < length && content.charAt(i + 1) == '*') {
+        // Kotlin block comments nest
+        int depth = 0;
+        do {
+          if (content.startsWith("/*", i)) {
+            depth++;
+            masked[i++] = ' ';
+            masked[i++] = ' ';
+          } else if (content.startsWith("*/", i)) {
+            depth--;
+            masked[i++] = ' ';
+            masked[i++] = ' ';
+          } else {
+            if (content.charAt(i) != '\n') {
+              masked[i] = ' ';
+            }
+            i++;
+          }
+        } while (depth > 0 && i < length);
+      } else if (content.startsWith("\"\"\"", i)) {
+        int end = content.indexOf("\"\"\"", i + 3);
+        end = end == -1 ? length : end + 3;
+        for (int j = i + 1; j < end - 1; j++) {
+          if (content.charAt(j) != '\n') {
+            masked[j] = ' ';
+          }
+        }
+        i = end;
+      } else if (c == '"') {
+        i++;
+        while (i < length && content.charAt(i) != '"' && content.charAt(i) != '\n') {
+          if (content.charAt(i) == '\\' && i + 1 < length) {
+            i++;
+          }
+          if (content.charAt(i) == '{' || content.charAt(i) == '}') {
+            masked[i] = ' ';
+          }
+          i++;
+        }
+        i++;
+      } else if (c == '\'') {
+        int end = i + 1;
+        if (end < length && content.charAt(end) == '\\') {
+          end++;
+        }
+        end = content.indexOf('\'', end + 1);
+        end = end == -1 ? i + 1 : end + 1;
+        for (int j = i; j < end; j++) {
+          masked[j] = ' ';
+        }
+        i = end;
+      } else if (c == '{') {
+        openBlocks.add(new int[] { i, openBlocks.size() });
+        openNames.add(nameBefore(content, i));
+        i++;
+      } else if (c == '}') {
+        if (!openBlocks.isEmpty()) {
+          int[] open = openBlocks.remove(openBlocks.size() - 1);
+          String name = openNames.remove(openNames.size() - 1);
+          blocks.add(new Block(name, open[1], open[0], i));
+        }
+        i++;
+      } else {
+        i++;
+      }
+    }
+
+    blocks.sort(Comparator.comparingInt(Block::openIndex));
+    return new String(masked);
+  }
+
+  private static String nameBefore(String content, int braceIndex) {
+    int end = braceIndex;
+    while (end > 0 && Character.isWhitespace(content.charAt(end - 1))) {
+      end--;
+    }
+    int start = end;
+    while (start > 0 && Character.isJavaIdentifierPart(content.charAt(start - 1))) {
+      start--;
+    }
+    return content.substring(start, end);
+  }
+
+  private static String includeStatement(String module) {
+    return "include(\"" + module + "\")";
+  }
+
+  private static String stripLeadingColon(String modulePath) {
+    return modulePath.startsWith(":") ? modulePath.substring(1) : modulePath;
+  }
+
+  private static String removeWhitespace(String value) {
+    return value.replaceAll("\\s+", "");
+  }
+}
@@ -1,7 +1,7 @@
 package com.pragma.archetype.domain.service;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -14,6 +14,11 @@ import com.pragma.archetype.domain.model.structure.MergeResult;
  * Service for intelligently merging YAML configurations.
  * Preserves existing values and only adds new properties.
  * Detects conflicts when the same key exists with different values.
+ *
+ * Merging is copy-on-write: neither input map is modified, only the maps along
+ * a changed path are copied (as LinkedHashMap, keeping key order), and every
+ * unchanged subtree is shared with the inputs. Callers must treat the merged
+ * map as read-only.
  */
 public class YamlMerger {
 
@@ -35,26 +40,19 @@ public class YamlMerger {
       throw new IllegalArgumentException("Overlay map cannot be null");
     }
 
-    Map<String, Object> merged = new HashMap<>(base);
-    List<String> conflicts = new ArrayList<>();
-    List<String> addedKeys = new ArrayList<>();
+    MergeTracker tracker = new MergeTracker();
+    Map<String, Object> merged = mergeShared(base, overlay, "", tracker);
 
-    mergeRecursive(merged, overlay, "", conflicts, addedKeys);
+    logger.debug("YAML merge completed: {} keys added, {} conflicts detected",
+        tracker.addedKeys.size(), tracker.conflicts.size());
 
-    if (!conflicts.isEmpty()) {
-      logger.warn("Detected {} conflicts during YAML merge", conflicts.size());
-      conflicts.forEach(conflict -> logger.warn("Conflict: {}", conflict));
-    }
-
-    logger.info("YAML merge completed: {} keys added, {} conflicts detected",
-        addedKeys.size(), conflicts.size());
-
-    return new MergeResult(merged, conflicts, addedKeys);
+    return MergeResult.fromConflicts(merged, tracker.conflicts, tracker.addedKeys);
   }
 
   /**
    * Performs deep merge of nested map structures.
    * Recursively merges nested maps while preserving existing values.
+   * Unlike {@link #merge(Map, Map)}, conflicts and added keys are not tracked.
    *
    * @param base    The base map to merge into
    * @param overlay The overlay map to merge from
@@ -68,13 +66,44 @@ public class YamlMerger {
       throw new IllegalArgumentException("Overlay map cannot be null");
     }
 
-    Map<String, Object> result = new HashMap<>(base);
-    List<String> conflicts = new ArrayList<>();
-    List<String> addedKeys = new ArrayList<>();
+    return mergeShared(base, overlay, "", null);
+  }
+
+  /**
+   * Checks whether merging overlay into base would add anything.
+   * Conflicting keys never change the base (existing values win), so only new
+   * keys count. Stops at the first new key and allocates nothing.
+   *
+   * @param base    The base map
+   * @param overlay The overlay map
+   * @return true if the merge would add at least one key, false otherwise
+   */
+  public boolean wouldChange(Map<String, Object> base, Map<String, Object> overlay) {
+    if (base == null) {
+      throw new IllegalArgumentException("Base map cannot be null");
+    }
+    if (overlay == null) {
+      throw new IllegalArgumentException("Overlay map cannot be null");
+    }
+
+    for (Map.Entry<String, Object> entry : overlay.entrySet()) {
+      if (!base.containsKey(entry.getKey())) {
+        return true;
+      }
 
-    mergeRecursive(result, overlay, "", conflicts, addedKeys);
+      Object baseValue = base.get(entry.getKey());
+      if (baseValue instanceof Map && entry.getValue() instanceof Map) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> baseMap = (Map<String, Object>) baseValue;
+        @SuppressWarnings("unchecked")
+        Map<String, Object> overlayMap = (Map<String, Object>) entry.getValue();
 
-    return result;
+        if (wouldChange(baseMap, overlayMap)) {
+          return true;
+        }
+      }
+    }
+    return false;
   }
 
   /**
@@ -119,48 +148,60 @@ public class YamlMerger {
   }
 
   /**
-   * Recursively merges overlay into base, tracking conflicts and added keys.
+   * Recursively merges overlay into base without modifying either map.
+   * Returns base itself when nothing was added at this level or below;
+   * otherwise returns a LinkedHashMap copy of base with the changes applied.
+   *
+   * @param tracker collects conflicts and added keys, or null to skip tracking
    */
-  private void mergeRecursive(
+  private Map<String, Object> mergeShared(
       Map<String, Object> base,
       Map<String, Object> overlay,
       String path,
-      List<String> conflicts,
-      List<String> addedKeys) {
+      MergeTracker tracker) {
+
+    Map<String, Object> result = base;
 
     for (Map.Entry<String, Object> entry : overlay.entrySet()) {
       String key = entry.getKey();
       Object overlayValue = entry.getValue();
-      String currentPath = path.isEmpty() ? key : path + "." + key;
+      String currentPath = tracker == null ? null : (path.isEmpty() ? key : path + "." + key);
 
       if (!base.containsKey(key)) {
-        // Key doesn't exist in base - add it
-        base.put(key, deepCopy(overlayValue));
-        addedKeys.add(currentPath);
-        logger.debug("Added new key: {}", currentPath);
-      } else {
-        // Key exists in base
-        Object baseValue = base.get(key);
-
-        if (baseValue instanceof Map && overlayValue instanceof Map) {
-          // Both are maps - merge recursively
-          @SuppressWarnings("unchecked")
-          Map<String, Object> baseMap = (Map<String, Object>) baseValue;
-          @SuppressWarnings("unchecked")
-          Map<String, Object> overlayMap = (Map<String, Object>) overlayValue;
-
-          mergeRecursive(baseMap, overlayMap, currentPath, conflicts, addedKeys);
-        } else if (!areValuesEqual(baseValue, overlayValue)) {
-          // Values are different - this is a conflict
-          String conflict = String.format(
-              "Property '%s' already exists with value '%s', keeping existing value (new value: '%s')",
-              currentPath, baseValue, overlayValue);
-          conflicts.add(conflict);
-          logger.debug("Conflict detected at: {}", currentPath);
+        // Key doesn't exist in base - add it, sharing the overlay subtree
+        if (result == base) {
+          result = new LinkedHashMap<>(base);
+        }
+        result.put(key, overlayValue);
+        if (tracker != null) {
+          tracker.addedKeys.add(currentPath);
+        }
+        continue;
+      }
+
+      Object baseValue = base.get(key);
+
+      if (baseValue instanceof Map && overlayValue instanceof Map) {
+        // Both are maps - merge recursively, copying only if something changed
+        @SuppressWarnings("unchecked")
+        Map<String, Object> baseMap = (Map<String, Object>) baseValue;
+        @SuppressWarnings("unchecked")
+        Map<String, Object> overlayMap = (Map<String, Object>) overlayValue;
+
+        Map<String, Object> mergedChild = mergeShared(baseMap, overlayMap, currentPath, tracker);
+        if (mergedChild != baseMap) {
+          if (result == base) {
+            result = new LinkedHashMap<>(base);
+          }
+          result.put(key, mergedChild);
         }
-        // If values are equal, no action needed
+      } else if (tracker != null && !areValuesEqual(baseValue, overlayValue)) {
+        // Values are different - keep existing value and record the conflict
+        tracker.conflicts.add(new MergeResult.Conflict(currentPath, baseValue, overlayValue));
       }
     }
+
+    return result;
   }
 
   /**
@@ -177,33 +218,10 @@ public class YamlMerger {
   }
 
   /**
-   * Creates a deep copy of a value, handling maps and lists.
+   * Accumulates conflicts and added keys during a tracked merge.
    */
-  @SuppressWarnings("unchecked")
-  private Object deepCopy(Object value) {
-    if (value == null) {
-      return null;
-    }
-
-    if (value instanceof Map) {
-      Map<String, Object> original = (Map<String, Object>) value;
-      Map<String, Object> copy = new HashMap<>();
-      for (Map.Entry<String, Object> entry : original.entrySet()) {
-        copy.put(entry.getKey(), deepCopy(entry.getValue()));
-      }
-      return copy;
-    }
-
-    if (value instanceof List) {
-      List<Object> original = (List<Object>) value;
-      List<Object> copy = new ArrayList<>();
-      for (Object item : original) {
-        copy.add(deepCopy(item));
-      }
-      return copy;
-    }
-
-    // For primitive types and strings, return as-is (they're immutable)
-    return value;
+  private static final class MergeTracker {
+    private final List<MergeResult.Conflict> conflicts = new ArrayList<>();
+    private final List<String> addedKeys = new ArrayList<>();
   }
 }
@@ -0,0 +1,290 @@
+package com.pragma.archetype.infrastructure.adapter.in.cli;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.pragma.archetype.infrastructure.adapter.in.daemon.GeneratorDaemon;
+import com.pragma.archetype.infrastructure.adapter.in.daemon.GeneratorRequestHandler;
+import com.pragma.archetype.infrastructure.adapter.out.template.TemplateRepositoryRegistry;
+import com.pragma.archetype.infrastructure.config.PluginVersion;
+
+/**
+ * Command line entry point that runs the generator without Gradle.
+ * Commands are the operations of {@link GeneratorRequestHandler}, so the
+ * CLI, the daemon and the tasks share the same use cases. Shipped as the
+ * self-contained cli jar, which can be started with an AppCDS archive.
+ *
+ * Usage:
+ * java -jar cleanarch-cli.jar initProject --basePackage=com.company.orders
+ * java -jar cleanarch-cli.jar generateEntity --name=Order
+ * --params='{"fields": [{"name": "total", "type": "BigDecimal"}]}'
+ * java -jar cleanarch-cli.jar daemon --socket=/tmp/cleanarch.sock
+ */
+public class GeneratorCli {
+
+  static final String DAEMON = "daemon";
+  static final String WARMUP = "warmup";
+  static final String VERSION = "version";
+
+  private static final String USAGE = """
+      Usage: java -jar cleanarch-cli.jar <command> [options]
+
+      Commands:
+        initProject             --basePackage=<package> [--name --architecture --paradigm --framework]
+        generateEntity          --name=<Entity> [--params=<json>]
+        generateUseCase         --name=<UseCase> [--params=<json>]
+        generateInputAdapter    --name=<Name> --useCase=<UseCase> --packageName=<package> [--params=<json>]
+        generateOutputAdapter   --name=<Name> --entity=<Entity> --type=<type> [--params=<json>]
+        ping                    Check that the generator starts
+        daemon                  Serve requests on a Unix-domain socket [--socket=<path>]
+        warmup                  Run every generation once in a scratch project (AppCDS training run)
+        version                 Print the generator version
+
+      Options:
+        --projectPath=<dir>     Project directory (default: current directory)
+        --dryRun                Preview the files that would be written
+        --params=<json|@file>   Component in spec file format; other --key=value options are added to it
+        --json                  Print the JSON response
+      """;
+
+  private final PrintStream out;
+  private final PrintStream err;
+  private final GeneratorRequestHandler handler;
+
+  GeneratorCli(PrintStream out, PrintStream err, GeneratorRequestHandler handler) {
+    this.out = out;
+    this.err = err;
+    this.handler = handler;
+  }
+
+  public static void main(String[] args) {
+    // Keep library logging out of the command output unless configured otherwise
+    if (System.getProperty("logback.configurationFile") == null) {
+      System.setProperty("logback.configurationFile", "cleanarch-cli-logback.xml");
+    }
+    GeneratorCli cli = new GeneratorCli(System.out, System.err,
+        new GeneratorRequestHandler(new TemplateRepositoryRegistry()));
+    System.exit(cli.run(args));
+  }
+
+  /**
+   * Runs one command.
+   *
+   * @param args command and options
+   * @return exit code: 0 on success, 1 if the command failed, 2 on a usage
+   *         error
+   */
+  int run(String[] args) {
+    if (args.length == 0 || args[0].equals("--help") || args[0].equals("help")) {
+      out.print(USAGE);
+      return args.length == 0 ? 2 : 0;
+    }
+
+    String command = args[0];
+    Map<String, String> options;
+    try {
+      options = options(args);
+    } catch (IllegalArgumentException e) {
+      err.println("✗ " + e.getMessage());
+      err.print(USAGE);
+      return 2;
+    }
+
+    return switch (command) {
+      case VERSION -> {
+        out.println(PluginVersion.current());
+        yield 0;
+      }
+      case DAEMON -> daemon(options);
+      case WARMUP -> warmup();
+      default -> send(command, options);
+    };
+  }
+
+  /**
+   * Sends one request to the handler and prints its response.
+   */
+  private int send(String command, Map<String, String> options) {
+    JsonObject request;
+    try {
+      request = request(command, options);
+    } catch (IllegalArgumentException e) {
+      err.println("✗ " + e.getMessage());
+      return 2;
+    }
+
+    JsonObject response = handler.handle(request.toString());
+    if (options.containsKey("json")) {
+      out.println(response);
+    } else {
+      print(command, response);
+    }
+    return response.get("success").getAsBoolean() ? 0 : 1;
+  }
+
+  /**
+   * Builds the request of a command. Options other than the common ones are
+   * params; --params supplies structured params such as fields and methods.
+   */
+  JsonObject request(String command, Map<String, String> options) {
+    JsonObject params = new JsonObject();
+    String paramsOption = options.get("params");
+    if (paramsOption != null) {
+      params = parseParams(paramsOption);
+    }
+    for (Map.Entry<String, String> option : options.entrySet()) {
+      if (!List.of("projectPath", "dryRun", "params", "json").contains(option.getKey())) {
+        params.add(option.getKey(), new JsonPrimitive(option.getValue()));
+      }
+    }
+
+    JsonObject request = new JsonObject();
+    request.addProperty("operation", command);
+    request.addProperty("projectPath", Path.of(options.getOrDefault("projectPath", ".")).toAbsolutePath()
+        .normalize().toString());
+    request.addProperty("dryRun", Boolean.parseBoolean(options.getOrDefault("dryRun", "false")));
+    request.add("params", params);
+    return request;
+  }
+
+  private int daemon(Map<String, String> options) {
+    String socket = options.get("socket");
+    Path socketPath = socket != null ? Path.of(socket) : GeneratorDaemon.defaultSocketPath();
+
+    try (GeneratorDaemon daemon = new GeneratorDaemon(socketPath, handler)) {
+      daemon.start();
+      out.println("✓ Generator daemon listening on " + daemon.socketPath());
+      daemon.awaitTermination();
+      return 0;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return 0;
+    } catch (RuntimeException e) {
+      err.println("✗ Error running generator daemon: " + e.getMessage());
+      return 1;
+    }
+  }
+
+  /**
+   * Runs each kind of generation once in a scratch project, so a training
+   * run loads every class a real generation needs.
+   */
+  private int warmup() {
+    Path scratch;
+    try {
+      scratch = Files.createTempDirectory("cleanarch-warmup");
+    } catch (IOException e) {
+      err.println("✗ Failed to create scratch project: " + e.getMessage());
+      return 1;
+    }
+
+    Map<String, String> requests = new LinkedHashMap<>();
+    requests.put("initProject", "{\"name\": \"warmup\", \"basePackage\": \"com.example.warmup\"}");
+    requests.put("generateEntity",
+        "{\"name\": \"Order\", \"fields\": [{\"name\": \"total\", \"type\": \"BigDecimal\"}]}");
+    requests.put("generateUseCase", "{\"name\": \"CreateOrder\", \"methods\": [{\"name\": \"execute\","
+        + " \"returnType\": \"Order\", \"parameters\": [{\"name\": \"order\", \"type\": \"Order\"}]}]}");
+    requests.put("generateOutputAdapter", "{\"name\": \"OrderRepository\", \"entity\": \"Order\", \"type\": \"redis\"}");
+    requests.put("generateInputAdapter", "{\"name\": \"Order\", \"useCase\": \"CreateOrderUseCase\", \"type\": \"rest\","
+        + " \"packageName\": \"com.example.warmup.infrastructure.entrypoints.rest\", \"endpoints\": [{\"path\": \"/orders\","
+        + " \"method\": \"POST\", \"useCaseMethod\": \"execute\", \"returnType\": \"Order\","
+        + " \"parameters\": [{\"name\": \"order\", \"paramType\": \"BODY\", \"type\": \"Order\"}]}]}");
+
+    int exitCode = 0;
+    try {
+      for (Map.Entry<String, String> entry : requests.entrySet()) {
+        JsonObject request = new JsonObject();
+        request.addProperty("operation", entry.getKey());
+        request.addProperty("projectPath", scratch.toString());
+        request.add("params", JsonParser.parseString(entry.getValue()));
+
+        JsonObject response = handler.handle(request.toString());
+        print(entry.getKey(), response);
+        if (!response.get("success").getAsBoolean()) {
+          exitCode = 1;
+        }
+      }
+    } finally {
+      deleteQuietly(scratch);
+    }
+    return exitCode;
+  }
+
+  private void print(String command, JsonObject response) {
+    long elapsed = response.get("elapsedMs").getAsLong();
+    if (!response.get("success").getAsBoolean()) {
+      err.println("✗ " + command + " failed:");
+      response.getAsJsonArray("errors").forEach(error -> err.println("  - " + error.getAsString()));
+      return;
+    }
+
+    out.println("✓ " + command + " succeeded in " + elapsed + " ms");
+    if (response.has("files")) {
+      boolean dryRun = response.has("dryRun") && response.get("dryRun").getAsBoolean();
+      out.println("  " + (dryRun ? "Dry run, would write " : "Generated ")
+          + response.getAsJsonArray("files").size() + " file(s)");
+      response.getAsJsonArray("files").forEach(file -> out.println("    - " + file.getAsString()));
+    }
+  }
+
+  /**
+   * Parses --key=value options; a bare --flag means true.
+   */
+  private Map<String, String> options(String[] args) {
+    Map<String, String> options = new LinkedHashMap<>();
+    for (int i = 1; i < args.length; i++) {
+      String arg = args[i];
+      if (!arg.startsWith("--") || arg.length() == 2) {
+        throw new IllegalArgumentException("Unexpected argument: " + arg);
+      }
+      int separator = arg.indexOf('=');
+      if (separator < 0) {
+        options.put(arg.substring(2), "true");
+      } else {
+        options.put(arg.substring(2, separator), arg.substring(separator + 1));
+      }
+    }
+    return options;
+  }
+
+  private JsonObject parseParams(String value) {
+    String json = value;
+    if (value.startsWith("@")) {
+      try {
+        json = Files.readString(Path.of(value.substring(1)));
+      } catch (IOException e) {
+        throw new IllegalArgumentException("Failed to read params file: " + value.substring(1), e);
+      }
+    }
+
+    try {
+      JsonElement params = JsonParser.parseString(json);
+      if (!params.isJsonObject()) {
+        throw new IllegalArgumentException("--params must be a JSON object");
+      }
+      return params.getAsJsonObject();
+    } catch (JsonParseException e) {
+      throw new IllegalArgumentException("Invalid --params: " + e.getMessage(), e);
+    }
+  }
+
+  private void deleteQuietly(Path directory) {
+    try (Stream<Path> paths = Files.walk(directory)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    } catch (IOException e) {
+      err.println("  Could not delete scratch project " + directory + ": " + e.getMessage());
+    }
+  }
+}
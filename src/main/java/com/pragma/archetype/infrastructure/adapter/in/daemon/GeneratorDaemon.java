@@ -0,0 +1,223 @@
+package com.pragma.archetype.infrastructure.adapter.in.daemon;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Long-lived generator process serving requests over a Unix-domain socket.
+ * Each line a client sends is one JSON request and is answered with one line
+ * holding the JSON response; see {@link GeneratorRequestHandler} for the
+ * protocol. Clients may keep a connection open for many requests, and each
+ * connection is served on its own virtual thread.
+ *
+ * The daemon stops on a shutdown request or when closed. A socket file left
+ * behind by a daemon that did not stop cleanly is replaced on start.
+ * Requests write to any project the user can write to, so on POSIX file
+ * systems only the owner may connect: the socket is rw------- and a socket
+ * directory the daemon creates is rwx------.
+ */
+public class GeneratorDaemon implements AutoCloseable {
+
+  /**
+   * Exception thrown when the daemon cannot listen on its socket.
+   */
+  public static class DaemonException extends RuntimeException {
+    public DaemonException(String message) {
+      super(message);
+    }
+
+    public DaemonException(String message, Throwable cause) {
+      super(message, cause);
+    }
+  }
+
+  private static final Logger logger = LoggerFactory.getLogger(GeneratorDaemon.class);
+
+  private final Path socketPath;
+  private final GeneratorRequestHandler handler;
+  private final Set<SocketChannel> clients = ConcurrentHashMap.newKeySet();
+  private final CountDownLatch stopped = new CountDownLatch(1);
+  private ServerSocketChannel server;
+
+  public GeneratorDaemon(Path socketPath, GeneratorRequestHandler handler) {
+    this.socketPath = socketPath.toAbsolutePath().normalize();
+    this.handler = handler;
+  }
+
+  /**
+   * Default socket: ~/.cleanarch/generator.sock, next to the template cache.
+   *
+   * @return default socket path
+   */
+  public static Path defaultSocketPath() {
+    return Path.of(System.getProperty("user.home"), ".cleanarch", "generator.sock");
+  }
+
+  public Path socketPath() {
+    return socketPath;
+  }
+
+  /**
+   * Starts listening and accepting connections in the background.
+   *
+   * @throws DaemonException if another daemon listens on the socket or the
+   *                         socket cannot be bound
+   */
+  public synchronized void start() {
+    if (server != null) {
+      throw new IllegalStateException("Generator daemon already started");
+    }
+
+    try {
+      // 1. Replace a stale socket, but never steal a live daemon's
+      if (Files.exists(socketPath)) {
+        if (isListening(socketPath)) {
+          throw new DaemonException("A generator daemon is already listening on " + socketPath);
+        }
+        Files.delete(socketPath);
+      }
+      boolean posix = socketPath.getFileSystem().supportedFileAttributeViews().contains("posix");
+      if (socketPath.getParent() != null && !Files.isDirectory(socketPath.getParent())) {
+        if (posix) {
+          Files.createDirectories(socketPath.getParent(),
+              PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+        } else {
+          Files.createDirectories(socketPath.getParent());
+        }
+      }
+
+      // 2. Bind, then restrict the socket to its owner
+      server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+      server.bind(UnixDomainSocketAddress.of(socketPath));
+      if (posix) {
+        Files.setPosixFilePermissions(socketPath, PosixFilePermissions.fromString("rw-------"));
+      }
+    } catch (IOException e) {
+      if (server != null) {
+        closeQuietly(server);
+        server = null;
+      }
+      throw new DaemonException("Failed to listen on " + socketPath + ": " + e.getMessage(), e);
+    }
+
+    Thread.ofVirtual().name("cleanarch-daemon-accept").start(this::acceptConnections);
+    logger.info("Generator daemon listening on {}", socketPath);
+  }
+
+  /**
+   * Blocks until the daemon stopped.
+   *
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public void awaitTermination() throws InterruptedException {
+    stopped.await();
+  }
+
+  /**
+   * Stops accepting requests, disconnects clients and removes the socket
+   * file. Requests already running complete, but their responses are lost.
+   */
+  @Override
+  public synchronized void close() {
+    if (server == null || stopped.getCount() == 0) {
+      return;
+    }
+
+    closeQuietly(server);
+    clients.forEach(this::closeQuietly);
+    try {
+      Files.deleteIfExists(socketPath);
+    } catch (IOException e) {
+      logger.warn("Failed to delete socket {}: {}", socketPath, e.getMessage());
+    }
+    stopped.countDown();
+    logger.info("Generator daemon stopped");
+  }
+
+  private void acceptConnections() {
+    while (server.isOpen()) {
+      try {
+        SocketChannel client = server.accept();
+        clients.add(client);
+        Thread.ofVirtual().name("cleanarch-daemon-client").start(() -> serve(client));
+      } catch (IOException e) {
+        if (server.isOpen()) {
+          logger.error("Generator daemon failed to accept a connection", e);
+          close();
+        }
+      }
+    }
+  }
+
+  /**
+   * Answers the requests of one connection until the client disconnects.
+   */
+  private void serve(SocketChannel client) {
+    try (client;
+        BufferedReader reader = new BufferedReader(
+            new InputStreamReader(Channels.newInputStream(client), StandardCharsets.UTF_8));
+        Writer writer = new OutputStreamWriter(Channels.newOutputStream(client), StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isBlank()) {
+          continue;
+        }
+
+        JsonObject response = handler.handle(line);
+        writer.write(response.toString());
+        writer.write('\n');
+        writer.flush();
+
+        if (GeneratorRequestHandler.isShutdown(response)) {
+          // The response is flushed, so the client sees it before the daemon goes away
+          close();
+          return;
+        }
+      }
+    } catch (IOException e) {
+      // The client went away or the daemon is stopping
+      logger.debug("Generator daemon connection closed: {}", e.getMessage());
+    } finally {
+      clients.remove(client);
+    }
+  }
+
+  /**
+   * Checks whether a daemon accepts connections on a socket.
+   */
+  private static boolean isListening(Path socketPath) {
+    try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socketPath))) {
+      return channel.isConnected();
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  private void closeQuietly(AutoCloseable closeable) {
+    try {
+      closeable.close();
+    } catch (Exception e) {
+      logger.debug("Failed to close {}: {}", closeable, e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,425 @@
+package com.pragma.archetype.infrastructure.adapter.in.daemon;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.pragma.archetype.application.generator.AdapterGenerator;
+import com.pragma.archetype.application.generator.EntityGenerator;
+import com.pragma.archetype.application.generator.InputAdapterGenerator;
+import com.pragma.archetype.application.generator.ProjectGenerator;
+import com.pragma.archetype.application.generator.UseCaseGenerator;
+import com.pragma.archetype.application.usecase.GenerateAdapterUseCaseImpl;
+import com.pragma.archetype.application.usecase.GenerateEntityUseCaseImpl;
+import com.pragma.archetype.application.usecase.GenerateInputAdapterUseCaseImpl;
+import com.pragma.archetype.application.usecase.GenerateUseCaseUseCaseImpl;
+import com.pragma.archetype.application.usecase.InitializeProjectUseCaseImpl;
+import com.pragma.archetype.application.usecase.InitializeProjectUseCaseImpl.InitializationResult;
+import com.pragma.archetype.domain.model.config.ProjectConfig;
+import com.pragma.archetype.domain.model.file.GeneratedFile;
+import com.pragma.archetype.domain.model.manifest.GenerationManifest;
+import com.pragma.archetype.domain.model.project.ArchitectureType;
+import com.pragma.archetype.domain.model.project.Framework;
+import com.pragma.archetype.domain.model.project.Paradigm;
+import com.pragma.archetype.domain.model.spec.GenerationSpec;
+import com.pragma.archetype.domain.model.validation.ValidationResult;
+import com.pragma.archetype.domain.port.in.GenerateAdapterUseCase;
+import com.pragma.archetype.domain.port.in.GenerateEntityUseCase;
+import com.pragma.archetype.domain.port.in.GenerateInputAdapterUseCase;
+import com.pragma.archetype.domain.port.in.GenerateUseCaseUseCase;
+import com.pragma.archetype.domain.port.out.FileSystemPort;
+import com.pragma.archetype.domain.port.out.GenerationManifestPort;
+import com.pragma.archetype.domain.port.out.TemplateRepository;
+import com.pragma.archetype.domain.service.AdapterValidator;
+import com.pragma.archetype.domain.service.BackupService;
+import com.pragma.archetype.domain.service.ConfigurationValidator;
+import com.pragma.archetype.domain.service.EntityValidator;
+import com.pragma.archetype.domain.service.InputAdapterValidator;
+import com.pragma.archetype.domain.service.PackageValidator;
+import com.pragma.archetype.domain.service.PathResolverImpl;
+import com.pragma.archetype.domain.service.ProjectValidator;
+import com.pragma.archetype.domain.service.UseCaseValidator;
+import com.pragma.archetype.infrastructure.adapter.out.config.GenerationSpecReader;
+import com.pragma.archetype.infrastructure.adapter.out.config.YamlConfigurationAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.config.YamlGenerationManifestAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.filesystem.InMemoryFileSystemAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.filesystem.JournalingFileSystemAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.filesystem.LocalFileSystemAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.filesystem.TransactionalFileSystemAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.template.RecordingTemplateRepository;
+import com.pragma.archetype.infrastructure.adapter.out.template.TemplateRepositoryRegistry;
+import com.pragma.archetype.infrastructure.config.PluginVersion;
+
+/**
+ * Handles generator requests, one JSON object per request, by running the
+ * same use cases as the generate tasks.
+ * Templates come from a long-lived {@link TemplateRepositoryRegistry}, so
+ * after the first request they are already compiled and their metadata
+ * loaded. Requests for the same project run one at a time.
+ *
+ * Request:
+ *
+ * <pre>
+ * {"id": 1, "operation": "generateEntity", "projectPath": "/work/orders",
+ *  "dryRun": false, "params": {"name": "Order", "fields": [{"name": "total", "type": "BigDecimal"}]}}
+ * </pre>
+ *
+ * Operations are ping, shutdown, initProject, generateEntity,
+ * generateUseCase, generateInputAdapter and generateOutputAdapter. The params
+ * of the generate operations are one component in the format of the
+ * corresponding {@link GenerationSpecReader} section; initProject takes name,
+ * basePackage, architecture, paradigm and framework.
+ *
+ * Response:
+ *
+ * <pre>
+ * {"id": 1, "success": true, "files": ["src/main/java/.../Order.java"], "errors": [], "elapsedMs": 4}
+ * </pre>
+ */
+public class GeneratorRequestHandler {
+
+  public static final String PING = "ping";
+  public static final String SHUTDOWN = "shutdown";
+  public static final String INIT_PROJECT = "initProject";
+  public static final String GENERATE_ENTITY = "generateEntity";
+  public static final String GENERATE_USE_CASE = "generateUseCase";
+  public static final String GENERATE_INPUT_ADAPTER = "generateInputAdapter";
+  public static final String GENERATE_OUTPUT_ADAPTER = "generateOutputAdapter";
+
+  private static final Set<String> OPERATIONS = Set.of(PING, SHUTDOWN, INIT_PROJECT, GENERATE_ENTITY,
+      GENERATE_USE_CASE, GENERATE_INPUT_ADAPTER, GENERATE_OUTPUT_ADAPTER);
+
+  private static final Map<String, String> SECTIONS = Map.of(
+      GENERATE_ENTITY, "entities",
+      GENERATE_USE_CASE, "useCases",
+      GENERATE_INPUT_ADAPTER, "inputAdapters",
+      GENERATE_OUTPUT_ADAPTER, "outputAdapters");
+
+  /**
+   * Outcome of a generation, whichever use case ran it.
+   */
+  private record Outcome(boolean success, List<GeneratedFile> files, List<String> errors) {
+  }
+
+  /**
+   * Lock of one project, kept while requests for the project hold or wait
+   * for it.
+   */
+  private static final class ProjectLock {
+    private int holders;
+  }
+
+  private final TemplateRepositoryRegistry templateRepositories;
+  private final int parallelism;
+  private final Map<Path, ProjectLock> projectLocks = new ConcurrentHashMap<>();
+
+  public GeneratorRequestHandler(TemplateRepositoryRegistry templateRepositories) {
+    this(templateRepositories, Runtime.getRuntime().availableProcessors());
+  }
+
+  public GeneratorRequestHandler(TemplateRepositoryRegistry templateRepositories, int parallelism) {
+    this.templateRepositories = templateRepositories;
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Checks whether a response acknowledges a shutdown request.
+   *
+   * @param response response returned by {@link #handle(String)}
+   * @return true if the caller should stop serving requests
+   */
+  public static boolean isShutdown(JsonObject response) {
+    return response.has(SHUTDOWN) && response.get(SHUTDOWN).getAsBoolean();
+  }
+
+  /**
+   * Handles one request. Never throws: malformed requests and failed
+   * generations are reported in the response.
+   *
+   * @param request JSON request
+   * @return JSON response
+   */
+  public JsonObject handle(String request) {
+    long start = System.nanoTime();
+    JsonObject response = new JsonObject();
+
+    try {
+      JsonObject json = parse(request);
+      if (json.has("id")) {
+        response.add("id", json.get("id"));
+      }
+      dispatch(json, response);
+    } catch (RuntimeException e) {
+      response.addProperty("success", false);
+      response.add("files", new JsonArray());
+      response.add("errors", strings(List.of(message(e))));
+    }
+
+    response.addProperty("elapsedMs", (System.nanoTime() - start) / 1_000_000);
+    return response;
+  }
+
+  private void dispatch(JsonObject request, JsonObject response) {
+    String operation = string(request, "operation", null);
+    if (operation == null || !OPERATIONS.contains(operation)) {
+      throw new IllegalArgumentException(
+          "Unknown operation: " + operation + ". Valid operations: " + OPERATIONS.stream().sorted().toList());
+    }
+
+    switch (operation) {
+      case PING -> {
+        response.addProperty("success", true);
+        response.addProperty("version", PluginVersion.current());
+        response.addProperty("templateRepositories", templateRepositories.size());
+      }
+      case SHUTDOWN -> {
+        response.addProperty("success", true);
+        response.addProperty(SHUTDOWN, true);
+      }
+      default -> {
+        Path projectPath = Path.of(string(request, "projectPath", null)).toAbsolutePath().normalize();
+        boolean dryRun = request.has("dryRun") && request.get("dryRun").getAsBoolean();
+        JsonObject params = request.has("params") ? request.getAsJsonObject("params") : new JsonObject();
+
+        // Concurrent writes to one project would interleave; other projects go ahead
+        Outcome outcome;
+        ProjectLock lock = acquire(projectPath);
+        try {
+          synchronized (lock) {
+            outcome = generate(operation, projectPath, params, dryRun);
+          }
+        } finally {
+          release(projectPath);
+        }
+
+        response.addProperty("success", outcome.success());
+        response.addProperty("dryRun", dryRun);
+        response.add("files", strings(outcome.files().stream()
+            .map(file -> GenerationManifest.relativePath(projectPath, file.path()))
+            .toList()));
+        response.add("errors", strings(outcome.errors()));
+      }
+    }
+  }
+
+  /**
+   * Gets the lock of a project and counts the caller as a holder, so the
+   * lock stays registered until every request for the project finished.
+   */
+  private ProjectLock acquire(Path projectPath) {
+    return projectLocks.compute(projectPath, (path, lock) -> {
+      ProjectLock projectLock = lock != null ? lock : new ProjectLock();
+      projectLock.holders++;
+      return projectLock;
+    });
+  }
+
+  /**
+   * Drops the caller as a holder and forgets the lock when it was the last,
+   * so the locks of a long-lived daemon do not pile up.
+   */
+  private void release(Path projectPath) {
+    projectLocks.computeIfPresent(projectPath, (path, lock) -> --lock.holders == 0 ? null : lock);
+  }
+
+  /**
+   * Runs one generation. A dry run writes to an in-memory overlay of the
+   * project, like the tasks' --dryRun.
+   */
+  private Outcome generate(String operation, Path projectPath, JsonObject params, boolean dryRun) {
+    // 1. Setup file system
+    LocalFileSystemAdapter local = new LocalFileSystemAdapter();
+    InMemoryFileSystemAdapter preview = dryRun ? new InMemoryFileSystemAdapter(local) : null;
+    FileSystemPort basePort = dryRun ? preview : local;
+    FileSystemPort fileSystemPort = GENERATE_OUTPUT_ADAPTER.equals(operation)
+        ? new JournalingFileSystemAdapter(dryRun ? preview : new TransactionalFileSystemAdapter(local, projectPath))
+        : basePort;
+    YamlConfigurationAdapter configurationPort = dryRun
+        ? new YamlConfigurationAdapter(fileSystemPort)
+        : new YamlConfigurationAdapter();
+    RecordingTemplateRepository templateRepository = new RecordingTemplateRepository(
+        templateRepository(projectPath));
+
+    // 2. Execute use case
+    Outcome outcome;
+    if (INIT_PROJECT.equals(operation)) {
+      outcome = initProject(projectPath, params, fileSystemPort, configurationPort, templateRepository);
+    } else {
+      ValidationResult configValidation = new ConfigurationValidator(fileSystemPort, configurationPort)
+          .validateProjectConfig(projectPath);
+      if (configValidation.isInvalid()) {
+        return new Outcome(false, List.of(), configValidation.errors());
+      }
+      ProjectConfig projectConfig = configurationPort.readConfiguration(projectPath)
+          .orElseThrow(() -> new IllegalArgumentException(".cleanarch.yml not found"));
+      GenerationSpec spec = component(operation, params, projectConfig);
+      outcome = generateComponent(projectPath, spec, fileSystemPort, configurationPort, templateRepository);
+    }
+
+    // 3. Record generated files for regenerate
+    if (outcome.success()) {
+      GenerationManifestPort manifestPort = new YamlGenerationManifestAdapter(basePort);
+      GenerationManifest manifest = manifestPort.read(projectPath);
+      templateRepository.manifestEntries(projectPath, outcome.files(), PluginVersion.current())
+          .forEach(manifest::put);
+      manifestPort.write(projectPath, manifest);
+    }
+    return outcome;
+  }
+
+  private Outcome initProject(Path projectPath, JsonObject params, FileSystemPort fileSystemPort,
+      YamlConfigurationAdapter configurationPort, TemplateRepository templateRepository) {
+    String basePackage = string(params, "basePackage", null);
+    ArchitectureType architecture = enumValue(ArchitectureType.class,
+        string(params, "architecture", "hexagonal-single"), "architecture");
+    ProjectConfig config = ProjectConfig.builder()
+        .name(string(params, "name", projectPath.getFileName().toString()))
+        .basePackage(basePackage)
+        .architecture(architecture)
+        .paradigm(enumValue(Paradigm.class, string(params, "paradigm", "reactive"), "paradigm"))
+        .framework(enumValue(Framework.class, string(params, "framework", "spring"), "framework"))
+        .pluginVersion(PluginVersion.current())
+        .adaptersAsModules(architecture == ArchitectureType.HEXAGONAL_MULTI_GRANULAR)
+        .build();
+
+    InitializationResult result = new InitializeProjectUseCaseImpl(
+        new ProjectValidator(fileSystemPort, configurationPort),
+        new ProjectGenerator(templateRepository, fileSystemPort, parallelism),
+        configurationPort)
+        .execute(projectPath, config);
+    return new Outcome(result.isSuccess(), result.generatedFiles(), result.errors());
+  }
+
+  /**
+   * Generates the single component of a spec with the use case of its kind.
+   */
+  private Outcome generateComponent(Path projectPath, GenerationSpec spec, FileSystemPort fileSystemPort,
+      YamlConfigurationAdapter configurationPort, TemplateRepository templateRepository) {
+    PackageValidator packageValidator = new PackageValidator();
+
+    if (!spec.entities().isEmpty()) {
+      GenerateEntityUseCase.GenerationResult result = new GenerateEntityUseCaseImpl(
+          new EntityValidator(fileSystemPort, configurationPort),
+          new EntityGenerator(templateRepository, fileSystemPort),
+          configurationPort,
+          fileSystemPort)
+          .execute(projectPath, spec.entities().get(0));
+      return new Outcome(result.success(), result.generatedFiles(), result.errors());
+    }
+    if (!spec.useCases().isEmpty()) {
+      GenerateUseCaseUseCase.GenerationResult result = new GenerateUseCaseUseCaseImpl(
+          new UseCaseValidator(fileSystemPort, configurationPort, packageValidator),
+          new UseCaseGenerator(templateRepository, fileSystemPort),
+          configurationPort,
+          fileSystemPort)
+          .execute(projectPath, spec.useCases().get(0));
+      return new Outcome(result.success(), result.generatedFiles(), result.errors());
+    }
+    if (!spec.inputAdapters().isEmpty()) {
+      GenerateInputAdapterUseCase.GenerationResult result = new GenerateInputAdapterUseCaseImpl(
+          new InputAdapterValidator(fileSystemPort, configurationPort, packageValidator),
+          new InputAdapterGenerator(templateRepository, fileSystemPort),
+          configurationPort,
+          fileSystemPort)
+          .execute(projectPath, spec.inputAdapters().get(0));
+      return new Outcome(result.success(), result.generatedFiles(), result.errors());
+    }
+
+    // Writers replace files by rename and appends copy linked files, so hard-link backups are safe
+    GenerateAdapterUseCase.GenerationResult result = new GenerateAdapterUseCaseImpl(
+        new AdapterValidator(fileSystemPort, configurationPort, packageValidator),
+        new AdapterGenerator(templateRepository, fileSystemPort, new PathResolverImpl(templateRepository)),
+        configurationPort,
+        fileSystemPort,
+        templateRepository,
+        configurationPort,
+        new BackupService(fileSystemPort, true))
+        .execute(projectPath, spec.outputAdapters().get(0));
+    return new Outcome(result.success(), result.generatedFiles(), result.errors());
+  }
+
+  /**
+   * Reads the params of a generate operation as a spec with that one
+   * component, so components have the same format and defaults as in spec
+   * files.
+   */
+  private GenerationSpec component(String operation, JsonObject params, ProjectConfig projectConfig) {
+    JsonArray components = new JsonArray();
+    components.add(params);
+    JsonObject spec = new JsonObject();
+    spec.add(SECTIONS.get(operation), components);
+    return new GenerationSpecReader().parse(spec.toString(), projectConfig);
+  }
+
+  /**
+   * Gets the templates for a project: the templates checkout next to it when
+   * present, as in the tasks, otherwise the embedded templates.
+   */
+  private TemplateRepository templateRepository(Path projectPath) {
+    Path localTemplates = projectPath
+        .resolve("../../backend-architecture-design-archetype-generator-templates/templates").normalize();
+    if (Files.exists(localTemplates)) {
+      return templateRepositories.local(localTemplates);
+    }
+    return templateRepositories.fromUrl("embedded");
+  }
+
+  private JsonObject parse(String request) {
+    try {
+      JsonElement json = JsonParser.parseString(request);
+      if (!json.isJsonObject()) {
+        throw new IllegalArgumentException("Invalid request: expected a JSON object");
+      }
+      return json.getAsJsonObject();
+    } catch (JsonParseException e) {
+      throw new IllegalArgumentException("Invalid request: " + e.getMessage(), e);
+    }
+  }
+
+  private String string(JsonObject json, String key, String defaultValue) {
+    JsonElement value = json.get(key);
+    if (value == null || value.isJsonNull()) {
+      if (defaultValue == null) {
+        throw new IllegalArgumentException("Missing required field: " + key);
+      }
+      return defaultValue;
+    }
+    if (!value.isJsonPrimitive()) {
+      throw new IllegalArgumentException("Field " + key + " must be a string");
+    }
+    return value.getAsString();
+  }
+
+  private <E extends Enum<E>> E enumValue(Class<E> type, String value, String field) {
+    try {
+      return Enum.valueOf(type, value.toUpperCase().replace('-', '_'));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid " + field + ": " + value);
+    }
+  }
+
+  private JsonArray strings(List<String> values) {
+    JsonArray array = new JsonArray();
+    values.forEach(array::add);
+    return array;
+  }
+
+  private String message(Throwable e) {
+    List<String> messages = new ArrayList<>();
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause.getMessage() != null && !messages.contains(cause.getMessage())) {
+        messages.add(cause.getMessage());
+      }
+    }
+    return messages.isEmpty() ? e.getClass().getSimpleName() : String.join(": ", messages);
+  }
+}
@@ -0,0 +1,40 @@
+package com.pragma.archetype.infrastructure.adapter.in.gradle;
+
+import java.nio.file.Path;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.tasks.Internal;
+
+/**
+ * Base class for tasks that work on the project directory.
+ * The directory is captured as a property when the task is created, so the
+ * task action never touches the Project and the task can be stored in the
+ * configuration cache.
+ */
+public abstract class CleanArchTask extends DefaultTask {
+
+  private final DirectoryProperty projectDirectory = getProject().getObjects().directoryProperty()
+      .convention(getProject().getLayout().getProjectDirectory());
+
+  /**
+   * Gets the directory of the project the task works on.
+   * Internal rather than an input: it is the target of the task, and
+   * fingerprinting the whole project would be pointless.
+   *
+   * @return project directory property, defaulting to the project's directory
+   */
+  @Internal
+  public DirectoryProperty getProjectDirectory() {
+    return projectDirectory;
+  }
+
+  /**
+   * Gets the project directory as a path.
+   *
+   * @return project directory
+   */
+  protected Path projectPath() {
+    return projectDirectory.get().getAsFile().toPath();
+  }
+}
@@ -4,7 +4,6 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.gradle.api.DefaultTask;
 import org.gradle.api.tasks.Input;
 import org.gradle.api.tasks.Optional;
 import org.gradle.api.tasks.TaskAction;
@@ -24,8 +23,7 @@ import com.pragma.archetype.domain.port.out.TemplateRepository;
 import com.pragma.archetype.domain.service.ConfigurationValidator;
 import com.pragma.archetype.domain.service.EntityValidator;
 import com.pragma.archetype.infrastructure.adapter.out.config.YamlConfigurationAdapter;
-import com.pragma.archetype.infrastructure.adapter.out.filesystem.LocalFileSystemAdapter;
-import com.pragma.archetype.infrastructure.adapter.out.template.FreemarkerTemplateRepository;
+import com.pragma.archetype.infrastructure.adapter.out.template.RecordingTemplateRepository;
 
 /**
  * Gradle task for generating domain entities.
@@ -34,13 +32,14 @@ import com.pragma.archetype.infrastructure.adapter.out.template.FreemarkerTempla
  * ./gradlew generateEntity --name=User
  * --fields=name:String,email:String,age:Integer
  */
-public class GenerateEntityTask extends DefaultTask {
+public class GenerateEntityTask extends TemplateTask {
 
   private String entityName = "";
   private String fields = "";
   private String packageName = "";
   private boolean hasId = true;
   private String idType = "String";
+  private boolean dryRun = false;
 
   @Option(option = "name", description = "Entity name (e.g., User, Product)")
   public void setEntityName(String entityName) {
@@ -93,15 +92,26 @@ public class GenerateEntityTask extends DefaultTask {
     return idType;
   }
 
+  @Option(option = "dryRun", description = "Preview the files that would be written without touching the project")
+  public void setDryRun(boolean dryRun) {
+    this.dryRun = dryRun;
+  }
+
+  @Input
+  public boolean getDryRun() {
+    return dryRun;
+  }
+
   @TaskAction
   public void generateEntity() {
     getLogger().lifecycle("Generating entity: {}", entityName);
 
     try {
       // 1. Validate project configuration exists
-      Path projectPath = getProject().getProjectDir().toPath();
-      FileSystemPort fileSystemPort = new LocalFileSystemAdapter();
-      ConfigurationPort configurationPort = new YamlConfigurationAdapter();
+      Path projectPath = projectPath();
+      TaskFileSystem taskFileSystem = TaskFileSystem.create(dryRun);
+      FileSystemPort fileSystemPort = taskFileSystem.port();
+      ConfigurationPort configurationPort = taskFileSystem.configurationAdapter(fileSystemPort);
 
       ConfigurationValidator configValidator = new ConfigurationValidator(fileSystemPort, configurationPort);
       ValidationResult configValidation = configValidator.validateProjectConfig(projectPath);
@@ -138,7 +148,7 @@ public class GenerateEntityTask extends DefaultTask {
           .build();
 
       // 7. Setup dependencies (reuse instances from validation)
-      TemplateRepository templateRepository = createTemplateRepository();
+      RecordingTemplateRepository templateRepository = new RecordingTemplateRepository(createTemplateRepository());
 
       // 8. Setup use case
       EntityValidator validator = new EntityValidator(fileSystemPort, configurationPort);
@@ -147,7 +157,8 @@ public class GenerateEntityTask extends DefaultTask {
           validator,
           generator,
           configurationPort,
-          fileSystemPort);
+          fileSystemPort,
+          TaskPlanLogger.executor(1, getLogger(), dryRun));
 
       // 9. Execute use case
       GenerationResult result = useCase.execute(projectPath, config);
@@ -156,6 +167,8 @@ public class GenerateEntityTask extends DefaultTask {
       if (result.success()) {
         getLogger().lifecycle("✓ Entity generated successfully!");
         getLogger().lifecycle("  Generated {} file(s)", result.generatedFiles().size());
+        taskFileSystem.recordManifest(projectPath, templateRepository, result.generatedFiles());
+        taskFileSystem.report(getLogger());
         result.generatedFiles().forEach(file -> getLogger().lifecycle("    - {}", file.path()));
       } else {
         getLogger().error("✗ Failed to generate entity:");
@@ -196,7 +209,7 @@ public class GenerateEntityTask extends DefaultTask {
     // Otherwise, read from .cleanarch.yml
     try {
       ConfigurationPort configurationPort = new YamlConfigurationAdapter();
-      Path projectPath = getProject().getProjectDir().toPath();
+      Path projectPath = projectPath();
       ProjectConfig projectConfig = configurationPort.readConfiguration(projectPath)
           .orElseThrow(() -> new IllegalArgumentException(".cleanarch.yml not found"));
 
@@ -244,17 +257,17 @@ public class GenerateEntityTask extends DefaultTask {
    */
   private TemplateRepository createTemplateRepository() {
     // Try to find templates in project directory first (for development)
-    Path projectDir = getProject().getProjectDir().toPath();
+    Path projectDir = projectPath();
     Path localTemplates = projectDir
         .resolve("../../backend-architecture-design-archetype-generator-templates/templates").normalize();
 
     if (java.nio.file.Files.exists(localTemplates)) {
       getLogger().info("Using local templates from: {}", localTemplates.toAbsolutePath());
-      return new FreemarkerTemplateRepository(localTemplates);
+      return templateRepositories().local(localTemplates);
     }
 
     // Fall back to embedded templates (in JAR)
     getLogger().info("Using embedded templates");
-    return new FreemarkerTemplateRepository("embedded");
+    return templateRepositories().fromUrl("embedded");
   }
 }
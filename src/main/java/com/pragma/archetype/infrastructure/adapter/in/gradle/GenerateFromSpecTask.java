@@ -0,0 +1,184 @@
+package com.pragma.archetype.infrastructure.adapter.in.gradle;
+
+import java.nio.file.Path;
+
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.api.tasks.options.Option;
+
+import com.pragma.archetype.application.generator.AdapterGenerator;
+import com.pragma.archetype.application.generator.EntityGenerator;
+import com.pragma.archetype.application.generator.InputAdapterGenerator;
+import com.pragma.archetype.application.generator.UseCaseGenerator;
+import com.pragma.archetype.application.usecase.GenerateAdapterUseCaseImpl;
+import com.pragma.archetype.application.usecase.GenerateFromSpecUseCaseImpl;
+import com.pragma.archetype.domain.model.config.ProjectConfig;
+import com.pragma.archetype.domain.model.spec.GenerationSpec;
+import com.pragma.archetype.domain.model.validation.ValidationResult;
+import com.pragma.archetype.domain.port.in.GenerateAdapterUseCase;
+import com.pragma.archetype.domain.port.in.GenerateFromSpecUseCase;
+import com.pragma.archetype.domain.port.in.GenerateFromSpecUseCase.GenerationResult;
+import com.pragma.archetype.domain.port.out.ConfigurationPort;
+import com.pragma.archetype.domain.port.out.FileSystemPort;
+import com.pragma.archetype.domain.port.out.PathResolver;
+import com.pragma.archetype.domain.port.out.TemplateRepository;
+import com.pragma.archetype.domain.service.AdapterValidator;
+import com.pragma.archetype.domain.service.BackupService;
+import com.pragma.archetype.domain.service.ConfigurationValidator;
+import com.pragma.archetype.domain.service.EntityValidator;
+import com.pragma.archetype.domain.service.InputAdapterValidator;
+import com.pragma.archetype.domain.service.PackageValidator;
+import com.pragma.archetype.domain.service.PathResolverImpl;
+import com.pragma.archetype.domain.service.UseCaseValidator;
+import com.pragma.archetype.infrastructure.adapter.out.config.GenerationSpecReader;
+import com.pragma.archetype.infrastructure.adapter.out.config.YamlConfigurationAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.template.RecordingTemplateRepository;
+
+/**
+ * Gradle task for generating entities, use cases and adapters from a spec
+ * file in one run.
+ * Templates, configuration and validators are set up once for all components,
+ * and all writes are committed as one transaction.
+ * See {@link GenerationSpecReader} for the spec format.
+ *
+ * Usage:
+ * ./gradlew generateFromSpec # Reads cleanarch-spec.yml
+ * ./gradlew generateFromSpec --spec=specs/orders.json
+ */
+public class GenerateFromSpecTask extends TemplateTask {
+
+  private String spec = "cleanarch-spec.yml";
+  private boolean dryRun = false;
+
+  // Components are rendered in parallel within Gradle's --max-workers limit
+  private final int maxWorkers = getProject().getGradle().getStartParameter().getMaxWorkerCount();
+
+  @Option(option = "spec", description = "Spec file, YAML or JSON, relative to the project (default: cleanarch-spec.yml)")
+  public void setSpec(String spec) {
+    this.spec = spec;
+  }
+
+  @Input
+  public String getSpec() {
+    return spec;
+  }
+
+  @Option(option = "dryRun", description = "Preview the files that would be written without touching the project")
+  public void setDryRun(boolean dryRun) {
+    this.dryRun = dryRun;
+  }
+
+  @Input
+  public boolean getDryRun() {
+    return dryRun;
+  }
+
+  @TaskAction
+  public void generateFromSpec() {
+    Path projectPath = projectPath();
+    Path specFile = projectPath.resolve(spec);
+    getLogger().lifecycle("Generating from spec: {}", specFile);
+
+    try {
+      // 1. Validate project configuration once for all components
+      TaskFileSystem taskFileSystem = TaskFileSystem.create(dryRun);
+      FileSystemPort fileSystemPort = taskFileSystem.transactionalPort(projectPath);
+      // application.yml is written through the port, so it is committed or
+      // discarded with the rest of the spec
+      ConfigurationPort configurationPort = new YamlConfigurationAdapter(fileSystemPort);
+
+      ConfigurationValidator configValidator = new ConfigurationValidator(fileSystemPort, configurationPort);
+      ValidationResult configValidation = configValidator.validateProjectConfig(projectPath);
+
+      if (configValidation.isInvalid()) {
+        getLogger().error("✗ Configuration validation failed:");
+        configValidation.errors().forEach(error -> getLogger().error("  {}", error));
+        throw new RuntimeException("Configuration validation failed. Please fix the errors above.");
+      }
+
+      // 2. Read spec
+      ProjectConfig projectConfig = configurationPort.readConfiguration(projectPath)
+          .orElseThrow(() -> new IllegalArgumentException(".cleanarch.yml not found"));
+      GenerationSpec generationSpec = new GenerationSpecReader().read(specFile, projectConfig);
+
+      if (generationSpec.isEmpty()) {
+        getLogger().lifecycle("Spec has no components, nothing to generate");
+        return;
+      }
+      getLogger().lifecycle("  {} entities, {} use cases, {} input adapters, {} output adapters",
+          generationSpec.entities().size(), generationSpec.useCases().size(),
+          generationSpec.inputAdapters().size(), generationSpec.outputAdapters().size());
+
+      // 3. Setup dependencies, shared by every component
+      RecordingTemplateRepository templateRepository = new RecordingTemplateRepository(createTemplateRepository());
+      YamlConfigurationAdapter yamlConfigurationAdapter = (YamlConfigurationAdapter) configurationPort;
+      PathResolver pathResolver = new PathResolverImpl(templateRepository);
+      PackageValidator packageValidator = new PackageValidator();
+      AdapterValidator adapterValidator = new AdapterValidator(fileSystemPort, configurationPort, packageValidator);
+      // Writers replace files by rename and appends copy linked files, so hard-link backups are safe
+      BackupService backupService = new BackupService(fileSystemPort, true);
+      GenerateAdapterUseCase adapterUseCase = new GenerateAdapterUseCaseImpl(
+          adapterValidator,
+          new AdapterGenerator(templateRepository, fileSystemPort, pathResolver),
+          configurationPort,
+          fileSystemPort,
+          templateRepository,
+          yamlConfigurationAdapter,
+          backupService,
+          TaskPlanLogger.executor(1, getLogger(), dryRun));
+
+      // 4. Setup use case
+      GenerateFromSpecUseCase useCase = new GenerateFromSpecUseCaseImpl(
+          new EntityValidator(fileSystemPort, configurationPort),
+          new EntityGenerator(templateRepository, fileSystemPort),
+          new UseCaseValidator(fileSystemPort, configurationPort, packageValidator),
+          new UseCaseGenerator(templateRepository, fileSystemPort),
+          new InputAdapterValidator(fileSystemPort, configurationPort, packageValidator),
+          new InputAdapterGenerator(templateRepository, fileSystemPort),
+          adapterValidator,
+          adapterUseCase,
+          configurationPort,
+          fileSystemPort,
+          TaskPlanLogger.executor(maxWorkers, getLogger(), dryRun));
+
+      // 5. Execute use case
+      GenerationResult result = useCase.execute(projectPath, generationSpec);
+
+      // 6. Handle result
+      if (result.success()) {
+        getLogger().lifecycle("✓ Spec generated successfully!");
+        getLogger().lifecycle("  Generated {} file(s)", result.generatedFiles().size());
+        taskFileSystem.recordManifest(projectPath, templateRepository, result.generatedFiles());
+        taskFileSystem.report(getLogger());
+        result.generatedFiles().forEach(file -> getLogger().lifecycle("    - {}", file.path()));
+      } else {
+        getLogger().error("✗ Failed to generate from spec:");
+        result.errors().forEach(error -> getLogger().error("  - {}", error));
+        throw new RuntimeException("Spec generation failed");
+      }
+
+    } catch (Exception e) {
+      getLogger().error("✗ Error generating from spec: {}", e.getMessage());
+      throw new RuntimeException("Spec generation failed", e);
+    }
+  }
+
+  /**
+   * Creates template repository.
+   */
+  private TemplateRepository createTemplateRepository() {
+    // Try to find templates in project directory first (for development)
+    Path projectDir = projectPath();
+    Path localTemplates = projectDir
+        .resolve("../../backend-architecture-design-archetype-generator-templates/templates").normalize();
+
+    if (java.nio.file.Files.exists(localTemplates)) {
+      getLogger().info("Using local templates from: {}", localTemplates.toAbsolutePath());
+      return templateRepositories().local(localTemplates);
+    }
+
+    // Fall back to embedded templates (in JAR)
+    getLogger().info("Using embedded templates");
+    return templateRepositories().fromUrl("embedded");
+  }
+}
@@ -4,7 +4,6 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.gradle.api.DefaultTask;
 import org.gradle.api.tasks.Input;
 import org.gradle.api.tasks.TaskAction;
 import org.gradle.api.tasks.options.Option;
@@ -26,8 +25,7 @@ import com.pragma.archetype.domain.port.out.TemplateRepository;
 import com.pragma.archetype.domain.service.ConfigurationValidator;
 import com.pragma.archetype.domain.service.InputAdapterValidator;
 import com.pragma.archetype.infrastructure.adapter.out.config.YamlConfigurationAdapter;
-import com.pragma.archetype.infrastructure.adapter.out.filesystem.LocalFileSystemAdapter;
-import com.pragma.archetype.infrastructure.adapter.out.template.FreemarkerTemplateRepository;
+import com.pragma.archetype.infrastructure.adapter.out.template.RecordingTemplateRepository;
 
 /**
  * Gradle task for generating input adapters (entry points: REST controllers,
@@ -40,13 +38,14 @@ import com.pragma.archetype.infrastructure.adapter.out.template.FreemarkerTempla
  * --packageName=com.pragma.infrastructure.entry-points.rest
  * --type=rest
  */
-public class GenerateInputAdapterTask extends DefaultTask {
+public class GenerateInputAdapterTask extends TemplateTask {
 
   private String adapterName = "";
   private String useCaseName = "";
   private String endpoints = "";
   private String packageName = "";
   private String type = "rest";
+  private boolean dryRun = false;
 
   @Option(option = "name", description = "Adapter name (e.g., User, Product)")
   public void setAdapterName(String adapterName) {
@@ -98,15 +97,26 @@ public class GenerateInputAdapterTask extends DefaultTask {
     return type;
   }
 
+  @Option(option = "dryRun", description = "Preview the files that would be written without touching the project")
+  public void setDryRun(boolean dryRun) {
+    this.dryRun = dryRun;
+  }
+
+  @Input
+  public boolean getDryRun() {
+    return dryRun;
+  }
+
   @TaskAction
   public void generateInputAdapter() {
     getLogger().lifecycle("Generating input adapter: {}", adapterName);
 
     try {
       // 1. Validate project configuration exists
-      Path projectPath = getProject().getProjectDir().toPath();
-      FileSystemPort fileSystemPort = new LocalFileSystemAdapter();
-      ConfigurationPort configurationPort = new YamlConfigurationAdapter();
+      Path projectPath = projectPath();
+      TaskFileSystem taskFileSystem = TaskFileSystem.create(dryRun);
+      FileSystemPort fileSystemPort = taskFileSystem.port();
+      ConfigurationPort configurationPort = taskFileSystem.configurationAdapter(fileSystemPort);
 
       ConfigurationValidator configValidator = new ConfigurationValidator(fileSystemPort, configurationPort);
       ValidationResult configValidation = configValidator.validateProjectConfig(projectPath);
@@ -136,7 +146,7 @@ public class GenerateInputAdapterTask extends DefaultTask {
           .build();
 
       // 6. Setup dependencies (reuse instances from validation)
-      TemplateRepository templateRepository = createTemplateRepository();
+      RecordingTemplateRepository templateRepository = new RecordingTemplateRepository(createTemplateRepository());
 
       // 7. Setup use case
       com.pragma.archetype.domain.service.PackageValidator packageValidator = new com.pragma.archetype.domain.service.PackageValidator();
@@ -146,7 +156,8 @@ public class GenerateInputAdapterTask extends DefaultTask {
           validator,
           generator,
           configurationPort,
-          fileSystemPort);
+          fileSystemPort,
+          TaskPlanLogger.executor(1, getLogger(), dryRun));
 
       // 8. Execute use case
       GenerationResult result = useCase.execute(projectPath, config);
@@ -155,6 +166,8 @@ public class GenerateInputAdapterTask extends DefaultTask {
       if (result.success()) {
         getLogger().lifecycle("✓ Input adapter generated successfully!");
         getLogger().lifecycle("  Generated {} file(s)", result.generatedFiles().size());
+        taskFileSystem.recordManifest(projectPath, templateRepository, result.generatedFiles());
+        taskFileSystem.report(getLogger());
         result.generatedFiles().forEach(file -> getLogger().lifecycle("    - {}", file.path()));
       } else {
         getLogger().error("✗ Failed to generate input adapter:");
@@ -254,17 +267,17 @@ public class GenerateInputAdapterTask extends DefaultTask {
    */
   private TemplateRepository createTemplateRepository() {
     // Try to find templates in project directory first (for development)
-    Path projectDir = getProject().getProjectDir().toPath();
+    Path projectDir = projectPath();
     Path localTemplates = projectDir
         .resolve("../../backend-architecture-design-archetype-generator-templates/templates").normalize();
 
     if (java.nio.file.Files.exists(localTemplates)) {
       getLogger().info("Using local templates from: {}", localTemplates.toAbsolutePath());
-      return new FreemarkerTemplateRepository(localTemplates);
+      return templateRepositories().local(localTemplates);
     }
 
     // Fall back to embedded templates (in JAR)
     getLogger().info("Using embedded templates");
-    return new FreemarkerTemplateRepository("embedded");
+    return templateRepositories().fromUrl("embedded");
   }
 }
@@ -4,7 +4,6 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.gradle.api.DefaultTask;
 import org.gradle.api.tasks.Input;
 import org.gradle.api.tasks.Optional;
 import org.gradle.api.tasks.TaskAction;
@@ -27,8 +26,7 @@ import com.pragma.archetype.domain.port.out.TemplateRepository;
 import com.pragma.archetype.domain.service.AdapterValidator;
 import com.pragma.archetype.domain.service.ConfigurationValidator;
 import com.pragma.archetype.infrastructure.adapter.out.config.YamlConfigurationAdapter;
-import com.pragma.archetype.infrastructure.adapter.out.filesystem.LocalFileSystemAdapter;
-import com.pragma.archetype.infrastructure.adapter.out.template.FreemarkerTemplateRepository;
+import com.pragma.archetype.infrastructure.adapter.out.template.RecordingTemplateRepository;
 
 /**
  * Gradle task for generating output adapters (driven adapters: Redis, MongoDB,
@@ -39,13 +37,14 @@ import com.pragma.archetype.infrastructure.adapter.out.template.FreemarkerTempla
  * --entity=User --type=redis
  * --packageName=com.pragma.infrastructure.driven-adapters.redis
  */
-public class GenerateOutputAdapterTask extends DefaultTask {
+public class GenerateOutputAdapterTask extends TemplateTask {
 
   private String adapterName = "";
   private String entityName = "";
   private String type = "redis";
   private String packageName = "";
   private String methods = "";
+  private boolean dryRun = false;
 
   @Option(option = "name", description = "Adapter name (e.g., UserRepository, ProductCache)")
   public void setAdapterName(String adapterName) {
@@ -98,15 +97,26 @@ public class GenerateOutputAdapterTask extends DefaultTask {
     return methods;
   }
 
+  @Option(option = "dryRun", description = "Preview the files that would be written without touching the project")
+  public void setDryRun(boolean dryRun) {
+    this.dryRun = dryRun;
+  }
+
+  @Input
+  public boolean getDryRun() {
+    return dryRun;
+  }
+
   @TaskAction
   public void generateAdapter() {
     getLogger().lifecycle("Generating {} adapter: {}", type, adapterName);
 
     try {
       // 1. Validate project configuration exists
-      Path projectPath = getProject().getProjectDir().toPath();
-      FileSystemPort fileSystemPort = new LocalFileSystemAdapter();
-      ConfigurationPort configurationPort = new YamlConfigurationAdapter();
+      Path projectPath = projectPath();
+      TaskFileSystem taskFileSystem = TaskFileSystem.create(dryRun);
+      FileSystemPort fileSystemPort = taskFileSystem.transactionalPort(projectPath);
+      ConfigurationPort configurationPort = taskFileSystem.configurationAdapter(fileSystemPort);
 
       ConfigurationValidator configValidator = new ConfigurationValidator(fileSystemPort, configurationPort);
       ValidationResult configValidation = configValidator.validateProjectConfig(projectPath);
@@ -143,15 +153,16 @@ public class GenerateOutputAdapterTask extends DefaultTask {
 
       // 7. Setup dependencies (reuse instances from validation)
       YamlConfigurationAdapter yamlConfigurationAdapter = (YamlConfigurationAdapter) configurationPort;
-      TemplateRepository templateRepository = createTemplateRepository();
+      RecordingTemplateRepository templateRepository = new RecordingTemplateRepository(createTemplateRepository());
       PathResolver pathResolver = new com.pragma.archetype.domain.service.PathResolverImpl(templateRepository);
 
       // 8. Setup use case
       com.pragma.archetype.domain.service.PackageValidator packageValidator = new com.pragma.archetype.domain.service.PackageValidator();
       AdapterValidator validator = new AdapterValidator(fileSystemPort, configurationPort, packageValidator);
       AdapterGenerator generator = new AdapterGenerator(templateRepository, fileSystemPort, pathResolver);
+      // Writers replace files by rename and appends copy linked files, so hard-link backups are safe
       com.pragma.archetype.domain.service.BackupService backupService = new com.pragma.archetype.domain.service.BackupService(
-          fileSystemPort);
+          fileSystemPort, true);
       GenerateAdapterUseCase useCase = new GenerateAdapterUseCaseImpl(
           validator,
           generator,
@@ -159,7 +170,8 @@ public class GenerateOutputAdapterTask extends DefaultTask {
           fileSystemPort,
           templateRepository,
           yamlConfigurationAdapter,
-          backupService);
+          backupService,
+          TaskPlanLogger.executor(1, getLogger(), dryRun));
 
       // 9. Execute use case
       GenerationResult result = useCase.execute(projectPath, config);
@@ -168,6 +180,8 @@ public class GenerateOutputAdapterTask extends DefaultTask {
       if (result.success()) {
         getLogger().lifecycle("✓ Adapter generated successfully!");
         getLogger().lifecycle("  Generated {} file(s)", result.generatedFiles().size());
+        taskFileSystem.recordManifest(projectPath, templateRepository, result.generatedFiles());
+        taskFileSystem.report(getLogger());
         result.generatedFiles().forEach(file -> getLogger().lifecycle("    - {}", file.path()));
       } else {
         getLogger().error("✗ Failed to generate adapter:");
@@ -208,7 +222,7 @@ public class GenerateOutputAdapterTask extends DefaultTask {
     // Otherwise, read from .cleanarch.yml
     try {
       ConfigurationPort configurationPort = new YamlConfigurationAdapter();
-      Path projectPath = getProject().getProjectDir().toPath();
+      Path projectPath = projectPath();
       ProjectConfig projectConfig = configurationPort.readConfiguration(projectPath)
           .orElseThrow(() -> new IllegalArgumentException(".cleanarch.yml not found"));
 
@@ -277,17 +291,17 @@ public class GenerateOutputAdapterTask extends DefaultTask {
    */
   private TemplateRepository createTemplateRepository() {
     // Try to find templates in project directory first (for development)
-    Path projectDir = getProject().getProjectDir().toPath();
+    Path projectDir = projectPath();
     Path localTemplates = projectDir
         .resolve("../../backend-architecture-design-archetype-generator-templates/templates").normalize();
 
     if (java.nio.file.Files.exists(localTemplates)) {
       getLogger().info("Using local templates from: {}", localTemplates.toAbsolutePath());
-      return new FreemarkerTemplateRepository(localTemplates);
+      return templateRepositories().local(localTemplates);
     }
 
     // Fall back to embedded templates (in JAR)
     getLogger().info("Using embedded templates");
-    return new FreemarkerTemplateRepository("embedded");
+    return templateRepositories().fromUrl("embedded");
   }
 }
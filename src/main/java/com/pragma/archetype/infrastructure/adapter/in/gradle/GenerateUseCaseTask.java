@@ -4,7 +4,6 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.gradle.api.DefaultTask;
 import org.gradle.api.tasks.Input;
 import org.gradle.api.tasks.Optional;
 import org.gradle.api.tasks.TaskAction;
@@ -24,8 +23,7 @@ import com.pragma.archetype.domain.port.out.TemplateRepository;
 import com.pragma.archetype.domain.service.ConfigurationValidator;
 import com.pragma.archetype.domain.service.UseCaseValidator;
 import com.pragma.archetype.infrastructure.adapter.out.config.YamlConfigurationAdapter;
-import com.pragma.archetype.infrastructure.adapter.out.filesystem.LocalFileSystemAdapter;
-import com.pragma.archetype.infrastructure.adapter.out.template.FreemarkerTemplateRepository;
+import com.pragma.archetype.infrastructure.adapter.out.template.RecordingTemplateRepository;
 
 /**
  * Gradle task for generating use cases.
@@ -35,13 +33,14 @@ import com.pragma.archetype.infrastructure.adapter.out.template.FreemarkerTempla
  * --methods=execute:User:userId:String,userData:UserData
  * --packageName=com.pragma.domain.port.in
  */
-public class GenerateUseCaseTask extends DefaultTask {
+public class GenerateUseCaseTask extends TemplateTask {
 
   private String useCaseName = "";
   private String methods = "";
   private String packageName = "";
   private boolean generatePort = true;
   private boolean generateImpl = true;
+  private boolean dryRun = false;
 
   @Option(option = "name", description = "Use case name (e.g., CreateUser, GetProduct)")
   public void setUseCaseName(String useCaseName) {
@@ -94,15 +93,26 @@ public class GenerateUseCaseTask extends DefaultTask {
     return generateImpl;
   }
 
+  @Option(option = "dryRun", description = "Preview the files that would be written without touching the project")
+  public void setDryRun(boolean dryRun) {
+    this.dryRun = dryRun;
+  }
+
+  @Input
+  public boolean getDryRun() {
+    return dryRun;
+  }
+
   @TaskAction
   public void generateUseCase() {
     getLogger().lifecycle("Generating use case: {}", useCaseName);
 
     try {
       // 1. Validate project configuration exists
-      Path projectPath = getProject().getProjectDir().toPath();
-      FileSystemPort fileSystemPort = new LocalFileSystemAdapter();
-      ConfigurationPort configurationPort = new YamlConfigurationAdapter();
+      Path projectPath = projectPath();
+      TaskFileSystem taskFileSystem = TaskFileSystem.create(dryRun);
+      FileSystemPort fileSystemPort = taskFileSystem.port();
+      ConfigurationPort configurationPort = taskFileSystem.configurationAdapter(fileSystemPort);
 
       ConfigurationValidator configValidator = new ConfigurationValidator(fileSystemPort, configurationPort);
       ValidationResult configValidation = configValidator.validateProjectConfig(projectPath);
@@ -136,7 +146,7 @@ public class GenerateUseCaseTask extends DefaultTask {
           .build();
 
       // 6. Setup dependencies (reuse instances from validation)
-      TemplateRepository templateRepository = createTemplateRepository();
+      RecordingTemplateRepository templateRepository = new RecordingTemplateRepository(createTemplateRepository());
 
       // 7. Setup use case
       com.pragma.archetype.domain.service.PackageValidator packageValidator = new com.pragma.archetype.domain.service.PackageValidator();
@@ -146,7 +156,8 @@ public class GenerateUseCaseTask extends DefaultTask {
           validator,
           generator,
           configurationPort,
-          fileSystemPort);
+          fileSystemPort,
+          TaskPlanLogger.executor(1, getLogger(), dryRun));
 
       // 8. Execute use case
       GenerationResult result = useCase.execute(projectPath, config);
@@ -155,6 +166,8 @@ public class GenerateUseCaseTask extends DefaultTask {
       if (result.success()) {
         getLogger().lifecycle("✓ Use case generated successfully!");
         getLogger().lifecycle("  Generated {} file(s)", result.generatedFiles().size());
+        taskFileSystem.recordManifest(projectPath, templateRepository, result.generatedFiles());
+        taskFileSystem.report(getLogger());
         result.generatedFiles().forEach(file -> getLogger().lifecycle("    - {}", file.path()));
       } else {
         getLogger().error("✗ Failed to generate use case:");
@@ -195,7 +208,7 @@ public class GenerateUseCaseTask extends DefaultTask {
     // Otherwise, read from .cleanarch.yml
     try {
       ConfigurationPort configurationPort = new YamlConfigurationAdapter();
-      Path projectPath = getProject().getProjectDir().toPath();
+      Path projectPath = projectPath();
       ProjectConfig projectConfig = configurationPort.readConfiguration(projectPath)
           .orElseThrow(() -> new IllegalArgumentException(".cleanarch.yml not found"));
 
@@ -264,17 +277,17 @@ public class GenerateUseCaseTask extends DefaultTask {
    */
   private TemplateRepository createTemplateRepository() {
     // Try to find templates in project directory first (for development)
-    Path projectDir = getProject().getProjectDir().toPath();
+    Path projectDir = projectPath();
     Path localTemplates = projectDir
         .resolve("../../backend-architecture-design-archetype-generator-templates/templates").normalize();
 
     if (java.nio.file.Files.exists(localTemplates)) {
       getLogger().info("Using local templates from: {}", localTemplates.toAbsolutePath());
-      return new FreemarkerTemplateRepository(localTemplates);
+      return templateRepositories().local(localTemplates);
     }
 
     // Fall back to embedded templates (in JAR)
     getLogger().info("Using embedded templates");
-    return new FreemarkerTemplateRepository("embedded");
+    return templateRepositories().fromUrl("embedded");
   }
 }
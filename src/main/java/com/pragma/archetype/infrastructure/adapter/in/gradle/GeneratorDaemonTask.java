@@ -0,0 +1,62 @@
+package com.pragma.archetype.infrastructure.adapter.in.gradle;
+
+import java.nio.file.Path;
+
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.Optional;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.api.tasks.options.Option;
+
+import com.pragma.archetype.infrastructure.adapter.in.daemon.GeneratorDaemon;
+import com.pragma.archetype.infrastructure.adapter.in.daemon.GeneratorRequestHandler;
+
+/**
+ * Gradle task that runs the generator daemon until it is asked to shut down
+ * or the build is cancelled.
+ * IDE tooling starts it once and then sends generation requests over the
+ * socket instead of running a build per generation. The daemon uses this
+ * build's template repositories, so templates stay compiled between
+ * requests.
+ *
+ * Usage:
+ * ./gradlew generatorDaemon
+ * ./gradlew generatorDaemon --socket=/tmp/cleanarch.sock
+ */
+public class GeneratorDaemonTask extends TemplateTask {
+
+  private String socket = "";
+
+  @Option(option = "socket", description = "Unix-domain socket to listen on (default: ~/.cleanarch/generator.sock)")
+  public void setSocket(String socket) {
+    this.socket = socket;
+  }
+
+  @Input
+  @Optional
+  public String getSocket() {
+    return socket;
+  }
+
+  @TaskAction
+  public void runDaemon() {
+    Path socketPath = socket == null || socket.isBlank()
+        ? GeneratorDaemon.defaultSocketPath()
+        : projectPath().resolve(socket);
+
+    try (GeneratorDaemon daemon = new GeneratorDaemon(socketPath,
+        new GeneratorRequestHandler(templateRepositories()))) {
+      daemon.start();
+      getLogger().lifecycle("✓ Generator daemon listening on {}", daemon.socketPath());
+      getLogger().lifecycle("  Send {\"operation\": \"shutdown\"} or cancel the build to stop it");
+      daemon.awaitTermination();
+      getLogger().lifecycle("Generator daemon stopped");
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      getLogger().lifecycle("Generator daemon stopped");
+    } catch (Exception e) {
+      getLogger().error("✗ Error running generator daemon: {}", e.getMessage());
+      throw new RuntimeException("Generator daemon failed", e);
+    }
+  }
+}
@@ -3,7 +3,6 @@ package com.pragma.archetype.infrastructure.adapter.in.gradle;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
-import org.gradle.api.DefaultTask;
 import org.gradle.api.tasks.Input;
 import org.gradle.api.tasks.TaskAction;
 import org.gradle.api.tasks.options.Option;
@@ -21,19 +20,24 @@ import com.pragma.archetype.domain.port.out.FileSystemPort;
 import com.pragma.archetype.domain.port.out.TemplateRepository;
 import com.pragma.archetype.domain.service.ProjectValidator;
 import com.pragma.archetype.infrastructure.adapter.out.config.YamlConfigurationAdapter;
-import com.pragma.archetype.infrastructure.adapter.out.filesystem.LocalFileSystemAdapter;
-import com.pragma.archetype.infrastructure.adapter.out.template.FreemarkerTemplateRepository;
+import com.pragma.archetype.infrastructure.adapter.out.template.RecordingTemplateRepository;
 
 /**
  * Gradle task for initializing a clean architecture project.
  * This is an input adapter that drives the use case.
  */
-public class InitCleanArchTask extends DefaultTask {
+public class InitCleanArchTask extends TemplateTask {
 
   private String architecture = "hexagonal-single";
   private String paradigm = "reactive";
   private String framework = "spring";
   private String packageName;
+  private boolean dryRun = false;
+
+  // Captured at configuration time; the task action must not touch the Project
+  private final String projectName = getProject().getName();
+  // Modules are rendered in parallel within Gradle's --max-workers limit
+  private final int maxWorkers = getProject().getGradle().getStartParameter().getMaxWorkerCount();
 
   @Option(option = "architecture", description = "Architecture type (hexagonal-single, hexagonal-multi, onion-single, etc.)")
   public void setArchitecture(String architecture) {
@@ -75,6 +79,16 @@ public class InitCleanArchTask extends DefaultTask {
     return packageName;
   }
 
+  @Option(option = "dryRun", description = "Preview the files that would be written without touching the project")
+  public void setDryRun(boolean dryRun) {
+    this.dryRun = dryRun;
+  }
+
+  @Input
+  public boolean getDryRun() {
+    return dryRun;
+  }
+
   @TaskAction
   public void initializeProject() {
     getLogger().lifecycle("Initializing clean architecture project...");
@@ -87,26 +101,30 @@ public class InitCleanArchTask extends DefaultTask {
       ProjectConfig config = createProjectConfig();
 
       // 3. Setup dependencies (adapters)
-      FileSystemPort fileSystemPort = new LocalFileSystemAdapter();
-      ConfigurationPort configurationPort = new YamlConfigurationAdapter();
-      TemplateRepository templateRepository = createTemplateRepository();
+      TaskFileSystem taskFileSystem = TaskFileSystem.create(dryRun);
+      FileSystemPort fileSystemPort = taskFileSystem.port();
+      ConfigurationPort configurationPort = taskFileSystem.configurationAdapter(fileSystemPort);
+      RecordingTemplateRepository templateRepository = new RecordingTemplateRepository(createTemplateRepository());
 
       // 4. Setup use case
       ProjectValidator validator = new ProjectValidator(fileSystemPort, configurationPort);
-      ProjectGenerator generator = new ProjectGenerator(templateRepository, fileSystemPort);
+      ProjectGenerator generator = new ProjectGenerator(templateRepository, fileSystemPort, maxWorkers);
       InitializeProjectUseCaseImpl useCase = new InitializeProjectUseCaseImpl(
           validator,
           generator,
-          configurationPort);
+          configurationPort,
+          TaskPlanLogger.executor(1, getLogger(), dryRun));
 
       // 5. Execute use case
-      Path projectPath = getProject().getProjectDir().toPath();
+      Path projectPath = projectPath();
       InitializationResult result = useCase.execute(projectPath, config);
 
       // 6. Handle result
       if (result.isSuccess()) {
         getLogger().lifecycle("✓ Project initialized successfully!");
         getLogger().lifecycle("  Generated {} files", result.generatedFiles().size());
+        taskFileSystem.recordManifest(projectPath, templateRepository, result.generatedFiles());
+        taskFileSystem.report(getLogger());
         getLogger().lifecycle("  Architecture: {}", architecture);
         getLogger().lifecycle("  Paradigm: {}", paradigm);
         getLogger().lifecycle("  Framework: {}", framework);
@@ -166,7 +184,6 @@ public class InitCleanArchTask extends DefaultTask {
    * Creates project configuration from task inputs.
    */
   private ProjectConfig createProjectConfig() {
-    String projectName = getProject().getName();
     ArchitectureType archType = ArchitectureType.valueOf(architecture.toUpperCase().replace('-', '_'));
 
     // Automatically enable adaptersAsModules for hexagonal-multi-granular
@@ -189,7 +206,7 @@ public class InitCleanArchTask extends DefaultTask {
    * Falls back to local development path if available.
    */
   private TemplateRepository createTemplateRepository() {
-    Path projectDir = getProject().getProjectDir().toPath();
+    Path projectDir = projectPath();
     YamlConfigurationAdapter configAdapter = new YamlConfigurationAdapter();
 
     // 1. Check for .cleanarch.yml configuration (highest priority)
@@ -200,7 +217,7 @@ public class InitCleanArchTask extends DefaultTask {
         Path localPath = Path.of(templateConfig.localPath());
         if (Files.exists(localPath)) {
           getLogger().lifecycle("✓ Using local templates from .cleanarch.yml: {}", localPath.toAbsolutePath());
-          return new FreemarkerTemplateRepository(localPath);
+          return templateRepositories().local(localPath);
         } else {
           getLogger().error("✗ Template localPath in .cleanarch.yml does not exist: {}", localPath);
           throw new RuntimeException("Template path not found: " + localPath);
@@ -217,11 +234,11 @@ public class InitCleanArchTask extends DefaultTask {
       getLogger().lifecycle("✓ Auto-detected local templates (development mode): {}", autoDetectPath.toAbsolutePath());
       getLogger()
           .lifecycle("  Tip: Configure templates.localPath in .cleanarch.yml for explicit control");
-      return new FreemarkerTemplateRepository(autoDetectPath);
+      return templateRepositories().local(autoDetectPath);
     }
 
     // 3. Fall back to embedded templates (in JAR) - production mode
     getLogger().lifecycle("✓ Using embedded templates from plugin JAR (production mode)");
-    return new FreemarkerTemplateRepository("embedded");
+    return templateRepositories().fromUrl("embedded");
   }
 }
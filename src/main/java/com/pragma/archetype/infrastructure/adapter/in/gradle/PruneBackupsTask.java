@@ -0,0 +1,90 @@
+package com.pragma.archetype.infrastructure.adapter.in.gradle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.api.tasks.options.Option;
+
+import com.pragma.archetype.domain.model.backup.BackupRetentionPolicy;
+import com.pragma.archetype.domain.model.backup.PruneResult;
+import com.pragma.archetype.domain.service.BackupService;
+import com.pragma.archetype.infrastructure.adapter.out.filesystem.LocalFileSystemAdapter;
+
+/**
+ * Gradle task to delete old generation backups under .cleanarch/backups,
+ * including backups kept after a failed restore.
+ *
+ * Usage:
+ * ./gradlew pruneBackups --keep=10 --maxAgeDays=30 --maxSizeMb=100
+ */
+public class PruneBackupsTask extends CleanArchTask {
+
+  private int keep = 10;
+  private int maxAgeDays = 30;
+  private int maxSizeMb = 0;
+
+  @Option(option = "keep", description = "Number of newest backups to keep, 0 for no limit (default: 10)")
+  public void setKeep(String keep) {
+    this.keep = Integer.parseInt(keep);
+  }
+
+  @Input
+  public int getKeep() {
+    return keep;
+  }
+
+  @Option(option = "maxAgeDays", description = "Delete backups older than this many days, 0 for no limit (default: 30)")
+  public void setMaxAgeDays(String maxAgeDays) {
+    this.maxAgeDays = Integer.parseInt(maxAgeDays);
+  }
+
+  @Input
+  public int getMaxAgeDays() {
+    return maxAgeDays;
+  }
+
+  @Option(option = "maxSizeMb", description = "Maximum total size of kept backups in MB, 0 for no limit (default: 0)")
+  public void setMaxSizeMb(String maxSizeMb) {
+    this.maxSizeMb = Integer.parseInt(maxSizeMb);
+  }
+
+  @Input
+  public int getMaxSizeMb() {
+    return maxSizeMb;
+  }
+
+  @TaskAction
+  public void pruneBackups() {
+    getLogger().lifecycle("Pruning backups...");
+
+    Path projectPath = projectPath();
+    BackupRetentionPolicy policy = new BackupRetentionPolicy(
+        keep,
+        maxAgeDays > 0 ? Duration.ofDays(maxAgeDays) : null,
+        maxSizeMb * 1024L * 1024L);
+
+    BackupService backupService = new BackupService(new LocalFileSystemAdapter());
+    PruneResult result = backupService.pruneBackups(projectPath, policy);
+
+    getLogger().lifecycle("✓ Deleted {} backup(s) and {} unreferenced blob(s)",
+        result.deletedBackups().size(), result.deletedBlobs());
+    result.deletedBackups().forEach(backupId -> getLogger().lifecycle("    - {}", backupId));
+    getLogger().lifecycle("  Freed: {}", formatBytes(result.freedBytes()));
+    getLogger().lifecycle("  Remaining: {} backup(s)", backupService.listBackups(projectPath).size());
+  }
+
+  /**
+   * Formats bytes to human-readable format.
+   */
+  private String formatBytes(long bytes) {
+    if (bytes < 1024) {
+      return bytes + " B";
+    } else if (bytes < 1024 * 1024) {
+      return String.format("%.2f KB", bytes / 1024.0);
+    } else {
+      return String.format("%.2f MB", bytes / (1024.0 * 1024.0));
+    }
+  }
+}
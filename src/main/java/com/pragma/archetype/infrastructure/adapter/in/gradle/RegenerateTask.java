@@ -0,0 +1,113 @@
+package com.pragma.archetype.infrastructure.adapter.in.gradle;
+
+import java.nio.file.Path;
+
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.api.tasks.options.Option;
+
+import com.pragma.archetype.application.usecase.RegenerateUseCaseImpl;
+import com.pragma.archetype.domain.model.manifest.GenerationManifest;
+import com.pragma.archetype.domain.port.in.RegenerateUseCase;
+import com.pragma.archetype.domain.port.in.RegenerateUseCase.RegenerationResult;
+import com.pragma.archetype.domain.port.out.FileSystemPort;
+import com.pragma.archetype.domain.port.out.TemplateRepository;
+import com.pragma.archetype.infrastructure.adapter.out.config.YamlGenerationManifestAdapter;
+import com.pragma.archetype.infrastructure.config.CleanArchPlugin;
+
+/**
+ * Gradle task to re-render generated files recorded in
+ * .cleanarch/manifest.yml after a template or plugin upgrade.
+ * Only files whose template or plugin version changed are rendered again;
+ * files edited since they were generated are reported and left alone.
+ *
+ * Usage:
+ * ./gradlew regenerate
+ * ./gradlew regenerate --force --dryRun
+ */
+public class RegenerateTask extends TemplateTask {
+
+  private boolean force = false;
+  private boolean dryRun = false;
+
+  @Option(option = "force", description = "Re-render every unmodified file, even if its inputs did not change")
+  public void setForce(boolean force) {
+    this.force = force;
+  }
+
+  @Input
+  public boolean getForce() {
+    return force;
+  }
+
+  @Option(option = "dryRun", description = "Preview the files that would be written without touching the project")
+  public void setDryRun(boolean dryRun) {
+    this.dryRun = dryRun;
+  }
+
+  @Input
+  public boolean getDryRun() {
+    return dryRun;
+  }
+
+  @TaskAction
+  public void regenerate() {
+    getLogger().lifecycle("Regenerating files from {}...", GenerationManifest.FILE_NAME);
+
+    try {
+      // 1. Setup dependencies
+      Path projectPath = projectPath();
+      TaskFileSystem taskFileSystem = TaskFileSystem.create(dryRun);
+      FileSystemPort fileSystemPort = taskFileSystem.transactionalPort(projectPath);
+      RegenerateUseCase useCase = new RegenerateUseCaseImpl(
+          createTemplateRepository(),
+          fileSystemPort,
+          new YamlGenerationManifestAdapter(fileSystemPort));
+
+      // 2. Execute use case
+      RegenerationResult result = useCase.execute(projectPath, CleanArchPlugin.version(), force);
+
+      // 3. Handle result
+      getLogger().lifecycle("✓ Regenerated {} file(s), {} up to date", result.regenerated().size(),
+          result.upToDate());
+      result.regenerated().forEach(file -> getLogger().lifecycle("    - {}", file));
+      taskFileSystem.report(getLogger());
+
+      if (!result.userModified().isEmpty()) {
+        getLogger().warn("  Skipped {} file(s) modified since generation:", result.userModified().size());
+        result.userModified().forEach(file -> getLogger().warn("    - {}", file));
+      }
+      if (!result.missing().isEmpty()) {
+        getLogger().lifecycle("  Skipped {} deleted file(s)", result.missing().size());
+      }
+      if (!result.success()) {
+        getLogger().error("✗ Failed to regenerate {} file(s):", result.errors().size());
+        result.errors().forEach(error -> getLogger().error("  - {}", error));
+        throw new RuntimeException("Regeneration failed");
+      }
+
+    } catch (Exception e) {
+      getLogger().error("✗ Error regenerating files: {}", e.getMessage());
+      throw new RuntimeException("Regeneration failed", e);
+    }
+  }
+
+  /**
+   * Creates template repository.
+   */
+  private TemplateRepository createTemplateRepository() {
+    // Try to find templates in project directory first (for development)
+    Path projectDir = projectPath();
+    Path localTemplates = projectDir
+        .resolve("../../backend-architecture-design-archetype-generator-templates/templates").normalize();
+
+    if (java.nio.file.Files.exists(localTemplates)) {
+      getLogger().info("Using local templates from: {}", localTemplates.toAbsolutePath());
+      return templateRepositories().local(localTemplates);
+    }
+
+    // Fall back to embedded templates (in JAR)
+    getLogger().info("Using embedded templates");
+    return templateRepositories().fromUrl("embedded");
+  }
+}
@@ -0,0 +1,106 @@
+package com.pragma.archetype.infrastructure.adapter.in.gradle;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.gradle.api.logging.Logger;
+
+import com.pragma.archetype.domain.model.file.GeneratedFile;
+import com.pragma.archetype.domain.model.manifest.GenerationManifest;
+import com.pragma.archetype.domain.port.out.FileSystemPort;
+import com.pragma.archetype.domain.port.out.GenerationManifestPort;
+import com.pragma.archetype.infrastructure.adapter.out.config.YamlConfigurationAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.config.YamlGenerationManifestAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.filesystem.InMemoryFileSystemAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.filesystem.JournalingFileSystemAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.filesystem.LocalFileSystemAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.filesystem.TransactionalFileSystemAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.template.RecordingTemplateRepository;
+import com.pragma.archetype.infrastructure.config.CleanArchPlugin;
+
+/**
+ * File system used by the generate tasks.
+ * Normally this is the project on disk. In a dry run it is an in-memory
+ * overlay of the project: generation reads the real files, but every write,
+ * including configuration updates, stays in memory and is only reported.
+ */
+final class TaskFileSystem {
+
+  private final LocalFileSystemAdapter local;
+  private final InMemoryFileSystemAdapter preview;
+  private TransactionalFileSystemAdapter transactional;
+
+  private TaskFileSystem(boolean dryRun) {
+    this.local = new LocalFileSystemAdapter();
+    this.preview = dryRun ? new InMemoryFileSystemAdapter(local) : null;
+  }
+
+  static TaskFileSystem create(boolean dryRun) {
+    return new TaskFileSystem(dryRun);
+  }
+
+  boolean isDryRun() {
+    return preview != null;
+  }
+
+  /**
+   * Gets the port that writes generated files.
+   */
+  FileSystemPort port() {
+    return isDryRun() ? preview : local;
+  }
+
+  /**
+   * Gets a port that journals build file edits and commits all writes as one
+   * transaction. A dry run never reaches the disk, so it needs no staging.
+   */
+  FileSystemPort transactionalPort(Path projectPath) {
+    if (isDryRun()) {
+      return new JournalingFileSystemAdapter(preview);
+    }
+    transactional = new TransactionalFileSystemAdapter(local, projectPath);
+    return new JournalingFileSystemAdapter(transactional);
+  }
+
+  /**
+   * Creates the configuration adapter. In a dry run it writes through the
+   * given port so configuration changes are previewed too.
+   */
+  YamlConfigurationAdapter configurationAdapter(FileSystemPort port) {
+    return isDryRun() ? new YamlConfigurationAdapter(port) : new YamlConfigurationAdapter();
+  }
+
+  /**
+   * Records the generated files that came straight from a template in the
+   * project's generation manifest, so regenerate can update them later.
+   * Runs after generation succeeded; in a dry run the manifest is only
+   * previewed.
+   */
+  void recordManifest(Path projectPath, RecordingTemplateRepository renders, List<GeneratedFile> files) {
+    GenerationManifestPort manifestPort = new YamlGenerationManifestAdapter(port());
+    GenerationManifest manifest = manifestPort.read(projectPath);
+    renders.manifestEntries(projectPath, files, CleanArchPlugin.version()).forEach(manifest::put);
+    manifestPort.write(projectPath, manifest);
+  }
+
+  /**
+   * Logs what was written, or in a dry run what would have been written.
+   */
+  void report(Logger logger) {
+    if (!isDryRun()) {
+      int written = transactional != null ? transactional.getWrittenCount() : local.getWrittenCount();
+      int skipped = transactional != null ? transactional.getSkippedCount() : local.getSkippedCount();
+      logger.lifecycle("  Written: {}, unchanged: {}", written, skipped);
+      return;
+    }
+
+    logger.lifecycle("  Dry run, no files were written. Would write {} file(s):", preview.writtenFiles().size());
+    for (Path file : preview.writtenFiles()) {
+      String status = !local.exists(file) ? "create" : preview.isChanged(file) ? "update" : "unchanged";
+      logger.lifecycle("    {} {} ({} bytes)", status, file, preview.writtenContent(file).length);
+    }
+    for (Path file : preview.deletedFiles()) {
+      logger.lifecycle("    delete {}", file);
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package com.pragma.archetype.infrastructure.adapter.in.gradle;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.gradle.api.logging.LogLevel;
+import org.gradle.api.logging.Logger;
+
+import com.pragma.archetype.application.plan.GenerationPlan;
+import com.pragma.archetype.application.plan.PlanExecution;
+import com.pragma.archetype.application.plan.PlanExecutor;
+
+/**
+ * Logs the generation plans of a task and how long their steps took.
+ * A dry run prints them so users see what generation would do; otherwise
+ * they are only shown with --info.
+ */
+final class TaskPlanLogger implements PlanExecutor.Listener {
+
+  private final Logger logger;
+  private final LogLevel level;
+
+  TaskPlanLogger(Logger logger, boolean dryRun) {
+    this.logger = logger;
+    this.level = dryRun ? LogLevel.LIFECYCLE : LogLevel.INFO;
+  }
+
+  /**
+   * Creates a plan executor reporting to this task's logger.
+   */
+  static PlanExecutor executor(int parallelism, Logger logger, boolean dryRun) {
+    return new PlanExecutor(parallelism, new TaskPlanLogger(logger, dryRun));
+  }
+
+  @Override
+  public void planned(GenerationPlan plan) {
+    logger.log(level, "  Plan for {} ({} step(s)):", plan.name(), plan.size());
+    plan.describe().forEach(line -> logger.log(level, "    {}", line));
+  }
+
+  @Override
+  public void completed(PlanExecution execution) {
+    logger.log(level, "  {} took {} ms", execution.plan().name(), execution.elapsed().toMillis());
+    for (Map.Entry<String, Duration> timing : execution.timings().entrySet()) {
+      logger.log(level, "    {} {} ms", timing.getKey(), timing.getValue().toMillis());
+    }
+    if (!execution.skipped().isEmpty()) {
+      logger.log(level, "    skipped after failure: {}", String.join(", ", execution.skipped()));
+    }
+  }
+}
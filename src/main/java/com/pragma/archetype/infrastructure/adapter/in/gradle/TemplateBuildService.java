@@ -0,0 +1,46 @@
+package com.pragma.archetype.infrastructure.adapter.in.gradle;
+
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+import com.pragma.archetype.infrastructure.adapter.out.template.TemplateRepositoryRegistry;
+
+/**
+ * Shared build service that owns the template repositories, with their parsed
+ * templates and metadata, and the HTTP client used for remote templates.
+ * Registered once by the plugin, so every task in a build loads templates
+ * through the same instances.
+ *
+ * The registry itself lives as long as the plugin classes, which the Gradle
+ * daemon keeps between builds while the plugin classpath is unchanged.
+ * Repositories are keyed by their template source, so a build with the same
+ * configuration reuses the previous build's repositories, and a changed
+ * configuration gets new ones. Only the sources the previous build requested
+ * are kept, and Gradle closes the service at the end of each build, which
+ * shuts down the HTTP client.
+ */
+public abstract class TemplateBuildService implements BuildService<BuildServiceParameters.None>, AutoCloseable {
+
+  public static final String NAME = "cleanArchTemplates";
+
+  private static final TemplateRepositoryRegistry REGISTRY = new TemplateRepositoryRegistry();
+
+  public TemplateBuildService() {
+    // A new build may follow template edits Freemarker's include cache did not see
+    REGISTRY.refresh();
+  }
+
+  /**
+   * Gets the registry of shared template repositories.
+   *
+   * @return registry shared by all tasks
+   */
+  public TemplateRepositoryRegistry repositories() {
+    return REGISTRY;
+  }
+
+  @Override
+  public void close() {
+    REGISTRY.close();
+  }
+}
@@ -0,0 +1,37 @@
+package com.pragma.archetype.infrastructure.adapter.in.gradle;
+
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.Internal;
+
+import com.pragma.archetype.infrastructure.adapter.out.template.TemplateRepositoryRegistry;
+
+/**
+ * Base class for tasks that load templates.
+ * Templates come from the build's {@link TemplateBuildService} when the plugin
+ * wired one in; a task created without the plugin gets its own repositories.
+ */
+public abstract class TemplateTask extends CleanArchTask {
+
+  private final Property<TemplateBuildService> templateService = getProject().getObjects()
+      .property(TemplateBuildService.class);
+
+  /**
+   * Gets the shared template service.
+   *
+   * @return service property, set by the plugin
+   */
+  @Internal
+  public Property<TemplateBuildService> getTemplateService() {
+    return templateService;
+  }
+
+  /**
+   * Gets the registry to take template repositories from.
+   *
+   * @return the shared registry, or a new one if no service is set
+   */
+  protected TemplateRepositoryRegistry templateRepositories() {
+    TemplateBuildService service = templateService.getOrNull();
+    return service != null ? service.repositories() : new TemplateRepositoryRegistry();
+  }
+}
@@ -1,8 +1,6 @@
 package com.pragma.archetype.infrastructure.adapter.in.gradle;
 
-import java.nio.file.Paths;
 
-import org.gradle.api.DefaultTask;
 import org.gradle.api.tasks.TaskAction;
 
 import com.pragma.archetype.domain.model.config.TemplateConfig;
@@ -13,7 +11,7 @@ import com.pragma.archetype.infrastructure.adapter.out.template.TemplateCache;
  * Gradle task to update (re-download) templates from repository.
  * Usage: ./gradlew updateTemplates
  */
-public class UpdateTemplatesTask extends DefaultTask {
+public class UpdateTemplatesTask extends CleanArchTask {
 
   public UpdateTemplatesTask() {
     setGroup("Clean Architecture");
@@ -27,7 +25,7 @@ public class UpdateTemplatesTask extends DefaultTask {
     // Read template configuration
     YamlConfigurationAdapter configAdapter = new YamlConfigurationAdapter();
     TemplateConfig templateConfig = configAdapter.readTemplateConfiguration(
-        Paths.get(getProject().getProjectDir().getAbsolutePath()));
+        projectPath().toAbsolutePath());
 
     getLogger().lifecycle("Template configuration:");
     getLogger().lifecycle("  Mode: {}", templateConfig.mode());
@@ -1,20 +1,37 @@
 package com.pragma.archetype.infrastructure.adapter.in.gradle;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
-import org.gradle.api.DefaultTask;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.IgnoreEmptyDirectories;
 import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
 import org.gradle.api.tasks.Optional;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
 import org.gradle.api.tasks.TaskAction;
 import org.gradle.api.tasks.options.Option;
 
 import com.pragma.archetype.application.usecase.ValidateTemplateUseCaseImpl;
+import com.pragma.archetype.domain.model.config.TemplateConfig;
 import com.pragma.archetype.domain.model.validation.ValidationResult;
 import com.pragma.archetype.domain.port.in.ValidateTemplateUseCase;
 import com.pragma.archetype.domain.port.out.TemplateRepository;
 import com.pragma.archetype.domain.service.TemplateValidator;
-import com.pragma.archetype.infrastructure.adapter.out.template.FreemarkerTemplateRepository;
+import com.pragma.archetype.infrastructure.adapter.out.config.YamlConfigurationAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.template.TemplateSourceResolver;
+import com.pragma.archetype.infrastructure.adapter.out.template.TemplateSourceResolver.TemplateSourceException;
 
 /**
  * Gradle task for validating templates.
@@ -25,12 +42,34 @@ import com.pragma.archetype.infrastructure.adapter.out.template.FreemarkerTempla
  * ./gradlew validateTemplates --architecture=hexagonal-single # Validate
  * specific architecture
  * ./gradlew validateTemplates --adapter=mongodb # Validate specific adapter
+ *
+ * The resolved templates are the task inputs and a validation report is its
+ * output, so unchanged local templates, or remote templates pinned to a
+ * version, are not validated again and the result can come from the build
+ * cache. Remote templates that follow a branch are always validated, since
+ * the branch may have moved.
  */
-public class ValidateTemplatesTask extends DefaultTask {
+@CacheableTask
+public class ValidateTemplatesTask extends TemplateTask {
+
+  private static final String DEFAULT_REPOSITORY = "https://github.com/somospragma/backend-architecture-design-archetype-generator-templates";
 
   private String architecture = "";
   private String adapter = "";
 
+  private final ConfigurableFileCollection configurationFile = getProject().getObjects().fileCollection()
+      .from(getProjectDirectory().file(".cleanarch.yml"));
+  private final ConfigurableFileCollection templateFiles = getProject().getObjects().fileCollection()
+      .from(getProject().provider(this::localTemplateFiles));
+  private final Provider<String> templateSource = getProject().provider(this::describeTemplateSource);
+  private final RegularFileProperty reportFile = getProject().getObjects().fileProperty()
+      .convention(getProject().getLayout().getBuildDirectory().file("reports/cleanarch/template-validation.txt"));
+
+  public ValidateTemplatesTask() {
+    getOutputs().upToDateWhen(task -> isPinned());
+    getOutputs().doNotCacheIf("Remote templates follow a branch that may have moved", task -> !isPinned());
+  }
+
   @Option(option = "architecture", description = "Architecture to validate (e.g., hexagonal-single, onion-single)")
   public void setArchitecture(String architecture) {
     this.architecture = architecture;
@@ -53,9 +92,54 @@ public class ValidateTemplatesTask extends DefaultTask {
     return adapter;
   }
 
+  /**
+   * Gets the project configuration, which selects the template source.
+   *
+   * @return the .cleanarch.yml file, if present
+   */
+  @InputFiles
+  @PathSensitive(PathSensitivity.NONE)
+  public ConfigurableFileCollection getConfigurationFile() {
+    return configurationFile;
+  }
+
+  /**
+   * Gets the templates when they are read from a local directory.
+   *
+   * @return local template files, empty for remote templates
+   */
+  @InputFiles
+  @IgnoreEmptyDirectories
+  @PathSensitive(PathSensitivity.RELATIVE)
+  public ConfigurableFileCollection getTemplateFiles() {
+    return templateFiles;
+  }
+
+  /**
+   * Gets where the templates come from: "local", or the remote repository and
+   * the branch or version it is read at.
+   *
+   * @return template source
+   */
+  @Input
+  public Provider<String> getTemplateSource() {
+    return templateSource;
+  }
+
+  /**
+   * Gets the validation report file.
+   *
+   * @return report file, build/reports/cleanarch/template-validation.txt by
+   *         default
+   */
+  @OutputFile
+  public RegularFileProperty getReportFile() {
+    return reportFile;
+  }
+
   @TaskAction
   public void validateTemplates() {
-    Path projectPath = Paths.get(getProject().getProjectDir().getAbsolutePath());
+    Path projectPath = projectPath().toAbsolutePath();
 
     try {
       // Setup dependencies
@@ -80,6 +164,8 @@ public class ValidateTemplatesTask extends DefaultTask {
         result = useCase.validateAll(projectPath);
       }
 
+      writeReport(result);
+
       // Display results
       if (result.valid()) {
         getLogger().lifecycle("✓ Template validation successful!");
@@ -123,26 +209,97 @@ public class ValidateTemplatesTask extends DefaultTask {
    * Uses the same logic as other tasks to determine template source.
    */
   private TemplateRepository createTemplateRepository() {
-    Path projectPath = Paths.get(getProject().getProjectDir().getAbsolutePath());
+    TemplateConfig templateConfig = readTemplateConfig();
+    if (templateConfig != null) {
+      return templateRepositories().configured(templateConfig);
+    }
 
-    // Try to read template configuration from .cleanarch.yml
-    try {
-      var configAdapter = new com.pragma.archetype.infrastructure.adapter.out.config.YamlConfigurationAdapter();
-      var configOpt = configAdapter.readConfiguration(projectPath);
+    // Fallback to default remote repository
+    getLogger().debug("Using default template repository: {}", DEFAULT_REPOSITORY);
+    return templateRepositories().fromUrl(DEFAULT_REPOSITORY);
+  }
 
-      if (configOpt.isPresent()) {
-        var templateConfig = configAdapter.readTemplateConfiguration(projectPath);
-        if (templateConfig != null) {
-          return new FreemarkerTemplateRepository(templateConfig);
-        }
+  /**
+   * Reads the template configuration from .cleanarch.yml.
+   *
+   * @return template configuration, or null if the project has none
+   */
+  private TemplateConfig readTemplateConfig() {
+    Path projectPath = projectPath().toAbsolutePath();
+
+    try {
+      var configAdapter = new YamlConfigurationAdapter();
+      if (configAdapter.readConfiguration(projectPath).isPresent()) {
+        return configAdapter.readTemplateConfiguration(projectPath);
       }
     } catch (Exception e) {
       getLogger().debug("Could not read template configuration: {}", e.getMessage());
     }
+    return null;
+  }
 
-    // Fallback to default remote repository
-    String defaultRepo = "https://github.com/somospragma/backend-architecture-design-archetype-generator-templates";
-    getLogger().debug("Using default template repository: {}", defaultRepo);
-    return new FreemarkerTemplateRepository(defaultRepo);
+  /**
+   * Resolves the local templates directory.
+   * Without configuration the repository reads the "templates" directory.
+   *
+   * @return local templates directory, or null for remote templates
+   */
+  private Path localTemplatesPath() {
+    TemplateConfig templateConfig = readTemplateConfig();
+    if (templateConfig == null) {
+      return Paths.get("templates").toAbsolutePath();
+    }
+
+    try {
+      TemplateSourceResolver resolver = new TemplateSourceResolver(templateConfig);
+      return resolver.isLocalMode() ? resolver.getLocalPath() : null;
+    } catch (TemplateSourceException e) {
+      // Reported by the task action
+      return null;
+    }
+  }
+
+  private List<Object> localTemplateFiles() {
+    Path templatesPath = localTemplatesPath();
+    return templatesPath != null ? List.of(templatesPath.toFile()) : List.of();
+  }
+
+  private String describeTemplateSource() {
+    if (localTemplatesPath() != null) {
+      return "local";
+    }
+    TemplateConfig templateConfig = readTemplateConfig();
+    return "remote " + templateConfig.repository() + "@" + templateConfig.getEffectiveBranch();
+  }
+
+  /**
+   * Checks whether the task inputs fully describe the templates: local
+   * templates are tracked file by file, remote ones only when pinned to a
+   * version.
+   */
+  private boolean isPinned() {
+    if (localTemplatesPath() != null) {
+      return true;
+    }
+    TemplateConfig templateConfig = readTemplateConfig();
+    return templateConfig != null && templateConfig.version() != null && !templateConfig.version().isBlank();
+  }
+
+  private void writeReport(ValidationResult result) {
+    List<String> lines = new ArrayList<>();
+    lines.add("source: " + templateSource.get());
+    lines.add("architecture: " + (architecture == null || architecture.isBlank() ? "all" : architecture));
+    lines.add("adapter: " + (adapter == null || adapter.isBlank() ? "-" : adapter));
+    lines.add("valid: " + result.valid());
+    result.errors().forEach(error -> lines.add("error: " + error));
+    result.warnings().forEach(warning -> lines.add("warning: " + warning));
+
+    Path report = reportFile.get().getAsFile().toPath();
+    try {
+      Files.createDirectories(report.getParent());
+      Files.write(report, lines, StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write validation report: " + report, e);
+    }
   }
 }
@@ -0,0 +1,127 @@
+package com.pragma.archetype.infrastructure.adapter.in.gradle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.api.tasks.options.Option;
+
+import com.pragma.archetype.domain.model.config.TemplateConfig;
+import com.pragma.archetype.domain.model.manifest.GenerationManifest;
+import com.pragma.archetype.domain.port.out.TemplateRepository;
+import com.pragma.archetype.infrastructure.adapter.out.config.YamlConfigurationAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.config.YamlGenerationManifestAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.filesystem.LocalFileSystemAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.template.TemplateSourceResolver;
+import com.pragma.archetype.infrastructure.adapter.out.template.TemplateWatcher;
+import com.pragma.archetype.infrastructure.adapter.out.template.TemplateWatcher.Cycle;
+
+/**
+ * Gradle task for template authors: watches the local templates and, after
+ * each edit, re-renders the project's generated files that depend on the
+ * edited templates into a scratch project.
+ * The files and their template contexts are taken from
+ * .cleanarch/manifest.yml, so generate the components to preview first. The
+ * project itself is never written.
+ *
+ * Usage:
+ * ./gradlew watchTemplates
+ * ./gradlew watchTemplates --scratch=build/preview --debounceMs=500
+ */
+public class WatchTemplatesTask extends TemplateTask {
+
+  private String scratch = "build/cleanarch-watch";
+  private long debounceMs = 200;
+  private int cycles = 0;
+
+  @Option(option = "scratch", description = "Scratch project to render into, relative to the project (default: build/cleanarch-watch)")
+  public void setScratch(String scratch) {
+    this.scratch = scratch;
+  }
+
+  @Input
+  public String getScratch() {
+    return scratch;
+  }
+
+  @Option(option = "debounceMs", description = "Quiet time in ms that ends a batch of template changes (default: 200)")
+  public void setDebounceMs(String debounceMs) {
+    this.debounceMs = Long.parseLong(debounceMs);
+  }
+
+  @Input
+  public long getDebounceMs() {
+    return debounceMs;
+  }
+
+  @Option(option = "cycles", description = "Stop after this many change cycles, 0 to watch until cancelled (default: 0)")
+  public void setCycles(String cycles) {
+    this.cycles = Integer.parseInt(cycles);
+  }
+
+  @Input
+  public int getCycles() {
+    return cycles;
+  }
+
+  @TaskAction
+  public void watchTemplates() {
+    Path projectPath = projectPath();
+
+    try {
+      // 1. Require local templates
+      YamlConfigurationAdapter configurationAdapter = new YamlConfigurationAdapter();
+      TemplateConfig templateConfig = configurationAdapter.readTemplateConfiguration(projectPath);
+      TemplateSourceResolver sourceResolver = new TemplateSourceResolver(templateConfig);
+      if (!sourceResolver.isLocalMode()) {
+        throw new IllegalStateException("watchTemplates needs local templates, but the project uses "
+            + sourceResolver.getSourceDescription()
+            + ". Set 'templates.localPath' or use developer mode in .cleanarch.yml");
+      }
+      Path templateRoot = sourceResolver.getLocalPath();
+
+      // 2. Read the generated files to preview
+      LocalFileSystemAdapter fileSystem = new LocalFileSystemAdapter();
+      GenerationManifest manifest = new YamlGenerationManifestAdapter(fileSystem).read(projectPath);
+      if (manifest.isEmpty()) {
+        throw new IllegalStateException("No generated files recorded in " + GenerationManifest.FILE_NAME
+            + ". Generate the components to preview first");
+      }
+
+      // 3. Render everything once
+      TemplateRepository templateRepository = templateRepositories().configured(templateConfig);
+      Path scratchPath = projectPath.resolve(scratch).normalize();
+      TemplateWatcher watcher = new TemplateWatcher(templateRoot, templateRepository, manifest, scratchPath,
+          fileSystem);
+      getLogger().lifecycle("Watching {}", sourceResolver.getSourceDescription());
+      getLogger().lifecycle("  Rendering {} file(s) into {}", manifest.size(), scratchPath);
+      report(watcher.renderAll());
+
+      // 4. Re-render on every change
+      getLogger().lifecycle("Waiting for template changes (cancel the build to stop)...");
+      watcher.watch(Duration.ofMillis(debounceMs), cycles, this::report);
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      getLogger().lifecycle("Stopped watching templates");
+    } catch (Exception e) {
+      getLogger().error("✗ Error watching templates: {}", e.getMessage());
+      throw new RuntimeException("Template watch failed", e);
+    }
+  }
+
+  /**
+   * Logs what a cycle recompiled and rendered, and how long it took.
+   */
+  private void report(Cycle cycle) {
+    if (!cycle.changed().isEmpty()) {
+      getLogger().lifecycle("Cycle {}: changed {}", cycle.number(), String.join(", ", cycle.changed()));
+    }
+    getLogger().lifecycle("  {} Cycle {}: {} template(s) recompiled, {} file(s) rendered in {} ms",
+        cycle.failures().isEmpty() ? "✓" : "✗", cycle.number(), cycle.affected().size(),
+        cycle.rendered().size(), cycle.elapsed().toMillis());
+    cycle.rendered().forEach(file -> getLogger().info("    - {}", file));
+    cycle.failures().forEach((file, error) -> getLogger().error("    ✗ {}: {}", file, error));
+  }
+}
@@ -0,0 +1,357 @@
+package com.pragma.archetype.infrastructure.adapter.out.config;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
+
+import com.pragma.archetype.domain.model.adapter.AdapterConfig;
+import com.pragma.archetype.domain.model.adapter.AdapterMethod;
+import com.pragma.archetype.domain.model.adapter.AdapterType;
+import com.pragma.archetype.domain.model.adapter.Endpoint;
+import com.pragma.archetype.domain.model.adapter.EndpointParameter;
+import com.pragma.archetype.domain.model.adapter.HttpMethod;
+import com.pragma.archetype.domain.model.adapter.InputAdapterConfig;
+import com.pragma.archetype.domain.model.adapter.InputAdapterType;
+import com.pragma.archetype.domain.model.adapter.MethodParameter;
+import com.pragma.archetype.domain.model.adapter.ParameterType;
+import com.pragma.archetype.domain.model.config.ProjectConfig;
+import com.pragma.archetype.domain.model.entity.EntityConfig;
+import com.pragma.archetype.domain.model.entity.EntityField;
+import com.pragma.archetype.domain.model.spec.GenerationSpec;
+import com.pragma.archetype.domain.model.usecase.UseCaseConfig;
+
+/**
+ * Reads a generation spec from a YAML or JSON file.
+ * JSON is read as YAML, of which it is a subset. Components without a package
+ * name get the same default as the single-component tasks; input adapters
+ * must name theirs.
+ *
+ * Example:
+ *
+ * <pre>
+ * entities:
+ *   - name: User
+ *     fields:
+ *       - { name: email, type: String }
+ *       - { name: nickname, type: String, nullable: true }
+ * useCases:
+ *   - name: CreateUser
+ *     methods:
+ *       - name: execute
+ *         returnType: User
+ *         parameters:
+ *           - { name: email, type: String }
+ * inputAdapters:
+ *   - name: User
+ *     useCase: CreateUserUseCase
+ *     type: rest
+ *     packageName: com.company.infrastructure.entrypoints.rest
+ *     endpoints:
+ *       - path: /users
+ *         method: POST
+ *         useCaseMethod: execute
+ *         returnType: User
+ *         parameters:
+ *           - { name: request, paramType: BODY, type: CreateUserRequest }
+ * outputAdapters:
+ *   - name: UserRepository
+ *     entity: User
+ *     type: mongodb
+ * </pre>
+ */
+public class GenerationSpecReader {
+
+  /**
+   * Exception thrown when a spec cannot be read or is malformed.
+   */
+  public static class SpecFormatException extends RuntimeException {
+    public SpecFormatException(String message) {
+      super(message);
+    }
+
+    public SpecFormatException(String message, Throwable cause) {
+      super(message, cause);
+    }
+  }
+
+  private static final Set<String> SECTIONS = Set.of("entities", "useCases", "inputAdapters", "outputAdapters");
+
+  private final Yaml yaml = new Yaml();
+
+  /**
+   * Reads a spec file.
+   *
+   * @param specFile      YAML or JSON spec file
+   * @param projectConfig project configuration, for default packages and the
+   *                      paradigm of use cases
+   * @return the spec
+   * @throws SpecFormatException if the file cannot be read or is malformed
+   */
+  public GenerationSpec read(Path specFile, ProjectConfig projectConfig) {
+    String content;
+    try {
+      content = Files.readString(specFile);
+    } catch (IOException e) {
+      throw new SpecFormatException("Failed to read spec file: " + specFile, e);
+    }
+    return parse(content, projectConfig);
+  }
+
+  /**
+   * Parses spec content.
+   *
+   * @param content       YAML or JSON content
+   * @param projectConfig project configuration
+   * @return the spec
+   * @throws SpecFormatException if the content is malformed
+   */
+  public GenerationSpec parse(String content, ProjectConfig projectConfig) {
+    Object loaded;
+    try {
+      loaded = yaml.load(content);
+    } catch (YAMLException e) {
+      throw new SpecFormatException("Invalid spec: " + e.getMessage(), e);
+    }
+    if (loaded == null) {
+      return new GenerationSpec(null, null, null, null);
+    }
+
+    Map<String, Object> root = map(loaded, "spec");
+    for (String section : root.keySet()) {
+      if (!SECTIONS.contains(section)) {
+        throw new SpecFormatException("Unknown spec section '" + section + "'. Valid sections: " + SECTIONS);
+      }
+    }
+
+    String basePackage = projectConfig.basePackage();
+
+    List<EntityConfig> entities = new ArrayList<>();
+    List<Map<String, Object>> entitySpecs = list(root, "entities", "spec");
+    for (int i = 0; i < entitySpecs.size(); i++) {
+      entities.add(parseEntity(entitySpecs.get(i), "entities[" + i + "]", basePackage));
+    }
+
+    List<UseCaseConfig> useCases = new ArrayList<>();
+    List<Map<String, Object>> useCaseSpecs = list(root, "useCases", "spec");
+    for (int i = 0; i < useCaseSpecs.size(); i++) {
+      useCases.add(parseUseCase(useCaseSpecs.get(i), "useCases[" + i + "]", projectConfig));
+    }
+
+    List<InputAdapterConfig> inputAdapters = new ArrayList<>();
+    List<Map<String, Object>> inputAdapterSpecs = list(root, "inputAdapters", "spec");
+    for (int i = 0; i < inputAdapterSpecs.size(); i++) {
+      inputAdapters.add(parseInputAdapter(inputAdapterSpecs.get(i), "inputAdapters[" + i + "]"));
+    }
+
+    List<AdapterConfig> outputAdapters = new ArrayList<>();
+    List<Map<String, Object>> outputAdapterSpecs = list(root, "outputAdapters", "spec");
+    for (int i = 0; i < outputAdapterSpecs.size(); i++) {
+      outputAdapters.add(parseOutputAdapter(outputAdapterSpecs.get(i), "outputAdapters[" + i + "]", basePackage));
+    }
+
+    return new GenerationSpec(entities, useCases, inputAdapters, outputAdapters);
+  }
+
+  private EntityConfig parseEntity(Map<String, Object> spec, String where, String basePackage) {
+    boolean hasId = bool(spec, "hasId", true);
+
+    List<EntityField> fields = new ArrayList<>();
+    List<Map<String, Object>> fieldSpecs = list(spec, "fields", where);
+    for (int i = 0; i < fieldSpecs.size(); i++) {
+      Map<String, Object> field = fieldSpecs.get(i);
+      String fieldWhere = where + ".fields[" + i + "]";
+      String name = string(field, "name", fieldWhere, true);
+      // The id field is generated from hasId/idType
+      if (!hasId || !name.equalsIgnoreCase("id")) {
+        fields.add(new EntityField(name, string(field, "type", fieldWhere, true), bool(field, "nullable", false)));
+      }
+    }
+
+    return EntityConfig.builder()
+        .name(string(spec, "name", where, true))
+        .fields(fields)
+        .hasId(hasId)
+        .idType(string(spec, "idType", where, false))
+        .packageName(packageName(spec, where, basePackage + ".domain.model"))
+        .build();
+  }
+
+  private UseCaseConfig parseUseCase(Map<String, Object> spec, String where, ProjectConfig projectConfig) {
+    List<UseCaseConfig.UseCaseMethod> methods = new ArrayList<>();
+    List<Map<String, Object>> methodSpecs = list(spec, "methods", where);
+    for (int i = 0; i < methodSpecs.size(); i++) {
+      Map<String, Object> method = methodSpecs.get(i);
+      String methodWhere = where + ".methods[" + i + "]";
+
+      List<UseCaseConfig.MethodParameter> parameters = new ArrayList<>();
+      List<Map<String, Object>> parameterSpecs = list(method, "parameters", methodWhere);
+      for (int j = 0; j < parameterSpecs.size(); j++) {
+        String parameterWhere = methodWhere + ".parameters[" + j + "]";
+        parameters.add(new UseCaseConfig.MethodParameter(
+            string(parameterSpecs.get(j), "name", parameterWhere, true),
+            string(parameterSpecs.get(j), "type", parameterWhere, true)));
+      }
+
+      methods.add(new UseCaseConfig.UseCaseMethod(
+          string(method, "name", methodWhere, true),
+          string(method, "returnType", methodWhere, true),
+          parameters));
+    }
+
+    return UseCaseConfig.builder()
+        .name(string(spec, "name", where, true))
+        .packageName(packageName(spec, where, projectConfig.basePackage() + ".domain.port.in"))
+        .methods(methods)
+        .paradigm(projectConfig.paradigm())
+        .generatePort(bool(spec, "generatePort", true))
+        .generateImpl(bool(spec, "generateImpl", true))
+        .build();
+  }
+
+  private InputAdapterConfig parseInputAdapter(Map<String, Object> spec, String where) {
+    String type = string(spec, "type", where, false);
+    InputAdapterType adapterType = switch (type == null ? "rest" : type.toLowerCase()) {
+      case "rest" -> InputAdapterType.REST;
+      case "graphql" -> InputAdapterType.GRAPHQL;
+      case "grpc" -> InputAdapterType.GRPC;
+      case "websocket" -> InputAdapterType.WEBSOCKET;
+      default -> throw new SpecFormatException(
+          where + ": invalid type '" + type + "'. Valid types: rest, graphql, grpc, websocket");
+    };
+
+    List<Endpoint> endpoints = new ArrayList<>();
+    List<Map<String, Object>> endpointSpecs = list(spec, "endpoints", where);
+    for (int i = 0; i < endpointSpecs.size(); i++) {
+      Map<String, Object> endpoint = endpointSpecs.get(i);
+      String endpointWhere = where + ".endpoints[" + i + "]";
+
+      List<EndpointParameter> parameters = new ArrayList<>();
+      List<Map<String, Object>> parameterSpecs = list(endpoint, "parameters", endpointWhere);
+      for (int j = 0; j < parameterSpecs.size(); j++) {
+        Map<String, Object> parameter = parameterSpecs.get(j);
+        String parameterWhere = endpointWhere + ".parameters[" + j + "]";
+        parameters.add(new EndpointParameter(
+            string(parameter, "name", parameterWhere, true),
+            string(parameter, "type", parameterWhere, true),
+            enumValue(ParameterType.class, string(parameter, "paramType", parameterWhere, true), parameterWhere)));
+      }
+
+      endpoints.add(new Endpoint(
+          string(endpoint, "path", endpointWhere, true),
+          enumValue(HttpMethod.class, string(endpoint, "method", endpointWhere, true), endpointWhere),
+          string(endpoint, "useCaseMethod", endpointWhere, true),
+          string(endpoint, "returnType", endpointWhere, true),
+          parameters));
+    }
+
+    return InputAdapterConfig.builder()
+        .name(string(spec, "name", where, true))
+        .useCaseName(string(spec, "useCase", where, true))
+        .type(adapterType)
+        .packageName(string(spec, "packageName", where, true))
+        .endpoints(endpoints)
+        .build();
+  }
+
+  private AdapterConfig parseOutputAdapter(Map<String, Object> spec, String where, String basePackage) {
+    String type = string(spec, "type", where, true);
+    AdapterType adapterType = switch (type.toLowerCase()) {
+      case "redis" -> AdapterType.REDIS;
+      case "mongodb", "mongo" -> AdapterType.MONGODB;
+      case "postgresql", "postgres" -> AdapterType.POSTGRESQL;
+      case "rest-client", "rest" -> AdapterType.REST_CLIENT;
+      case "kafka" -> AdapterType.KAFKA;
+      default -> throw new SpecFormatException(
+          where + ": invalid type '" + type + "'. Valid values: redis, mongodb, postgresql, rest-client, kafka");
+    };
+
+    List<AdapterMethod> methods = new ArrayList<>();
+    List<Map<String, Object>> methodSpecs = list(spec, "methods", where);
+    for (int i = 0; i < methodSpecs.size(); i++) {
+      Map<String, Object> method = methodSpecs.get(i);
+      String methodWhere = where + ".methods[" + i + "]";
+
+      List<MethodParameter> parameters = new ArrayList<>();
+      List<Map<String, Object>> parameterSpecs = list(method, "parameters", methodWhere);
+      for (int j = 0; j < parameterSpecs.size(); j++) {
+        String parameterWhere = methodWhere + ".parameters[" + j + "]";
+        parameters.add(new MethodParameter(
+            string(parameterSpecs.get(j), "name", parameterWhere, true),
+            string(parameterSpecs.get(j), "type", parameterWhere, true)));
+      }
+
+      methods.add(new AdapterMethod(
+          string(method, "name", methodWhere, true),
+          string(method, "returnType", methodWhere, true),
+          parameters));
+    }
+
+    return AdapterConfig.builder()
+        .name(string(spec, "name", where, true))
+        .entityName(string(spec, "entity", where, true))
+        .type(adapterType)
+        .packageName(packageName(spec, where, basePackage + ".infrastructure.drivenadapters." + type.toLowerCase()))
+        .methods(methods)
+        .build();
+  }
+
+  private String packageName(Map<String, Object> spec, String where, String defaultPackage) {
+    String packageName = string(spec, "packageName", where, false);
+    return packageName != null ? packageName : defaultPackage;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> map(Object value, String where) {
+    if (!(value instanceof Map)) {
+      throw new SpecFormatException(where + ": expected a mapping");
+    }
+    return (Map<String, Object>) value;
+  }
+
+  private List<Map<String, Object>> list(Map<String, Object> spec, String key, String where) {
+    Object value = spec.get(key);
+    if (value == null) {
+      return List.of();
+    }
+    if (!(value instanceof List<?> items)) {
+      throw new SpecFormatException(where + "." + key + ": expected a list");
+    }
+
+    List<Map<String, Object>> result = new ArrayList<>(items.size());
+    for (int i = 0; i < items.size(); i++) {
+      result.add(map(items.get(i), where + "." + key + "[" + i + "]"));
+    }
+    return result;
+  }
+
+  private String string(Map<String, Object> spec, String key, String where, boolean required) {
+    Object value = spec.get(key);
+    if (value == null || value.toString().isBlank()) {
+      if (required) {
+        throw new SpecFormatException(where + ": '" + key + "' is required");
+      }
+      return null;
+    }
+    return value.toString().trim();
+  }
+
+  private boolean bool(Map<String, Object> spec, String key, boolean defaultValue) {
+    Object value = spec.get(key);
+    return value == null ? defaultValue : Boolean.parseBoolean(value.toString());
+  }
+
+  private <E extends Enum<E>> E enumValue(Class<E> type, String value, String where) {
+    try {
+      return Enum.valueOf(type, value.toUpperCase());
+    } catch (IllegalArgumentException e) {
+      throw new SpecFormatException(where + ": invalid " + type.getSimpleName() + " '" + value + "'", e);
+    }
+  }
+}
@@ -3,6 +3,7 @@ package com.pragma.archetype.infrastructure.adapter.out.config;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.LinkedHashMap;
@@ -18,6 +19,7 @@ import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.Yaml;
 
 import com.pragma.archetype.domain.model.config.ProjectConfig;
+import com.pragma.archetype.domain.model.file.GeneratedFile;
 import com.pragma.archetype.domain.model.config.TemplateConfig;
 import com.pragma.archetype.domain.model.config.TemplateMode;
 import com.pragma.archetype.domain.model.project.ArchitectureType;
@@ -25,6 +27,7 @@ import com.pragma.archetype.domain.model.project.Framework;
 import com.pragma.archetype.domain.model.project.Paradigm;
 import com.pragma.archetype.domain.model.structure.MergeResult;
 import com.pragma.archetype.domain.port.out.ConfigurationPort;
+import com.pragma.archetype.domain.port.out.FileSystemPort;
 import com.pragma.archetype.domain.service.YamlMerger;
 
 /**
@@ -32,6 +35,10 @@ import com.pragma.archetype.domain.service.YamlMerger;
  * Uses SnakeYAML library.
  * Supports intelligent YAML merging with comment preservation and security
  * warnings.
+ * By default files are read and written directly on disk; when constructed
+ * with a FileSystemPort all file access goes through that port instead, so
+ * configuration changes follow the same transaction or dry run as the
+ * generated sources.
  */
 public class YamlConfigurationAdapter implements ConfigurationPort {
 
@@ -56,32 +63,55 @@ public class YamlConfigurationAdapter implements ConfigurationPort {
   private final Yaml yaml;
   private final Yaml formattedYaml;
   private final YamlMerger yamlMerger;
+  private final FileSystemPort fileSystemPort;
 
   public YamlConfigurationAdapter() {
-    this.yaml = new Yaml();
-    this.formattedYaml = createFormattedYaml();
-    this.yamlMerger = new YamlMerger();
+    this(new YamlMerger(), null);
   }
 
   /**
    * Constructor with YamlMerger dependency injection for testing.
    */
   public YamlConfigurationAdapter(YamlMerger yamlMerger) {
+    this(yamlMerger, null);
+  }
+
+  /**
+   * Constructor that reads and writes files through the given port.
+   *
+   * @param fileSystemPort port used for all file access
+   */
+  public YamlConfigurationAdapter(FileSystemPort fileSystemPort) {
+    this(new YamlMerger(), fileSystemPort);
+  }
+
+  private YamlConfigurationAdapter(YamlMerger yamlMerger, FileSystemPort fileSystemPort) {
     this.yaml = new Yaml();
     this.formattedYaml = createFormattedYaml();
     this.yamlMerger = yamlMerger;
+    this.fileSystemPort = fileSystemPort;
+  }
+
+  /**
+   * Checks whether this adapter writes files through the given port.
+   *
+   * @param port file system port
+   * @return true if YAML writes go through that port rather than to disk
+   */
+  public boolean writesThrough(FileSystemPort port) {
+    return fileSystemPort != null && fileSystemPort == port;
   }
 
   @Override
   public Optional<ProjectConfig> readConfiguration(Path projectPath) {
     Path configFile = projectPath.resolve(CONFIG_FILE_NAME);
 
-    if (!Files.exists(configFile)) {
+    if (!fileExists(configFile)) {
       return Optional.empty();
     }
 
     try {
-      String content = Files.readString(configFile);
+      String content = readContent(configFile);
       Map<String, Object> data = yaml.load(content);
 
       return Optional.of(parseConfiguration(data));
@@ -99,11 +129,7 @@ public class YamlConfigurationAdapter implements ConfigurationPort {
       Map<String, Object> data = toYamlMap(config);
       String yamlContent = yaml.dump(data);
 
-      // Atomic write: write to temporary file first, then rename
-      Path tempFile = configFile.resolveSibling(configFile.getFileName() + ".tmp");
-      Files.writeString(tempFile, yamlContent);
-      Files.move(tempFile, configFile, java.nio.file.StandardCopyOption.REPLACE_EXISTING,
-          java.nio.file.StandardCopyOption.ATOMIC_MOVE);
+      writeAtomically(configFile, yamlContent);
 
     } catch (IOException e) {
       throw new RuntimeException("Failed to write configuration file: " + configFile, e);
@@ -113,12 +139,16 @@ public class YamlConfigurationAdapter implements ConfigurationPort {
   @Override
   public boolean configurationExists(Path projectPath) {
     Path configFile = projectPath.resolve(CONFIG_FILE_NAME);
-    return Files.exists(configFile);
+    return fileExists(configFile);
   }
 
   @Override
   public void deleteConfiguration(Path projectPath) {
     Path configFile = projectPath.resolve(CONFIG_FILE_NAME);
+    if (fileSystemPort != null) {
+      fileSystemPort.deleteFile(configFile);
+      return;
+    }
 
     try {
       if (Files.exists(configFile)) {
@@ -139,12 +169,12 @@ public class YamlConfigurationAdapter implements ConfigurationPort {
   public TemplateConfig readTemplateConfiguration(Path projectPath) {
     Path configFile = projectPath.resolve(CONFIG_FILE_NAME);
 
-    if (!Files.exists(configFile)) {
+    if (!fileExists(configFile)) {
       return TemplateConfig.defaultConfig();
     }
 
     try {
-      String content = Files.readString(configFile);
+      String content = readContent(configFile);
       Map<String, Object> data = yaml.load(content);
 
       // Check if templates section exists
@@ -169,13 +199,13 @@ public class YamlConfigurationAdapter implements ConfigurationPort {
    * @return map representation of YAML content
    */
   public Map<String, Object> readYaml(Path filePath) {
-    if (!Files.exists(filePath)) {
+    if (!fileExists(filePath)) {
       logger.debug("YAML file does not exist: {}", filePath);
       return new LinkedHashMap<>();
     }
 
     try {
-      String content = Files.readString(filePath);
+      String content = readContent(filePath);
       Map<String, Object> data = yaml.load(content);
       return data != null ? data : new LinkedHashMap<>();
     } catch (IOException e) {
@@ -193,11 +223,7 @@ public class YamlConfigurationAdapter implements ConfigurationPort {
     try {
       String yamlContent = formattedYaml.dump(data);
 
-      // Atomic write: write to temporary file first, then rename
-      Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
-      Files.writeString(tempFile, yamlContent);
-      Files.move(tempFile, filePath, java.nio.file.StandardCopyOption.REPLACE_EXISTING,
-          java.nio.file.StandardCopyOption.ATOMIC_MOVE);
+      writeAtomically(filePath, yamlContent);
 
       logger.debug("Wrote YAML file atomically: {}", filePath);
     } catch (IOException e) {
@@ -247,9 +273,9 @@ public class YamlConfigurationAdapter implements ConfigurationPort {
     String existingContent = "";
     Map<String, Object> existingData = new LinkedHashMap<>();
 
-    if (Files.exists(filePath)) {
+    if (fileExists(filePath)) {
       try {
-        existingContent = Files.readString(filePath);
+        existingContent = readContent(filePath);
         existingData = yaml.load(existingContent);
         if (existingData == null) {
           existingData = new LinkedHashMap<>();
@@ -273,11 +299,7 @@ public class YamlConfigurationAdapter implements ConfigurationPort {
 
     // Write the merged content atomically
     try {
-      // Atomic write: write to temporary file first, then rename
-      Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
-      Files.writeString(tempFile, newContent);
-      Files.move(tempFile, filePath, java.nio.file.StandardCopyOption.REPLACE_EXISTING,
-          java.nio.file.StandardCopyOption.ATOMIC_MOVE);
+      writeAtomically(filePath, newContent);
 
       logger.info("Merged YAML file atomically: {}", filePath);
     } catch (IOException e) {
@@ -285,6 +307,29 @@ public class YamlConfigurationAdapter implements ConfigurationPort {
     }
   }
 
+  private boolean fileExists(Path file) {
+    return fileSystemPort != null ? fileSystemPort.exists(file) : Files.exists(file);
+  }
+
+  private String readContent(Path file) throws IOException {
+    return fileSystemPort != null ? fileSystemPort.readFile(file) : Files.readString(file);
+  }
+
+  /**
+   * Writes content through the port if there is one, otherwise to a temporary
+   * file that is then renamed over the target.
+   */
+  private void writeAtomically(Path file, String content) throws IOException {
+    if (fileSystemPort != null) {
+      fileSystemPort.writeFile(GeneratedFile.create(file, content));
+      return;
+    }
+
+    Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+    Files.writeString(tempFile, content);
+    Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
   /**
    * Creates a Yaml instance configured for 2-space indentation and proper
    * formatting.
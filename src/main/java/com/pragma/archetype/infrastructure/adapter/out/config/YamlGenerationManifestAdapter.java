@@ -0,0 +1,100 @@
+package com.pragma.archetype.infrastructure.adapter.out.config;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
+
+import com.pragma.archetype.domain.model.file.GeneratedFile;
+import com.pragma.archetype.domain.model.manifest.GenerationManifest;
+import com.pragma.archetype.domain.model.manifest.ManifestEntry;
+import com.pragma.archetype.domain.port.out.FileSystemPort;
+import com.pragma.archetype.domain.port.out.GenerationManifestPort;
+
+/**
+ * Stores the generation manifest as YAML in .cleanarch/manifest.yml.
+ * Reads and writes go through a file system port, so a dry run or a
+ * transactional generation covers the manifest as well.
+ */
+public class YamlGenerationManifestAdapter implements GenerationManifestPort {
+
+  /**
+   * Exception thrown when the manifest cannot be parsed.
+   */
+  public static class ManifestFormatException extends RuntimeException {
+    public ManifestFormatException(String message, Throwable cause) {
+      super(message, cause);
+    }
+  }
+
+  private final FileSystemPort fileSystemPort;
+  private final Yaml yaml;
+
+  public YamlGenerationManifestAdapter(FileSystemPort fileSystemPort) {
+    this.fileSystemPort = fileSystemPort;
+    DumperOptions options = new DumperOptions();
+    options.setIndent(2);
+    options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+    this.yaml = new Yaml(options);
+  }
+
+  @Override
+  public GenerationManifest read(Path projectPath) {
+    Path file = projectPath.resolve(GenerationManifest.FILE_NAME);
+    if (!fileSystemPort.exists(file)) {
+      return new GenerationManifest();
+    }
+
+    try {
+      Map<String, Object> data = yaml.load(fileSystemPort.readFile(file));
+      List<ManifestEntry> entries = new ArrayList<>();
+      if (data != null && data.get("files") instanceof List<?> files) {
+        for (Object item : files) {
+          entries.add(parseEntry((Map<?, ?>) item));
+        }
+      }
+      return new GenerationManifest(entries);
+    } catch (RuntimeException e) {
+      throw new ManifestFormatException("Invalid generation manifest: " + file, e);
+    }
+  }
+
+  @Override
+  public void write(Path projectPath, GenerationManifest manifest) {
+    List<Map<String, Object>> files = new ArrayList<>();
+    for (ManifestEntry entry : manifest.entries()) {
+      Map<String, Object> item = new LinkedHashMap<>();
+      item.put("path", entry.path());
+      item.put("template", entry.templatePath());
+      item.put("templateHash", entry.templateHash());
+      item.put("contextHash", entry.contextHash());
+      item.put("pluginVersion", entry.pluginVersion());
+      item.put("outputHash", entry.outputHash());
+      item.put("context", entry.context());
+      files.add(item);
+    }
+
+    Map<String, Object> data = new LinkedHashMap<>();
+    data.put("version", 1);
+    data.put("files", files);
+
+    Path file = projectPath.resolve(GenerationManifest.FILE_NAME);
+    fileSystemPort.writeFile(GeneratedFile.create(file, yaml.dump(data)));
+  }
+
+  @SuppressWarnings("unchecked")
+  private ManifestEntry parseEntry(Map<?, ?> item) {
+    return new ManifestEntry(
+        (String) item.get("path"),
+        (String) item.get("template"),
+        (String) item.get("templateHash"),
+        (String) item.get("contextHash"),
+        (String) item.get("pluginVersion"),
+        (String) item.get("outputHash"),
+        (Map<String, Object>) item.get("context"));
+  }
+}
@@ -0,0 +1,128 @@
+package com.pragma.archetype.infrastructure.adapter.out.config;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects YAML overlays for one or more files and applies them in a single
+ * read-merge-write pass per file.
+ * Used when several adapters contribute properties to the same
+ * application.yml within one command, so the file is rewritten only once.
+ */
+public class YamlMergeAccumulator {
+
+  private static final Logger logger = LoggerFactory.getLogger(YamlMergeAccumulator.class);
+
+  /**
+   * Number of overlays queued per file at one point, see {@link #snapshot()}.
+   */
+  public record Snapshot(Map<Path, Integer> overlayCounts) {
+  }
+
+  private final YamlConfigurationAdapter yamlConfigurationAdapter;
+  private final Map<Path, List<Map<String, Object>>> pendingOverlays = new LinkedHashMap<>();
+
+  public YamlMergeAccumulator(YamlConfigurationAdapter yamlConfigurationAdapter) {
+    this.yamlConfigurationAdapter = yamlConfigurationAdapter;
+  }
+
+  /**
+   * Queues an overlay to be merged into the given file on the next flush.
+   * Overlays are applied in the order they were added, so earlier overlays
+   * win over later ones for the same key (existing file values always win).
+   *
+   * @param filePath path to the YAML file
+   * @param overlay  properties to merge
+   */
+  public void add(Path filePath, Map<String, Object> overlay) {
+    if (overlay == null || overlay.isEmpty()) {
+      return;
+    }
+    pendingOverlays.computeIfAbsent(filePath, path -> new ArrayList<>()).add(overlay);
+  }
+
+  /**
+   * Marks the overlays queued so far.
+   *
+   * @return snapshot to return to with {@link #restore(Snapshot)}
+   */
+  public Snapshot snapshot() {
+    Map<Path, Integer> counts = new LinkedHashMap<>();
+    pendingOverlays.forEach((path, overlays) -> counts.put(path, overlays.size()));
+    return new Snapshot(counts);
+  }
+
+  /**
+   * Drops the overlays queued since a snapshot, e.g. those of an adapter that
+   * failed to generate. Overlays flushed in between are not restored.
+   *
+   * @param snapshot snapshot taken by {@link #snapshot()}
+   */
+  public void restore(Snapshot snapshot) {
+    Iterator<Map.Entry<Path, List<Map<String, Object>>>> iterator = pendingOverlays.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<Path, List<Map<String, Object>>> entry = iterator.next();
+      int count = snapshot.overlayCounts().getOrDefault(entry.getKey(), 0);
+      if (count == 0) {
+        iterator.remove();
+      } else if (entry.getValue().size() > count) {
+        entry.getValue().subList(count, entry.getValue().size()).clear();
+      }
+    }
+  }
+
+  /**
+   * Checks if there are overlays waiting to be written.
+   *
+   * @return true if at least one overlay is pending
+   */
+  public boolean hasPending() {
+    return !pendingOverlays.isEmpty();
+  }
+
+  /**
+   * Merges all pending overlays and writes each affected file once.
+   * Files whose content would not change are not rewritten. A file is removed
+   * from the pending set only after it has been written successfully.
+   *
+   * @return number of files written
+   */
+  public int flush() {
+    int written = 0;
+
+    Iterator<Map.Entry<Path, List<Map<String, Object>>>> iterator = pendingOverlays.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<Path, List<Map<String, Object>>> entry = iterator.next();
+      Path filePath = entry.getKey();
+
+      // 1. Read the file once
+      Map<String, Object> existing = yamlConfigurationAdapter.readYaml(filePath);
+
+      // 2. Fold every overlay in memory
+      Map<String, Object> merged = existing;
+      for (Map<String, Object> overlay : entry.getValue()) {
+        merged = yamlConfigurationAdapter.mergeYaml(merged, overlay);
+      }
+
+      // 3. Write once, only if something was added
+      if (merged != existing) {
+        yamlConfigurationAdapter.writeYaml(filePath, merged);
+        written++;
+        logger.debug("Merged {} overlay(s) into {}", entry.getValue().size(), filePath);
+      } else {
+        logger.debug("No new properties for {}, skipping write", filePath);
+      }
+
+      iterator.remove();
+    }
+
+    return written;
+  }
+}
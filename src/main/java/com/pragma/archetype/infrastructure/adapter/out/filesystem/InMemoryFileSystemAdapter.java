@@ -0,0 +1,298 @@
+package com.pragma.archetype.infrastructure.adapter.out.filesystem;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.pragma.archetype.domain.model.file.GeneratedFile;
+import com.pragma.archetype.domain.port.out.FileSystemPort;
+
+/**
+ * FileSystemPort kept entirely in memory, as a map of normalized absolute
+ * paths to content plus a set of directories.
+ *
+ * Without a base port it is an empty file system, which is useful to measure
+ * rendering and planning cost without disk I/O. With a base port it is a
+ * copy-on-write overlay: reads fall through to the base for anything not
+ * written in memory, and writes never reach it. Deleting a file of the base
+ * records a tombstone that hides it. This is what dry runs use to preview a
+ * command against a real project.
+ */
+public class InMemoryFileSystemAdapter implements FileSystemPort {
+
+  private static final List<String> ALLOWED_FILES_IN_EMPTY_PROJECT = List.of(
+      "build.gradle.kts",
+      "build.gradle",
+      "settings.gradle.kts",
+      "settings.gradle",
+      "gradlew",
+      "gradlew.bat",
+      ".gitignore",
+      ".git",
+      "gradle",
+      ".gradle");
+
+  /**
+   * Everything written in memory at a checkpoint.
+   */
+  private record MemoryCheckpoint(Map<Path, byte[]> files, Set<Path> directories, List<Path> writeOrder,
+      Set<Path> deletedFiles) implements Checkpoint {
+  }
+
+  private final FileSystemPort base;
+  private final Map<Path, byte[]> files = new ConcurrentHashMap<>();
+  private final Set<Path> directories = ConcurrentHashMap.newKeySet();
+  private final Set<Path> writeOrder = Collections.synchronizedSet(new LinkedHashSet<>());
+  private final Set<Path> deletedFiles = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Creates an empty in-memory file system.
+   */
+  public InMemoryFileSystemAdapter() {
+    this(null);
+  }
+
+  /**
+   * Creates an in-memory overlay of another file system.
+   *
+   * @param base file system read for paths not written in memory, or null
+   */
+  public InMemoryFileSystemAdapter(FileSystemPort base) {
+    this.base = base;
+  }
+
+  @Override
+  public void writeFile(GeneratedFile file) {
+    Path path = normalize(file.path());
+    if (directories.contains(path)) {
+      throw new FileWriteException("Failed to write file, path is a directory: " + file.path());
+    }
+
+    ByteBuffer buffer = file.contentBuffer();
+    byte[] content = new byte[buffer.remaining()];
+    buffer.get(content);
+
+    addDirectories(path.getParent());
+    files.put(path, content);
+    writeOrder.add(path);
+    deletedFiles.remove(path);
+  }
+
+  @Override
+  public void writeFiles(List<GeneratedFile> files) {
+    for (GeneratedFile file : files) {
+      writeFile(file);
+    }
+  }
+
+  @Override
+  public void createDirectory(Path path) {
+    Path directory = normalize(path);
+    if (files.containsKey(directory)) {
+      throw new FileWriteException("Failed to create directory, path is a file: " + path);
+    }
+    addDirectories(directory);
+  }
+
+  @Override
+  public boolean exists(Path path) {
+    Path normalized = normalize(path);
+    if (deletedFiles.contains(normalized)) {
+      return false;
+    }
+    return files.containsKey(normalized)
+        || directories.contains(normalized)
+        || (base != null && base.exists(path));
+  }
+
+  @Override
+  public boolean directoryExists(Path path) {
+    Path normalized = normalize(path);
+    if (files.containsKey(normalized)) {
+      return false;
+    }
+    return directories.contains(normalized) || (base != null && base.directoryExists(path));
+  }
+
+  @Override
+  public boolean isProjectEmpty(Path path) {
+    if (!directoryExists(path)) {
+      return false;
+    }
+
+    return listFiles(path).stream()
+        .map(file -> file.getFileName().toString())
+        .allMatch(ALLOWED_FILES_IN_EMPTY_PROJECT::contains);
+  }
+
+  @Override
+  public List<Path> listFiles(Path path) {
+    Path directory = normalize(path);
+    Set<Path> children = new LinkedHashSet<>();
+
+    if (base != null) {
+      for (Path child : base.listFiles(path)) {
+        children.add(normalize(child));
+      }
+      children.removeAll(deletedFiles);
+    }
+    for (Path file : files.keySet()) {
+      if (directory.equals(file.getParent())) {
+        children.add(file);
+      }
+    }
+    for (Path subdirectory : directories) {
+      if (directory.equals(subdirectory.getParent())) {
+        children.add(subdirectory);
+      }
+    }
+
+    return new ArrayList<>(children);
+  }
+
+  @Override
+  public String readFile(Path path) {
+    byte[] content = files.get(normalize(path));
+    if (content != null) {
+      return new String(content, StandardCharsets.UTF_8);
+    }
+    if (base != null && !deletedFiles.contains(normalize(path)) && base.exists(path)
+        && !base.directoryExists(path)) {
+      return base.readFile(path);
+    }
+    throw new FileWriteException("Failed to read file: " + path);
+  }
+
+  @Override
+  public void appendToFile(Path path, String content) {
+    if (!exists(path) || directoryExists(path)) {
+      throw new FileWriteException("Failed to append to file: " + path);
+    }
+    writeFile(GeneratedFile.create(path, readFile(path) + content));
+  }
+
+  /**
+   * Deletes a file written in memory and hides the base file of the same
+   * path.
+   */
+  @Override
+  public void deleteFile(Path path) {
+    Path normalized = normalize(path);
+    if (directories.contains(normalized)) {
+      throw new FileWriteException("Failed to delete file, path is a directory: " + path);
+    }
+    files.remove(normalized);
+    writeOrder.remove(normalized);
+    if (base != null && base.exists(path) && !base.directoryExists(path)) {
+      deletedFiles.add(normalized);
+    }
+  }
+
+  /**
+   * Drops everything written and deleted in memory.
+   */
+  @Override
+  public void discard() {
+    files.clear();
+    directories.clear();
+    writeOrder.clear();
+    deletedFiles.clear();
+  }
+
+  @Override
+  public Checkpoint checkpoint() {
+    return new MemoryCheckpoint(Map.copyOf(files), Set.copyOf(directories), writtenFiles(),
+        Set.copyOf(deletedFiles));
+  }
+
+  /**
+   * Drops everything written in memory since a checkpoint.
+   */
+  @Override
+  public void rollbackTo(Checkpoint checkpoint) {
+    if (!(checkpoint instanceof MemoryCheckpoint memory)) {
+      throw new IllegalArgumentException("Checkpoint was not taken by this file system");
+    }
+    discard();
+    files.putAll(memory.files());
+    directories.addAll(memory.directories());
+    writeOrder.addAll(memory.writeOrder());
+    deletedFiles.addAll(memory.deletedFiles());
+  }
+
+  /**
+   * Writes never reach the base file system, so nothing needs backing up.
+   */
+  @Override
+  public boolean isTransactional() {
+    return true;
+  }
+
+  /**
+   * Gets the files written in memory.
+   *
+   * @return normalized absolute paths, in the order they were first written
+   */
+  public List<Path> writtenFiles() {
+    synchronized (writeOrder) {
+      return List.copyOf(writeOrder);
+    }
+  }
+
+  /**
+   * Gets the base files deleted in memory.
+   *
+   * @return normalized absolute paths
+   */
+  public Set<Path> deletedFiles() {
+    return Set.copyOf(deletedFiles);
+  }
+
+  /**
+   * Gets the content written to a file.
+   *
+   * @param path file path
+   * @return a copy of the content, or null if the file was not written in
+   *         memory
+   */
+  public byte[] writtenContent(Path path) {
+    byte[] content = files.get(normalize(path));
+    return content != null ? content.clone() : null;
+  }
+
+  /**
+   * Checks whether a file written in memory differs from the base file
+   * system, i.e. whether the write would change anything on disk.
+   *
+   * @param path file path
+   * @return true if the file is new or its content differs from the base
+   */
+  public boolean isChanged(Path path) {
+    byte[] content = files.get(normalize(path));
+    if (content == null) {
+      return false;
+    }
+    if (base == null || !base.exists(path) || base.directoryExists(path)) {
+      return true;
+    }
+    return !new String(content, StandardCharsets.UTF_8).equals(base.readFile(path));
+  }
+
+  private void addDirectories(Path directory) {
+    Path current = directory;
+    while (current != null && directories.add(current)) {
+      current = current.getParent();
+    }
+  }
+
+  private Path normalize(Path path) {
+    return path.toAbsolutePath().normalize();
+  }
+}
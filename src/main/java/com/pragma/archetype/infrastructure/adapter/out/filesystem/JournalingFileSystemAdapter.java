@@ -0,0 +1,213 @@
+package com.pragma.archetype.infrastructure.adapter.out.filesystem;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.pragma.archetype.domain.model.file.GeneratedFile;
+import com.pragma.archetype.domain.port.out.FileSystemPort;
+
+/**
+ * FileSystemPort decorator that keeps edits to Gradle build and settings files
+ * in memory until {@link #flush()}.
+ * Generators read, modify and write these files several times per command
+ * (settings includes, module dependencies, test dependencies); the journal
+ * serves reads from the latest buffered content and writes each file once.
+ * All other operations go straight to the delegate.
+ */
+public class JournalingFileSystemAdapter implements FileSystemPort {
+
+  private static final Logger logger = LoggerFactory.getLogger(JournalingFileSystemAdapter.class);
+
+  private static final Set<String> JOURNALED_FILES = Set.of(
+      "build.gradle.kts",
+      "build.gradle",
+      "settings.gradle.kts",
+      "settings.gradle");
+
+  /**
+   * Journal content at a checkpoint, with the delegate's checkpoint.
+   */
+  private record JournalCheckpoint(Map<Path, String> content, Map<Path, Integer> edits, Checkpoint delegate)
+      implements Checkpoint {
+  }
+
+  private final FileSystemPort delegate;
+  private final Map<Path, String> pendingContent = new LinkedHashMap<>();
+  private final Map<Path, Integer> pendingEdits = new LinkedHashMap<>();
+
+  public JournalingFileSystemAdapter(FileSystemPort delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void writeFile(GeneratedFile file) {
+    if (isJournaled(file.path())) {
+      record(file.path(), file.content());
+    } else {
+      delegate.writeFile(file);
+    }
+  }
+
+  @Override
+  public void writeFiles(List<GeneratedFile> files) {
+    List<GeneratedFile> passThrough = new ArrayList<>(files.size());
+    for (GeneratedFile file : files) {
+      if (isJournaled(file.path())) {
+        record(file.path(), file.content());
+      } else {
+        passThrough.add(file);
+      }
+    }
+    if (!passThrough.isEmpty()) {
+      delegate.writeFiles(passThrough);
+    }
+  }
+
+  @Override
+  public void createDirectory(Path path) {
+    delegate.createDirectory(path);
+  }
+
+  @Override
+  public boolean exists(Path path) {
+    return pendingContent.containsKey(key(path)) || delegate.exists(path);
+  }
+
+  @Override
+  public boolean directoryExists(Path path) {
+    return delegate.directoryExists(path);
+  }
+
+  @Override
+  public boolean isProjectEmpty(Path path) {
+    return delegate.isProjectEmpty(path);
+  }
+
+  @Override
+  public List<Path> listFiles(Path path) {
+    List<Path> files = new ArrayList<>(delegate.listFiles(path));
+    Set<Path> listed = new HashSet<>();
+    files.forEach(file -> listed.add(key(file)));
+
+    // Include journaled files that do not exist on disk yet
+    Path directory = key(path);
+    for (Path pending : pendingContent.keySet()) {
+      if (directory.equals(pending.getParent()) && !listed.contains(pending)) {
+        files.add(pending);
+      }
+    }
+    return files;
+  }
+
+  @Override
+  public String readFile(Path path) {
+    String pending = pendingContent.get(key(path));
+    return pending != null ? pending : delegate.readFile(path);
+  }
+
+  @Override
+  public void appendToFile(Path path, String content) {
+    if (isJournaled(path)) {
+      record(path, readFile(path) + content);
+    } else {
+      delegate.appendToFile(path, content);
+    }
+  }
+
+  /**
+   * Drops pending edits of the file and deletes it through the delegate.
+   */
+  @Override
+  public void deleteFile(Path path) {
+    pendingContent.remove(key(path));
+    pendingEdits.remove(key(path));
+    delegate.deleteFile(path);
+  }
+
+  /**
+   * Writes every journaled file once with its latest content, then flushes the
+   * delegate.
+   * Files are removed from the journal only after they have been written.
+   */
+  @Override
+  public void flush() {
+    var iterator = pendingContent.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<Path, String> entry = iterator.next();
+      delegate.writeFile(GeneratedFile.create(entry.getKey(), entry.getValue()));
+      logger.debug("Flushed {} coalesced edit(s) to {}", pendingEdits.get(entry.getKey()), entry.getKey());
+      pendingEdits.remove(entry.getKey());
+      iterator.remove();
+    }
+    delegate.flush();
+  }
+
+  @Override
+  public void discard() {
+    if (!pendingContent.isEmpty()) {
+      logger.debug("Discarding pending edits to {} file(s)", pendingContent.size());
+    }
+    pendingContent.clear();
+    pendingEdits.clear();
+    delegate.discard();
+  }
+
+  @Override
+  public Checkpoint checkpoint() {
+    return new JournalCheckpoint(new LinkedHashMap<>(pendingContent), new LinkedHashMap<>(pendingEdits),
+        delegate.checkpoint());
+  }
+
+  /**
+   * Restores the journal to a checkpoint taken since the last flush, then
+   * rolls the delegate back to its part of the checkpoint.
+   */
+  @Override
+  public void rollbackTo(Checkpoint checkpoint) {
+    if (!(checkpoint instanceof JournalCheckpoint journal)) {
+      throw new IllegalArgumentException("Checkpoint was not taken by this journal");
+    }
+    pendingContent.clear();
+    pendingContent.putAll(journal.content());
+    pendingEdits.clear();
+    pendingEdits.putAll(journal.edits());
+    delegate.rollbackTo(journal.delegate());
+  }
+
+  @Override
+  public boolean isTransactional() {
+    return delegate.isTransactional();
+  }
+
+  /**
+   * Gets the files with edits that have not been flushed yet.
+   *
+   * @return pending file paths in the order they were first edited
+   */
+  public List<Path> pendingFiles() {
+    return List.copyOf(pendingContent.keySet());
+  }
+
+  private void record(Path path, String content) {
+    Path key = key(path);
+    pendingContent.put(key, content);
+    pendingEdits.merge(key, 1, Integer::sum);
+  }
+
+  private boolean isJournaled(Path path) {
+    Path fileName = path.getFileName();
+    return fileName != null && JOURNALED_FILES.contains(fileName.toString());
+  }
+
+  private Path key(Path path) {
+    return path.toAbsolutePath().normalize();
+  }
+}
@@ -1,9 +1,31 @@
 package com.pragma.archetype.infrastructure.adapter.out.filesystem;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import com.pragma.archetype.domain.model.file.GeneratedFile;
@@ -12,24 +34,82 @@ import com.pragma.archetype.domain.port.out.FileSystemPort;
 /**
  * Adapter for local file system operations.
  * Implements FileSystemPort using Java NIO.
+ *
+ * By default files that already hold the content being written are left
+ * untouched, so their modification time does not change and Gradle up-to-date
+ * checks and IDE indexes stay valid for regenerated trees.
+ *
+ * {@link #writeFiles(List)} creates every parent directory once and writes
+ * the files concurrently on virtual threads.
+ *
+ * Directories known to exist are remembered for the life of the adapter,
+ * which is one command, so generators can call
+ * {@link #createDirectory(Path)} for overlapping package paths without a
+ * stat per ancestor each time. Missing chains are created top-down with one
+ * mkdir per level. If a remembered directory is removed behind the adapter's
+ * back, the next write into it forgets what it knew and recreates it.
+ *
+ * {@link #appendToFile(Path, String)} appends in place. Before writing it
+ * records the original length in a &lt;name&gt;.append marker; if a crash
+ * interrupts the append, the next read, write or append of the file
+ * truncates it back to that length.
  */
 public class LocalFileSystemAdapter implements FileSystemPort {
 
+  /**
+   * How {@link #writeFile(GeneratedFile)} treats existing files.
+   */
+  public enum WriteMode {
+    /** Always replace the file. */
+    ALWAYS,
+    /** Skip files whose content is already identical. */
+    SKIP_UNCHANGED
+  }
+
+  /**
+   * How much a write is persisted before the call returns.
+   */
+  public enum Durability {
+    /** Leave flushing to the operating system. */
+    NONE,
+    /** Fsync every file before it is renamed into place. */
+    FSYNC_EACH_FILE,
+    /**
+     * Fsync each parent directory once after its files are renamed into place,
+     * which persists the renames with one call per directory.
+     */
+    FSYNC_DIRECTORIES
+  }
+
+  private static final int COMPARE_BUFFER_SIZE = 8192;
+  private static final int WRITE_PARALLELISM = 8;
+  private static final String APPEND_MARKER_SUFFIX = ".append";
+
+  private final WriteMode writeMode;
+  private final Durability durability;
+  private final AtomicInteger writtenCount = new AtomicInteger();
+  private final AtomicInteger skippedCount = new AtomicInteger();
+  private final Set<Path> knownDirectories = ConcurrentHashMap.newKeySet();
+
+  public LocalFileSystemAdapter() {
+    this(WriteMode.SKIP_UNCHANGED);
+  }
+
+  public LocalFileSystemAdapter(WriteMode writeMode) {
+    this(writeMode, Durability.NONE);
+  }
+
+  public LocalFileSystemAdapter(WriteMode writeMode, Durability durability) {
+    this.writeMode = writeMode;
+    this.durability = durability;
+  }
+
   @Override
   public void writeFile(GeneratedFile file) {
     try {
-      // Create parent directories if they don't exist
-      Path parent = file.path().getParent();
-      if (parent != null && !Files.exists(parent)) {
-        Files.createDirectories(parent);
+      if (write(file, true) && durability == Durability.FSYNC_DIRECTORIES && file.path().getParent() != null) {
+        syncDirectory(file.path().getParent());
       }
-
-      // Atomic write: write to temporary file first, then rename
-      Path tempFile = file.path().resolveSibling(file.path().getFileName() + ".tmp");
-      Files.writeString(tempFile, file.content());
-      Files.move(tempFile, file.path(), java.nio.file.StandardCopyOption.REPLACE_EXISTING,
-          java.nio.file.StandardCopyOption.ATOMIC_MOVE);
-
     } catch (IOException e) {
       throw new FileWriteException(
           "Failed to write file: " + file.path(),
@@ -37,19 +117,202 @@ public class LocalFileSystemAdapter implements FileSystemPort {
     }
   }
 
+  /**
+   * Gets the number of files written so far.
+   *
+   * @return files written by writeFile or writeFiles
+   */
+  public int getWrittenCount() {
+    return writtenCount.get();
+  }
+
+  /**
+   * Gets the number of writes skipped because the content was unchanged.
+   *
+   * @return files left untouched
+   */
+  public int getSkippedCount() {
+    return skippedCount.get();
+  }
+
+  /**
+   * Checks whether a file already holds the given content.
+   * Sizes are compared first; only files of the same size are read, in
+   * fixed-size chunks, and reading stops at the first difference.
+   *
+   * @param path    file to check
+   * @param content expected content, from its position to its limit; the
+   *                buffer's position is not changed
+   * @return true if the file exists with exactly this content
+   */
+  static boolean hasContent(Path path, ByteBuffer content) {
+    try {
+      int length = content.remaining();
+      if (!Files.isRegularFile(path) || Files.size(path) != length) {
+        return false;
+      }
+
+      byte[] buffer = new byte[COMPARE_BUFFER_SIZE];
+      int offset = 0;
+      try (InputStream in = Files.newInputStream(path)) {
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+          if (offset + read > length
+              || ByteBuffer.wrap(buffer, 0, read).mismatch(content.slice(content.position() + offset, read)) != -1) {
+            return false;
+          }
+          offset += read;
+        }
+      }
+      return offset == length;
+
+    } catch (IOException e) {
+      // Unreadable files are simply rewritten
+      return false;
+    }
+  }
+
   @Override
   public void writeFiles(List<GeneratedFile> files) {
+    if (files.size() <= 1) {
+      files.forEach(this::writeFile);
+      return;
+    }
+
+    // 1. The last write to a path wins, as with sequential writes
+    Map<Path, GeneratedFile> byPath = new LinkedHashMap<>();
     for (GeneratedFile file : files) {
-      writeFile(file);
+      byPath.put(file.path(), file);
+    }
+
+    // 2. Create each parent directory once, deepest first so ancestors are known to exist
+    Set<Path> parents = new LinkedHashSet<>();
+    for (Path path : byPath.keySet()) {
+      if (path.getParent() != null) {
+        parents.add(path.getParent());
+      }
+    }
+    List<Path> deepestFirst = new ArrayList<>(parents);
+    deepestFirst.sort(Comparator.comparingInt(Path::getNameCount).reversed());
+    deepestFirst.forEach(this::createDirectory);
+
+    // 3. Write files concurrently
+    List<GeneratedFile> toWrite = List.copyOf(byPath.values());
+    Map<Path, Throwable> failures = new LinkedHashMap<>();
+    Semaphore permits = new Semaphore(WRITE_PARALLELISM);
+    List<Future<Boolean>> futures = new ArrayList<>(toWrite.size());
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (GeneratedFile file : toWrite) {
+        futures.add(executor.submit(() -> {
+          permits.acquire();
+          try {
+            return write(file, false);
+          } finally {
+            permits.release();
+          }
+        }));
+      }
+    }
+    for (int i = 0; i < toWrite.size(); i++) {
+      try {
+        futures.get(i).get();
+      } catch (ExecutionException e) {
+        failures.put(toWrite.get(i).path(), e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        failures.put(toWrite.get(i).path(), e);
+      }
+    }
+
+    if (!failures.isEmpty()) {
+      StringBuilder message = new StringBuilder()
+          .append("Failed to write ").append(failures.size()).append(" of ").append(toWrite.size()).append(" file(s)");
+      failures.forEach((path, cause) -> message.append("\n  - ").append(path).append(": ").append(cause.getMessage()));
+
+      FileWriteException exception = new FileWriteException(message.toString(), failures.values().iterator().next());
+      failures.values().stream().skip(1).forEach(exception::addSuppressed);
+      throw exception;
+    }
+
+    // 4. Persist all renames with one fsync per directory
+    if (durability == Durability.FSYNC_DIRECTORIES) {
+      parents.forEach(this::syncDirectory);
+    }
+  }
+
+  /**
+   * Writes a file atomically through a temporary sibling.
+   *
+   * @param createParent whether to create missing parent directories
+   * @return false if the write was skipped because the content is unchanged
+   */
+  private boolean write(GeneratedFile file, boolean createParent) throws IOException {
+    // The file is replaced as a whole, so an interrupted append no longer matters
+    Files.deleteIfExists(appendMarker(file.path()));
+
+    if (writeMode == WriteMode.SKIP_UNCHANGED && hasContent(file.path(), file.contentBuffer())) {
+      skippedCount.incrementAndGet();
+      return false;
+    }
+
+    // Create parent directories if they don't exist
+    Path parent = file.path().getParent();
+    if (createParent && parent != null) {
+      createDirectories(parent);
+    }
+
+    // Atomic write: write to temporary file first, then rename
+    Path tempFile = file.path().resolveSibling(file.path().getFileName() + ".tmp");
+    try {
+      writeContent(tempFile, file.contentBuffer(), durability == Durability.FSYNC_EACH_FILE);
+    } catch (NoSuchFileException e) {
+      if (parent == null) {
+        throw e;
+      }
+      // A remembered directory was removed; forget them all and retry once
+      knownDirectories.clear();
+      createDirectories(parent);
+      writeContent(tempFile, file.contentBuffer(), durability == Durability.FSYNC_EACH_FILE);
+    }
+    Files.move(tempFile, file.path(), java.nio.file.StandardCopyOption.REPLACE_EXISTING,
+        java.nio.file.StandardCopyOption.ATOMIC_MOVE);
+    writtenCount.incrementAndGet();
+    return true;
+  }
+
+  /**
+   * Writes a buffer to a file through a FileChannel, replacing its content.
+   *
+   * @param force whether to fsync the file before returning
+   */
+  static void writeContent(Path path, ByteBuffer content, boolean force) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      while (content.hasRemaining()) {
+        channel.write(content);
+      }
+      if (force) {
+        channel.force(true);
+      }
+    }
+  }
+
+  /**
+   * Fsyncs a directory so renames into it survive a crash.
+   * Platforms that cannot open directories (e.g. Windows) are skipped.
+   */
+  private void syncDirectory(Path directory) {
+    try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+      channel.force(true);
+    } catch (IOException e) {
+      // Directory sync is not supported here; renames are as durable as the platform makes them
     }
   }
 
   @Override
   public void createDirectory(Path path) {
     try {
-      if (!Files.exists(path)) {
-        Files.createDirectories(path);
-      }
+      createDirectories(path);
     } catch (IOException e) {
       throw new FileWriteException(
           "Failed to create directory: " + path,
@@ -57,6 +320,56 @@ public class LocalFileSystemAdapter implements FileSystemPort {
     }
   }
 
+  /**
+   * Creates a directory and any missing ancestors, using the set of known
+   * directories to avoid touching the disk for chains already seen.
+   *
+   * Walks up from the directory until it reaches one that is known or found
+   * on disk (one stat per missing level), then creates the missing levels
+   * top-down with one mkdir each.
+   */
+  private void createDirectories(Path path) throws IOException {
+    Path directory = path.toAbsolutePath().normalize();
+    if (knownDirectories.contains(directory)) {
+      return;
+    }
+
+    // 1. Find the missing part of the chain
+    Deque<Path> missing = new ArrayDeque<>();
+    Path current = directory;
+    while (current != null && !knownDirectories.contains(current) && !Files.isDirectory(current)) {
+      missing.push(current);
+      current = current.getParent();
+    }
+    if (current != null) {
+      rememberDirectory(current);
+    }
+
+    // 2. Create it top-down
+    while (!missing.isEmpty()) {
+      Path next = missing.pop();
+      try {
+        Files.createDirectory(next);
+      } catch (FileAlreadyExistsException e) {
+        // Created concurrently, or a file is in the way
+        if (!Files.isDirectory(next)) {
+          throw e;
+        }
+      }
+      knownDirectories.add(next);
+    }
+  }
+
+  /**
+   * Records a directory, and therefore all its ancestors, as existing.
+   */
+  private void rememberDirectory(Path directory) {
+    Path current = directory;
+    while (current != null && knownDirectories.add(current)) {
+      current = current.getParent();
+    }
+  }
+
   @Override
   public boolean exists(Path path) {
     return Files.exists(path);
@@ -114,6 +427,7 @@ public class LocalFileSystemAdapter implements FileSystemPort {
   @Override
   public String readFile(Path path) {
     try {
+      recoverInterruptedAppend(path);
       return Files.readString(path);
     } catch (IOException e) {
       throw new FileWriteException(
@@ -122,17 +436,54 @@ public class LocalFileSystemAdapter implements FileSystemPort {
     }
   }
 
+  /**
+   * Appends content to the end of an existing file without rewriting it.
+   *
+   * Protocol:
+   * 1. The original length is written to a &lt;name&gt;.append marker and
+   * fsynced.
+   * 2. The content is appended through a FileChannel and fsynced.
+   * 3. The marker is deleted.
+   * An I/O error truncates the file back at once; after a crash the marker
+   * is found by the next read, write or append of the file.
+   *
+   * Files with other hard links (e.g. a backup) are copied and renamed
+   * instead, so the linked copy never changes.
+   */
   @Override
   public void appendToFile(Path path, String content) {
     try {
-      String existingContent = readFile(path);
-      String newContent = existingContent + content;
+      recoverInterruptedAppend(path);
+      byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+
+      if (Files.isRegularFile(path) && isHardLinked(path)) {
+        appendByCopy(path, bytes);
+        return;
+      }
+
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+        if (bytes.length == 0) {
+          return;
+        }
 
-      // Atomic write: write to temporary file first, then rename
-      Path tempFile = path.resolveSibling(path.getFileName() + ".tmp");
-      Files.writeString(tempFile, newContent);
-      Files.move(tempFile, path, java.nio.file.StandardCopyOption.REPLACE_EXISTING,
-          java.nio.file.StandardCopyOption.ATOMIC_MOVE);
+        long originalLength = channel.size();
+        Path marker = appendMarker(path);
+        writeAppendMarker(marker, originalLength);
+
+        try {
+          ByteBuffer buffer = ByteBuffer.wrap(bytes);
+          while (buffer.hasRemaining()) {
+            channel.write(buffer);
+          }
+          channel.force(false);
+        } catch (IOException e) {
+          channel.truncate(originalLength);
+          Files.deleteIfExists(marker);
+          throw e;
+        }
+
+        Files.delete(marker);
+      }
 
     } catch (IOException e) {
       throw new FileWriteException(
@@ -140,4 +491,96 @@ public class LocalFileSystemAdapter implements FileSystemPort {
           e);
     }
   }
+
+  @Override
+  public void deleteFile(Path path) {
+    try {
+      Files.deleteIfExists(appendMarker(path));
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      throw new FileWriteException(
+          "Failed to delete file: " + path,
+          e);
+    }
+  }
+
+  /**
+   * Rolls back an append interrupted by a crash, using the original length
+   * recorded in its marker. A marker that cannot be parsed was itself cut
+   * short before the append started, so it is just removed.
+   *
+   * @param path file that may have an interrupted append
+   */
+  private void recoverInterruptedAppend(Path path) throws IOException {
+    Path marker = appendMarker(path);
+    if (!Files.exists(marker)) {
+      return;
+    }
+
+    long originalLength;
+    try {
+      originalLength = Long.parseLong(Files.readString(marker).trim());
+    } catch (NumberFormatException e) {
+      Files.delete(marker);
+      return;
+    }
+
+    if (Files.isRegularFile(path)) {
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+        if (channel.size() > originalLength) {
+          channel.truncate(originalLength);
+          channel.force(false);
+        }
+      }
+    }
+    Files.delete(marker);
+  }
+
+  private void writeAppendMarker(Path marker, long originalLength) throws IOException {
+    try (FileChannel channel = FileChannel.open(marker, StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      ByteBuffer buffer = ByteBuffer.wrap(Long.toString(originalLength).getBytes(StandardCharsets.US_ASCII));
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(true);
+    }
+  }
+
+  /**
+   * Appends by copying the file to a temporary sibling, appending there and
+   * renaming it over the original, leaving other links to the old content
+   * untouched.
+   */
+  private void appendByCopy(Path path, byte[] bytes) throws IOException {
+    Path tempFile = path.resolveSibling(path.getFileName() + ".tmp");
+    Files.copy(path, tempFile, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+    try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+      ByteBuffer buffer = ByteBuffer.wrap(bytes);
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      if (durability == Durability.FSYNC_EACH_FILE) {
+        channel.force(false);
+      }
+    }
+    Files.move(tempFile, path, java.nio.file.StandardCopyOption.REPLACE_EXISTING,
+        java.nio.file.StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Checks whether a file has more than one hard link. When the link count
+   * cannot be read the file is treated as linked, which is always safe.
+   */
+  private boolean isHardLinked(Path path) {
+    try {
+      return !(Files.getAttribute(path, "unix:nlink") instanceof Integer links) || links > 1;
+    } catch (UnsupportedOperationException | IllegalArgumentException | IOException e) {
+      return true;
+    }
+  }
+
+  private Path appendMarker(Path path) {
+    return path.resolveSibling(path.getFileName() + APPEND_MARKER_SUFFIX);
+  }
 }
@@ -0,0 +1,473 @@
+package com.pragma.archetype.infrastructure.adapter.out.filesystem;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.pragma.archetype.domain.model.file.GeneratedFile;
+import com.pragma.archetype.domain.port.out.FileSystemPort;
+
+/**
+ * FileSystemPort decorator that stages every write under
+ * .cleanarch/staging/&lt;id&gt; inside the project and applies them on
+ * {@link #flush()}.
+ *
+ * Commit protocol:
+ * 1. Every staged file is fsynced once.
+ * 2. For each target, the existing file (if any) is renamed into the staging
+ * directory's originals folder, then the staged file is renamed onto the
+ * target. Both renames stay on one filesystem, so they are atomic. A staged
+ * deletion only moves the existing file into the originals folder.
+ * 3. If any step fails, applied renames are undone in reverse order and the
+ * originals are moved back.
+ * 4. On success the staging directory, including the originals, is deleted,
+ * and so is .cleanarch/staging once it is empty.
+ *
+ * Nothing is copied, so the happy path is cheaper than a backup copy, and
+ * {@link #discard()} before commit leaves the project untouched. Writes whose
+ * content matches the file on disk are not staged at all. Directories are
+ * created right away, but the ones created inside the project are recorded
+ * and removed again on discard if they are still empty.
+ *
+ * A {@link #checkpoint()} seals the files staged so far: later writes to the
+ * same targets are staged as new files, so {@link #rollbackTo(Checkpoint)}
+ * can return to the sealed versions.
+ */
+public class TransactionalFileSystemAdapter implements FileSystemPort {
+
+  /**
+   * Exception thrown when a commit fails and could not be fully rolled back.
+   */
+  public static class CommitException extends FileWriteException {
+    public CommitException(String message, Throwable cause) {
+      super(message, cause);
+    }
+  }
+
+  /**
+   * Staged files, staged deletions and number of created directories at a
+   * checkpoint.
+   */
+  private record StagingCheckpoint(Map<Path, Path> stagedFiles, Set<Path> stagedDeletions, int createdDirectories)
+      implements Checkpoint {
+  }
+
+  private static final Logger logger = LoggerFactory.getLogger(TransactionalFileSystemAdapter.class);
+
+  private static final String STAGING_DIR = ".cleanarch/staging";
+  private static final String FILES_DIR = "files";
+  private static final String ORIGINALS_DIR = "originals";
+  private static final DateTimeFormatter ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSS");
+
+  private final FileSystemPort delegate;
+  private final Path projectRoot;
+  private final Map<Path, Path> stagedFiles = new LinkedHashMap<>();
+  private final Set<Path> stagedDeletions = new LinkedHashSet<>();
+  private final Set<Path> sealedFiles = new HashSet<>();
+  private final List<Path> createdDirectories = new ArrayList<>();
+  private Path stagingPath;
+  private int generation;
+  private int writtenCount;
+  private int skippedCount;
+
+  public TransactionalFileSystemAdapter(FileSystemPort delegate, Path projectRoot) {
+    this.delegate = delegate;
+    this.projectRoot = projectRoot.toAbsolutePath().normalize();
+  }
+
+  @Override
+  public void writeFile(GeneratedFile file) {
+    Path target = file.path().toAbsolutePath().normalize();
+    if (!target.startsWith(projectRoot)) {
+      // Outside the project there is no sibling staging directory to rename from
+      logger.debug("Writing outside project root directly: {}", target);
+      delegate.writeFile(file);
+      return;
+    }
+    stagedDeletions.remove(target);
+
+    try {
+      if (LocalFileSystemAdapter.hasContent(target, file.contentBuffer())) {
+        // Nothing to commit; an earlier staged version is superseded too
+        Path staged = stagedFiles.remove(target);
+        if (staged != null && !sealedFiles.contains(staged)) {
+          Files.deleteIfExists(staged);
+        }
+        skippedCount++;
+        return;
+      }
+
+      Path staged = stagedPath(target);
+      Files.createDirectories(staged.getParent());
+      LocalFileSystemAdapter.writeContent(staged, file.contentBuffer(), false);
+      stagedFiles.put(target, staged);
+    } catch (IOException e) {
+      throw new FileWriteException("Failed to stage file: " + file.path(), e);
+    }
+  }
+
+  @Override
+  public void writeFiles(List<GeneratedFile> files) {
+    for (GeneratedFile file : files) {
+      writeFile(file);
+    }
+  }
+
+  @Override
+  public void createDirectory(Path path) {
+    List<Path> missing = missingDirectories(path);
+    delegate.createDirectory(path);
+    createdDirectories.addAll(missing);
+  }
+
+  @Override
+  public boolean exists(Path path) {
+    Path target = path.toAbsolutePath().normalize();
+    if (stagedDeletions.contains(target)) {
+      return false;
+    }
+    return stagedFiles.containsKey(target) || delegate.exists(path);
+  }
+
+  @Override
+  public boolean directoryExists(Path path) {
+    return delegate.directoryExists(path);
+  }
+
+  @Override
+  public boolean isProjectEmpty(Path path) {
+    return delegate.isProjectEmpty(path);
+  }
+
+  @Override
+  public List<Path> listFiles(Path path) {
+    List<Path> files = new ArrayList<>();
+    Set<Path> listed = new HashSet<>();
+    for (Path file : delegate.listFiles(path)) {
+      // The staging area itself is an implementation detail
+      Path normalized = file.toAbsolutePath().normalize();
+      if ((stagingPath == null || !normalized.startsWith(stagingPath)) && !stagedDeletions.contains(normalized)) {
+        files.add(file);
+        listed.add(file.toAbsolutePath().normalize());
+      }
+    }
+
+    // Include staged files that do not exist on disk yet
+    Path directory = path.toAbsolutePath().normalize();
+    for (Path target : stagedFiles.keySet()) {
+      if (directory.equals(target.getParent()) && !listed.contains(target)) {
+        files.add(target);
+      }
+    }
+    return files;
+  }
+
+  @Override
+  public String readFile(Path path) {
+    Path target = path.toAbsolutePath().normalize();
+    if (stagedDeletions.contains(target)) {
+      throw new FileWriteException("Failed to read file, deleted in this transaction: " + path);
+    }
+    Path staged = stagedFiles.get(target);
+    return staged != null ? delegate.readFile(staged) : delegate.readFile(path);
+  }
+
+  @Override
+  public void appendToFile(Path path, String content) {
+    String existing = exists(path) ? readFile(path) : "";
+    writeFile(GeneratedFile.create(path, existing + content));
+  }
+
+  /**
+   * Stages the deletion of a file, dropping any version staged for it.
+   */
+  @Override
+  public void deleteFile(Path path) {
+    Path target = path.toAbsolutePath().normalize();
+    if (!target.startsWith(projectRoot)) {
+      delegate.deleteFile(path);
+      return;
+    }
+
+    Path staged = stagedFiles.remove(target);
+    try {
+      if (staged != null && !sealedFiles.contains(staged)) {
+        Files.deleteIfExists(staged);
+      }
+    } catch (IOException e) {
+      logger.debug("Could not delete staged file {}: {}", staged, e.getMessage());
+    }
+    if (Files.exists(target)) {
+      if (Files.isDirectory(target)) {
+        throw new FileWriteException("Failed to delete file, path is a directory: " + path);
+      }
+      stagedDeletions.add(target);
+    }
+  }
+
+  /**
+   * Commits all staged files and deletions to their targets.
+   *
+   * @throws FileWriteException if the commit fails; the project is rolled back
+   *                            to its previous state
+   * @throws CommitException    if the commit fails and the rollback fails too
+   */
+  @Override
+  public void flush() {
+    if (stagedFiles.isEmpty() && stagedDeletions.isEmpty()) {
+      createdDirectories.clear();
+      return;
+    }
+
+    // 1. Make staged content durable before any target is touched
+    try {
+      for (Path staged : stagedFiles.values()) {
+        try (FileChannel channel = FileChannel.open(staged, StandardOpenOption.WRITE)) {
+          channel.force(true);
+        }
+      }
+    } catch (IOException e) {
+      discard();
+      throw new FileWriteException("Failed to sync staged files", e);
+    }
+
+    // 2. Swap each target with its staged file
+    List<Path[]> applied = new ArrayList<>();
+    try {
+      for (Map.Entry<Path, Path> entry : stagedFiles.entrySet()) {
+        Path target = entry.getKey();
+        Path original = null;
+
+        if (Files.exists(target)) {
+          original = stagingPath.resolve(ORIGINALS_DIR).resolve(projectRoot.relativize(target));
+          Files.createDirectories(original.getParent());
+          Files.move(target, original, StandardCopyOption.ATOMIC_MOVE);
+        } else if (target.getParent() != null) {
+          List<Path> missing = missingDirectories(target.getParent());
+          Files.createDirectories(target.getParent());
+          createdDirectories.addAll(missing);
+        }
+
+        applied.add(new Path[] { target, original });
+        Files.move(entry.getValue(), target, StandardCopyOption.ATOMIC_MOVE);
+      }
+      for (Path target : stagedDeletions) {
+        if (Files.exists(target)) {
+          Path original = stagingPath().resolve(ORIGINALS_DIR).resolve(projectRoot.relativize(target));
+          Files.createDirectories(original.getParent());
+          Files.move(target, original, StandardCopyOption.ATOMIC_MOVE);
+          applied.add(new Path[] { target, original });
+        }
+      }
+    } catch (IOException e) {
+      rollback(applied, e);
+      discard();
+      throw new FileWriteException("Failed to commit staged files, changes were rolled back", e);
+    }
+
+    logger.debug("Committed {} staged file(s) and {} deletion(s)", stagedFiles.size(), stagedDeletions.size());
+    writtenCount += stagedFiles.size();
+
+    // 3. Originals are no longer needed
+    stagedFiles.clear();
+    stagedDeletions.clear();
+    createdDirectories.clear();
+    deleteStagingDirectory();
+  }
+
+  /**
+   * Drops all staged files and removes the directories created since the
+   * last flush that are still empty, so the project is left untouched.
+   */
+  @Override
+  public void discard() {
+    stagedFiles.clear();
+    stagedDeletions.clear();
+    removeCreatedDirectories(0);
+    deleteStagingDirectory();
+  }
+
+  @Override
+  public Checkpoint checkpoint() {
+    sealedFiles.addAll(stagedFiles.values());
+    generation++;
+    return new StagingCheckpoint(new LinkedHashMap<>(stagedFiles), new LinkedHashSet<>(stagedDeletions),
+        createdDirectories.size());
+  }
+
+  /**
+   * Drops the files and deletions staged and the empty directories created
+   * since a checkpoint taken after the last flush or discard; targets staged
+   * before it get their sealed version back.
+   */
+  @Override
+  public void rollbackTo(Checkpoint checkpoint) {
+    if (!(checkpoint instanceof StagingCheckpoint staging)) {
+      throw new IllegalArgumentException("Checkpoint was not taken by this adapter");
+    }
+
+    for (Path staged : stagedFiles.values()) {
+      if (!staging.stagedFiles().containsValue(staged)) {
+        try {
+          Files.deleteIfExists(staged);
+        } catch (IOException e) {
+          logger.debug("Could not delete staged file {}: {}", staged, e.getMessage());
+        }
+      }
+    }
+    stagedFiles.clear();
+    stagedFiles.putAll(staging.stagedFiles());
+    stagedDeletions.clear();
+    stagedDeletions.addAll(staging.stagedDeletions());
+    removeCreatedDirectories(staging.createdDirectories());
+  }
+
+  @Override
+  public boolean isTransactional() {
+    return true;
+  }
+
+  /**
+   * Gets the files staged for the next commit.
+   *
+   * @return target paths in the order they were first staged
+   */
+  public List<Path> stagedFiles() {
+    return List.copyOf(stagedFiles.keySet());
+  }
+
+  /**
+   * Gets the number of files committed so far.
+   *
+   * @return files written to the project by flush
+   */
+  public int getWrittenCount() {
+    return writtenCount;
+  }
+
+  /**
+   * Gets the number of writes skipped because the content was unchanged.
+   *
+   * @return files left untouched
+   */
+  public int getSkippedCount() {
+    return skippedCount;
+  }
+
+  private Path stagedPath(Path target) throws IOException {
+    Path existing = stagedFiles.get(target);
+    if (existing != null && !sealedFiles.contains(existing)) {
+      return existing;
+    }
+    // Each checkpoint starts a new generation, so sealed files are never overwritten
+    return stagingPath().resolve(FILES_DIR).resolve(String.valueOf(generation))
+        .resolve(projectRoot.relativize(target));
+  }
+
+  /**
+   * Gets the staging directory of the current transaction, creating it on
+   * first use.
+   */
+  private Path stagingPath() throws IOException {
+    if (stagingPath == null) {
+      stagingPath = projectRoot.resolve(STAGING_DIR)
+          .resolve("tx_" + LocalDateTime.now().format(ID_FORMAT) + "_" + System.nanoTime());
+      Files.createDirectories(stagingPath);
+    }
+    return stagingPath;
+  }
+
+  /**
+   * Collects the directories inside the project that creating the given
+   * directory would add.
+   *
+   * @return missing directories, outermost first
+   */
+  private List<Path> missingDirectories(Path directory) {
+    List<Path> missing = new ArrayList<>();
+    Path current = directory.toAbsolutePath().normalize();
+    while (current.startsWith(projectRoot) && !current.equals(projectRoot) && !Files.exists(current)) {
+      missing.add(0, current);
+      current = current.getParent();
+    }
+    return missing;
+  }
+
+  /**
+   * Removes the recorded directories from the given index on, deepest first.
+   * Directories that are no longer empty are kept.
+   */
+  private void removeCreatedDirectories(int from) {
+    for (int i = createdDirectories.size() - 1; i >= from; i--) {
+      Path directory = createdDirectories.remove(i);
+      try {
+        Files.deleteIfExists(directory);
+      } catch (IOException e) {
+        logger.debug("Keeping created directory {}: {}", directory, e.getMessage());
+      }
+    }
+  }
+
+  private void rollback(List<Path[]> applied, IOException cause) {
+    for (int i = applied.size() - 1; i >= 0; i--) {
+      Path target = applied.get(i)[0];
+      Path original = applied.get(i)[1];
+      try {
+        if (original != null) {
+          Files.move(original, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } else {
+          Files.deleteIfExists(target);
+        }
+      } catch (IOException e) {
+        e.addSuppressed(cause);
+        throw new CommitException("Failed to roll back " + target + ", originals kept in " + stagingPath, e);
+      }
+    }
+  }
+
+  private void deleteStagingDirectory() {
+    if (stagingPath == null) {
+      return;
+    }
+    try (Stream<Path> paths = Files.walk(stagingPath)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+        try {
+          Files.deleteIfExists(path);
+        } catch (IOException e) {
+          logger.debug("Could not delete staging path {}: {}", path, e.getMessage());
+        }
+      });
+    } catch (IOException e) {
+      logger.debug("Could not clean staging directory {}: {}", stagingPath, e.getMessage());
+    }
+    // Leave no empty staging area behind in the project
+    try {
+      Files.delete(stagingPath.getParent());
+    } catch (DirectoryNotEmptyException | NoSuchFileException e) {
+      // Another transaction is staging, or it is already gone
+    } catch (IOException e) {
+      logger.debug("Could not delete staging area {}: {}", stagingPath.getParent(), e.getMessage());
+    }
+    stagingPath = null;
+    sealedFiles.clear();
+  }
+}
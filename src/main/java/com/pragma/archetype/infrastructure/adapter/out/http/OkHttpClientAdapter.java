@@ -11,9 +11,10 @@ import okhttp3.Response;
 
 /**
  * HTTP client adapter using OkHttp.
- * Used for downloading templates from remote repositories.
+ * Used for downloading templates from remote repositories. Closing it stops
+ * the client's dispatcher threads and drops its pooled connections.
  */
-public class OkHttpClientAdapter implements HttpClientPort {
+public class OkHttpClientAdapter implements HttpClientPort, AutoCloseable {
 
   private final OkHttpClient client;
 
@@ -63,4 +64,10 @@ public class OkHttpClientAdapter implements HttpClientPort {
       return false;
     }
   }
+
+  @Override
+  public void close() {
+    client.dispatcher().executorService().shutdown();
+    client.connectionPool().evictAll();
+  }
 }
@@ -3,6 +3,7 @@ package com.pragma.archetype.infrastructure.adapter.out.template;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.yaml.snakeyaml.Yaml;
 
@@ -16,11 +17,17 @@ import com.pragma.archetype.domain.port.out.TemplateRepository.TemplateNotFoundE
  * Loads adapter metadata from metadata.yml files in the template repository.
  * Parses adapter definitions including dependencies, test dependencies,
  * application properties templates, and configuration classes.
+ * Parsed metadata is memoized per path and reused while the file content is
+ * unchanged.
  */
 public class AdapterMetadataLoader {
 
+  private record ParsedMetadata(String content, AdapterMetadata metadata) {
+  }
+
   private final TemplateContentProvider contentProvider;
   private final Yaml yaml;
+  private final Map<String, ParsedMetadata> parsedMetadata = new ConcurrentHashMap<>();
 
   /**
    * Creates a new AdapterMetadataLoader.
@@ -110,7 +117,16 @@ public class AdapterMetadataLoader {
   private AdapterMetadata loadMetadataFromPath(String metadataPath, String adapterName) {
     try {
       String yamlContent = contentProvider.getTemplateContent(metadataPath);
-      Map<String, Object> data = yaml.load(yamlContent);
+      ParsedMetadata parsed = parsedMetadata.get(metadataPath);
+      if (parsed != null && parsed.content().equals(yamlContent)) {
+        return parsed.metadata();
+      }
+
+      // Yaml instances are not thread-safe
+      Map<String, Object> data;
+      synchronized (yaml) {
+        data = yaml.load(yamlContent);
+      }
 
       // Validate that we have data
       if (data == null || data.isEmpty()) {
@@ -149,6 +165,7 @@ public class AdapterMetadataLoader {
             "Invalid adapter metadata: " + String.join(", ", validation.errors()));
       }
 
+      parsedMetadata.put(metadataPath, new ParsedMetadata(yamlContent, metadata));
       return metadata;
 
     } catch (Exception e) {
@@ -6,10 +6,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -35,6 +37,10 @@ import freemarker.template.TemplateException;
  * - Remote GitHub repository (production mode or developer mode with
  * repository)
  * - Embedded resources (fallback)
+ *
+ * Parsed templates are kept per path and reused while the template content is
+ * unchanged, so one instance can serve many generations, and is safe to share
+ * between tasks and builds.
  */
 public class FreemarkerTemplateRepository implements TemplateRepository, TemplateContentProvider {
 
@@ -54,8 +60,12 @@ public class FreemarkerTemplateRepository implements TemplateRepository, Templat
   private final TemplateConfig templateConfig;
   private final GitHubTemplateDownloader downloader;
   private final StructureMetadataLoader structureMetadataLoader;
-  private AdapterMetadataLoader adapterMetadataLoader;
+  private final AdapterMetadataLoader adapterMetadataLoader;
   private final TemplateSourceResolver sourceResolver;
+  private final Map<String, CompiledTemplate> compiledTemplates = new ConcurrentHashMap<>();
+
+  private record CompiledTemplate(String content, Template template) {
+  }
 
   /**
    * Creates a repository with templates from local filesystem.
@@ -69,6 +79,7 @@ public class FreemarkerTemplateRepository implements TemplateRepository, Templat
     this.sourceResolver = null;
     this.freemarkerConfig = createFreemarkerConfiguration();
     this.structureMetadataLoader = new StructureMetadataLoader(this);
+    this.adapterMetadataLoader = new AdapterMetadataLoader(this);
   }
 
   /**
@@ -80,6 +91,17 @@ public class FreemarkerTemplateRepository implements TemplateRepository, Templat
    * @param templateConfig template configuration
    */
   public FreemarkerTemplateRepository(TemplateConfig templateConfig) {
+    this(templateConfig, null);
+  }
+
+  /**
+   * Creates a repository with template configuration, downloading remote
+   * templates through the given HTTP client.
+   *
+   * @param templateConfig template configuration
+   * @param httpClient     client for remote templates, or null to create one
+   */
+  public FreemarkerTemplateRepository(TemplateConfig templateConfig, HttpClientPort httpClient) {
     this.templateConfig = templateConfig;
     this.sourceResolver = new TemplateSourceResolver(templateConfig);
 
@@ -99,14 +121,15 @@ public class FreemarkerTemplateRepository implements TemplateRepository, Templat
     } else {
       // Remote mode - use downloader with caching
       this.templatesBasePath = null;
-      HttpClientPort httpClient = new OkHttpClientAdapter();
       TemplateCache cache = new TemplateCache();
-      this.downloader = new GitHubTemplateDownloader(httpClient, cache);
+      this.downloader = new GitHubTemplateDownloader(
+          httpClient != null ? httpClient : new OkHttpClientAdapter(), cache);
       logger.info("Remote mode active - caching enabled");
     }
 
     this.freemarkerConfig = createFreemarkerConfiguration();
     this.structureMetadataLoader = new StructureMetadataLoader(this);
+    this.adapterMetadataLoader = new AdapterMetadataLoader(this);
   }
 
   /**
@@ -124,6 +147,7 @@ public class FreemarkerTemplateRepository implements TemplateRepository, Templat
     this.sourceResolver = null;
     this.freemarkerConfig = createFreemarkerConfiguration();
     this.structureMetadataLoader = new StructureMetadataLoader(this);
+    this.adapterMetadataLoader = new AdapterMetadataLoader(this);
   }
 
   @Override
@@ -225,9 +249,6 @@ public class FreemarkerTemplateRepository implements TemplateRepository, Templat
 
   @Override
   public com.pragma.archetype.domain.model.adapter.AdapterMetadata loadAdapterMetadata(String adapterName) {
-    if (adapterMetadataLoader == null) {
-      adapterMetadataLoader = new AdapterMetadataLoader(this);
-    }
     return adapterMetadataLoader.loadAdapterMetadata(adapterName);
   }
 
@@ -237,9 +258,6 @@ public class FreemarkerTemplateRepository implements TemplateRepository, Templat
       String framework,
       String paradigm,
       String adapterType) {
-    if (adapterMetadataLoader == null) {
-      adapterMetadataLoader = new AdapterMetadataLoader(this);
-    }
     return adapterMetadataLoader.loadAdapterMetadata(adapterName, framework, paradigm, adapterType);
   }
 
@@ -372,14 +390,49 @@ public class FreemarkerTemplateRepository implements TemplateRepository, Templat
   }
 
   /**
-   * Gets a Freemarker template.
+   * Drops Freemarker's own cache of included and imported templates, which
+   * is not checked for changes in remote mode. Call it when a long-lived
+   * instance starts serving a new build.
+   */
+  public void refresh() {
+    freemarkerConfig.clearTemplateCache();
+  }
+
+  /**
+   * Drops the compiled form of the given templates, in this repository and in
+   * Freemarker's cache of included and imported templates, leaving all other
+   * templates compiled.
+   */
+  @Override
+  public void invalidate(Collection<String> templatePaths) {
+    for (String templatePath : templatePaths) {
+      compiledTemplates.remove(templatePath);
+      try {
+        freemarkerConfig.removeTemplateFromCache(templatePath);
+      } catch (IOException e) {
+        // Only reachable if no template loader is set, so nothing is cached
+        logger.debug("Could not evict {} from the template cache: {}", templatePath, e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Gets a Freemarker template, parsing it only if its content changed since
+   * it was last used.
    */
   private Template getTemplate(String templatePath) throws IOException {
     // Get template content from appropriate source
     String content = getTemplateContent(templatePath);
 
+    CompiledTemplate compiled = compiledTemplates.get(templatePath);
+    if (compiled != null && compiled.content().equals(content)) {
+      return compiled.template();
+    }
+
     // Create template from string content
-    return new Template(templatePath, content, freemarkerConfig);
+    Template template = new Template(templatePath, content, freemarkerConfig);
+    compiledTemplates.put(templatePath, new CompiledTemplate(content, template));
+    return template;
   }
 
   /**
@@ -0,0 +1,179 @@
+package com.pragma.archetype.infrastructure.adapter.out.template;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.pragma.archetype.domain.model.adapter.AdapterMetadata;
+import com.pragma.archetype.domain.model.file.GeneratedFile;
+import com.pragma.archetype.domain.model.manifest.GenerationManifest;
+import com.pragma.archetype.domain.model.manifest.ManifestEntry;
+import com.pragma.archetype.domain.model.project.ArchitectureType;
+import com.pragma.archetype.domain.model.structure.StructureMetadata;
+import com.pragma.archetype.domain.model.validation.ValidationResult;
+import com.pragma.archetype.domain.port.out.TemplateRepository;
+
+/**
+ * Template repository that remembers what it rendered, so the generated files
+ * can be recorded in the generation manifest.
+ * Renders are keyed by the hash of their output. A generated file whose
+ * content matches a render came straight from that template; files that were
+ * post-processed (merged YAML, edited build files) match no render and are
+ * left out of the manifest. So are renders whose context holds values other
+ * than strings, numbers, booleans, lists and maps, since they could not be
+ * replayed from the stored manifest, and outputs produced by more than one
+ * template or context, since the file could not be traced to either.
+ */
+public class RecordingTemplateRepository implements TemplateRepository {
+
+  private record Render(String templatePath, String templateHash, String contextHash, Map<String, Object> context) {
+
+    boolean sameInputs(Render other) {
+      return Objects.equals(templatePath, other.templatePath) && Objects.equals(contextHash, other.contextHash);
+    }
+  }
+
+  /**
+   * Marks an output rendered from different inputs.
+   */
+  private static final Render AMBIGUOUS = new Render(null, null, null, Map.of());
+
+  private final TemplateRepository delegate;
+  private final Map<String, Render> renders = new ConcurrentHashMap<>();
+  private final Map<String, String> templateHashes = new ConcurrentHashMap<>();
+
+  public RecordingTemplateRepository(TemplateRepository delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public String processTemplate(String templatePath, Map<String, Object> context) {
+    String output = delegate.processTemplate(templatePath, context);
+
+    Object snapshot = snapshot(context);
+    if (snapshot != null) {
+      @SuppressWarnings("unchecked")
+      Map<String, Object> recorded = (Map<String, Object>) snapshot;
+      String templateHash = templateHashes.computeIfAbsent(templatePath,
+          path -> GenerationManifest.hash(delegate.getTemplateContent(path)));
+      renders.merge(GenerationManifest.hash(output),
+          new Render(templatePath, templateHash, contextHash(recorded), recorded),
+          (existing, render) -> existing.sameInputs(render) ? existing : AMBIGUOUS);
+    }
+    return output;
+  }
+
+  /**
+   * Builds manifest entries for the generated files that were rendered
+   * unchanged from a template.
+   *
+   * @param projectPath   project root
+   * @param files         files written by the generation
+   * @param pluginVersion version of the plugin that generated them
+   * @return entries for the files that could be traced to a render
+   */
+  public List<ManifestEntry> manifestEntries(Path projectPath, List<GeneratedFile> files, String pluginVersion) {
+    List<ManifestEntry> entries = new ArrayList<>();
+    for (GeneratedFile file : files) {
+      Render render = renders.get(file.contentHash());
+      String path = GenerationManifest.relativePath(projectPath, file.path());
+      if (render == null || render == AMBIGUOUS || path.startsWith("..")) {
+        continue;
+      }
+      entries.add(new ManifestEntry(path, render.templatePath(), render.templateHash(),
+          render.contextHash(), pluginVersion, file.contentHash(), render.context()));
+    }
+    return entries;
+  }
+
+  /**
+   * Computes a stable hash of a template context, independent of map order.
+   *
+   * @param context template context
+   * @return SHA-256 of the context
+   */
+  public static String contextHash(Map<String, Object> context) {
+    return GenerationManifest.hash(String.valueOf(snapshot(context)));
+  }
+
+  /**
+   * Copies a context value into sorted maps and lists, or returns null if it
+   * holds a value that cannot be stored in the manifest.
+   */
+  private static Object snapshot(Object value) {
+    if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean) {
+      return value;
+    }
+    if (value instanceof Map<?, ?> map) {
+      Map<String, Object> copy = new TreeMap<>();
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        Object item = snapshot(entry.getValue());
+        if (!(entry.getKey() instanceof String key) || (item == null && entry.getValue() != null)) {
+          return null;
+        }
+        copy.put(key, item);
+      }
+      return copy;
+    }
+    if (value instanceof List<?> list) {
+      List<Object> copy = new ArrayList<>(list.size());
+      for (Object element : list) {
+        Object item = snapshot(element);
+        if (item == null && element != null) {
+          return null;
+        }
+        copy.add(item);
+      }
+      return copy;
+    }
+    return null;
+  }
+
+  @Override
+  public boolean templateExists(String templatePath) {
+    return delegate.templateExists(templatePath);
+  }
+
+  @Override
+  public String getTemplateContent(String templatePath) {
+    return delegate.getTemplateContent(templatePath);
+  }
+
+  @Override
+  public StructureMetadata loadStructureMetadata(ArchitectureType architecture) {
+    return delegate.loadStructureMetadata(architecture);
+  }
+
+  @Override
+  @Deprecated
+  public AdapterMetadata loadAdapterMetadata(String adapterName) {
+    return delegate.loadAdapterMetadata(adapterName);
+  }
+
+  @Override
+  public AdapterMetadata loadAdapterMetadata(String adapterName, String framework, String paradigm,
+      String adapterType) {
+    return delegate.loadAdapterMetadata(adapterName, framework, paradigm, adapterType);
+  }
+
+  @Override
+  public ValidationResult validateTemplate(String templatePath) {
+    return delegate.validateTemplate(templatePath);
+  }
+
+  @Override
+  public Set<String> extractRequiredVariables(String templatePath) {
+    return delegate.extractRequiredVariables(templatePath);
+  }
+
+  @Override
+  public void invalidate(Collection<String> templatePaths) {
+    delegate.invalidate(templatePaths);
+  }
+}
@@ -2,6 +2,7 @@ package com.pragma.archetype.infrastructure.adapter.out.template;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.yaml.snakeyaml.Yaml;
 
@@ -17,11 +18,17 @@ import com.pragma.archetype.domain.port.out.TemplateRepository.TemplateNotFoundE
  * Parses architecture structure definitions including adapter paths, naming
  * conventions,
  * and layer dependencies.
+ * Parsed metadata is memoized per path and reused while the file content is
+ * unchanged.
  */
 public class StructureMetadataLoader {
 
+  private record ParsedMetadata(String content, StructureMetadata metadata) {
+  }
+
   private final TemplateContentProvider contentProvider;
   private final Yaml yaml;
+  private final Map<String, ParsedMetadata> parsedMetadata = new ConcurrentHashMap<>();
 
   /**
    * Creates a new StructureMetadataLoader.
@@ -45,7 +52,16 @@ public class StructureMetadataLoader {
 
     try {
       String yamlContent = contentProvider.getTemplateContent(structurePath);
-      Map<String, Object> data = yaml.load(yamlContent);
+      ParsedMetadata parsed = parsedMetadata.get(structurePath);
+      if (parsed != null && parsed.content().equals(yamlContent)) {
+        return parsed.metadata();
+      }
+
+      // Yaml instances are not thread-safe
+      Map<String, Object> data;
+      synchronized (yaml) {
+        data = yaml.load(yamlContent);
+      }
 
       // Validate that we have data
       if (data == null || data.isEmpty()) {
@@ -77,6 +93,7 @@ public class StructureMetadataLoader {
             "Invalid structure metadata: " + String.join(", ", validation.errors()));
       }
 
+      parsedMetadata.put(structurePath, new ParsedMetadata(yamlContent, metadata));
       return metadata;
 
     } catch (Exception e) {
@@ -0,0 +1,123 @@
+package com.pragma.archetype.infrastructure.adapter.out.template;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Tracks which templates of a local template directory include or import
+ * which others, so a change to one template can be traced to every template
+ * that renders it.
+ * Paths are relative to the template root and use '/'. Relative include paths
+ * are resolved against the including template's directory, as Freemarker
+ * does.
+ */
+public class TemplateDependencyIndex {
+
+  private static final Pattern DIRECTIVE = Pattern.compile("<#(?:include|import)\\s+[\"']([^\"']+)[\"']");
+  private static final String TEMPLATE_SUFFIX = ".ftl";
+
+  private final Path templateRoot;
+  private final Map<String, Set<String>> includes = new HashMap<>();
+
+  public TemplateDependencyIndex(Path templateRoot) {
+    this.templateRoot = templateRoot;
+  }
+
+  /**
+   * Reads the directives of every template under the root.
+   *
+   * @throws IOException if the root cannot be walked
+   */
+  public void scan() throws IOException {
+    includes.clear();
+    try (Stream<Path> files = Files.walk(templateRoot)) {
+      files.filter(file -> file.getFileName().toString().endsWith(TEMPLATE_SUFFIX))
+          .map(this::templatePath)
+          .forEach(this::update);
+    }
+  }
+
+  /**
+   * Reads the directives of one template again after it changed; a deleted
+   * template is forgotten.
+   *
+   * @param templatePath template path relative to the root
+   */
+  public void update(String templatePath) {
+    Path file = templateRoot.resolve(templatePath);
+    if (!templatePath.endsWith(TEMPLATE_SUFFIX) || !Files.isRegularFile(file)) {
+      includes.remove(templatePath);
+      return;
+    }
+
+    Set<String> included = new LinkedHashSet<>();
+    try {
+      Matcher matcher = DIRECTIVE.matcher(Files.readString(file));
+      while (matcher.find()) {
+        included.add(resolve(templatePath, matcher.group(1)));
+      }
+    } catch (IOException e) {
+      // Unreadable while an editor is saving; the next change event reads it again
+    }
+    includes.put(templatePath, included);
+  }
+
+  /**
+   * Gets the changed templates and every template that includes or imports
+   * one of them, directly or through other templates.
+   *
+   * @param changed changed template paths
+   * @return affected template paths, sorted
+   */
+  public Set<String> affectedBy(Collection<String> changed) {
+    Map<String, Set<String>> includedBy = new HashMap<>();
+    includes.forEach((template, included) -> included
+        .forEach(target -> includedBy.computeIfAbsent(target, k -> new TreeSet<>()).add(template)));
+
+    Set<String> affected = new TreeSet<>(changed);
+    Deque<String> pending = new ArrayDeque<>(changed);
+    while (!pending.isEmpty()) {
+      for (String dependent : includedBy.getOrDefault(pending.pop(), Set.of())) {
+        if (affected.add(dependent)) {
+          pending.push(dependent);
+        }
+      }
+    }
+    return affected;
+  }
+
+  /**
+   * Gets the template path of a file under the root.
+   *
+   * @param file file under the template root
+   * @return path relative to the root, using '/'
+   */
+  public String templatePath(Path file) {
+    return templateRoot.relativize(file).toString().replace('\\', '/');
+  }
+
+  /**
+   * Resolves an include path as Freemarker does: absolute paths start at the
+   * root, others at the including template's directory.
+   */
+  static String resolve(String from, String include) {
+    if (include.startsWith("/")) {
+      return Path.of(include.substring(1)).normalize().toString().replace('\\', '/');
+    }
+    Path parent = Path.of(from).getParent();
+    Path resolved = parent != null ? parent.resolve(include) : Path.of(include);
+    return resolved.normalize().toString().replace('\\', '/');
+  }
+}
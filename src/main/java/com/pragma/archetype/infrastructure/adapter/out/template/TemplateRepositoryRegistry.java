@@ -0,0 +1,134 @@
+package com.pragma.archetype.infrastructure.adapter.out.template;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.pragma.archetype.domain.model.config.TemplateConfig;
+import com.pragma.archetype.domain.port.out.HttpClientPort;
+import com.pragma.archetype.infrastructure.adapter.out.http.OkHttpClientAdapter;
+
+/**
+ * Hands out template repositories, creating one per template source and
+ * reusing it for every later request of the same source.
+ * Reused repositories keep their parsed templates and metadata, which are
+ * revalidated against the template content on use, and all remote
+ * repositories share one HTTP client.
+ *
+ * A registry that outlives builds stays bounded: {@link #refresh()} forgets
+ * the repositories the previous build did not request, and {@link #close()}
+ * shuts down the HTTP client together with the repositories using it.
+ */
+public class TemplateRepositoryRegistry implements AutoCloseable {
+
+  private final Map<Object, FreemarkerTemplateRepository> repositories = new ConcurrentHashMap<>();
+  private final Set<Object> requested = ConcurrentHashMap.newKeySet();
+  private volatile HttpClientPort httpClient;
+
+  /**
+   * Gets the repository for templates in a local directory.
+   *
+   * @param templatesPath base path where templates are located
+   * @return shared repository
+   */
+  public FreemarkerTemplateRepository local(Path templatesPath) {
+    Path key = templatesPath.toAbsolutePath().normalize();
+    requested.add(key);
+    return repositories.computeIfAbsent(key, k -> new FreemarkerTemplateRepository(templatesPath));
+  }
+
+  /**
+   * Gets the repository for a templates URL.
+   *
+   * @param templatesUrl URL to templates repository, or "embedded"
+   * @return shared repository
+   */
+  public FreemarkerTemplateRepository fromUrl(String templatesUrl) {
+    requested.add(templatesUrl);
+    return repositories.computeIfAbsent(templatesUrl, k -> new FreemarkerTemplateRepository(templatesUrl));
+  }
+
+  /**
+   * Gets the repository for a template configuration.
+   *
+   * @param templateConfig template configuration
+   * @return shared repository
+   */
+  public FreemarkerTemplateRepository configured(TemplateConfig templateConfig) {
+    requested.add(templateConfig);
+    return repositories.computeIfAbsent(templateConfig,
+        k -> new FreemarkerTemplateRepository(templateConfig, httpClient()));
+  }
+
+  /**
+   * Gets the HTTP client shared by remote repositories.
+   *
+   * @return shared client
+   */
+  public HttpClientPort httpClient() {
+    HttpClientPort client = httpClient;
+    if (client == null) {
+      synchronized (this) {
+        client = httpClient;
+        if (client == null) {
+          client = new OkHttpClientAdapter();
+          httpClient = client;
+        }
+      }
+    }
+    return client;
+  }
+
+  /**
+   * Prepares reused repositories for a new build. Repositories not requested
+   * since the previous refresh are forgotten, so sources a build stopped
+   * using do not keep their templates in memory.
+   *
+   * @see FreemarkerTemplateRepository#refresh()
+   */
+  public void refresh() {
+    repositories.keySet().retainAll(requested);
+    requested.clear();
+    repositories.values().forEach(FreemarkerTemplateRepository::refresh);
+  }
+
+  /**
+   * Forgets all repositories, e.g. after the template cache was cleared.
+   */
+  public void clear() {
+    repositories.clear();
+    requested.clear();
+  }
+
+  /**
+   * Shuts down the shared HTTP client and forgets the repositories created
+   * with it. Local and URL repositories stay for reuse; a later remote
+   * request gets a new client.
+   */
+  @Override
+  public synchronized void close() {
+    HttpClientPort client = httpClient;
+    if (client == null) {
+      return;
+    }
+    httpClient = null;
+    repositories.keySet().removeIf(TemplateConfig.class::isInstance);
+    if (client instanceof AutoCloseable closeable) {
+      try {
+        closeable.close();
+      } catch (Exception e) {
+        throw new IllegalStateException("Failed to close HTTP client: " + e.getMessage(), e);
+      }
+    }
+  }
+
+  /**
+   * Gets the number of repositories currently held.
+   *
+   * @return repository count
+   */
+  public int size() {
+    return repositories.size();
+  }
+}
@@ -0,0 +1,211 @@
+package com.pragma.archetype.infrastructure.adapter.out.template;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import com.pragma.archetype.domain.model.file.GeneratedFile;
+import com.pragma.archetype.domain.model.manifest.GenerationManifest;
+import com.pragma.archetype.domain.model.manifest.ManifestEntry;
+import com.pragma.archetype.domain.port.out.FileSystemPort;
+import com.pragma.archetype.domain.port.out.TemplateRepository;
+
+/**
+ * Re-renders generated files into a scratch project whenever the local
+ * templates they came from change.
+ * The files and their template contexts come from a project's generation
+ * manifest. On a change only the edited templates and the templates that
+ * include them are recompiled, and only the files rendered from those are
+ * written again.
+ */
+public class TemplateWatcher {
+
+  /**
+   * One render of the scratch project.
+   *
+   * @param number   cycle number, 1 for the initial render
+   * @param changed  template files that changed
+   * @param affected templates that were recompiled
+   * @param rendered files written, relative to the scratch project
+   * @param failures files that failed to render, with the error
+   * @param elapsed  time taken by the cycle
+   */
+  public record Cycle(
+      int number,
+      Set<String> changed,
+      Set<String> affected,
+      List<String> rendered,
+      Map<String, String> failures,
+      Duration elapsed) {
+  }
+
+  /**
+   * Receives every completed cycle.
+   */
+  public interface Listener {
+    void cycleCompleted(Cycle cycle);
+  }
+
+  private final Path templateRoot;
+  private final TemplateRepository templateRepository;
+  private final List<ManifestEntry> entries;
+  private final Path scratchPath;
+  private final FileSystemPort fileSystemPort;
+  private final TemplateDependencyIndex dependencies;
+  private int cycles;
+
+  public TemplateWatcher(Path templateRoot, TemplateRepository templateRepository, GenerationManifest manifest,
+      Path scratchPath, FileSystemPort fileSystemPort) {
+    this.templateRoot = templateRoot.toAbsolutePath().normalize();
+    this.templateRepository = templateRepository;
+    this.entries = manifest.entries();
+    this.scratchPath = scratchPath;
+    this.fileSystemPort = fileSystemPort;
+    this.dependencies = new TemplateDependencyIndex(this.templateRoot);
+  }
+
+  /**
+   * Renders every file of the manifest.
+   *
+   * @return the initial cycle
+   * @throws IOException if the template root cannot be read
+   */
+  public Cycle renderAll() throws IOException {
+    long start = System.nanoTime();
+    dependencies.scan();
+
+    Set<String> templates = new TreeSet<>();
+    entries.forEach(entry -> templates.add(entry.templatePath()));
+    return render(Set.of(), templates, start);
+  }
+
+  /**
+   * Re-renders the files that depend on changed templates.
+   *
+   * @param changed changed template paths, relative to the template root
+   * @return the cycle
+   */
+  public Cycle templatesChanged(Set<String> changed) {
+    long start = System.nanoTime();
+    changed.forEach(dependencies::update);
+
+    Set<String> affected = dependencies.affectedBy(changed);
+    templateRepository.invalidate(affected);
+    return render(changed, affected, start);
+  }
+
+  /**
+   * Watches the template root and runs a cycle for each batch of changes.
+   * Changes that arrive within the debounce interval of each other, such as
+   * the several events of one save, make one batch.
+   *
+   * @param debounce  quiet time that ends a batch
+   * @param maxCycles number of change cycles to run, 0 to watch until
+   *                  interrupted
+   * @param listener  receives each cycle
+   * @throws IOException          if the root cannot be watched
+   * @throws InterruptedException if interrupted while waiting for changes
+   */
+  public void watch(Duration debounce, int maxCycles, Listener listener) throws IOException, InterruptedException {
+    try (WatchService watchService = templateRoot.getFileSystem().newWatchService()) {
+      register(templateRoot, watchService);
+
+      for (int completed = 0; maxCycles == 0 || completed < maxCycles;) {
+        Set<String> changed = new TreeSet<>();
+        collect(watchService.take(), changed, watchService);
+
+        WatchKey next;
+        while ((next = watchService.poll(debounce.toMillis(), TimeUnit.MILLISECONDS)) != null) {
+          collect(next, changed, watchService);
+        }
+
+        if (!changed.isEmpty()) {
+          listener.cycleCompleted(templatesChanged(changed));
+          completed++;
+        }
+      }
+    }
+  }
+
+  private Cycle render(Set<String> changed, Set<String> affected, long start) {
+    List<GeneratedFile> files = new ArrayList<>();
+    Map<String, String> failures = new LinkedHashMap<>();
+    for (ManifestEntry entry : entries) {
+      if (!affected.contains(entry.templatePath())) {
+        continue;
+      }
+      try {
+        String content = templateRepository.processTemplate(entry.templatePath(), entry.context());
+        files.add(GeneratedFile.create(scratchPath.resolve(entry.path()), content));
+      } catch (RuntimeException e) {
+        failures.put(entry.path(), e.getCause() != null
+            ? e.getMessage() + ": " + e.getCause().getMessage()
+            : e.getMessage());
+      }
+    }
+    fileSystemPort.writeFiles(files);
+
+    cycles++;
+    List<String> rendered = files.stream()
+        .map(file -> GenerationManifest.relativePath(scratchPath, file.path()))
+        .toList();
+    return new Cycle(cycles, changed, affected, rendered, failures, Duration.ofNanos(System.nanoTime() - start));
+  }
+
+  /**
+   * Adds the template files of a watch key's events to the batch, and starts
+   * watching directories that were created.
+   */
+  private void collect(WatchKey key, Set<String> changed, WatchService watchService) throws IOException {
+    Path directory = (Path) key.watchable();
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (event.kind() == OVERFLOW) {
+        // Events were lost, so every rendered template may have changed
+        entries.forEach(entry -> changed.add(entry.templatePath()));
+        continue;
+      }
+
+      Path file = directory.resolve((Path) event.context());
+      String name = file.getFileName().toString();
+      // Editors' swap and backup files
+      if (name.startsWith(".") || name.endsWith("~")) {
+        continue;
+      }
+      if (event.kind() == ENTRY_CREATE && Files.isDirectory(file)) {
+        register(file, watchService);
+        continue;
+      }
+      changed.add(dependencies.templatePath(file));
+    }
+    key.reset();
+  }
+
+  /**
+   * Watches a directory and its subdirectories; a WatchService only reports
+   * changes to the directory's direct children.
+   */
+  private void register(Path directory, WatchService watchService) throws IOException {
+    try (Stream<Path> directories = Files.walk(directory)) {
+      for (Path path : directories.filter(Files::isDirectory).toList()) {
+        path.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+      }
+    }
+  }
+}
@@ -2,15 +2,23 @@ package com.pragma.archetype.infrastructure.config;
 
 import org.gradle.api.Plugin;
 import org.gradle.api.Project;
+import org.gradle.api.provider.Provider;
 
 import com.pragma.archetype.infrastructure.adapter.in.gradle.ClearTemplateCacheTask;
 import com.pragma.archetype.infrastructure.adapter.in.gradle.GenerateEntityTask;
+import com.pragma.archetype.infrastructure.adapter.in.gradle.GenerateFromSpecTask;
 import com.pragma.archetype.infrastructure.adapter.in.gradle.GenerateInputAdapterTask;
 import com.pragma.archetype.infrastructure.adapter.in.gradle.GenerateOutputAdapterTask;
 import com.pragma.archetype.infrastructure.adapter.in.gradle.GenerateUseCaseTask;
+import com.pragma.archetype.infrastructure.adapter.in.gradle.GeneratorDaemonTask;
 import com.pragma.archetype.infrastructure.adapter.in.gradle.InitCleanArchTask;
+import com.pragma.archetype.infrastructure.adapter.in.gradle.PruneBackupsTask;
+import com.pragma.archetype.infrastructure.adapter.in.gradle.RegenerateTask;
+import com.pragma.archetype.infrastructure.adapter.in.gradle.TemplateBuildService;
+import com.pragma.archetype.infrastructure.adapter.in.gradle.TemplateTask;
 import com.pragma.archetype.infrastructure.adapter.in.gradle.UpdateTemplatesTask;
 import com.pragma.archetype.infrastructure.adapter.in.gradle.ValidateTemplatesTask;
+import com.pragma.archetype.infrastructure.adapter.in.gradle.WatchTemplatesTask;
 
 /**
  * Gradle plugin for Clean Architecture Generator.
@@ -18,8 +26,27 @@ import com.pragma.archetype.infrastructure.adapter.in.gradle.ValidateTemplatesTa
  */
 public class CleanArchPlugin implements Plugin<Project> {
 
+  /**
+   * Gets the plugin version from the jar manifest, or "dev" when running from
+   * classes that were not packaged.
+   *
+   * @return plugin version
+   */
+  public static String version() {
+    return PluginVersion.current();
+  }
+
   @Override
   public void apply(Project project) {
+    // Share template repositories and their caches across all tasks of the build
+    Provider<TemplateBuildService> templateService = project.getGradle().getSharedServices()
+        .registerIfAbsent(TemplateBuildService.NAME, TemplateBuildService.class, spec -> {
+        });
+    project.getTasks().withType(TemplateTask.class).configureEach(task -> {
+      task.getTemplateService().set(templateService);
+      task.usesService(templateService);
+    });
+
     // Register initCleanArch task
     project.getTasks().register("initCleanArch", InitCleanArchTask.class, task -> {
       task.setGroup("clean architecture");
@@ -50,6 +77,12 @@ public class CleanArchPlugin implements Plugin<Project> {
       task.setDescription("Generate an input adapter (REST controller, GraphQL resolver, etc.)");
     });
 
+    // Register generateFromSpec task
+    project.getTasks().register("generateFromSpec", GenerateFromSpecTask.class, task -> {
+      task.setGroup("clean architecture");
+      task.setDescription("Generate entities, use cases and adapters from a YAML or JSON spec");
+    });
+
     // Register updateTemplates task
     project.getTasks().register("updateTemplates", UpdateTemplatesTask.class, task -> {
       task.setGroup("clean architecture");
@@ -68,6 +101,30 @@ public class CleanArchPlugin implements Plugin<Project> {
       task.setDescription("Validate architecture and adapter templates");
     });
 
+    // Register pruneBackups task
+    project.getTasks().register("pruneBackups", PruneBackupsTask.class, task -> {
+      task.setGroup("clean architecture");
+      task.setDescription("Delete old generation backups according to a retention policy");
+    });
+
+    // Register regenerate task
+    project.getTasks().register("regenerate", RegenerateTask.class, task -> {
+      task.setGroup("clean architecture");
+      task.setDescription("Re-render generated files whose templates or plugin version changed");
+    });
+
+    // Register generatorDaemon task
+    project.getTasks().register("generatorDaemon", GeneratorDaemonTask.class, task -> {
+      task.setGroup("clean architecture");
+      task.setDescription("Serve generation requests over a local socket with templates kept warm");
+    });
+
+    // Register watchTemplates task
+    project.getTasks().register("watchTemplates", WatchTemplatesTask.class, task -> {
+      task.setGroup("clean architecture");
+      task.setDescription("Re-render generated files into a scratch project as local templates change");
+    });
+
     // Future tasks will be registered here:
     // - listComponents
   }
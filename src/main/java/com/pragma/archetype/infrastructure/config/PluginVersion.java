@@ -0,0 +1,22 @@
+package com.pragma.archetype.infrastructure.config;
+
+/**
+ * Version of the generator, read from the jar manifest.
+ * Kept free of the Gradle API so entry points outside Gradle can use it.
+ */
+public final class PluginVersion {
+
+  private PluginVersion() {
+  }
+
+  /**
+   * Gets the version from the jar manifest, or "dev" when running from
+   * classes that were not packaged.
+   *
+   * @return generator version
+   */
+  public static String current() {
+    String version = PluginVersion.class.getPackage().getImplementationVersion();
+    return version != null ? version : "dev";
+  }
+}
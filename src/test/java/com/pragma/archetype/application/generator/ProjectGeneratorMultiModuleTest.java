@@ -1,12 +1,17 @@
 package com.pragma.archetype.application.generator;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -20,6 +25,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.pragma.archetype.application.generator.ProjectGenerator.ModuleGenerationException;
 import com.pragma.archetype.domain.model.config.ProjectConfig;
 import com.pragma.archetype.domain.model.file.GeneratedFile;
 import com.pragma.archetype.domain.model.project.ArchitectureType;
@@ -234,4 +240,52 @@ class ProjectGeneratorMultiModuleTest {
     assertNotNull(files);
     assertFalse(files.isEmpty());
   }
+
+  @Test
+  void shouldMergeParallelModulesInModuleOrder() {
+    // Given
+    ProjectConfig config = ProjectConfig.builder()
+        .name("payment-service")
+        .basePackage("com.company.payment")
+        .architecture(ArchitectureType.HEXAGONAL_MULTI_GRANULAR)
+        .paradigm(Paradigm.REACTIVE)
+        .framework(Framework.SPRING)
+        .pluginVersion("1.0.0")
+        .build();
+    ProjectGenerator sequential = new ProjectGenerator(templateRepository, fileSystemPort, 1);
+    ProjectGenerator parallel = new ProjectGenerator(templateRepository, fileSystemPort, 4);
+
+    // When
+    List<Path> expected = sequential.generateProject(projectPath, config).stream().map(GeneratedFile::path).toList();
+    List<Path> actual = parallel.generateProject(projectPath, config).stream().map(GeneratedFile::path).toList();
+
+    // Then
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  void shouldReportEveryFailedModule() {
+    // Given
+    ProjectConfig config = ProjectConfig.builder()
+        .name("payment-service")
+        .basePackage("com.company.payment")
+        .architecture(ArchitectureType.HEXAGONAL_MULTI_GRANULAR)
+        .paradigm(Paradigm.REACTIVE)
+        .framework(Framework.SPRING)
+        .pluginVersion("1.0.0")
+        .build();
+    when(templateRepository.processTemplate(contains("/modules/domain-"), anyMap()))
+        .thenThrow(new RuntimeException("template missing"));
+    ProjectGenerator parallel = new ProjectGenerator(templateRepository, fileSystemPort, 4);
+
+    // When
+    ModuleGenerationException exception = assertThrows(ModuleGenerationException.class,
+        () -> parallel.generateProject(projectPath, config));
+
+    // Then
+    assertTrue(exception.getMessage().startsWith("Failed to generate 3 of 4 module(s)"));
+    assertTrue(exception.getMessage().contains("domain/ports: template missing"));
+    assertEquals(2, exception.getSuppressed().length);
+    verify(fileSystemPort, never()).writeFiles(anyList());
+  }
 }
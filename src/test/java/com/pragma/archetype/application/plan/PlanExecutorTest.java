@@ -0,0 +1,177 @@
+package com.pragma.archetype.application.plan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.pragma.archetype.application.plan.PlanExecution.PlanExecutionException;
+import com.pragma.archetype.application.plan.PlanNode.Kind;
+
+class PlanExecutorTest {
+
+  @Test
+  void shouldRunStepsInPlanOrderWhenSequential() {
+    // Given
+    List<String> order = new ArrayList<>();
+    GenerationPlan plan = new GenerationPlan("test")
+        .add(PlanNode.of("fetch", Kind.FETCH, null, results -> record(order, "fetch", "config")))
+        .add(PlanNode.of("render", Kind.RENDER, null, results -> record(order, "render", results.get("fetch") + "!"))
+            .after("fetch"))
+        .add(PlanNode.of("write", Kind.WRITE, null, results -> record(order, "write", null)).after("render"));
+
+    // When
+    PlanExecution execution = PlanExecutor.sequential().execute(plan);
+
+    // Then
+    assertTrue(execution.succeeded());
+    assertEquals(List.of("fetch", "render", "write"), order);
+    assertEquals("config!", execution.get("render"));
+    assertEquals(null, execution.<Object>get("write"));
+    assertEquals(List.of("fetch", "render", "write"), List.copyOf(execution.timings().keySet()));
+  }
+
+  @Test
+  void shouldRunIndependentStepsConcurrently() {
+    // Given: each step waits until the other has started
+    CountDownLatch started = new CountDownLatch(2);
+    PlanNode.Action meet = results -> {
+      started.countDown();
+      return started.await(5, TimeUnit.SECONDS);
+    };
+    GenerationPlan plan = new GenerationPlan("test")
+        .add(PlanNode.of("a", Kind.RENDER, null, meet))
+        .add(PlanNode.of("b", Kind.RENDER, null, meet))
+        .add(PlanNode.of("write", Kind.WRITE, null,
+            results -> results.<Boolean>get("a") && results.<Boolean>get("b")).after("a", "b"));
+
+    // When
+    PlanExecution execution = new PlanExecutor(2).execute(plan);
+
+    // Then
+    assertTrue(execution.succeeded());
+    assertTrue(execution.<Boolean>get("write"));
+  }
+
+  @Test
+  void shouldRecordErrorsOfConcurrentSteps() {
+    // Given
+    GenerationPlan plan = new GenerationPlan("test").continueOnFailure()
+        .add(PlanNode.of("render", Kind.RENDER, null, results -> {
+          throw new StackOverflowError("Template recursion");
+        }))
+        .add(PlanNode.of("fetch", Kind.FETCH, null, results -> "config"))
+        .add(PlanNode.of("write", Kind.WRITE, null, results -> "written").after("render", "fetch"));
+
+    // When
+    PlanExecution execution = new PlanExecutor(2).execute(plan);
+
+    // Then
+    assertFalse(execution.succeeded());
+    assertTrue(execution.failures().get("render") instanceof StackOverflowError);
+    assertEquals(List.of("write"), execution.skipped());
+    assertThrows(PlanExecutionException.class, execution::throwIfFailed);
+  }
+
+  @Test
+  void shouldStopAfterFirstFailureByDefault() {
+    // Given
+    List<String> order = Collections.synchronizedList(new ArrayList<>());
+    GenerationPlan plan = new GenerationPlan("test")
+        .add(PlanNode.of("render", Kind.RENDER, null, results -> {
+          throw new IllegalStateException("Template broken");
+        }))
+        .add(PlanNode.of("merge", Kind.MERGE, null, results -> record(order, "merge", null)));
+
+    // When
+    PlanExecution execution = PlanExecutor.sequential().execute(plan);
+
+    // Then
+    assertFalse(execution.succeeded());
+    assertTrue(order.isEmpty());
+    assertEquals(List.of("merge"), execution.skipped());
+    IllegalStateException thrown = assertThrows(IllegalStateException.class, execution::throwIfFailed);
+    assertEquals("Template broken", thrown.getMessage());
+  }
+
+  @Test
+  void shouldReportEveryFailureWhenContinuingOnFailure() {
+    // Given
+    GenerationPlan plan = new GenerationPlan("test").continueOnFailure()
+        .add(PlanNode.of("a", Kind.RENDER, null, results -> {
+          throw new IllegalStateException("a failed");
+        }))
+        .add(PlanNode.of("b", Kind.RENDER, null, results -> {
+          throw new IllegalStateException("b failed");
+        }))
+        .add(PlanNode.of("c", Kind.RENDER, null, results -> "c"))
+        .add(PlanNode.of("write", Kind.WRITE, null, results -> "written").after("a", "b", "c"));
+
+    // When
+    PlanExecution execution = new PlanExecutor(3).execute(plan);
+
+    // Then
+    assertEquals(List.of("a", "b"), List.copyOf(execution.failures().keySet()));
+    assertEquals("c", execution.get("c"));
+    assertEquals(List.of("write"), execution.skipped());
+    PlanExecutionException thrown = assertThrows(PlanExecutionException.class, execution::throwIfFailed);
+    assertEquals("Failed to run 2 of 4 step(s) of test: a failed", thrown.getMessage());
+    assertSame(execution.failures().get("a"), thrown.getCause());
+    assertEquals(1, thrown.getSuppressed().length);
+  }
+
+  @Test
+  void shouldNotifyListener() {
+    // Given
+    List<String> events = new ArrayList<>();
+    PlanExecutor executor = new PlanExecutor(1, new PlanExecutor.Listener() {
+      @Override
+      public void planned(GenerationPlan plan) {
+        events.addAll(plan.describe());
+      }
+
+      @Override
+      public void completed(PlanExecution execution) {
+        events.add("completed " + execution.timings().size());
+      }
+    });
+    GenerationPlan plan = new GenerationPlan("test")
+        .add(PlanNode.of("fetch", Kind.FETCH, "Read configuration", results -> "config"))
+        .add(PlanNode.of("render", Kind.RENDER, "Render entity", results -> "file").after("fetch"));
+
+    // When
+    executor.execute(plan);
+
+    // Then
+    assertEquals(List.of(
+        "FETCH fetch: Read configuration",
+        "RENDER render: Render entity (after fetch)",
+        "completed 2"), events);
+  }
+
+  @Test
+  void shouldRejectInvalidPlans() {
+    GenerationPlan plan = new GenerationPlan("test")
+        .add(PlanNode.of("fetch", Kind.FETCH, null, results -> null));
+
+    assertThrows(IllegalArgumentException.class,
+        () -> plan.add(PlanNode.of("fetch", Kind.FETCH, null, results -> null)));
+    assertThrows(IllegalArgumentException.class,
+        () -> plan.add(PlanNode.of("render", Kind.RENDER, null, results -> null).after("missing")));
+    assertThrows(IllegalArgumentException.class, () -> new PlanExecutor(0));
+  }
+
+  private static String record(List<String> order, String step, String result) {
+    order.add(step);
+    return result;
+  }
+}
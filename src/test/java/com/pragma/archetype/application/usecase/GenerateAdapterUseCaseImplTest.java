@@ -1,16 +1,22 @@
 package com.pragma.archetype.application.usecase;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
@@ -25,6 +31,7 @@ import com.pragma.archetype.application.generator.AdapterGenerator;
 import com.pragma.archetype.domain.model.adapter.AdapterConfig;
 import com.pragma.archetype.domain.model.adapter.AdapterType;
 import com.pragma.archetype.domain.model.adapter.AdapterMetadata;
+import com.pragma.archetype.domain.model.file.GeneratedFile;
 import com.pragma.archetype.domain.model.validation.ValidationResult;
 import com.pragma.archetype.domain.port.in.GenerateAdapterUseCase.GenerationResult;
 import com.pragma.archetype.domain.port.out.ConfigurationPort;
@@ -32,6 +39,9 @@ import com.pragma.archetype.domain.port.out.FileSystemPort;
 import com.pragma.archetype.domain.port.out.TemplateRepository;
 import com.pragma.archetype.domain.service.AdapterValidator;
 import com.pragma.archetype.infrastructure.adapter.out.config.YamlConfigurationAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.filesystem.JournalingFileSystemAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.filesystem.LocalFileSystemAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.filesystem.TransactionalFileSystemAdapter;
 
 /**
  * Unit tests for GenerateAdapterUseCaseImpl.
@@ -106,6 +116,128 @@ class GenerateAdapterUseCaseImplTest {
     verify(yamlConfigurationAdapter).writeYaml(any(), eq(mergedProps));
   }
 
+  @Test
+  void shouldWriteApplicationPropertiesOnceWhenGeneratingSeveralAdapters() {
+    // Given
+    AdapterConfig first = createAdapterConfig("mongodb");
+    AdapterConfig second = createAdapterConfig("mongodb");
+    AdapterMetadata metadata = createAdapterMetadataWithProperties();
+
+    when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+    when(configurationPort.readConfiguration(any())).thenReturn(Optional.empty());
+    when(generator.generate(any(), any(), any())).thenReturn(List.of());
+    when(templateRepository.loadAdapterMetadata(anyString())).thenReturn(metadata);
+    when(templateRepository.processTemplate(anyString(), anyMap()))
+        .thenReturn("spring:\n  data:\n    mongodb:\n      uri: mongodb://localhost:27017/test");
+
+    Map<String, Object> existingProps = new HashMap<>();
+    Map<String, Object> mergedProps = new HashMap<>();
+    when(yamlConfigurationAdapter.readYaml(any())).thenReturn(existingProps);
+    when(yamlConfigurationAdapter.mergeYaml(any(), any())).thenReturn(mergedProps);
+
+    // When
+    List<GenerationResult> results = useCase.executeAll(tempDir, List.of(first, second));
+
+    // Then
+    assertEquals(2, results.size());
+    assertTrue(results.stream().allMatch(GenerationResult::success));
+    verify(yamlConfigurationAdapter, times(1)).readYaml(any());
+    verify(yamlConfigurationAdapter, times(2)).mergeYaml(any(), any());
+    verify(yamlConfigurationAdapter, times(1)).writeYaml(any(), eq(mergedProps));
+    verify(fileSystemPort, times(1)).flush();
+  }
+
+  @Test
+  void shouldReadProjectConfigurationAndMetadataOnceWhenGeneratingSeveralAdapters() {
+    // Given
+    AdapterMetadata metadata = createAdapterMetadataWithProperties();
+
+    when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+    when(configurationPort.readConfiguration(any())).thenReturn(Optional.of(createProjectConfig()));
+    when(generator.generate(any(), any(), any())).thenReturn(List.of());
+    when(templateRepository.loadAdapterMetadata(anyString(), anyString(), anyString(), anyString()))
+        .thenReturn(metadata);
+    when(templateRepository.processTemplate(anyString(), anyMap()))
+        .thenReturn("spring:\n  data:\n    mongodb:\n      uri: mongodb://localhost:27017/test");
+    when(yamlConfigurationAdapter.readYaml(any())).thenReturn(new HashMap<>());
+    when(yamlConfigurationAdapter.mergeYaml(any(), any())).thenReturn(new HashMap<>());
+
+    // When
+    List<GenerationResult> results = useCase.executeAll(tempDir,
+        List.of(createAdapterConfig("mongodb"), createAdapterConfig("mongodb")));
+
+    // Then: one read for the batch, one metadata load per adapter, and the
+    // properties template sees the project's name
+    assertTrue(results.stream().allMatch(GenerationResult::success));
+    verify(configurationPort, times(1)).readConfiguration(tempDir);
+    verify(templateRepository, times(2)).loadAdapterMetadata(anyString(), anyString(), anyString(), anyString());
+    verify(templateRepository, times(2)).processTemplate(anyString(),
+        argThat(context -> "test-project".equals(context.get("projectName"))));
+  }
+
+  @Test
+  void shouldRollBackOnlyTheFailedAdapterWhenGeneratingSeveralAdapters() throws Exception {
+    // Given a transactional port over the project; the second adapter edits
+    // settings, stages its source and queues properties, then fails writing a
+    // configuration class
+    Path settings = tempDir.resolve("settings.gradle.kts");
+    Files.writeString(settings, "rootProject.name = \"test\"\n");
+    FileSystemPort port = spy(new JournalingFileSystemAdapter(
+        new TransactionalFileSystemAdapter(new LocalFileSystemAdapter(), tempDir)));
+    GenerateAdapterUseCaseImpl batchUseCase = new GenerateAdapterUseCaseImpl(validator, generator,
+        configurationPort, port, templateRepository, new YamlConfigurationAdapter(port), backupService);
+
+    AdapterMetadata withProperties = new AdapterMetadata("adapter", "driven", "Adapter", List.of(), List.of(),
+        "application-properties.yml.ftl", List.of());
+    AdapterMetadata withBrokenConfig = new AdapterMetadata("mongodb", "driven", "MongoDB adapter", List.of(),
+        List.of(), "application-properties.yml.ftl",
+        List.of(new AdapterMetadata.ConfigurationClass("BrokenConfig", "infrastructure.config",
+            "BrokenConfig.java.ftl")));
+
+    when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+    when(configurationPort.readConfiguration(any())).thenReturn(Optional.of(createProjectConfig()));
+    when(templateRepository.loadAdapterMetadata(anyString(), anyString(), anyString(), anyString()))
+        .thenReturn(withProperties);
+    when(templateRepository.loadAdapterMetadata(eq("mongodb"), anyString(), anyString(), anyString()))
+        .thenReturn(withBrokenConfig);
+    when(templateRepository.processTemplate(anyString(), anyMap())).thenAnswer(invocation -> {
+      String template = invocation.getArgument(0);
+      String type = template.split("/")[1];
+      return template.endsWith(".yml.ftl") ? type + ":\n  host: localhost\n" : "class BrokenConfig {}";
+    });
+    when(generator.generate(any(), any(), any())).thenAnswer(invocation -> {
+      AdapterConfig config = invocation.getArgument(1);
+      port.writeFile(GeneratedFile.create(settings,
+          port.readFile(settings) + "include(\":" + config.name() + "\")\n"));
+      return List.of(GeneratedFile.javaSource(tempDir.resolve(config.name() + ".java"),
+          "class " + config.name() + " {}"));
+    });
+    doThrow(new FileSystemPort.FileWriteException("Disk full"))
+        .when(port).writeFile(argThat(file -> file != null && file.path().endsWith("BrokenConfig.java")));
+
+    // When
+    List<GenerationResult> results = batchUseCase.executeAll(tempDir, List.of(
+        namedAdapterConfig("Cache", AdapterType.REDIS),
+        namedAdapterConfig("Documents", AdapterType.MONGODB),
+        namedAdapterConfig("Orders", AdapterType.POSTGRESQL)));
+
+    // Then the first and third adapters are written, nothing of the second
+    assertTrue(results.get(0).success());
+    assertTrue(results.get(1).isFailure());
+    assertTrue(results.get(2).success());
+
+    assertEquals("rootProject.name = \"test\"\ninclude(\":Cache\")\ninclude(\":Orders\")\n",
+        Files.readString(settings));
+    assertTrue(Files.exists(tempDir.resolve("Cache.java")));
+    assertTrue(Files.exists(tempDir.resolve("Orders.java")));
+    assertFalse(Files.exists(tempDir.resolve("Documents.java")));
+
+    String applicationYml = Files.readString(tempDir.resolve("src/main/resources/application.yml"));
+    assertTrue(applicationYml.contains("redis:"));
+    assertTrue(applicationYml.contains("postgresql:"));
+    assertFalse(applicationYml.contains("mongodb:"));
+  }
+
   @Test
   void shouldSkipMergingWhenAdapterHasNoPropertiesTemplate() {
     // Given
@@ -752,6 +884,15 @@ class GenerateAdapterUseCaseImplTest {
         .build();
   }
 
+  private AdapterConfig namedAdapterConfig(String name, AdapterType type) {
+    return AdapterConfig.builder()
+        .name(name)
+        .type(type)
+        .packageName("com.test.adapter")
+        .entityName("TestEntity")
+        .build();
+  }
+
   private AdapterMetadata createAdapterMetadataWithProperties() {
     return new AdapterMetadata(
         "mongodb",
@@ -0,0 +1,338 @@
+package com.pragma.archetype.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.pragma.archetype.application.generator.EntityGenerator;
+import com.pragma.archetype.application.generator.InputAdapterGenerator;
+import com.pragma.archetype.application.generator.UseCaseGenerator;
+import com.pragma.archetype.domain.model.adapter.AdapterConfig;
+import com.pragma.archetype.domain.model.adapter.AdapterType;
+import com.pragma.archetype.domain.model.config.ProjectConfig;
+import com.pragma.archetype.domain.model.entity.EntityConfig;
+import com.pragma.archetype.domain.model.entity.EntityField;
+import com.pragma.archetype.domain.model.file.GeneratedFile;
+import com.pragma.archetype.domain.model.project.ArchitectureType;
+import com.pragma.archetype.domain.model.project.Framework;
+import com.pragma.archetype.domain.model.project.Paradigm;
+import com.pragma.archetype.domain.model.spec.GenerationSpec;
+import com.pragma.archetype.domain.model.usecase.UseCaseConfig;
+import com.pragma.archetype.domain.model.validation.ValidationResult;
+import com.pragma.archetype.domain.port.in.GenerateAdapterUseCase;
+import com.pragma.archetype.domain.port.in.GenerateFromSpecUseCase.GenerationResult;
+import com.pragma.archetype.domain.port.out.ConfigurationPort;
+import com.pragma.archetype.domain.port.out.FileSystemPort;
+import com.pragma.archetype.domain.service.AdapterValidator;
+import com.pragma.archetype.domain.service.EntityValidator;
+import com.pragma.archetype.domain.service.InputAdapterValidator;
+import com.pragma.archetype.domain.service.UseCaseValidator;
+import com.pragma.archetype.infrastructure.adapter.out.filesystem.JournalingFileSystemAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.filesystem.LocalFileSystemAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.filesystem.TransactionalFileSystemAdapter;
+
+@ExtendWith(MockitoExtension.class)
+class GenerateFromSpecUseCaseImplTest {
+
+  private static final Path PROJECT = Path.of("/project");
+
+  @Mock
+  private EntityValidator entityValidator;
+
+  @Mock
+  private EntityGenerator entityGenerator;
+
+  @Mock
+  private UseCaseValidator useCaseValidator;
+
+  @Mock
+  private UseCaseGenerator useCaseGenerator;
+
+  @Mock
+  private InputAdapterValidator inputAdapterValidator;
+
+  @Mock
+  private InputAdapterGenerator inputAdapterGenerator;
+
+  @Mock
+  private AdapterValidator adapterValidator;
+
+  @Mock
+  private GenerateAdapterUseCase adapterUseCase;
+
+  @Mock
+  private ConfigurationPort configurationPort;
+
+  @Mock
+  private FileSystemPort fileSystemPort;
+
+  private GenerateFromSpecUseCaseImpl useCase;
+  private ProjectConfig projectConfig;
+
+  @BeforeEach
+  void setUp() {
+    useCase = new GenerateFromSpecUseCaseImpl(
+        entityValidator, entityGenerator,
+        useCaseValidator, useCaseGenerator,
+        inputAdapterValidator, inputAdapterGenerator,
+        adapterValidator, adapterUseCase,
+        configurationPort, fileSystemPort, 4);
+
+    projectConfig = ProjectConfig.builder()
+        .name("test-project")
+        .basePackage("com.test")
+        .architecture(ArchitectureType.HEXAGONAL_SINGLE)
+        .paradigm(Paradigm.REACTIVE)
+        .framework(Framework.SPRING)
+        .pluginVersion("1.0.0")
+        .build();
+  }
+
+  @Test
+  void shouldRenderComponentsAndWriteThemTogether() {
+    // Given
+    EntityConfig user = entity("User");
+    EntityConfig order = entity("Order");
+    UseCaseConfig createUser = useCase("CreateUser");
+    GenerationSpec spec = new GenerationSpec(List.of(user, order), List.of(createUser), null, null);
+
+    GeneratedFile userFile = GeneratedFile.javaSource(PROJECT.resolve("User.java"), "class User {}");
+    GeneratedFile orderFile = GeneratedFile.javaSource(PROJECT.resolve("Order.java"), "class Order {}");
+    GeneratedFile useCaseFile = GeneratedFile.javaSource(PROJECT.resolve("CreateUser.java"), "interface CreateUser {}");
+
+    when(configurationPort.readConfiguration(PROJECT)).thenReturn(Optional.of(projectConfig));
+    when(entityValidator.validate(eq(PROJECT), any())).thenReturn(ValidationResult.success());
+    when(useCaseValidator.validate(PROJECT, createUser)).thenReturn(ValidationResult.success());
+    when(entityGenerator.generateEntity(PROJECT, projectConfig, user)).thenReturn(List.of(userFile));
+    when(entityGenerator.generateEntity(PROJECT, projectConfig, order)).thenReturn(List.of(orderFile));
+    when(useCaseGenerator.generate(PROJECT, createUser)).thenReturn(List.of(useCaseFile));
+
+    // When
+    GenerationResult result = useCase.execute(PROJECT, spec);
+
+    // Then
+    assertTrue(result.success());
+    assertEquals(List.of(userFile, orderFile, useCaseFile), result.generatedFiles());
+    InOrder writes = inOrder(fileSystemPort);
+    writes.verify(fileSystemPort).writeFiles(List.of(userFile, orderFile, useCaseFile));
+    writes.verify(fileSystemPort).flush();
+    verify(adapterUseCase, never()).stageAll(any(), anyList());
+  }
+
+  @Test
+  void shouldWriteNothingWhenAnyComponentIsInvalid() {
+    // Given
+    EntityConfig user = entity("User");
+    UseCaseConfig createUser = useCase("CreateUser");
+    GenerationSpec spec = new GenerationSpec(List.of(user), List.of(createUser), null, null);
+
+    when(configurationPort.readConfiguration(PROJECT)).thenReturn(Optional.of(projectConfig));
+    when(entityValidator.validate(PROJECT, user)).thenReturn(ValidationResult.success());
+    when(useCaseValidator.validate(PROJECT, createUser))
+        .thenReturn(ValidationResult.failure("Use case already exists"));
+
+    // When
+    GenerationResult result = useCase.execute(PROJECT, spec);
+
+    // Then
+    assertFalse(result.success());
+    assertEquals(List.of("Use case CreateUser: Use case already exists"), result.errors());
+    verify(entityGenerator, never()).generateEntity(any(), any(), any());
+    verify(fileSystemPort, never()).writeFiles(anyList());
+  }
+
+  @Test
+  void shouldRejectDuplicateComponents() {
+    // Given
+    GenerationSpec spec = new GenerationSpec(List.of(entity("User"), entity("User")), null, null, null);
+
+    when(configurationPort.readConfiguration(PROJECT)).thenReturn(Optional.of(projectConfig));
+    when(entityValidator.validate(eq(PROJECT), any())).thenReturn(ValidationResult.success());
+
+    // When
+    GenerationResult result = useCase.execute(PROJECT, spec);
+
+    // Then
+    assertFalse(result.success());
+    assertEquals(List.of("Entity User: declared more than once"), result.errors());
+    verify(fileSystemPort, never()).writeFiles(anyList());
+  }
+
+  @Test
+  void shouldWriteNothingWhenRenderingFails() {
+    // Given
+    EntityConfig user = entity("User");
+    EntityConfig order = entity("Order");
+    GenerationSpec spec = new GenerationSpec(List.of(user, order), null, null, null);
+
+    when(configurationPort.readConfiguration(PROJECT)).thenReturn(Optional.of(projectConfig));
+    when(entityValidator.validate(eq(PROJECT), any())).thenReturn(ValidationResult.success());
+    when(entityGenerator.generateEntity(PROJECT, projectConfig, user))
+        .thenReturn(List.of(GeneratedFile.javaSource(PROJECT.resolve("User.java"), "class User {}")));
+    when(entityGenerator.generateEntity(PROJECT, projectConfig, order))
+        .thenThrow(new RuntimeException("template missing"));
+
+    // When
+    GenerationResult result = useCase.execute(PROJECT, spec);
+
+    // Then
+    assertFalse(result.success());
+    assertEquals(List.of("Entity Order: template missing"), result.errors());
+    verify(fileSystemPort, never()).writeFiles(anyList());
+  }
+
+  @Test
+  void shouldGenerateOutputAdaptersAsOneBatch() {
+    // Given
+    AdapterConfig users = adapter("UserRepository");
+    AdapterConfig cache = adapter("UserCache");
+    GenerationSpec spec = new GenerationSpec(null, null, null, List.of(users, cache));
+    GeneratedFile usersFile = GeneratedFile.javaSource(PROJECT.resolve("UserRepositoryAdapter.java"), "class A {}");
+    GeneratedFile cacheFile = GeneratedFile.javaSource(PROJECT.resolve("UserCacheAdapter.java"), "class B {}");
+
+    when(configurationPort.readConfiguration(PROJECT)).thenReturn(Optional.of(projectConfig));
+    when(adapterValidator.validate(eq(PROJECT), any())).thenReturn(ValidationResult.success());
+    when(adapterUseCase.stageAll(PROJECT, List.of(users, cache))).thenReturn(List.of(
+        GenerateAdapterUseCase.GenerationResult.success(List.of(usersFile)),
+        GenerateAdapterUseCase.GenerationResult.success(List.of(cacheFile))));
+
+    // When
+    GenerationResult result = useCase.execute(PROJECT, spec);
+
+    // Then
+    assertTrue(result.success());
+    assertEquals(List.of(usersFile, cacheFile), result.generatedFiles());
+    verify(fileSystemPort).flush();
+    verify(adapterUseCase, never()).executeAll(any(), anyList());
+  }
+
+  @Test
+  void shouldDiscardTheWholeSpecWhenAnOutputAdapterFails() {
+    // Given
+    AdapterConfig users = adapter("UserRepository");
+    AdapterConfig cache = adapter("UserCache");
+    GenerationSpec spec = new GenerationSpec(null, null, null, List.of(users, cache));
+    GeneratedFile adapterFile = GeneratedFile.javaSource(PROJECT.resolve("UserRepositoryAdapter.java"), "class A {}");
+
+    when(configurationPort.readConfiguration(PROJECT)).thenReturn(Optional.of(projectConfig));
+    when(adapterValidator.validate(eq(PROJECT), any())).thenReturn(ValidationResult.success());
+    when(adapterUseCase.stageAll(PROJECT, List.of(users, cache))).thenReturn(List.of(
+        GenerateAdapterUseCase.GenerationResult.success(List.of(adapterFile)),
+        GenerateAdapterUseCase.GenerationResult.failure(List.of("Redis metadata not found"))));
+
+    // When
+    GenerationResult result = useCase.execute(PROJECT, spec);
+
+    // Then
+    assertFalse(result.success());
+    assertTrue(result.generatedFiles().isEmpty());
+    assertEquals(List.of("Output adapter UserCache: Redis metadata not found"), result.errors());
+    verify(fileSystemPort).discard();
+    verify(fileSystemPort, never()).flush();
+  }
+
+  @Test
+  void shouldWriteNothingToDiskWhenAnOutputAdapterFails(@TempDir Path tempDir) throws Exception {
+    // Given
+    Path settings = tempDir.resolve("settings.gradle.kts");
+    Files.writeString(settings, "rootProject.name = \"test-project\"\n");
+    FileSystemPort transactionalPort = new JournalingFileSystemAdapter(
+        new TransactionalFileSystemAdapter(new LocalFileSystemAdapter(), tempDir));
+    GenerateFromSpecUseCaseImpl transactionalUseCase = new GenerateFromSpecUseCaseImpl(
+        entityValidator, entityGenerator,
+        useCaseValidator, useCaseGenerator,
+        inputAdapterValidator, inputAdapterGenerator,
+        adapterValidator, adapterUseCase,
+        configurationPort, transactionalPort, 4);
+
+    EntityConfig user = entity("User");
+    AdapterConfig users = adapter("UserRepository");
+    AdapterConfig cache = adapter("UserCache");
+    GenerationSpec spec = new GenerationSpec(List.of(user), null, null, List.of(users, cache));
+    Path userFile = tempDir.resolve("User.java");
+    Path adapterFile = tempDir.resolve("UserRepositoryAdapter.java");
+
+    when(configurationPort.readConfiguration(tempDir)).thenReturn(Optional.of(projectConfig));
+    when(entityValidator.validate(eq(tempDir), any())).thenReturn(ValidationResult.success());
+    when(adapterValidator.validate(eq(tempDir), any())).thenReturn(ValidationResult.success());
+    when(entityGenerator.generateEntity(tempDir, projectConfig, user))
+        .thenReturn(List.of(GeneratedFile.javaSource(userFile, "class User {}")));
+    when(adapterUseCase.stageAll(tempDir, List.of(users, cache))).thenAnswer(invocation -> {
+      // The first adapter stages its file and a settings edit, the second fails
+      transactionalPort.writeFile(GeneratedFile.javaSource(adapterFile, "class A {}"));
+      transactionalPort.appendToFile(settings, "include(\":UserRepository\")\n");
+      return List.of(
+          GenerateAdapterUseCase.GenerationResult.success(List.of()),
+          GenerateAdapterUseCase.GenerationResult.failure(List.of("Redis metadata not found")));
+    });
+
+    // When
+    GenerationResult result = transactionalUseCase.execute(tempDir, spec);
+
+    // Then
+    assertFalse(result.success());
+    assertFalse(Files.exists(userFile));
+    assertFalse(Files.exists(adapterFile));
+    assertEquals("rootProject.name = \"test-project\"\n", Files.readString(settings));
+  }
+
+  @Test
+  void shouldFailWithoutProjectConfiguration() {
+    // Given
+    when(configurationPort.readConfiguration(PROJECT)).thenReturn(Optional.empty());
+
+    // When
+    GenerationResult result = useCase.execute(PROJECT, new GenerationSpec(List.of(entity("User")), null, null, null));
+
+    // Then
+    assertFalse(result.success());
+    verify(entityValidator, never()).validate(any(), any());
+  }
+
+  private EntityConfig entity(String name) {
+    return EntityConfig.builder()
+        .name(name)
+        .packageName("com.test.domain.model")
+        .fields(List.of(new EntityField("name", "String", false)))
+        .build();
+  }
+
+  private UseCaseConfig useCase(String name) {
+    return UseCaseConfig.builder()
+        .name(name)
+        .packageName("com.test.domain.port.in")
+        .methods(List.of(new UseCaseConfig.UseCaseMethod("execute", "User", List.of())))
+        .paradigm(Paradigm.REACTIVE)
+        .build();
+  }
+
+  private AdapterConfig adapter(String name) {
+    return AdapterConfig.builder()
+        .name(name)
+        .entityName("User")
+        .type(AdapterType.REDIS)
+        .packageName("com.test.infrastructure.drivenadapters.redis")
+        .methods(List.of())
+        .build();
+  }
+}
@@ -0,0 +1,226 @@
+package com.pragma.archetype.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.pragma.archetype.domain.model.adapter.AdapterMetadata;
+import com.pragma.archetype.domain.model.file.GeneratedFile;
+import com.pragma.archetype.domain.model.manifest.GenerationManifest;
+import com.pragma.archetype.domain.model.manifest.ManifestEntry;
+import com.pragma.archetype.domain.model.project.ArchitectureType;
+import com.pragma.archetype.domain.model.structure.StructureMetadata;
+import com.pragma.archetype.domain.model.validation.ValidationResult;
+import com.pragma.archetype.domain.port.in.RegenerateUseCase.RegenerationResult;
+import com.pragma.archetype.domain.port.out.FileSystemPort.FileWriteException;
+import com.pragma.archetype.domain.port.out.TemplateRepository;
+import com.pragma.archetype.infrastructure.adapter.out.config.YamlGenerationManifestAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.filesystem.InMemoryFileSystemAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.template.RecordingTemplateRepository;
+
+class RegenerateUseCaseImplTest {
+
+  private static final Path PROJECT = Path.of("/project");
+  private static final String TEMPLATE = "entity/Entity.java.ftl";
+
+  private InMemoryFileSystemAdapter fileSystem;
+  private YamlGenerationManifestAdapter manifestPort;
+  private StubTemplates templates;
+  private RegenerateUseCaseImpl useCase;
+
+  @BeforeEach
+  void setUp() {
+    fileSystem = new InMemoryFileSystemAdapter();
+    manifestPort = new YamlGenerationManifestAdapter(fileSystem);
+    templates = new StubTemplates();
+    templates.put(TEMPLATE, "class ${entityName} {}");
+    useCase = new RegenerateUseCaseImpl(templates, fileSystem, manifestPort);
+
+    // Generate User.java with plugin 1.0.0 and record it
+    RecordingTemplateRepository recorder = new RecordingTemplateRepository(templates);
+    GeneratedFile file = GeneratedFile.create(PROJECT.resolve("src/User.java"),
+        recorder.processTemplate(TEMPLATE, Map.of("entityName", "User")));
+    fileSystem.writeFile(file);
+    manifestPort.write(PROJECT, new GenerationManifest(recorder.manifestEntries(PROJECT, List.of(file), "1.0.0")));
+  }
+
+  @Test
+  void shouldSkipFilesWhoseInputsDidNotChange() {
+    // When
+    RegenerationResult result = useCase.execute(PROJECT, "1.0.0", false);
+
+    // Then
+    assertTrue(result.success());
+    assertTrue(result.regenerated().isEmpty());
+    assertEquals(1, result.upToDate());
+  }
+
+  @Test
+  void shouldRerenderFilesWhoseTemplateChanged() {
+    // Given
+    templates.put(TEMPLATE, "public class ${entityName} {}");
+
+    // When
+    RegenerationResult result = useCase.execute(PROJECT, "1.0.0", false);
+
+    // Then
+    assertEquals(List.of(PROJECT.resolve("src/User.java")), result.regenerated());
+    assertEquals("public class User {}", fileSystem.readFile(PROJECT.resolve("src/User.java")));
+    ManifestEntry entry = manifestPort.read(PROJECT).entry("src/User.java").orElseThrow();
+    assertEquals(GenerationManifest.hash("public class User {}"), entry.outputHash());
+    assertEquals(GenerationManifest.hash("public class ${entityName} {}"), entry.templateHash());
+  }
+
+  @Test
+  void shouldRecheckFilesAfterPluginUpgrade() {
+    // When
+    RegenerationResult result = useCase.execute(PROJECT, "1.1.0", false);
+
+    // Then: same output, but the entry now records the new version
+    assertTrue(result.regenerated().isEmpty());
+    assertEquals(1, result.upToDate());
+    assertEquals("1.1.0", manifestPort.read(PROJECT).entry("src/User.java").orElseThrow().pluginVersion());
+  }
+
+  @Test
+  void shouldLeaveUserModifiedFilesAlone() {
+    // Given
+    fileSystem.writeFile(GeneratedFile.create(PROJECT.resolve("src/User.java"), "class User { int age; }"));
+    templates.put(TEMPLATE, "public class ${entityName} {}");
+
+    // When
+    RegenerationResult result = useCase.execute(PROJECT, "1.0.0", true);
+
+    // Then
+    assertEquals(List.of(PROJECT.resolve("src/User.java")), result.userModified());
+    assertTrue(result.regenerated().isEmpty());
+    assertEquals("class User { int age; }", fileSystem.readFile(PROJECT.resolve("src/User.java")));
+  }
+
+  @Test
+  void shouldReportMissingFiles() {
+    // Given
+    GenerationManifest manifest = manifestPort.read(PROJECT);
+    manifest.put(new ManifestEntry("src/Order.java", TEMPLATE, "t", "c", "1.0.0", "o",
+        Map.of("entityName", "Order")));
+    manifestPort.write(PROJECT, manifest);
+
+    // When
+    RegenerationResult result = useCase.execute(PROJECT, "1.0.0", true);
+
+    // Then
+    assertEquals(List.of(PROJECT.resolve("src/Order.java")), result.missing());
+    assertFalse(fileSystem.exists(PROJECT.resolve("src/Order.java")));
+  }
+
+  @Test
+  void shouldReportTemplatesThatCannotBeRendered() {
+    // Given
+    templates.remove(TEMPLATE);
+
+    // When
+    RegenerationResult result = useCase.execute(PROJECT, "1.0.0", false);
+
+    // Then
+    assertFalse(result.success());
+    assertTrue(result.errors().get(0).startsWith("src/User.java: "));
+  }
+
+  @Test
+  void shouldDiscardWritesWhenCommitFails() {
+    // Given
+    InMemoryFileSystemAdapter staging = new InMemoryFileSystemAdapter(fileSystem) {
+      @Override
+      public void flush() {
+        throw new FileWriteException("Disk full");
+      }
+    };
+    useCase = new RegenerateUseCaseImpl(templates, staging, new YamlGenerationManifestAdapter(staging));
+    templates.put(TEMPLATE, "public class ${entityName} {}");
+
+    // When
+    RegenerationResult result = useCase.execute(PROJECT, "1.0.0", false);
+
+    // Then
+    assertFalse(result.success());
+    assertTrue(result.regenerated().isEmpty());
+    assertEquals("Failed to write regenerated files: Disk full", result.errors().get(0));
+    assertEquals("class User {}", staging.readFile(PROJECT.resolve("src/User.java")));
+    assertEquals(GenerationManifest.hash("class User {}"),
+        new YamlGenerationManifestAdapter(staging).read(PROJECT).entry("src/User.java").orElseThrow().outputHash());
+  }
+
+  /**
+   * Templates held in memory, replacing ${name} with context values.
+   */
+  private static class StubTemplates implements TemplateRepository {
+
+    private final Map<String, String> templates = new HashMap<>();
+
+    void put(String path, String content) {
+      templates.put(path, content);
+    }
+
+    void remove(String path) {
+      templates.remove(path);
+    }
+
+    @Override
+    public String processTemplate(String templatePath, Map<String, Object> context) {
+      String output = getTemplateContent(templatePath);
+      for (Map.Entry<String, Object> entry : context.entrySet()) {
+        output = output.replace("${" + entry.getKey() + "}", String.valueOf(entry.getValue()));
+      }
+      return output;
+    }
+
+    @Override
+    public boolean templateExists(String templatePath) {
+      return templates.containsKey(templatePath);
+    }
+
+    @Override
+    public String getTemplateContent(String templatePath) {
+      String content = templates.get(templatePath);
+      if (content == null) {
+        throw new TemplateNotFoundException("Template not found: " + templatePath);
+      }
+      return content;
+    }
+
+    @Override
+    public StructureMetadata loadStructureMetadata(ArchitectureType architecture) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public AdapterMetadata loadAdapterMetadata(String adapterName) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public AdapterMetadata loadAdapterMetadata(String adapterName, String framework, String paradigm,
+        String adapterType) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ValidationResult validateTemplate(String templatePath) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Set<String> extractRequiredVariables(String templatePath) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
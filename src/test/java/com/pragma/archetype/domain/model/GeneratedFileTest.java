@@ -1,8 +1,11 @@
 package com.pragma.archetype.domain.model;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
@@ -116,4 +119,48 @@ class GeneratedFileTest {
     assertTrue(file.path().toString().contains("domain"));
     assertTrue(file.path().toString().contains("model"));
   }
+
+  @Test
+  void shouldExposeUtf8BytesOfStringContent() {
+    // Given
+    GeneratedFile file = GeneratedFile.create(Path.of("README.md"), "Año");
+
+    // When
+    ByteBuffer buffer = file.contentBuffer();
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+
+    // Then
+    assertArrayEquals("Año".getBytes(StandardCharsets.UTF_8), bytes);
+    assertEquals(4, file.size());
+    assertTrue(file.contentBuffer().isReadOnly());
+  }
+
+  @Test
+  void shouldDecodeBytesLazily() {
+    // Given
+    byte[] bytes = "class Demo {}".getBytes(StandardCharsets.UTF_8);
+
+    // When
+    GeneratedFile file = GeneratedFile.fromBytes(Path.of("Demo.java"), bytes);
+    bytes[0] = 'X';
+
+    // Then
+    assertEquals(FileType.JAVA_SOURCE, file.type());
+    assertEquals("class Demo {}", file.content());
+  }
+
+  @Test
+  void shouldBeEqualRegardlessOfRepresentation() {
+    // Given
+    Path path = Path.of("Demo.java");
+    GeneratedFile fromString = GeneratedFile.create(path, "class Demo {}");
+    GeneratedFile fromBytes = GeneratedFile.fromBytes(path, "class Demo {}".getBytes(StandardCharsets.UTF_8));
+
+    // Then
+    assertEquals(fromString, fromBytes);
+    assertEquals(fromString.hashCode(), fromBytes.hashCode());
+    assertEquals(fromString.contentHash(), fromBytes.contentHash());
+    assertEquals("6b0bc56d86c65d0bfcd9345491723d348e6f9e3375cb09be21aafc8c1b3aea08", fromString.contentHash());
+  }
 }
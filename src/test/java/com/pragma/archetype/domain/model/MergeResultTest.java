@@ -78,4 +78,21 @@ class MergeResultTest {
     assertTrue(result.merged().containsKey("parent"));
     assertTrue(result.merged().containsKey("simple"));
   }
+
+  @Test
+  void shouldDescribeStructuredConflicts() {
+    // Given
+    List<MergeResult.Conflict> conflicts = List.of(
+        new MergeResult.Conflict("spring.data.redis.port", 6379, 6380));
+
+    // When
+    MergeResult result = MergeResult.fromConflicts(new HashMap<>(), conflicts, List.of());
+
+    // Then
+    assertTrue(result.hasConflicts());
+    assertEquals(1, result.conflicts().size());
+    assertEquals(
+        "Property 'spring.data.redis.port' already exists with value '6379', keeping existing value (new value: '6380')",
+        result.conflicts().get(0));
+  }
 }
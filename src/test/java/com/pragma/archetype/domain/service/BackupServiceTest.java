@@ -1,5 +1,8 @@
 package com.pragma.archetype.domain.service;
 
+import com.pragma.archetype.domain.model.backup.BackupRetentionPolicy;
+import com.pragma.archetype.domain.model.backup.BackupSummary;
+import com.pragma.archetype.domain.model.backup.PruneResult;
 import com.pragma.archetype.domain.port.out.FileSystemPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -8,6 +11,7 @@ import org.junit.jupiter.api.io.TempDir;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -54,11 +58,11 @@ class BackupServiceTest {
 
     Path backupPath = projectPath.resolve(".cleanarch/backups").resolve(backupId);
     assertTrue(Files.exists(backupPath));
-    assertTrue(Files.exists(backupPath.resolve("backup_metadata.txt")));
+    assertTrue(Files.exists(backupPath.resolve("manifest")));
 
     // Verify backed up files exist
-    Path backedUpFile1 = backupPath.resolve("src/main/File1.java");
-    Path backedUpFile2 = backupPath.resolve("src/test/File2.java");
+    Path backedUpFile1 = backedUpFile(projectPath, backupId, "src/main/File1.java");
+    Path backedUpFile2 = backedUpFile(projectPath, backupId, "src/test/File2.java");
     assertTrue(Files.exists(backedUpFile1));
     assertTrue(Files.exists(backedUpFile2));
     assertEquals("content1", Files.readString(backedUpFile1));
@@ -84,12 +88,8 @@ class BackupServiceTest {
     // Then: Only existing file should be backed up
     assertNotNull(backupId);
 
-    Path backupPath = projectPath.resolve(".cleanarch/backups").resolve(backupId);
-    Path backedUpFile1 = backupPath.resolve("src/main/File1.java");
-    Path backedUpFile2 = backupPath.resolve("src/main/NonExistent.java");
-
-    assertTrue(Files.exists(backedUpFile1));
-    assertFalse(Files.exists(backedUpFile2));
+    assertNotNull(backedUpFile(projectPath, backupId, "src/main/File1.java"));
+    assertNull(backedUpFile(projectPath, backupId, "src/main/NonExistent.java"));
   }
 
   @Test
@@ -228,6 +228,284 @@ class BackupServiceTest {
     assertNotEquals(backupId1, backupId2);
   }
 
+  @Test
+  void createBackup_shouldHardLinkFilesWhenEnabled() throws IOException {
+    // Given: Service using hard links and a file replaced by rename after backup
+    BackupService linkingService = new BackupService(fileSystemPort, true);
+    Path file = tempDir.resolve("build.gradle.kts");
+    Files.writeString(file, "original");
+
+    // When: Creating backup
+    String backupId = linkingService.createBackup(tempDir, List.of(Path.of("build.gradle.kts")));
+    Path backedUpFile = backedUpFile(tempDir, backupId, "build.gradle.kts");
+
+    // Then: Backup shares the original file until it is replaced
+    assertTrue(Files.isSameFile(file, backedUpFile));
+
+    Path tempFile = tempDir.resolve("build.gradle.kts.tmp");
+    Files.writeString(tempFile, "modified");
+    Files.move(tempFile, file, java.nio.file.StandardCopyOption.REPLACE_EXISTING,
+        java.nio.file.StandardCopyOption.ATOMIC_MOVE);
+    assertEquals("original", Files.readString(backedUpFile));
+
+    linkingService.restoreBackup(tempDir, backupId);
+    assertEquals("original", Files.readString(file));
+  }
+
+  @Test
+  void createBackup_shouldCopyFilesByDefault() throws IOException {
+    // Given: File to backup
+    Path file = tempDir.resolve("build.gradle.kts");
+    Files.writeString(file, "original");
+
+    // When: Creating backup with the default service
+    String backupId = backupService.createBackup(tempDir, List.of(Path.of("build.gradle.kts")));
+    Path backedUpFile = backedUpFile(tempDir, backupId, "build.gradle.kts");
+
+    // Then: Backup is an independent copy
+    assertFalse(Files.isSameFile(file, backedUpFile));
+    assertEquals("original", Files.readString(backedUpFile));
+  }
+
+  @Test
+  void createBackup_shouldStoreIdenticalContentOnce() throws IOException {
+    // Given: Two backups of unchanged files
+    Path file1 = tempDir.resolve("build.gradle.kts");
+    Path file2 = tempDir.resolve("copy.gradle.kts");
+    Files.writeString(file1, "same content");
+    Files.writeString(file2, "same content");
+
+    // When: Creating both backups
+    String backupId1 = backupService.createBackup(tempDir, List.of(Path.of("build.gradle.kts")));
+    String backupId2 = backupService.createBackup(tempDir,
+        List.of(Path.of("build.gradle.kts"), Path.of("copy.gradle.kts")));
+
+    // Then: All entries share one blob
+    Path blob = backedUpFile(tempDir, backupId1, "build.gradle.kts");
+    assertEquals(blob, backedUpFile(tempDir, backupId2, "build.gradle.kts"));
+    assertEquals(blob, backedUpFile(tempDir, backupId2, "copy.gradle.kts"));
+    assertEquals(1, countBlobs());
+
+    // And: The blob outlives the first backup but not the last
+    backupService.deleteBackup(tempDir, backupId1);
+    assertTrue(Files.exists(blob));
+    backupService.deleteBackup(tempDir, backupId2);
+    assertFalse(Files.exists(blob));
+  }
+
+  @Test
+  void restoreBackup_shouldRestoreLegacyBackups() throws IOException {
+    // Given: Backup written in the old full-copy format
+    Path file = tempDir.resolve("src/File.java");
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, "modified");
+
+    Path backupPath = tempDir.resolve(".cleanarch/backups/backup_20240101_000000_000");
+    Files.createDirectories(backupPath.resolve("src"));
+    Files.writeString(backupPath.resolve("src/File.java"), "original");
+    Files.writeString(backupPath.resolve("backup_metadata.txt"),
+        "# Backup Metadata\nsrc/File.java|" + backupPath.resolve("src/File.java") + "\n");
+
+    // When: Restoring it
+    backupService.restoreBackup(tempDir, "backup_20240101_000000_000");
+
+    // Then: File is restored
+    assertEquals("original", Files.readString(file));
+  }
+
+  @Test
+  void restoreBackup_shouldRejectModifiedBlob() throws IOException {
+    // Given: Hard-linked backup whose original was appended to in place
+    BackupService linkingService = new BackupService(fileSystemPort, true);
+    Path file = tempDir.resolve("build.gradle.kts");
+    Files.writeString(file, "original");
+    String backupId = linkingService.createBackup(tempDir, List.of(Path.of("build.gradle.kts")));
+    Files.writeString(file, "original plus more", java.nio.file.StandardOpenOption.APPEND);
+
+    // When/Then: Restore refuses to write the corrupted content
+    assertThrows(BackupService.BackupException.class,
+        () -> linkingService.restoreBackup(tempDir, backupId));
+  }
+
+  @Test
+  void createBackup_shouldReplaceBlobModifiedInPlace() throws IOException {
+    // Given: Hard-linked backup whose original was rewritten in place with the same size
+    BackupService linkingService = new BackupService(fileSystemPort, true);
+    Path file = tempDir.resolve("build.gradle.kts");
+    Files.writeString(file, "original");
+    String backupId1 = linkingService.createBackup(tempDir, List.of(Path.of("build.gradle.kts")));
+    Files.writeString(file, "ORIGINAL");
+
+    // Then: Restore refuses the corrupted content
+    assertThrows(BackupService.BackupException.class,
+        () -> linkingService.restoreBackup(tempDir, backupId1));
+
+    // When: The original content is saved by rename and backed up again
+    Path tempFile = tempDir.resolve("build.gradle.kts.tmp");
+    Files.writeString(tempFile, "original");
+    Files.move(tempFile, file, java.nio.file.StandardCopyOption.REPLACE_EXISTING,
+        java.nio.file.StandardCopyOption.ATOMIC_MOVE);
+    String backupId2 = linkingService.createBackup(tempDir, List.of(Path.of("build.gradle.kts")));
+
+    // Then: The blob was stored again, which also repairs the first backup
+    assertEquals("original", Files.readString(backedUpFile(tempDir, backupId2, "build.gradle.kts")));
+    linkingService.restoreBackup(tempDir, backupId1);
+    assertEquals("original", Files.readString(file));
+  }
+
+  @Test
+  void listBackups_shouldReturnNewestFirst() throws IOException {
+    // Given: Two backups
+    Files.writeString(tempDir.resolve("File.java"), "content");
+    String backupId1 = backupService.createBackup(tempDir, List.of(Path.of("File.java")));
+    String backupId2 = backupService.createBackup(tempDir, List.of(Path.of("File.java")));
+
+    // When: Listing backups
+    List<BackupSummary> backups = backupService.listBackups(tempDir);
+
+    // Then: Newest comes first
+    assertEquals(List.of(backupId2, backupId1), backups.stream().map(BackupSummary::backupId).toList());
+    assertEquals(1, backups.get(0).fileCount());
+    assertEquals(7, backups.get(0).sizeBytes());
+  }
+
+  @Test
+  void pruneBackups_shouldKeepNewestBackupsAndSweepUnreferencedBlobs() throws IOException {
+    // Given: Three backups of different content
+    Path file = tempDir.resolve("File.java");
+    Files.writeString(file, "v1");
+    String oldest = backupService.createBackup(tempDir, List.of(Path.of("File.java")));
+    Files.writeString(file, "v2");
+    String middle = backupService.createBackup(tempDir, List.of(Path.of("File.java")));
+    Files.writeString(file, "v3");
+    String newest = backupService.createBackup(tempDir, List.of(Path.of("File.java")));
+
+    // When: Keeping only the newest
+    PruneResult result = backupService.pruneBackups(tempDir, new BackupRetentionPolicy(1, null, 0));
+
+    // Then: Older backups and their blobs are gone
+    assertEquals(List.of(oldest, middle), result.deletedBackups());
+    assertEquals(2, result.deletedBlobs());
+    assertEquals(4, result.freedBytes());
+    assertEquals(1, countBlobs());
+    backupService.restoreBackup(tempDir, newest);
+    assertEquals("v3", Files.readString(file));
+  }
+
+  @Test
+  void pruneBackups_shouldEnforceTotalSize() throws IOException {
+    // Given: Two backups of 10 bytes each
+    Path file = tempDir.resolve("File.java");
+    Files.writeString(file, "0123456789");
+    String older = backupService.createBackup(tempDir, List.of(Path.of("File.java")));
+    Files.writeString(file, "9876543210");
+    String newer = backupService.createBackup(tempDir, List.of(Path.of("File.java")));
+
+    // When: Allowing 15 bytes in total
+    PruneResult result = backupService.pruneBackups(tempDir, new BackupRetentionPolicy(0, null, 15));
+
+    // Then: Only the newer backup fits
+    assertEquals(List.of(older), result.deletedBackups());
+    assertEquals(List.of(newer), backupService.listBackups(tempDir).stream().map(BackupSummary::backupId).toList());
+  }
+
+  @Test
+  void pruneBackups_shouldRemoveExpiredAndLegacyBackups() throws IOException {
+    // Given: A legacy backup and a current one
+    Path legacy = tempDir.resolve(".cleanarch/backups/backup_20240101_000000_000");
+    Files.createDirectories(legacy);
+    Files.writeString(legacy.resolve("File.java"), "legacy");
+    Files.writeString(legacy.resolve("backup_metadata.txt"), "File.java|" + legacy.resolve("File.java") + "\n");
+    Files.setLastModifiedTime(legacy, java.nio.file.attribute.FileTime.fromMillis(0));
+
+    Files.writeString(tempDir.resolve("File.java"), "content");
+    String current = backupService.createBackup(tempDir, List.of(Path.of("File.java")));
+
+    // When: Expiring backups older than a day
+    PruneResult result = backupService.pruneBackups(tempDir, new BackupRetentionPolicy(0, Duration.ofDays(1), 0));
+
+    // Then: Only the legacy backup is removed
+    assertEquals(List.of("backup_20240101_000000_000"), result.deletedBackups());
+    assertFalse(Files.exists(legacy));
+    assertTrue(Files.exists(backedUpFile(tempDir, current, "File.java")));
+  }
+
+  @Test
+  void backupAndRestore_shouldHandleManyFilesInParallel() throws IOException {
+    // Given: Service limited to 4 concurrent files and 20 module build files
+    BackupService parallelService = new BackupService(fileSystemPort, false, 4);
+    List<Path> files = new java.util.ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      Path file = Path.of("module" + i, "build.gradle.kts");
+      Files.createDirectories(tempDir.resolve(file).getParent());
+      Files.writeString(tempDir.resolve(file), "module " + i);
+      files.add(file);
+    }
+
+    // When: Backing up, modifying and restoring all files
+    String backupId = parallelService.createBackup(tempDir, files);
+    for (Path file : files) {
+      Files.writeString(tempDir.resolve(file), "modified");
+    }
+    parallelService.restoreBackup(tempDir, backupId);
+
+    // Then: Every file is restored
+    for (int i = 0; i < 20; i++) {
+      assertEquals("module " + i, Files.readString(tempDir.resolve(files.get(i))));
+    }
+  }
+
+  @Test
+  void restoreBackup_shouldReportEveryFailedFile() throws IOException {
+    // Given: Backup of three files, two of which can no longer be restored
+    for (String module : List.of("a", "b", "c")) {
+      Files.createDirectories(tempDir.resolve(module));
+      Files.writeString(tempDir.resolve(module).resolve("build.gradle.kts"), "original " + module);
+    }
+    String backupId = backupService.createBackup(tempDir, List.of(
+        Path.of("a/build.gradle.kts"), Path.of("b/build.gradle.kts"), Path.of("c/build.gradle.kts")));
+
+    for (String module : List.of("a", "b")) {
+      Files.delete(tempDir.resolve(module).resolve("build.gradle.kts"));
+      Files.delete(tempDir.resolve(module));
+      Files.writeString(tempDir.resolve(module), "now a file");
+    }
+    Files.writeString(tempDir.resolve("c/build.gradle.kts"), "modified");
+
+    // When: Restoring
+    BackupService.BackupException exception = assertThrows(BackupService.BackupException.class,
+        () -> backupService.restoreBackup(tempDir, backupId));
+
+    // Then: Both failures are reported and the remaining file is still restored
+    Throwable cause = exception.getCause();
+    assertTrue(cause.getMessage().contains("Failed to restore 2 of 3 file(s)"));
+    assertTrue(cause.getMessage().contains("a/build.gradle.kts"));
+    assertTrue(cause.getMessage().contains("b/build.gradle.kts"));
+    assertEquals(2, cause.getSuppressed().length);
+    assertEquals("original c", Files.readString(tempDir.resolve("c/build.gradle.kts")));
+  }
+
+  /**
+   * Resolves the blob holding a file of a backup, or null if the backup does
+   * not contain the file.
+   */
+  private Path backedUpFile(Path projectPath, String backupId, String relativePath) throws IOException {
+    Path backupsRoot = projectPath.resolve(".cleanarch/backups");
+    for (String line : Files.readAllLines(backupsRoot.resolve(backupId).resolve("manifest"))) {
+      String[] parts = line.split(" ", 3);
+      if (parts.length == 3 && parts[2].equals(relativePath)) {
+        return backupsRoot.resolve("objects").resolve(parts[0].substring(0, 2)).resolve(parts[0]);
+      }
+    }
+    return null;
+  }
+
+  private long countBlobs() throws IOException {
+    try (var walk = Files.walk(tempDir.resolve(".cleanarch/backups/objects"))) {
+      return walk.filter(Files::isRegularFile).count();
+    }
+  }
+
   /**
    * Test implementation of FileSystemPort that uses real file system.
    */
@@ -304,5 +582,14 @@ class BackupServiceTest {
         throw new FileWriteException("Failed to append to file: " + path, e);
       }
     }
+
+    @Override
+    public void deleteFile(Path path) {
+      try {
+        Files.deleteIfExists(path);
+      } catch (IOException e) {
+        throw new FileWriteException("Failed to delete file: " + path, e);
+      }
+    }
   }
 }
@@ -0,0 +1,168 @@
+package com.pragma.archetype.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.pragma.archetype.domain.model.dependency.DeclaredDependency;
+
+class BuildFileDependencyParserTest {
+
+  private static final Path BUILD_FILE = Path.of("build.gradle.kts");
+
+  private BuildFileDependencyParser parser;
+
+  @BeforeEach
+  void setUp() {
+    parser = new BuildFileDependencyParser();
+  }
+
+  @Test
+  void shouldParseStringNotation() {
+    // Given
+    String content = """
+        dependencies {
+            implementation("org.springframework.boot:spring-boot-starter-webflux:3.2.0")
+            testImplementation("io.projectreactor:reactor-test:3.6.0")
+            compileOnly("org.projectlombok:lombok")
+        }
+        """;
+
+    // When
+    List<DeclaredDependency> result = parser.parse(BUILD_FILE, content, BuildFileDependencyParser.VersionCatalog.empty());
+
+    // Then
+    assertEquals(3, result.size());
+    assertEquals("org.springframework.boot:spring-boot-starter-webflux", result.get(0).key());
+    assertEquals("3.2.0", result.get(0).dependency().version());
+    assertEquals("implementation", result.get(0).configuration());
+    assertEquals("compile", result.get(0).dependency().scope());
+    assertEquals("test", result.get(1).dependency().scope());
+    assertNull(result.get(2).dependency().version());
+    assertEquals(BUILD_FILE, result.get(0).buildFile());
+  }
+
+  @Test
+  void shouldParseNamedArgumentsAndPlatforms() {
+    // Given
+    String content = """
+        dependencies {
+            implementation(platform("org.springframework.boot:spring-boot-dependencies:3.2.0"))
+            implementation(group = "com.fasterxml.jackson.core", name = "jackson-databind", version = "2.16.0")
+        }
+        """;
+
+    // When
+    List<DeclaredDependency> result = parser.parse(BUILD_FILE, content, BuildFileDependencyParser.VersionCatalog.empty());
+
+    // Then
+    assertEquals(2, result.size());
+    assertEquals("org.springframework.boot:spring-boot-dependencies", result.get(0).key());
+    assertEquals("com.fasterxml.jackson.core:jackson-databind", result.get(1).key());
+    assertEquals("2.16.0", result.get(1).dependency().version());
+  }
+
+  @Test
+  void shouldIgnoreCommentsPluginsAndProjectReferences() {
+    // Given
+    String content = """
+        plugins {
+            id("org.springframework.boot") version "3.2.0"
+        }
+        repositories {
+            maven("https://repo.example.com/releases")
+        }
+        dependencies {
+            // implementation("com.example:commented:1.0")
+            /* implementation("com.example:block:1.0") */
+            implementation(project(":domain:model"))
+            implementation("com.example:real:1.0") // trailing comment
+        }
+        """;
+
+    // When
+    List<DeclaredDependency> result = parser.parse(BUILD_FILE, content, BuildFileDependencyParser.VersionCatalog.empty());
+
+    // Then
+    assertEquals(1, result.size());
+    assertEquals("com.example:real", result.get(0).key());
+  }
+
+  @Test
+  void shouldReportInterpolatedVersionsAsNull() {
+    // Given
+    String content = """
+        dependencies {
+            implementation("io.lettuce:lettuce-core:${lettuceVersion}")
+        }
+        """;
+
+    // When
+    List<DeclaredDependency> result = parser.parse(BUILD_FILE, content, BuildFileDependencyParser.VersionCatalog.empty());
+
+    // Then
+    assertEquals(1, result.size());
+    assertNull(result.get(0).dependency().version());
+  }
+
+  @Test
+  void shouldResolveVersionCatalogReferences() {
+    // Given
+    String toml = """
+        [versions]
+        boot = "3.2.0" # comment
+        kafka = { strictly = "3.6.1" }
+
+        [libraries]
+        spring-boot-starter = { module = "org.springframework.boot:spring-boot-starter", version.ref = "boot" }
+        kafka_clients = { group = "org.apache.kafka", name = "kafka-clients", version.ref = "kafka" }
+        lettuce = "io.lettuce:lettuce-core:6.3.0"
+
+        [bundles]
+        messaging = [
+            "kafka_clients",
+            "lettuce",
+        ]
+
+        [plugins]
+        boot = { id = "org.springframework.boot", version.ref = "boot" }
+        """;
+    String content = """
+        dependencies {
+            implementation(libs.spring.boot.starter)
+            implementation(libs.bundles.messaging)
+            implementation(libs.unknown)
+        }
+        """;
+
+    // When
+    BuildFileDependencyParser.VersionCatalog catalog = parser.parseVersionCatalog(toml);
+    List<DeclaredDependency> result = parser.parse(BUILD_FILE, content, catalog);
+
+    // Then
+    assertEquals(3, catalog.libraries().size());
+    assertEquals(3, result.size());
+    assertEquals("org.springframework.boot:spring-boot-starter", result.get(0).key());
+    assertEquals("3.2.0", result.get(0).dependency().version());
+    assertEquals("org.apache.kafka:kafka-clients", result.get(1).key());
+    assertEquals("3.6.1", result.get(1).dependency().version());
+    assertEquals("io.lettuce:lettuce-core", result.get(2).key());
+    assertEquals("6.3.0", result.get(2).dependency().version());
+  }
+
+  @Test
+  void shouldReturnEmptyCatalogForBlankContent() {
+    // When
+    BuildFileDependencyParser.VersionCatalog catalog = parser.parseVersionCatalog("  ");
+
+    // Then
+    assertTrue(catalog.libraries().isEmpty());
+    assertTrue(catalog.bundles().isEmpty());
+  }
+}
@@ -5,13 +5,17 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import com.pragma.archetype.domain.model.adapter.AdapterMetadata;
+import com.pragma.archetype.infrastructure.adapter.out.filesystem.LocalFileSystemAdapter;
 
 class DependencyConflictDetectorTest {
 
@@ -41,6 +45,27 @@ class DependencyConflictDetectorTest {
     assertTrue(conflicts.get(0).contains("3.2.0"));
   }
 
+  @Test
+  void shouldDetectVersionConflictFromDependencyIndex(@TempDir Path tempDir) throws Exception {
+    // Given
+    Files.writeString(tempDir.resolve("build.gradle.kts"),
+        "dependencies {\n    implementation(\"org.springframework.boot:spring-boot-starter:3.1.0\")\n}\n");
+    DependencyIndex index = new DependencyIndex(new LocalFileSystemAdapter(), tempDir);
+
+    List<AdapterMetadata.Dependency> newDeps = List.of(
+        new AdapterMetadata.Dependency("org.springframework.boot", "spring-boot-starter", "3.2.0", "compile"),
+        new AdapterMetadata.Dependency("io.lettuce", "lettuce-core", "6.3.0", "compile"));
+
+    // When
+    List<String> conflicts = detector.detectVersionConflicts(index, newDeps);
+
+    // Then
+    assertEquals(1, conflicts.size());
+    assertEquals(
+        "Version conflict for org.springframework.boot:spring-boot-starter: existing version 3.1.0, new version 3.2.0",
+        conflicts.get(0));
+  }
+
   @Test
   void shouldNotDetectConflictWhenVersionsMatch() {
     // Given
@@ -0,0 +1,114 @@
+package com.pragma.archetype.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.pragma.archetype.infrastructure.adapter.out.filesystem.LocalFileSystemAdapter;
+
+class DependencyIndexTest {
+
+  @TempDir
+  Path tempDir;
+
+  private DependencyIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new DependencyIndex(new LocalFileSystemAdapter(), tempDir);
+  }
+
+  @Test
+  void shouldIndexEveryModuleBuildFile() throws Exception {
+    // Given
+    write("build.gradle.kts", "dependencies {\n    implementation(\"com.example:root:1.0\")\n}\n");
+    write("infrastructure/driven-adapters/redis/build.gradle.kts",
+        "dependencies {\n    implementation(\"io.lettuce:lettuce-core:6.3.0\")\n}\n");
+    write("build/generated/build.gradle.kts",
+        "dependencies {\n    implementation(\"com.example:ignored:1.0\")\n}\n");
+
+    // When/Then
+    assertEquals("1.0", index.versionOf("com.example", "root"));
+    assertEquals("6.3.0", index.versionOf("io.lettuce", "lettuce-core"));
+    assertTrue(index.find("com.example", "ignored").isEmpty());
+    assertEquals(2, index.all().size());
+  }
+
+  @Test
+  void shouldIndexOnlyModulesIncludedInSettings() throws Exception {
+    // Given
+    write("settings.gradle.kts", "rootProject.name = \"demo\"\ninclude(\":infrastructure:driven-adapters:redis\")\n");
+    write("build.gradle.kts", "dependencies {\n    implementation(\"com.example:root:1.0\")\n}\n");
+    write("infrastructure/driven-adapters/redis/build.gradle.kts",
+        "dependencies {\n    implementation(\"io.lettuce:lettuce-core:6.3.0\")\n}\n");
+    write("infrastructure/driven-adapters/legacy/build.gradle.kts",
+        "dependencies {\n    implementation(\"com.example:legacy:1.0\")\n}\n");
+    write("src/test/resources/fixture/build.gradle.kts",
+        "dependencies {\n    implementation(\"com.example:fixture:1.0\")\n}\n");
+
+    // When/Then
+    assertEquals("6.3.0", index.versionOf("io.lettuce", "lettuce-core"));
+    assertTrue(index.find("com.example", "legacy").isEmpty());
+    assertTrue(index.find("com.example", "fixture").isEmpty());
+    assertEquals(2, index.all().size());
+  }
+
+  @Test
+  void shouldRefreshBuildFileFromFileSystem() throws Exception {
+    // Given
+    Path buildFile = write("build.gradle.kts", "dependencies {\n    implementation(\"com.example:lib:1.0\")\n}\n");
+    assertEquals("1.0", index.versionOf("com.example", "lib"));
+    Files.writeString(buildFile, "dependencies {\n    implementation(\"com.example:lib:1.1\")\n}\n");
+
+    // When
+    index.refresh(buildFile);
+
+    // Then
+    assertEquals("1.1", index.versionOf("com.example", "lib"));
+  }
+
+  @Test
+  void shouldResolveVersionCatalog() throws Exception {
+    // Given
+    write("gradle/libs.versions.toml", "[libraries]\nlettuce = \"io.lettuce:lettuce-core:6.3.0\"\n");
+    write("build.gradle.kts", "dependencies {\n    implementation(libs.lettuce)\n}\n");
+
+    // When/Then
+    assertEquals("6.3.0", index.versionOf("io.lettuce", "lettuce-core"));
+  }
+
+  @Test
+  void shouldUpdateSingleBuildFile() throws Exception {
+    // Given
+    Path buildFile = write("build.gradle.kts", "dependencies {\n    implementation(\"com.example:lib:1.0\")\n}\n");
+    assertEquals("1.0", index.versionOf("com.example", "lib"));
+
+    // When
+    index.update(buildFile, "dependencies {\n    implementation(\"com.example:other:2.0\")\n}\n");
+
+    // Then
+    assertNull(index.versionOf("com.example", "lib"));
+    assertEquals("2.0", index.versionOf("com.example", "other"));
+  }
+
+  @Test
+  void shouldReturnNullForUnknownDependency() {
+    // When/Then
+    assertNull(index.versionOf("com.example", "missing"));
+    assertTrue(index.all().isEmpty());
+  }
+
+  private Path write(String relativePath, String content) throws Exception {
+    Path file = tempDir.resolve(relativePath);
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, content);
+    return file;
+  }
+}
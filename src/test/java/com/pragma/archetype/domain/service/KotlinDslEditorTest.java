@@ -0,0 +1,228 @@
+package com.pragma.archetype.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class KotlinDslEditorTest {
+
+  @Test
+  void shouldFindTopLevelBlockOnly() {
+    // Given
+    String content = """
+        buildscript {
+            dependencies {
+                classpath("com.example:plugin:1.0")
+            }
+        }
+
+        dependencies {
+            implementation("com.example:lib:1.0")
+        }
+        """;
+
+    // When
+    KotlinDslEditor editor = KotlinDslEditor.parse(content);
+    editor.appendToBlock("dependencies", "implementation(project(\":domain\"))");
+    String result = editor.apply();
+
+    // Then
+    assertEquals("""
+        buildscript {
+            dependencies {
+                classpath("com.example:plugin:1.0")
+            }
+        }
+
+        dependencies {
+            implementation("com.example:lib:1.0")
+            implementation(project(":domain"))
+        }
+        """, result);
+  }
+
+  @Test
+  void shouldIgnoreBracesInStringsAndComments() {
+    // Given
+    String content = """
+        val banner = "dependencies { }"
+        // dependencies {
+        /* } nested /* } */ */
+        dependencies {
+            implementation("com.example:lib:1.0") // }
+        }
+        """;
+
+    // When
+    KotlinDslEditor editor = KotlinDslEditor.parse(content);
+    editor.appendToBlock("dependencies", "implementation(\"com.example:other:1.0\")");
+    String result = editor.apply();
+
+    // Then
+    assertTrue(result.endsWith("""
+            implementation("com.example:lib:1.0") // }
+            implementation("com.example:other:1.0")
+        }
+        """));
+  }
+
+  @Test
+  void shouldNotAddStatementAlreadyPresent() {
+    // Given
+    String content = """
+        dependencies {
+            implementation( project(":domain") )
+        }
+        """;
+
+    // When
+    KotlinDslEditor editor = KotlinDslEditor.parse(content);
+    boolean added = editor.appendToBlock("dependencies", "implementation(project(\":domain\"))");
+
+    // Then
+    assertFalse(added);
+    assertFalse(editor.hasChanges());
+    assertSame(content, editor.apply());
+  }
+
+  @Test
+  void shouldNotTreatCommentedStatementAsPresent() {
+    // Given
+    String content = """
+        dependencies {
+            // implementation(project(":domain"))
+        }
+        """;
+
+    // When
+    KotlinDslEditor editor = KotlinDslEditor.parse(content);
+
+    // Then
+    assertFalse(editor.containsStatement("implementation(project(\":domain\"))"));
+  }
+
+  @Test
+  void shouldApplyBatchOfInsertionsInOrder() {
+    // Given
+    String content = "dependencies {\n}\n";
+
+    // When
+    KotlinDslEditor editor = KotlinDslEditor.parse(content);
+    editor.appendToBlock("dependencies", "implementation(project(\":a\"))");
+    editor.appendToBlock("dependencies", "implementation(project(\":b\"))");
+    editor.appendToBlock("dependencies", "implementation(project(\":a\"))");
+
+    // Then
+    assertEquals("""
+        dependencies {
+            implementation(project(":a"))
+            implementation(project(":b"))
+        }
+        """, editor.apply());
+  }
+
+  @Test
+  void shouldInsertIntoSingleLineBlock() {
+    // When
+    KotlinDslEditor editor = KotlinDslEditor.parse("dependencies {}\n");
+    editor.appendToBlock("dependencies", "implementation(\"com.example:lib:1.0\")");
+
+    // Then
+    assertEquals("dependencies {\n    implementation(\"com.example:lib:1.0\")\n}\n", editor.apply());
+  }
+
+  @Test
+  void shouldAppendAfterLastMatchingCall() {
+    // Given
+    String content = """
+        dependencies {
+            testImplementation("org.junit:junit-bom:5.10.0") {
+                because("tests")
+            }
+            implementation("com.example:lib:1.0")
+        }
+        """;
+
+    // When
+    KotlinDslEditor editor = KotlinDslEditor.parse(content);
+    editor.appendAfterLast("dependencies", "testImplementation", "testImplementation(\"org.mockito:mockito-core:5.0.0\")");
+
+    // Then
+    assertEquals("""
+        dependencies {
+            testImplementation("org.junit:junit-bom:5.10.0") {
+                because("tests")
+            }
+            testImplementation("org.mockito:mockito-core:5.0.0")
+            implementation("com.example:lib:1.0")
+        }
+        """, editor.apply());
+  }
+
+  @Test
+  void shouldThrowWhenBlockIsMissing() {
+    // Given
+    KotlinDslEditor editor = KotlinDslEditor.parse("plugins {\n}\n");
+
+    // When/Then
+    assertFalse(editor.hasBlock("dependencies"));
+    assertThrows(IllegalStateException.class,
+        () -> editor.appendToBlock("dependencies", "implementation(\"com.example:lib:1.0\")"));
+  }
+
+  @Test
+  void shouldReadIncludesWithSeveralArguments() {
+    // Given
+    String content = """
+        rootProject.name = "demo"
+        include(":domain:model", "application:app-service")
+        // include(":commented")
+        include("infrastructure:driven-adapters:redis-cache")
+        """;
+
+    // When
+    KotlinDslEditor editor = KotlinDslEditor.parse(content);
+
+    // Then
+    assertEquals(
+        List.of("domain:model", "application:app-service", "infrastructure:driven-adapters:redis-cache"),
+        editor.includedModules());
+    assertTrue(editor.includesModule(":application:app-service"));
+    assertFalse(editor.includesModule("infrastructure:driven-adapters:redis"));
+    assertFalse(editor.includesModule("commented"));
+  }
+
+  @Test
+  void shouldAddIncludesAtEndOfSettings() {
+    // Given
+    String content = "rootProject.name = \"demo\"\ninclude(\"domain\")\n\n";
+
+    // When
+    KotlinDslEditor editor = KotlinDslEditor.parse(content);
+    editor.addInclude("infrastructure:driven-adapters:redis");
+    editor.addInclude("infrastructure:driven-adapters:kafka");
+    editor.addInclude("domain");
+
+    // Then
+    assertEquals("rootProject.name = \"demo\"\ninclude(\"domain\")\n"
+        + "include(\"infrastructure:driven-adapters:redis\")\n"
+        + "include(\"infrastructure:driven-adapters:kafka\")\n\n", editor.apply());
+  }
+
+  @Test
+  void shouldAddIncludesToFileWithoutTrailingNewline() {
+    // When
+    KotlinDslEditor editor = KotlinDslEditor.parse("rootProject.name = \"demo\"");
+    editor.addInclude("a");
+    editor.addInclude("b");
+
+    // Then
+    assertEquals("rootProject.name = \"demo\"\ninclude(\"a\")\ninclude(\"b\")\n", editor.apply());
+  }
+}
@@ -2,11 +2,14 @@ package com.pragma.archetype.domain.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -238,4 +241,123 @@ class YamlMergerTest {
     assertEquals("value1", mergedLevel2.get("deep"));
     assertEquals("value2", mergedLevel2.get("deep2"));
   }
+
+  @Test
+  void shouldShareUnchangedSubtrees() {
+    // Given
+    Map<String, Object> untouched = new HashMap<>();
+    untouched.put("port", 8080);
+    Map<String, Object> base = new HashMap<>();
+    base.put("server", untouched);
+
+    Map<String, Object> addedSubtree = new HashMap<>();
+    addedSubtree.put("host", "localhost");
+    Map<String, Object> overlay = new HashMap<>();
+    overlay.put("redis", addedSubtree);
+
+    // When
+    MergeResult result = merger.merge(base, overlay);
+
+    // Then
+    assertSame(untouched, result.merged().get("server"));
+    assertSame(addedSubtree, result.merged().get("redis"));
+  }
+
+  @Test
+  void shouldNotModifyInputMaps() {
+    // Given
+    Map<String, Object> baseNested = new HashMap<>();
+    baseNested.put("nested1", "value1");
+    Map<String, Object> base = new HashMap<>();
+    base.put("parent", baseNested);
+
+    Map<String, Object> overlayNested = new HashMap<>();
+    overlayNested.put("nested2", "value2");
+    Map<String, Object> overlay = new HashMap<>();
+    overlay.put("parent", overlayNested);
+
+    // When
+    MergeResult result = merger.merge(base, overlay);
+
+    // Then
+    assertEquals(1, baseNested.size());
+    assertEquals(1, base.size());
+    assertNotSame(baseNested, result.merged().get("parent"));
+  }
+
+  @Test
+  void shouldReturnBaseWhenNothingIsAdded() {
+    // Given
+    Map<String, Object> base = new HashMap<>();
+    base.put("key1", "value1");
+
+    Map<String, Object> overlay = new HashMap<>();
+    overlay.put("key1", "other");
+
+    // When
+    MergeResult result = merger.merge(base, overlay);
+
+    // Then
+    assertSame(base, result.merged());
+    assertEquals(1, result.conflicts().size());
+  }
+
+  @Test
+  void shouldPreserveKeyOrder() {
+    // Given
+    Map<String, Object> base = new LinkedHashMap<>();
+    base.put("zeta", "1");
+    base.put("alpha", "2");
+
+    Map<String, Object> overlay = new LinkedHashMap<>();
+    overlay.put("omega", "3");
+    overlay.put("beta", "4");
+
+    // When
+    MergeResult result = merger.merge(base, overlay);
+
+    // Then
+    assertEquals(List.of("zeta", "alpha", "omega", "beta"), List.copyOf(result.merged().keySet()));
+  }
+
+  @Test
+  void shouldReportChangeOnlyWhenKeysWouldBeAdded() {
+    // Given
+    Map<String, Object> baseNested = new HashMap<>();
+    baseNested.put("nested1", "value1");
+    Map<String, Object> base = new HashMap<>();
+    base.put("parent", baseNested);
+
+    Map<String, Object> conflicting = new HashMap<>();
+    conflicting.put("parent", Map.of("nested1", "other"));
+
+    Map<String, Object> adding = new HashMap<>();
+    adding.put("parent", Map.of("nested2", "value2"));
+
+    // When/Then
+    assertFalse(merger.wouldChange(base, conflicting));
+    assertTrue(merger.wouldChange(base, adding));
+    assertFalse(merger.wouldChange(base, Map.of()));
+  }
+
+  @Test
+  void shouldDeepMergeWithoutModifyingBase() {
+    // Given
+    Map<String, Object> baseNested = new HashMap<>();
+    baseNested.put("nested1", "value1");
+    Map<String, Object> base = new HashMap<>();
+    base.put("parent", baseNested);
+
+    Map<String, Object> overlay = new HashMap<>();
+    overlay.put("parent", Map.of("nested2", "value2"));
+
+    // When
+    Map<String, Object> result = merger.deepMerge(base, overlay);
+
+    // Then
+    @SuppressWarnings("unchecked")
+    Map<String, Object> mergedParent = (Map<String, Object>) result.get("parent");
+    assertEquals(2, mergedParent.size());
+    assertEquals(1, baseNested.size());
+  }
 }
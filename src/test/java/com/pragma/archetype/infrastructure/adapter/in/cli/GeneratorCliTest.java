@@ -0,0 +1,71 @@
+package com.pragma.archetype.infrastructure.adapter.in.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.pragma.archetype.infrastructure.adapter.in.daemon.GeneratorRequestHandler;
+import com.pragma.archetype.infrastructure.adapter.out.template.TemplateRepositoryRegistry;
+
+class GeneratorCliTest {
+
+  private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+  private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+  private final GeneratorCli cli = new GeneratorCli(
+      new PrintStream(out, true, StandardCharsets.UTF_8),
+      new PrintStream(err, true, StandardCharsets.UTF_8),
+      new GeneratorRequestHandler(new TemplateRepositoryRegistry()));
+
+  @Test
+  void shouldPrintUsageWithoutCommand() {
+    assertEquals(2, cli.run(new String[0]));
+    assertTrue(out.toString(StandardCharsets.UTF_8).startsWith("Usage:"));
+  }
+
+  @Test
+  void shouldRejectPositionalArguments() {
+    assertEquals(2, cli.run(new String[] { "generateEntity", "User" }));
+    assertTrue(err.toString(StandardCharsets.UTF_8).contains("Unexpected argument: User"));
+  }
+
+  @Test
+  void shouldPrintJsonResponse() {
+    assertEquals(0, cli.run(new String[] { "ping", "--json" }));
+
+    JsonObject response = JsonParser.parseString(out.toString(StandardCharsets.UTF_8)).getAsJsonObject();
+    assertTrue(response.get("success").getAsBoolean());
+  }
+
+  @Test
+  void shouldFailWhenGenerationFails() {
+    assertEquals(1, cli.run(new String[] { "generateEntity", "--projectPath=/nonexistent/project", "--name=User" }));
+    assertTrue(err.toString(StandardCharsets.UTF_8).startsWith("✗ generateEntity failed:"));
+  }
+
+  @Test
+  void shouldMergeOptionsIntoParams() {
+    JsonObject request = cli.request("generateEntity", Map.of(
+        "projectPath", "/work/orders",
+        "dryRun", "true",
+        "name", "Order",
+        "params", "{\"fields\": [{\"name\": \"total\", \"type\": \"BigDecimal\"}]}"));
+
+    assertEquals("generateEntity", request.get("operation").getAsString());
+    assertEquals(Path.of("/work/orders").toAbsolutePath().toString(), request.get("projectPath").getAsString());
+    assertTrue(request.get("dryRun").getAsBoolean());
+    JsonObject params = request.getAsJsonObject("params");
+    assertEquals("Order", params.get("name").getAsString());
+    assertEquals(1, params.getAsJsonArray("fields").size());
+    assertFalse(params.has("dryRun"));
+  }
+}
@@ -0,0 +1,121 @@
+package com.pragma.archetype.infrastructure.adapter.in.daemon;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.pragma.archetype.infrastructure.adapter.in.daemon.GeneratorDaemon.DaemonException;
+import com.pragma.archetype.infrastructure.adapter.out.template.TemplateRepositoryRegistry;
+
+class GeneratorDaemonTest {
+
+  @TempDir
+  Path tempDir;
+
+  private GeneratorDaemon daemon(Path socketPath) {
+    return new GeneratorDaemon(socketPath, new GeneratorRequestHandler(new TemplateRepositoryRegistry()));
+  }
+
+  @Test
+  void shouldAnswerRequestsOnOneConnection() throws Exception {
+    Path socketPath = tempDir.resolve("generator.sock");
+    try (GeneratorDaemon daemon = daemon(socketPath);
+        SocketChannel channel = connect(daemon)) {
+      BufferedReader reader = reader(channel);
+      Writer writer = writer(channel);
+
+      JsonObject first = send(writer, reader, "{\"id\": 1, \"operation\": \"ping\"}");
+      JsonObject second = send(writer, reader, "{\"id\": 2, \"operation\": \"ping\"}");
+
+      assertEquals(1, first.get("id").getAsInt());
+      assertEquals(2, second.get("id").getAsInt());
+      assertTrue(second.get("success").getAsBoolean());
+    }
+    assertFalse(Files.exists(socketPath));
+  }
+
+  @Test
+  void shouldStopOnShutdownRequest() throws Exception {
+    Path socketPath = tempDir.resolve("generator.sock");
+    GeneratorDaemon daemon = daemon(socketPath);
+    try (SocketChannel channel = connect(daemon)) {
+      JsonObject response = send(writer(channel), reader(channel), "{\"operation\": \"shutdown\"}");
+
+      assertTrue(response.get("shutdown").getAsBoolean());
+      daemon.awaitTermination();
+    }
+    assertFalse(Files.exists(socketPath));
+  }
+
+  @Test
+  void shouldReplaceStaleSocket() throws Exception {
+    Path socketPath = tempDir.resolve("generator.sock");
+    Files.writeString(socketPath, "");
+
+    try (GeneratorDaemon daemon = daemon(socketPath);
+        SocketChannel channel = connect(daemon)) {
+      assertTrue(send(writer(channel), reader(channel), "{\"operation\": \"ping\"}").get("success").getAsBoolean());
+    }
+  }
+
+  @Test
+  void shouldRefuseSocketOfRunningDaemon() {
+    Path socketPath = tempDir.resolve("generator.sock");
+    try (GeneratorDaemon daemon = daemon(socketPath)) {
+      daemon.start();
+
+      assertThrows(DaemonException.class, () -> daemon(socketPath).start());
+    }
+  }
+
+  @Test
+  @DisabledOnOs(OS.WINDOWS)
+  void shouldRestrictSocketToOwner() throws Exception {
+    Path socketPath = tempDir.resolve("cleanarch/generator.sock");
+    try (GeneratorDaemon daemon = daemon(socketPath)) {
+      daemon.start();
+
+      assertEquals("rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(socketPath.getParent())));
+      assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(socketPath)));
+    }
+  }
+
+  private SocketChannel connect(GeneratorDaemon daemon) throws Exception {
+    daemon.start();
+    return SocketChannel.open(UnixDomainSocketAddress.of(daemon.socketPath()));
+  }
+
+  private BufferedReader reader(SocketChannel channel) {
+    return new BufferedReader(new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+  }
+
+  private Writer writer(SocketChannel channel) {
+    return new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8);
+  }
+
+  private JsonObject send(Writer writer, BufferedReader reader, String request) throws Exception {
+    writer.write(request + "\n");
+    writer.flush();
+    return JsonParser.parseString(reader.readLine()).getAsJsonObject();
+  }
+}
@@ -0,0 +1,150 @@
+package com.pragma.archetype.infrastructure.adapter.in.daemon;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.pragma.archetype.infrastructure.adapter.out.template.TemplateRepositoryRegistry;
+
+class GeneratorRequestHandlerTest {
+
+  @TempDir
+  Path projectPath;
+
+  private final GeneratorRequestHandler handler = new GeneratorRequestHandler(new TemplateRepositoryRegistry());
+
+  @Test
+  void shouldAnswerPingWithRequestId() {
+    JsonObject response = handler.handle("{\"id\": 7, \"operation\": \"ping\"}");
+
+    assertEquals(7, response.get("id").getAsInt());
+    assertTrue(response.get("success").getAsBoolean());
+    assertTrue(response.has("version"));
+    assertTrue(response.has("elapsedMs"));
+  }
+
+  @Test
+  void shouldAcknowledgeShutdown() {
+    JsonObject response = handler.handle("{\"operation\": \"shutdown\"}");
+
+    assertTrue(GeneratorRequestHandler.isShutdown(response));
+    assertFalse(GeneratorRequestHandler.isShutdown(handler.handle("{\"operation\": \"ping\"}")));
+  }
+
+  @Test
+  void shouldReportMalformedRequest() {
+    JsonObject response = handler.handle("{not json");
+
+    assertFalse(response.get("success").getAsBoolean());
+    assertTrue(response.getAsJsonArray("errors").get(0).getAsString().startsWith("Invalid request"));
+  }
+
+  @Test
+  void shouldRejectUnknownOperation() {
+    JsonObject response = handler.handle("{\"id\": \"a\", \"operation\": \"generateEverything\"}");
+
+    assertEquals("a", response.get("id").getAsString());
+    assertFalse(response.get("success").getAsBoolean());
+    assertTrue(response.getAsJsonArray("errors").get(0).getAsString()
+        .startsWith("Unknown operation: generateEverything"));
+  }
+
+  @Test
+  void shouldRequireProjectPathForGeneration() {
+    JsonObject response = handler.handle("{\"operation\": \"generateEntity\", \"params\": {\"name\": \"User\"}}");
+
+    assertFalse(response.get("success").getAsBoolean());
+    assertEquals("Missing required field: projectPath",
+        response.getAsJsonArray("errors").get(0).getAsString());
+  }
+
+  @Test
+  void shouldReportInvalidProjectConfiguration() {
+    JsonObject request = new JsonObject();
+    request.addProperty("operation", "generateEntity");
+    request.addProperty("projectPath", projectPath.toString());
+    request.add("params", new JsonObject());
+
+    JsonObject response = handler.handle(request.toString());
+
+    assertFalse(response.get("success").getAsBoolean());
+    assertEquals(0, response.getAsJsonArray("files").size());
+    assertFalse(response.getAsJsonArray("errors").isEmpty());
+  }
+
+  @Test
+  void shouldInitProjectAndGenerateEntity() throws Exception {
+    JsonObject init = handler.handle(request("initProject", false, initParams()));
+
+    assertTrue(init.get("success").getAsBoolean(), init.toString());
+    assertTrue(Files.exists(projectPath.resolve(".cleanarch.yml")));
+    assertTrue(Files.exists(projectPath.resolve("settings.gradle.kts")));
+
+    JsonObject entity = handler.handle(request("generateEntity", false, orderParams()));
+
+    assertTrue(entity.get("success").getAsBoolean(), entity.toString());
+    String file = entity.getAsJsonArray("files").get(0).getAsString();
+    assertTrue(file.endsWith("Order.java"));
+    assertTrue(Files.readString(projectPath.resolve(file)).contains("class Order"));
+  }
+
+  @Test
+  void shouldLeaveProjectUntouchedOnDryRun() throws Exception {
+    handler.handle(request("initProject", false, initParams()));
+    List<Path> before = projectFiles();
+
+    JsonObject response = handler.handle(request("generateEntity", true, orderParams()));
+
+    assertTrue(response.get("success").getAsBoolean(), response.toString());
+    assertTrue(response.get("dryRun").getAsBoolean());
+    String file = response.getAsJsonArray("files").get(0).getAsString();
+    assertTrue(file.endsWith("Order.java"));
+    assertFalse(Files.exists(projectPath.resolve(file)));
+    assertEquals(before, projectFiles());
+  }
+
+  private String request(String operation, boolean dryRun, JsonObject params) {
+    JsonObject request = new JsonObject();
+    request.addProperty("operation", operation);
+    request.addProperty("projectPath", projectPath.toString());
+    request.addProperty("dryRun", dryRun);
+    request.add("params", params);
+    return request.toString();
+  }
+
+  private JsonObject initParams() {
+    JsonObject params = new JsonObject();
+    params.addProperty("name", "orders");
+    params.addProperty("basePackage", "com.example.orders");
+    return params;
+  }
+
+  private JsonObject orderParams() {
+    JsonObject field = new JsonObject();
+    field.addProperty("name", "total");
+    field.addProperty("type", "BigDecimal");
+    JsonArray fields = new JsonArray();
+    fields.add(field);
+
+    JsonObject params = new JsonObject();
+    params.addProperty("name", "Order");
+    params.add("fields", fields);
+    return params;
+  }
+
+  private List<Path> projectFiles() throws Exception {
+    try (Stream<Path> paths = Files.walk(projectPath)) {
+      return paths.sorted().toList();
+    }
+  }
+}
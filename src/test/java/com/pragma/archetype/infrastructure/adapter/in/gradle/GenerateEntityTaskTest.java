@@ -64,6 +64,12 @@ class GenerateEntityTaskTest {
     assertEquals("Long", task.getIdType());
   }
 
+  @Test
+  void shouldCaptureProjectDirectoryAtConfiguration() {
+    assertEquals(tempDir.toFile().getAbsoluteFile(),
+        task.getProjectDirectory().get().getAsFile().getAbsoluteFile());
+  }
+
   @Test
   void shouldHaveDefaultValues() {
     assertEquals("", task.getEntityName());
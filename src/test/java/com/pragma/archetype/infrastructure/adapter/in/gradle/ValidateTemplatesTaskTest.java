@@ -1,7 +1,10 @@
 package com.pragma.archetype.infrastructure.adapter.in.gradle;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.gradle.api.Project;
@@ -43,4 +46,57 @@ class ValidateTemplatesTaskTest {
     assertEquals("", task.getArchitecture());
     assertEquals("", task.getAdapter());
   }
+
+  @Test
+  void shouldWriteReportUnderBuildDirectoryByDefault() {
+    assertEquals(project.getLayout().getBuildDirectory().file("reports/cleanarch/template-validation.txt").get()
+        .getAsFile(), task.getReportFile().get().getAsFile());
+  }
+
+  @Test
+  void shouldTrackLocalTemplateFilesAsInputs() throws IOException {
+    // Given
+    Path templates = tempDir.resolve("templates-dev");
+    Files.createDirectories(templates.resolve("architectures"));
+    Files.writeString(templates.resolve("architectures/structure.yml"), "name: demo");
+    writeConfiguration("""
+        templates:
+          mode: developer
+          localPath: %s
+        """.formatted(templates.toAbsolutePath()));
+
+    // Then
+    assertEquals("local", task.getTemplateSource().get());
+    assertTrue(task.getTemplateFiles().getFiles().contains(templates.toAbsolutePath().toFile()));
+  }
+
+  @Test
+  void shouldDescribeRemoteTemplatesByRepositoryAndVersion() throws IOException {
+    // Given
+    writeConfiguration("""
+        templates:
+          mode: production
+          repository: https://github.com/acme/templates
+          version: v1.2.0
+        """);
+
+    // Then
+    assertEquals("remote https://github.com/acme/templates@v1.2.0", task.getTemplateSource().get());
+    assertTrue(task.getTemplateFiles().isEmpty());
+  }
+
+  private void writeConfiguration(String templatesSection) throws IOException {
+    Files.writeString(tempDir.resolve(".cleanarch.yml"), """
+        project:
+          name: test-project
+          basePackage: com.test
+          pluginVersion: 1.0.0
+          createdAt: 2024-01-01T00:00:00
+        architecture:
+          type: hexagonal-single
+          paradigm: reactive
+          framework: spring
+          adaptersAsModules: false
+        """ + templatesSection);
+  }
 }
@@ -0,0 +1,159 @@
+package com.pragma.archetype.infrastructure.adapter.out.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.pragma.archetype.domain.model.adapter.AdapterConfig;
+import com.pragma.archetype.domain.model.adapter.AdapterType;
+import com.pragma.archetype.domain.model.adapter.Endpoint;
+import com.pragma.archetype.domain.model.adapter.HttpMethod;
+import com.pragma.archetype.domain.model.adapter.InputAdapterType;
+import com.pragma.archetype.domain.model.adapter.ParameterType;
+import com.pragma.archetype.domain.model.config.ProjectConfig;
+import com.pragma.archetype.domain.model.entity.EntityConfig;
+import com.pragma.archetype.domain.model.entity.EntityField;
+import com.pragma.archetype.domain.model.project.ArchitectureType;
+import com.pragma.archetype.domain.model.project.Framework;
+import com.pragma.archetype.domain.model.project.Paradigm;
+import com.pragma.archetype.domain.model.spec.GenerationSpec;
+import com.pragma.archetype.domain.model.usecase.UseCaseConfig;
+import com.pragma.archetype.infrastructure.adapter.out.config.GenerationSpecReader.SpecFormatException;
+
+class GenerationSpecReaderTest {
+
+  private final GenerationSpecReader reader = new GenerationSpecReader();
+  private final ProjectConfig projectConfig = ProjectConfig.builder()
+      .name("test-project")
+      .basePackage("com.test")
+      .architecture(ArchitectureType.HEXAGONAL_SINGLE)
+      .paradigm(Paradigm.IMPERATIVE)
+      .framework(Framework.SPRING)
+      .pluginVersion("1.0.0")
+      .build();
+
+  @Test
+  void shouldReadYamlSpec(@TempDir Path tempDir) throws Exception {
+    // Given
+    Path specFile = tempDir.resolve("cleanarch-spec.yml");
+    Files.writeString(specFile, """
+        entities:
+          - name: User
+            fields:
+              - { name: id, type: String }
+              - { name: email, type: String }
+              - { name: nickname, type: String, nullable: true }
+        useCases:
+          - name: CreateUser
+            generateImpl: false
+            methods:
+              - name: execute
+                returnType: User
+                parameters:
+                  - { name: email, type: String }
+        inputAdapters:
+          - name: User
+            useCase: CreateUserUseCase
+            packageName: com.test.infrastructure.entrypoints.rest
+            endpoints:
+              - path: /users/{id}
+                method: get
+                useCaseMethod: findById
+                returnType: User
+                parameters:
+                  - { name: id, paramType: PATH, type: String }
+        outputAdapters:
+          - name: UserRepository
+            entity: User
+            type: mongo
+        """);
+
+    // When
+    GenerationSpec spec = reader.read(specFile, projectConfig);
+
+    // Then
+    assertEquals(4, spec.size());
+
+    EntityConfig user = spec.entities().get(0);
+    assertEquals("com.test.domain.model", user.packageName());
+    assertEquals(List.of(
+        new EntityField("email", "String", false),
+        new EntityField("nickname", "String", true)), user.fields());
+
+    UseCaseConfig createUser = spec.useCases().get(0);
+    assertEquals("com.test.domain.port.in", createUser.packageName());
+    assertEquals(Paradigm.IMPERATIVE, createUser.paradigm());
+    assertTrue(createUser.generatePort());
+    assertFalse(createUser.generateImpl());
+    assertEquals("email", createUser.methods().get(0).parameters().get(0).name());
+
+    Endpoint endpoint = spec.inputAdapters().get(0).endpoints().get(0);
+    assertEquals(InputAdapterType.REST, spec.inputAdapters().get(0).type());
+    assertEquals(HttpMethod.GET, endpoint.method());
+    assertEquals(ParameterType.PATH, endpoint.parameters().get(0).paramType());
+
+    AdapterConfig repository = spec.outputAdapters().get(0);
+    assertEquals(AdapterType.MONGODB, repository.type());
+    assertEquals("com.test.infrastructure.drivenadapters.mongo", repository.packageName());
+    assertTrue(repository.methods().isEmpty());
+  }
+
+  @Test
+  void shouldReadJsonSpec() {
+    // Given
+    String json = """
+        {"outputAdapters": [
+          {"name": "OrderCache", "entity": "Order", "type": "redis", "packageName": "com.test.cache"}
+        ]}
+        """;
+
+    // When
+    GenerationSpec spec = reader.parse(json, projectConfig);
+
+    // Then
+    assertEquals(1, spec.size());
+    assertEquals("com.test.cache", spec.outputAdapters().get(0).packageName());
+    assertEquals(AdapterType.REDIS, spec.outputAdapters().get(0).type());
+  }
+
+  @Test
+  void shouldReadEmptySpec() {
+    assertTrue(reader.parse("", projectConfig).isEmpty());
+  }
+
+  @Test
+  void shouldReportMissingRequiredValueWithItsLocation() {
+    // Given
+    String yaml = """
+        entities:
+          - name: User
+            fields:
+              - { name: email }
+        """;
+
+    // When
+    SpecFormatException exception = assertThrows(SpecFormatException.class,
+        () -> reader.parse(yaml, projectConfig));
+
+    // Then
+    assertEquals("entities[0].fields[0]: 'type' is required", exception.getMessage());
+  }
+
+  @Test
+  void shouldRejectUnknownSectionsAndTypes() {
+    assertThrows(SpecFormatException.class, () -> reader.parse("adapters: []", projectConfig));
+    assertThrows(SpecFormatException.class, () -> reader.parse("""
+        outputAdapters:
+          - { name: UserRepository, entity: User, type: cassandra }
+        """, projectConfig));
+    assertThrows(SpecFormatException.class, () -> reader.parse("entities: User", projectConfig));
+  }
+}
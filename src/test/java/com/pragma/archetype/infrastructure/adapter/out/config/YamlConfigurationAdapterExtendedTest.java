@@ -20,6 +20,8 @@ import com.pragma.archetype.domain.model.config.ProjectConfig;
 import com.pragma.archetype.domain.model.project.ArchitectureType;
 import com.pragma.archetype.domain.model.project.Framework;
 import com.pragma.archetype.domain.model.project.Paradigm;
+import com.pragma.archetype.infrastructure.adapter.out.filesystem.InMemoryFileSystemAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.filesystem.LocalFileSystemAdapter;
 
 class YamlConfigurationAdapterExtendedTest {
 
@@ -106,6 +108,22 @@ class YamlConfigurationAdapterExtendedTest {
     assertFalse(Files.exists(configFile));
   }
 
+  @Test
+  void testDeleteConfiguration_throughFileSystemPort() throws Exception {
+    // Given - a config file and an adapter previewing changes in memory
+    Path configFile = tempDir.resolve(".cleanarch.yml");
+    Files.writeString(configFile, "test: value");
+    InMemoryFileSystemAdapter preview = new InMemoryFileSystemAdapter(new LocalFileSystemAdapter());
+    YamlConfigurationAdapter previewAdapter = new YamlConfigurationAdapter(preview);
+
+    // When
+    previewAdapter.deleteConfiguration(tempDir);
+
+    // Then
+    assertFalse(previewAdapter.configurationExists(tempDir));
+    assertTrue(Files.exists(configFile));
+  }
+
   @Test
   void testDeleteConfiguration_nonExistentFile() {
     // When/Then - should not throw exception
@@ -16,6 +16,8 @@ import org.junit.jupiter.api.io.TempDir;
 
 import com.pragma.archetype.domain.model.config.TemplateConfig;
 import com.pragma.archetype.domain.model.config.TemplateMode;
+import com.pragma.archetype.infrastructure.adapter.out.filesystem.InMemoryFileSystemAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.filesystem.LocalFileSystemAdapter;
 
 @DisplayName("YamlConfigurationAdapter Tests")
 class YamlConfigurationAdapterTest {
@@ -501,4 +503,33 @@ class YamlConfigurationAdapterTest {
     Path tempFile = yamlFile.resolveSibling(yamlFile.getFileName() + ".tmp");
     assertFalse(Files.exists(tempFile), "Temporary file should not exist after atomic merge");
   }
+
+  @Test
+  @DisplayName("Should merge YAML through file system port without touching disk")
+  void shouldMergeYamlThroughFileSystemPort(@TempDir Path tempDir) throws IOException {
+    // Given: An existing YAML file and an in-memory overlay of the disk
+    Path yamlFile = tempDir.resolve("application.yml");
+    String existingContent = """
+        spring:
+          application:
+            name: existing-app
+        """;
+    Files.writeString(yamlFile, existingContent);
+    InMemoryFileSystemAdapter fileSystem = new InMemoryFileSystemAdapter(new LocalFileSystemAdapter());
+    YamlConfigurationAdapter portAdapter = new YamlConfigurationAdapter(fileSystem);
+
+    var overlay = new java.util.LinkedHashMap<String, Object>();
+    overlay.put("server", new java.util.LinkedHashMap<>(java.util.Map.of("port", 8080)));
+
+    // When: Merging YAML file
+    portAdapter.mergeYamlFile(yamlFile, overlay);
+
+    // Then: The merge is visible through the port only
+    String merged = fileSystem.readFile(yamlFile);
+    assertTrue(merged.contains("existing-app"));
+    assertTrue(merged.contains("8080"));
+    assertEquals(existingContent, Files.readString(yamlFile));
+    assertTrue(portAdapter.writesThrough(fileSystem));
+    assertFalse(adapter.writesThrough(fileSystem));
+  }
 }
@@ -0,0 +1,62 @@
+package com.pragma.archetype.infrastructure.adapter.out.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.pragma.archetype.domain.model.manifest.GenerationManifest;
+import com.pragma.archetype.domain.model.manifest.ManifestEntry;
+import com.pragma.archetype.infrastructure.adapter.out.config.YamlGenerationManifestAdapter.ManifestFormatException;
+import com.pragma.archetype.infrastructure.adapter.out.filesystem.LocalFileSystemAdapter;
+
+class YamlGenerationManifestAdapterTest {
+
+  @TempDir
+  Path projectPath;
+
+  private final YamlGenerationManifestAdapter adapter = new YamlGenerationManifestAdapter(
+      new LocalFileSystemAdapter());
+
+  @Test
+  void shouldReturnEmptyManifestWhenNoneExists() {
+    assertTrue(adapter.read(projectPath).isEmpty());
+  }
+
+  @Test
+  void shouldRoundTripEntries() {
+    // Given
+    Map<String, Object> context = Map.of(
+        "entityName", "User",
+        "hasId", true,
+        "version", "1.0",
+        "fields", List.of(Map.of("name", "id", "type", "String")));
+    ManifestEntry entry = new ManifestEntry("src/main/java/User.java", "entity/Entity.java.ftl",
+        "aaa", "bbb", "1.0.5", "ccc", context);
+
+    // When
+    adapter.write(projectPath, new GenerationManifest(List.of(entry)));
+    GenerationManifest manifest = adapter.read(projectPath);
+
+    // Then
+    assertTrue(Files.exists(projectPath.resolve(".cleanarch/manifest.yml")));
+    assertEquals(List.of(entry), manifest.entries());
+  }
+
+  @Test
+  void shouldRejectInvalidManifest() throws Exception {
+    // Given
+    Files.createDirectories(projectPath.resolve(".cleanarch"));
+    Files.writeString(projectPath.resolve(".cleanarch/manifest.yml"), "files:\n  - just a string\n");
+
+    // Then
+    assertThrows(ManifestFormatException.class, () -> adapter.read(projectPath));
+  }
+}
@@ -0,0 +1,145 @@
+package com.pragma.archetype.infrastructure.adapter.out.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class YamlMergeAccumulatorTest {
+
+  @TempDir
+  Path tempDir;
+
+  private CountingYamlConfigurationAdapter adapter;
+  private YamlMergeAccumulator accumulator;
+
+  @BeforeEach
+  void setUp() {
+    adapter = new CountingYamlConfigurationAdapter();
+    accumulator = new YamlMergeAccumulator(adapter);
+  }
+
+  @Test
+  void shouldWriteFileOnceForSeveralOverlays() throws Exception {
+    // Given
+    Path yamlFile = tempDir.resolve("application.yml");
+    Files.writeString(yamlFile, "server:\n  port: 8080\n");
+
+    accumulator.add(yamlFile, nested("spring", "redis", "localhost"));
+    accumulator.add(yamlFile, nested("spring", "kafka", "localhost:9092"));
+    accumulator.add(yamlFile, nested("spring", "datasource", "jdbc:postgresql://localhost/db"));
+
+    // When
+    int written = accumulator.flush();
+
+    // Then
+    assertEquals(1, written);
+    assertEquals(1, adapter.reads);
+    assertEquals(1, adapter.writes);
+    String content = Files.readString(yamlFile);
+    assertTrue(content.contains("port: 8080"));
+    assertTrue(content.contains("redis: localhost"));
+    assertTrue(content.contains("kafka: localhost:9092"));
+    assertTrue(content.contains("datasource: jdbc:postgresql://localhost/db"));
+    assertFalse(accumulator.hasPending());
+  }
+
+  @Test
+  void shouldKeepFirstOverlayValueOnConflict() throws Exception {
+    // Given
+    Path yamlFile = tempDir.resolve("application.yml");
+    accumulator.add(yamlFile, nested("spring", "host", "first"));
+    accumulator.add(yamlFile, nested("spring", "host", "second"));
+
+    // When
+    accumulator.flush();
+
+    // Then
+    String content = Files.readString(yamlFile);
+    assertTrue(content.contains("host: first"));
+    assertFalse(content.contains("second"));
+  }
+
+  @Test
+  void shouldSkipWriteWhenNothingIsAdded() throws Exception {
+    // Given
+    Path yamlFile = tempDir.resolve("application.yml");
+    Files.writeString(yamlFile, "spring:\n  host: existing\n");
+    accumulator.add(yamlFile, nested("spring", "host", "other"));
+
+    // When
+    int written = accumulator.flush();
+
+    // Then
+    assertEquals(0, written);
+    assertEquals(0, adapter.writes);
+    assertEquals("spring:\n  host: existing\n", Files.readString(yamlFile));
+  }
+
+  @Test
+  void shouldIgnoreEmptyOverlays() {
+    // Given
+    accumulator.add(tempDir.resolve("application.yml"), new LinkedHashMap<>());
+    accumulator.add(tempDir.resolve("application.yml"), null);
+
+    // When/Then
+    assertFalse(accumulator.hasPending());
+    assertEquals(0, accumulator.flush());
+    assertEquals(0, adapter.reads);
+  }
+
+  @Test
+  void shouldWriteEachFileOnce() throws Exception {
+    // Given
+    Path first = tempDir.resolve("application.yml");
+    Path second = tempDir.resolve("application-test.yml");
+    accumulator.add(first, nested("spring", "a", "1"));
+    accumulator.add(second, nested("spring", "b", "2"));
+    accumulator.add(first, nested("spring", "c", "3"));
+
+    // When
+    int written = accumulator.flush();
+
+    // Then
+    assertEquals(2, written);
+    assertEquals(2, adapter.writes);
+    assertTrue(Files.readString(first).contains("c: '3'"));
+    assertTrue(Files.readString(second).contains("b: '2'"));
+  }
+
+  private Map<String, Object> nested(String parent, String key, Object value) {
+    Map<String, Object> child = new LinkedHashMap<>();
+    child.put(key, value);
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put(parent, child);
+    return map;
+  }
+
+  /**
+   * Counts file reads and writes so tests can assert single-pass behaviour.
+   */
+  private static class CountingYamlConfigurationAdapter extends YamlConfigurationAdapter {
+    private int reads;
+    private int writes;
+
+    @Override
+    public Map<String, Object> readYaml(Path filePath) {
+      reads++;
+      return super.readYaml(filePath);
+    }
+
+    @Override
+    public void writeYaml(Path filePath, Map<String, Object> data) {
+      writes++;
+      super.writeYaml(filePath, data);
+    }
+  }
+}
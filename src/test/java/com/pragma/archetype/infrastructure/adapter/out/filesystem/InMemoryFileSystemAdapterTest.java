@@ -0,0 +1,219 @@
+package com.pragma.archetype.infrastructure.adapter.out.filesystem;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.pragma.archetype.domain.model.file.GeneratedFile;
+import com.pragma.archetype.domain.port.out.FileSystemPort.FileWriteException;
+
+@DisplayName("InMemoryFileSystemAdapter Tests")
+class InMemoryFileSystemAdapterTest {
+
+  private static final Path ROOT = Path.of("/project").toAbsolutePath();
+
+  @Nested
+  @DisplayName("Standalone")
+  class Standalone {
+
+    private final InMemoryFileSystemAdapter adapter = new InMemoryFileSystemAdapter();
+
+    @Test
+    @DisplayName("Should write and read files with parent directories")
+    void shouldWriteAndReadFiles() {
+      // Given
+      Path file = ROOT.resolve("src/main/java/Demo.java");
+
+      // When
+      adapter.writeFile(GeneratedFile.javaSource(file, "class Demo {}"));
+
+      // Then
+      assertEquals("class Demo {}", adapter.readFile(file));
+      assertTrue(adapter.exists(file));
+      assertFalse(adapter.directoryExists(file));
+      assertTrue(adapter.directoryExists(ROOT.resolve("src/main/java")));
+      assertTrue(adapter.directoryExists(ROOT));
+      assertArrayEquals("class Demo {}".getBytes(StandardCharsets.UTF_8), adapter.writtenContent(file));
+    }
+
+    @Test
+    @DisplayName("Should list direct children only")
+    void shouldListDirectChildren() {
+      // Given
+      adapter.writeFile(GeneratedFile.create(ROOT.resolve("build.gradle"), "plugins {}"));
+      adapter.writeFile(GeneratedFile.create(ROOT.resolve("src/main/App.java"), "class App {}"));
+      adapter.createDirectory(ROOT.resolve("docs"));
+
+      // When
+      List<Path> children = adapter.listFiles(ROOT);
+
+      // Then
+      assertEquals(3, children.size());
+      assertTrue(children.contains(ROOT.resolve("build.gradle")));
+      assertTrue(children.contains(ROOT.resolve("src")));
+      assertTrue(children.contains(ROOT.resolve("docs")));
+    }
+
+    @Test
+    @DisplayName("Should treat project with only build files as empty")
+    void shouldDetectEmptyProject() {
+      // Given
+      adapter.writeFile(GeneratedFile.create(ROOT.resolve("settings.gradle.kts"), ""));
+
+      // Then
+      assertTrue(adapter.isProjectEmpty(ROOT));
+
+      adapter.writeFile(GeneratedFile.create(ROOT.resolve("README.md"), "# Demo"));
+      assertFalse(adapter.isProjectEmpty(ROOT));
+    }
+
+    @Test
+    @DisplayName("Should append to existing file and reject missing file")
+    void shouldAppendToExistingFile() {
+      // Given
+      Path file = ROOT.resolve("notes.txt");
+      adapter.writeFile(GeneratedFile.create(file, "a"));
+
+      // When
+      adapter.appendToFile(file, "b");
+
+      // Then
+      assertEquals("ab", adapter.readFile(file));
+      assertThrows(FileWriteException.class, () -> adapter.appendToFile(ROOT.resolve("missing.txt"), "x"));
+    }
+
+    @Test
+    @DisplayName("Should reject writing a file over a directory")
+    void shouldRejectFileOverDirectory() {
+      // Given
+      adapter.createDirectory(ROOT.resolve("src"));
+
+      // When/Then
+      assertThrows(FileWriteException.class,
+          () -> adapter.writeFile(GeneratedFile.create(ROOT.resolve("src"), "x")));
+    }
+
+    @Test
+    @DisplayName("Should forget writes on discard")
+    void shouldForgetWritesOnDiscard() {
+      // Given
+      Path file = ROOT.resolve("Demo.java");
+      adapter.writeFile(GeneratedFile.javaSource(file, "class Demo {}"));
+
+      // When
+      adapter.discard();
+
+      // Then
+      assertFalse(adapter.exists(file));
+      assertTrue(adapter.writtenFiles().isEmpty());
+      assertNull(adapter.writtenContent(file));
+      assertThrows(FileWriteException.class, () -> adapter.readFile(file));
+    }
+  }
+
+  @Nested
+  @DisplayName("Overlay")
+  class Overlay {
+
+    @Test
+    @DisplayName("Should read through to base and never write to it")
+    void shouldReadThroughAndNotWriteToBase(@TempDir Path tempDir) throws IOException {
+      // Given
+      Path existing = tempDir.resolve("build.gradle");
+      Files.writeString(existing, "plugins {}");
+      InMemoryFileSystemAdapter adapter = new InMemoryFileSystemAdapter(new LocalFileSystemAdapter());
+
+      // When
+      adapter.appendToFile(existing, "\ndependencies {}");
+      adapter.writeFile(GeneratedFile.javaSource(tempDir.resolve("src/App.java"), "class App {}"));
+
+      // Then
+      assertEquals("plugins {}\ndependencies {}", adapter.readFile(existing));
+      assertEquals("plugins {}", Files.readString(existing));
+      assertFalse(Files.exists(tempDir.resolve("src")));
+      assertTrue(adapter.directoryExists(tempDir.resolve("src")));
+      assertEquals(List.of(existing, tempDir.resolve("src/App.java")), adapter.writtenFiles());
+    }
+
+    @Test
+    @DisplayName("Should merge base and in-memory entries when listing")
+    void shouldMergeListings(@TempDir Path tempDir) throws IOException {
+      // Given
+      Files.writeString(tempDir.resolve("build.gradle"), "plugins {}");
+      InMemoryFileSystemAdapter adapter = new InMemoryFileSystemAdapter(new LocalFileSystemAdapter());
+      adapter.writeFile(GeneratedFile.create(tempDir.resolve("build.gradle"), "plugins { java }"));
+      adapter.writeFile(GeneratedFile.create(tempDir.resolve("README.md"), "# Demo"));
+
+      // When
+      List<Path> children = adapter.listFiles(tempDir);
+
+      // Then
+      assertEquals(2, children.size());
+      assertTrue(children.contains(tempDir.resolve("build.gradle")));
+      assertTrue(children.contains(tempDir.resolve("README.md")));
+    }
+
+    @Test
+    @DisplayName("Should report whether writes change the base")
+    void shouldReportChanges(@TempDir Path tempDir) throws IOException {
+      // Given
+      Path same = tempDir.resolve("same.txt");
+      Path changed = tempDir.resolve("changed.txt");
+      Files.writeString(same, "same");
+      Files.writeString(changed, "old");
+      InMemoryFileSystemAdapter adapter = new InMemoryFileSystemAdapter(new LocalFileSystemAdapter());
+
+      // When
+      adapter.writeFile(GeneratedFile.create(same, "same"));
+      adapter.writeFile(GeneratedFile.create(changed, "new"));
+      adapter.writeFile(GeneratedFile.create(tempDir.resolve("added.txt"), "added"));
+
+      // Then
+      assertFalse(adapter.isChanged(same));
+      assertTrue(adapter.isChanged(changed));
+      assertTrue(adapter.isChanged(tempDir.resolve("added.txt")));
+      assertFalse(adapter.isChanged(tempDir.resolve("untouched.txt")));
+    }
+
+    @Test
+    @DisplayName("Should hide deleted base files until they are written again")
+    void shouldHideDeletedBaseFiles(@TempDir Path tempDir) throws IOException {
+      // Given
+      Path config = tempDir.resolve(".cleanarch.yml");
+      Files.writeString(config, "project: demo");
+      InMemoryFileSystemAdapter adapter = new InMemoryFileSystemAdapter(new LocalFileSystemAdapter());
+
+      // When
+      adapter.deleteFile(config);
+
+      // Then
+      assertFalse(adapter.exists(config));
+      assertThrows(FileWriteException.class, () -> adapter.readFile(config));
+      assertTrue(adapter.listFiles(tempDir).isEmpty());
+      assertEquals(Set.of(config), adapter.deletedFiles());
+      assertTrue(Files.exists(config));
+
+      // When
+      adapter.writeFile(GeneratedFile.create(config, "project: other"));
+
+      // Then
+      assertEquals("project: other", adapter.readFile(config));
+      assertTrue(adapter.deletedFiles().isEmpty());
+    }
+  }
+}
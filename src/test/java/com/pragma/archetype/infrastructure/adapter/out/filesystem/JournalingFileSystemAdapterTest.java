@@ -0,0 +1,123 @@
+package com.pragma.archetype.infrastructure.adapter.out.filesystem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.pragma.archetype.domain.model.file.GeneratedFile;
+
+@DisplayName("JournalingFileSystemAdapter Tests")
+class JournalingFileSystemAdapterTest {
+
+  @TempDir
+  Path tempDir;
+
+  private CountingFileSystemAdapter delegate;
+  private JournalingFileSystemAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    delegate = new CountingFileSystemAdapter();
+    adapter = new JournalingFileSystemAdapter(delegate);
+  }
+
+  @Test
+  @DisplayName("Should coalesce build file edits into a single write")
+  void shouldCoalesceBuildFileEdits() throws Exception {
+    // Given
+    Path settings = tempDir.resolve("settings.gradle.kts");
+    Files.writeString(settings, "rootProject.name = \"demo\"\n");
+
+    // When
+    adapter.writeFile(GeneratedFile.create(settings, adapter.readFile(settings) + "include(\"a\")\n"));
+    adapter.writeFile(GeneratedFile.create(settings, adapter.readFile(settings) + "include(\"b\")\n"));
+    adapter.appendToFile(settings, "include(\"c\")\n");
+
+    // Then
+    assertEquals(0, delegate.writes);
+    assertEquals("rootProject.name = \"demo\"\n", Files.readString(settings));
+    assertEquals(List.of(settings.toAbsolutePath().normalize()), adapter.pendingFiles());
+
+    adapter.flush();
+
+    assertEquals(1, delegate.writes);
+    assertEquals("rootProject.name = \"demo\"\ninclude(\"a\")\ninclude(\"b\")\ninclude(\"c\")\n",
+        Files.readString(settings));
+    assertTrue(adapter.pendingFiles().isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should write other files through immediately")
+  void shouldWriteOtherFilesThrough() throws Exception {
+    // Given
+    Path source = tempDir.resolve("src/main/java/Demo.java");
+    Path build = tempDir.resolve("app/build.gradle.kts");
+
+    // When
+    adapter.writeFiles(List.of(
+        GeneratedFile.create(source, "class Demo {}"),
+        GeneratedFile.create(build, "dependencies {}")));
+
+    // Then
+    assertTrue(Files.exists(source));
+    assertFalse(Files.exists(build));
+    assertTrue(adapter.exists(build));
+    assertEquals("dependencies {}", adapter.readFile(build));
+  }
+
+  @Test
+  @DisplayName("Should list journaled files that are not on disk yet")
+  void shouldListPendingFiles() throws Exception {
+    // Given
+    Path build = tempDir.resolve("build.gradle.kts");
+    Files.writeString(tempDir.resolve("README.md"), "readme");
+
+    // When
+    adapter.writeFile(GeneratedFile.create(build, "plugins {}"));
+
+    // Then
+    List<Path> files = adapter.listFiles(tempDir);
+    assertEquals(2, files.size());
+    assertTrue(files.stream().anyMatch(file -> file.getFileName().toString().equals("build.gradle.kts")));
+  }
+
+  @Test
+  @DisplayName("Should drop pending edits on discard")
+  void shouldDiscardPendingEdits() throws Exception {
+    // Given
+    Path build = tempDir.resolve("build.gradle.kts");
+    Files.writeString(build, "original");
+    adapter.writeFile(GeneratedFile.create(build, "edited"));
+
+    // When
+    adapter.discard();
+    adapter.flush();
+
+    // Then
+    assertEquals(0, delegate.writes);
+    assertEquals("original", adapter.readFile(build));
+    assertEquals("original", Files.readString(build));
+  }
+
+  /**
+   * Counts single-file writes reaching the disk.
+   */
+  private static class CountingFileSystemAdapter extends LocalFileSystemAdapter {
+    private int writes;
+
+    @Override
+    public void writeFile(GeneratedFile file) {
+      writes++;
+      super.writeFile(file);
+    }
+  }
+}
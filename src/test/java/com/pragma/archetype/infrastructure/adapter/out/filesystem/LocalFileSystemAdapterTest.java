@@ -3,12 +3,14 @@ package com.pragma.archetype.infrastructure.adapter.out.filesystem;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -207,6 +209,50 @@ class LocalFileSystemAdapterTest {
       // When/Then
       assertFalse(adapter.directoryExists(filePath));
     }
+
+    @Test
+    @DisplayName("Should create overlapping directory chains")
+    void shouldCreateOverlappingDirectoryChains(@TempDir Path tempDir) {
+      // Given
+      Path base = tempDir.resolve("src/main/java/com/example");
+
+      // When
+      adapter.createDirectory(base.resolve("domain/model"));
+      adapter.createDirectory(base.resolve("domain/port/in"));
+      adapter.createDirectory(base.resolve("domain"));
+      adapter.createDirectory(tempDir.resolve("src/main/../main/java/com/example/application"));
+
+      // Then
+      assertTrue(Files.isDirectory(base.resolve("domain/model")));
+      assertTrue(Files.isDirectory(base.resolve("domain/port/in")));
+      assertTrue(Files.isDirectory(base.resolve("application")));
+    }
+
+    @Test
+    @DisplayName("Should fail when a file is in the way")
+    void shouldFailWhenFileIsInTheWay(@TempDir Path tempDir) throws IOException {
+      // Given
+      Files.writeString(tempDir.resolve("blocked"), "content");
+
+      // When/Then
+      assertThrows(FileWriteException.class, () -> adapter.createDirectory(tempDir.resolve("blocked/child")));
+    }
+
+    @Test
+    @DisplayName("Should recreate remembered directory removed before a write")
+    void shouldRecreateRememberedDirectoryRemovedBeforeWrite(@TempDir Path tempDir) throws IOException {
+      // Given
+      Path directory = tempDir.resolve("a/b");
+      adapter.createDirectory(directory);
+      Files.delete(directory);
+      Files.delete(directory.getParent());
+
+      // When
+      adapter.writeFile(GeneratedFile.create(directory.resolve("File.java"), "class File {}"));
+
+      // Then
+      assertEquals("class File {}", readFileContent(directory.resolve("File.java")));
+    }
   }
 
   @Nested
@@ -463,6 +509,212 @@ class LocalFileSystemAdapterTest {
       assertThrows(FileWriteException.class,
           () -> adapter.appendToFile(nonExisting, "content"));
     }
+
+    @Test
+    @DisplayName("Should append in place without leaving a marker")
+    void shouldAppendInPlaceWithoutLeavingMarker(@TempDir Path tempDir) throws IOException {
+      // Given
+      Path filePath = tempDir.resolve("application.yml");
+      Files.writeString(filePath, "a: 1\n");
+      Object fileKey = Files.readAttributes(filePath, java.nio.file.attribute.BasicFileAttributes.class).fileKey();
+
+      // When
+      adapter.appendToFile(filePath, "b: 2\n");
+
+      // Then
+      assertEquals("a: 1\nb: 2\n", Files.readString(filePath));
+      assertEquals(fileKey, Files.readAttributes(filePath, java.nio.file.attribute.BasicFileAttributes.class).fileKey());
+      assertFalse(Files.exists(tempDir.resolve("application.yml.append")));
+    }
+
+    @Test
+    @DisplayName("Should roll back interrupted append before appending")
+    void shouldRollBackInterruptedAppendBeforeAppending(@TempDir Path tempDir) throws IOException {
+      // Given: A crash left half of an append and its marker behind
+      Path filePath = tempDir.resolve("application.yml");
+      Files.writeString(filePath, "a: 1\nb: ");
+      Files.writeString(tempDir.resolve("application.yml.append"), "5");
+
+      // When
+      adapter.appendToFile(filePath, "c: 3\n");
+
+      // Then
+      assertEquals("a: 1\nc: 3\n", Files.readString(filePath));
+      assertFalse(Files.exists(tempDir.resolve("application.yml.append")));
+    }
+
+    @Test
+    @DisplayName("Should roll back interrupted append when reading")
+    void shouldRollBackInterruptedAppendWhenReading(@TempDir Path tempDir) throws IOException {
+      // Given
+      Path filePath = tempDir.resolve("application.yml");
+      Files.writeString(filePath, "a: 1\nb: ");
+      Files.writeString(tempDir.resolve("application.yml.append"), "5");
+
+      // When/Then
+      assertEquals("a: 1\n", adapter.readFile(filePath));
+    }
+
+    @Test
+    @DisplayName("Should not modify other hard links when appending")
+    void shouldNotModifyOtherHardLinksWhenAppending(@TempDir Path tempDir) throws IOException {
+      // Given
+      Path filePath = tempDir.resolve("build.gradle.kts");
+      Path link = tempDir.resolve("backup.kts");
+      Files.writeString(filePath, "original");
+      Files.createLink(link, filePath);
+
+      // When
+      adapter.appendToFile(filePath, " appended");
+
+      // Then
+      assertEquals("original appended", Files.readString(filePath));
+      assertEquals("original", Files.readString(link));
+    }
+  }
+
+  @Nested
+  @DisplayName("Bulk Write Operations")
+  class BulkWriteOperations {
+
+    @Test
+    @DisplayName("Should write many files across nested directories")
+    void shouldWriteManyFilesAcrossNestedDirectories(@TempDir Path tempDir) {
+      // Given
+      List<GeneratedFile> files = new java.util.ArrayList<>();
+      for (int module = 0; module < 10; module++) {
+        Path modulePath = tempDir.resolve("module" + module);
+        files.add(GeneratedFile.create(modulePath.resolve("build.gradle.kts"), "module " + module));
+        files.add(GeneratedFile.create(modulePath.resolve("src/main/java/.gitkeep"), ""));
+        files.add(GeneratedFile.create(modulePath.resolve("src/test/java/.gitkeep"), ""));
+      }
+
+      // When
+      adapter.writeFiles(files);
+
+      // Then
+      for (GeneratedFile file : files) {
+        assertEquals(file.content(), readFileContent(file.path()));
+      }
+      assertEquals(30, adapter.getWrittenCount());
+    }
+
+    @Test
+    @DisplayName("Should keep last content when path is written twice")
+    void shouldKeepLastContentWhenPathIsWrittenTwice(@TempDir Path tempDir) {
+      // Given
+      Path filePath = tempDir.resolve("Demo.java");
+
+      // When
+      adapter.writeFiles(List.of(
+          GeneratedFile.create(filePath, "first"),
+          GeneratedFile.create(tempDir.resolve("Other.java"), "other"),
+          GeneratedFile.create(filePath, "second")));
+
+      // Then
+      assertEquals("second", readFileContent(filePath));
+    }
+
+    @Test
+    @DisplayName("Should report every failed file and write the rest")
+    void shouldReportEveryFailedFileAndWriteTheRest(@TempDir Path tempDir) throws IOException {
+      // Given: Two targets that are directories, so the rename onto them fails
+      Files.createDirectories(tempDir.resolve("a/Blocked.java/child"));
+      Files.createDirectories(tempDir.resolve("b/Blocked.java/child"));
+      Path ok = tempDir.resolve("c/Ok.java");
+
+      // When
+      FileWriteException exception = assertThrows(FileWriteException.class, () -> adapter.writeFiles(List.of(
+          GeneratedFile.create(tempDir.resolve("a/Blocked.java"), "a"),
+          GeneratedFile.create(tempDir.resolve("b/Blocked.java"), "b"),
+          GeneratedFile.create(ok, "ok"))));
+
+      // Then
+      assertTrue(exception.getMessage().contains("Failed to write 2 of 3 file(s)"));
+      assertEquals(1, exception.getSuppressed().length);
+      assertEquals("ok", readFileContent(ok));
+    }
+
+    @Test
+    @DisplayName("Should write files with every durability mode")
+    void shouldWriteFilesWithEveryDurabilityMode(@TempDir Path tempDir) {
+      for (LocalFileSystemAdapter.Durability durability : LocalFileSystemAdapter.Durability.values()) {
+        // Given
+        LocalFileSystemAdapter durableAdapter = new LocalFileSystemAdapter(
+            LocalFileSystemAdapter.WriteMode.ALWAYS, durability);
+        Path directory = tempDir.resolve(durability.name());
+
+        // When
+        durableAdapter.writeFiles(List.of(
+            GeneratedFile.create(directory.resolve("a/A.java"), "a"),
+            GeneratedFile.create(directory.resolve("b/B.java"), "b")));
+        durableAdapter.writeFile(GeneratedFile.create(directory.resolve("C.java"), "c"));
+
+        // Then
+        assertEquals("a", readFileContent(directory.resolve("a/A.java")));
+        assertEquals("b", readFileContent(directory.resolve("b/B.java")));
+        assertEquals("c", readFileContent(directory.resolve("C.java")));
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Skip Unchanged Writes")
+  class SkipUnchangedWrites {
+
+    @Test
+    @DisplayName("Should leave identical file untouched")
+    void shouldLeaveIdenticalFileUntouched(@TempDir Path tempDir) throws IOException {
+      // Given
+      Path filePath = tempDir.resolve("Demo.java");
+      Files.writeString(filePath, "class Demo {}");
+      FileTime modified = FileTime.fromMillis(1_000_000_000L);
+      Files.setLastModifiedTime(filePath, modified);
+
+      // When
+      adapter.writeFile(GeneratedFile.create(filePath, "class Demo {}"));
+
+      // Then
+      assertEquals(modified, Files.getLastModifiedTime(filePath));
+      assertEquals(0, adapter.getWrittenCount());
+      assertEquals(1, adapter.getSkippedCount());
+    }
+
+    @Test
+    @DisplayName("Should rewrite file with same size but different content")
+    void shouldRewriteFileWithSameSizeButDifferentContent(@TempDir Path tempDir) throws IOException {
+      // Given
+      Path filePath = tempDir.resolve("Demo.java");
+      String original = "a".repeat(20_000);
+      String updated = original.substring(0, 19_999) + "b";
+      Files.writeString(filePath, original);
+
+      // When
+      adapter.writeFile(GeneratedFile.create(filePath, updated));
+
+      // Then
+      assertEquals(updated, Files.readString(filePath));
+      assertEquals(1, adapter.getWrittenCount());
+      assertEquals(0, adapter.getSkippedCount());
+    }
+
+    @Test
+    @DisplayName("Should always write when configured to")
+    void shouldAlwaysWriteWhenConfiguredTo(@TempDir Path tempDir) throws IOException {
+      // Given
+      LocalFileSystemAdapter alwaysWrite = new LocalFileSystemAdapter(LocalFileSystemAdapter.WriteMode.ALWAYS);
+      Path filePath = tempDir.resolve("Demo.java");
+      Files.writeString(filePath, "class Demo {}");
+      FileTime modified = FileTime.fromMillis(1_000_000_000L);
+      Files.setLastModifiedTime(filePath, modified);
+
+      // When
+      alwaysWrite.writeFile(GeneratedFile.create(filePath, "class Demo {}"));
+
+      // Then
+      assertNotEquals(modified, Files.getLastModifiedTime(filePath));
+      assertEquals(1, alwaysWrite.getWrittenCount());
+    }
   }
 
   private LocalFileSystemAdapter adapter;
@@ -0,0 +1,236 @@
+package com.pragma.archetype.infrastructure.adapter.out.filesystem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.pragma.archetype.domain.model.file.GeneratedFile;
+import com.pragma.archetype.domain.port.out.FileSystemPort.FileWriteException;
+
+@DisplayName("TransactionalFileSystemAdapter Tests")
+class TransactionalFileSystemAdapterTest {
+
+  @TempDir
+  Path tempDir;
+
+  private TransactionalFileSystemAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    adapter = new TransactionalFileSystemAdapter(new LocalFileSystemAdapter(), tempDir);
+  }
+
+  @Test
+  @DisplayName("Should stage writes until flush")
+  void shouldStageWritesUntilFlush() throws Exception {
+    // Given
+    Path existing = tempDir.resolve("build.gradle.kts");
+    Path created = tempDir.resolve("src/main/java/Demo.java");
+    Files.writeString(existing, "original");
+
+    // When
+    adapter.writeFile(GeneratedFile.create(existing, "updated"));
+    adapter.writeFile(GeneratedFile.create(created, "class Demo {}"));
+
+    // Then
+    assertEquals("original", Files.readString(existing));
+    assertFalse(Files.exists(created));
+    assertTrue(adapter.exists(created));
+    assertEquals("updated", adapter.readFile(existing));
+    assertEquals(2, adapter.stagedFiles().size());
+    assertTrue(adapter.isTransactional());
+  }
+
+  @Test
+  @DisplayName("Should not stage writes with unchanged content")
+  void shouldNotStageUnchangedWrites() throws Exception {
+    // Given
+    Path existing = tempDir.resolve("build.gradle.kts");
+    Files.writeString(existing, "original");
+
+    // When
+    adapter.writeFile(GeneratedFile.create(existing, "updated"));
+    adapter.writeFile(GeneratedFile.create(existing, "original"));
+    adapter.flush();
+
+    // Then
+    assertTrue(adapter.stagedFiles().isEmpty());
+    assertEquals("original", Files.readString(existing));
+    assertEquals(0, adapter.getWrittenCount());
+    assertEquals(1, adapter.getSkippedCount());
+  }
+
+  @Test
+  @DisplayName("Should commit staged files and remove staging directory")
+  void shouldCommitStagedFiles() throws Exception {
+    // Given
+    Path existing = tempDir.resolve("build.gradle.kts");
+    Path created = tempDir.resolve("src/main/java/Demo.java");
+    Files.writeString(existing, "original");
+    adapter.writeFile(GeneratedFile.create(existing, "updated"));
+    adapter.writeFile(GeneratedFile.create(created, "class Demo {}"));
+    adapter.appendToFile(created, "\n// end");
+
+    // When
+    adapter.flush();
+
+    // Then
+    assertEquals("updated", Files.readString(existing));
+    assertEquals("class Demo {}\n// end", Files.readString(created));
+    assertTrue(adapter.stagedFiles().isEmpty());
+    assertFalse(Files.exists(tempDir.resolve(".cleanarch/staging")));
+  }
+
+  @Test
+  @DisplayName("Should leave project untouched on discard")
+  void shouldLeaveProjectUntouchedOnDiscard() throws Exception {
+    // Given
+    Path existing = tempDir.resolve("settings.gradle.kts");
+    Files.writeString(existing, "original");
+    adapter.writeFile(GeneratedFile.create(existing, "updated"));
+    adapter.writeFile(GeneratedFile.create(tempDir.resolve("New.java"), "class New {}"));
+
+    // When
+    adapter.discard();
+    adapter.flush();
+
+    // Then
+    assertEquals("original", Files.readString(existing));
+    assertFalse(Files.exists(tempDir.resolve("New.java")));
+    assertTrue(isEmptyOrMissing(tempDir.resolve(".cleanarch/staging")));
+  }
+
+  @Test
+  @DisplayName("Should stage deletions until flush")
+  void shouldStageDeletionsUntilFlush() throws Exception {
+    // Given
+    Path config = tempDir.resolve(".cleanarch.yml");
+    Files.writeString(config, "project: demo");
+    adapter.writeFile(GeneratedFile.create(config, "project: updated"));
+
+    // When
+    adapter.deleteFile(config);
+
+    // Then
+    assertFalse(adapter.exists(config));
+    assertTrue(adapter.stagedFiles().isEmpty());
+    assertTrue(Files.exists(config));
+
+    // When
+    adapter.discard();
+
+    // Then
+    assertTrue(adapter.exists(config));
+    assertEquals("project: demo", Files.readString(config));
+
+    // When
+    adapter.deleteFile(config);
+    adapter.flush();
+
+    // Then
+    assertFalse(Files.exists(config));
+    assertTrue(isEmptyOrMissing(tempDir.resolve(".cleanarch/staging")));
+  }
+
+  @Test
+  @DisplayName("Should remove empty directories created before a discard")
+  void shouldRemoveCreatedDirectoriesOnDiscard() throws Exception {
+    // Given
+    Files.createDirectories(tempDir.resolve("src/main"));
+    Files.writeString(tempDir.resolve("src/main/Kept.java"), "class Kept {}");
+    adapter.createDirectory(tempDir.resolve("src/main/java/com/test"));
+    adapter.createDirectory(tempDir.resolve("infrastructure/driven-adapters/redis"));
+    var checkpoint = adapter.checkpoint();
+    adapter.createDirectory(tempDir.resolve("infrastructure/driven-adapters/mongo"));
+
+    // When
+    adapter.rollbackTo(checkpoint);
+
+    // Then
+    assertFalse(Files.exists(tempDir.resolve("infrastructure/driven-adapters/mongo")));
+    assertTrue(Files.isDirectory(tempDir.resolve("infrastructure/driven-adapters/redis")));
+
+    // When
+    adapter.discard();
+
+    // Then
+    assertFalse(Files.exists(tempDir.resolve("src/main/java")));
+    assertFalse(Files.exists(tempDir.resolve("infrastructure")));
+    assertEquals("class Kept {}", Files.readString(tempDir.resolve("src/main/Kept.java")));
+  }
+
+  @Test
+  @DisplayName("Should drop writes made since a checkpoint")
+  void shouldRollBackToCheckpoint() throws Exception {
+    // Given
+    Path settings = tempDir.resolve("settings.gradle.kts");
+    Files.writeString(settings, "original");
+    adapter.writeFile(GeneratedFile.create(settings, "first adapter"));
+    var checkpoint = adapter.checkpoint();
+    adapter.writeFile(GeneratedFile.create(settings, "second adapter"));
+    adapter.writeFile(GeneratedFile.create(tempDir.resolve("Second.java"), "class Second {}"));
+
+    // When
+    adapter.rollbackTo(checkpoint);
+    adapter.flush();
+
+    // Then
+    assertEquals("first adapter", Files.readString(settings));
+    assertFalse(Files.exists(tempDir.resolve("Second.java")));
+    assertTrue(isEmptyOrMissing(tempDir.resolve(".cleanarch/staging")));
+  }
+
+  @Test
+  @DisplayName("Should roll back applied renames when commit fails")
+  void shouldRollBackWhenCommitFails() throws Exception {
+    // Given
+    Path existing = tempDir.resolve("build.gradle.kts");
+    Path created = tempDir.resolve("created.txt");
+    Files.writeString(existing, "original");
+    Files.writeString(tempDir.resolve("blocker"), "a file, not a directory");
+
+    adapter.writeFile(GeneratedFile.create(existing, "updated"));
+    adapter.writeFile(GeneratedFile.create(created, "new"));
+    adapter.writeFile(GeneratedFile.create(tempDir.resolve("blocker/file.txt"), "cannot be committed"));
+
+    // When/Then
+    assertThrows(FileWriteException.class, () -> adapter.flush());
+    assertEquals("original", Files.readString(existing));
+    assertFalse(Files.exists(created));
+    assertTrue(isEmptyOrMissing(tempDir.resolve(".cleanarch/staging")));
+  }
+
+  @Test
+  @DisplayName("Should write files outside the project directly")
+  void shouldWriteOutsideProjectDirectly() throws Exception {
+    // Given
+    TransactionalFileSystemAdapter projectAdapter = new TransactionalFileSystemAdapter(
+        new LocalFileSystemAdapter(), tempDir.resolve("project"));
+    Path outside = tempDir.resolve("outside.txt");
+
+    // When
+    projectAdapter.writeFile(GeneratedFile.create(outside, "direct"));
+
+    // Then
+    assertEquals("direct", Files.readString(outside));
+    assertTrue(projectAdapter.stagedFiles().isEmpty());
+  }
+
+  private boolean isEmptyOrMissing(Path directory) throws Exception {
+    if (!Files.exists(directory)) {
+      return true;
+    }
+    try (var entries = Files.list(directory)) {
+      return entries.findAny().isEmpty();
+    }
+  }
+}
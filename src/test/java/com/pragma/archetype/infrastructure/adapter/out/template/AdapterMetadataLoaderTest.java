@@ -3,6 +3,7 @@ package com.pragma.archetype.infrastructure.adapter.out.template;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -330,4 +331,30 @@ class AdapterMetadataLoaderTest {
     assertTrue(metadata.testDependencies().isEmpty());
     assertTrue(metadata.configurationClasses().isEmpty());
   }
+
+  @Test
+  @DisplayName("Should reuse parsed metadata until the file content changes")
+  void shouldReuseParsedMetadataUntilContentChanges() {
+    // Given
+    String path = "adapters/redis/metadata.yml";
+    contentProvider.addTemplate(path, """
+        name: redis
+        type: driven
+        description: Redis adapter
+        """);
+
+    // When
+    AdapterMetadata first = loader.loadAdapterMetadata("redis");
+    AdapterMetadata second = loader.loadAdapterMetadata("redis");
+    contentProvider.addTemplate(path, """
+        name: redis
+        type: driven
+        description: Redis cache adapter
+        """);
+    AdapterMetadata changed = loader.loadAdapterMetadata("redis");
+
+    // Then
+    assertSame(first, second);
+    assertEquals("Redis cache adapter", changed.description());
+  }
 }
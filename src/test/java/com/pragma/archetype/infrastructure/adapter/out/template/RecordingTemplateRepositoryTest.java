@@ -0,0 +1,118 @@
+package com.pragma.archetype.infrastructure.adapter.out.template;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.pragma.archetype.domain.model.file.GeneratedFile;
+import com.pragma.archetype.domain.model.manifest.GenerationManifest;
+import com.pragma.archetype.domain.model.manifest.ManifestEntry;
+
+class RecordingTemplateRepositoryTest {
+
+  @TempDir
+  Path templatesDir;
+
+  private final Path projectPath = Path.of("/project");
+
+  @Test
+  void shouldRecordFilesRenderedFromTemplates() throws Exception {
+    // Given
+    Files.writeString(templatesDir.resolve("Entity.java.ftl"), "class ${entityName} {}");
+    RecordingTemplateRepository repository = new RecordingTemplateRepository(
+        new FreemarkerTemplateRepository(templatesDir));
+    Map<String, Object> context = Map.of("entityName", "User", "fields", List.of(Map.of("name", "id")));
+
+    // When
+    GeneratedFile file = GeneratedFile.create(projectPath.resolve("src/User.java"),
+        repository.processTemplate("Entity.java.ftl", context));
+    List<ManifestEntry> entries = repository.manifestEntries(projectPath, List.of(file), "1.0.0");
+
+    // Then
+    assertEquals(1, entries.size());
+    ManifestEntry entry = entries.get(0);
+    assertEquals("src/User.java", entry.path());
+    assertEquals("Entity.java.ftl", entry.templatePath());
+    assertEquals(GenerationManifest.hash("class ${entityName} {}"), entry.templateHash());
+    assertEquals(file.contentHash(), entry.outputHash());
+    assertEquals("1.0.0", entry.pluginVersion());
+    assertEquals(context, entry.context());
+  }
+
+  @Test
+  void shouldSkipPostProcessedFiles() throws Exception {
+    // Given
+    Files.writeString(templatesDir.resolve("application.yml.ftl"), "name: ${projectName}");
+    RecordingTemplateRepository repository = new RecordingTemplateRepository(
+        new FreemarkerTemplateRepository(templatesDir));
+    String rendered = repository.processTemplate("application.yml.ftl", Map.of("projectName", "demo"));
+
+    // When: the rendered YAML was merged into an existing file
+    GeneratedFile merged = GeneratedFile.create(projectPath.resolve("application.yml"), rendered + "\nport: 8080");
+    List<ManifestEntry> entries = repository.manifestEntries(projectPath, List.of(merged), "1.0.0");
+
+    // Then
+    assertTrue(entries.isEmpty());
+  }
+
+  @Test
+  void shouldSkipRendersWithContextThatCannotBeStored() throws Exception {
+    // Given
+    Files.writeString(templatesDir.resolve("Build.ftl"), "${name}");
+    RecordingTemplateRepository repository = new RecordingTemplateRepository(
+        new FreemarkerTemplateRepository(templatesDir));
+    Map<String, Object> context = Map.of("name", "demo", "architecture", new Object());
+
+    // When
+    GeneratedFile file = GeneratedFile.create(projectPath.resolve("build.gradle"),
+        repository.processTemplate("Build.ftl", context));
+
+    // Then
+    assertTrue(repository.manifestEntries(projectPath, List.of(file), "1.0.0").isEmpty());
+  }
+
+  @Test
+  void shouldSkipOutputsRenderedFromDifferentInputs() throws Exception {
+    // Given
+    Files.writeString(templatesDir.resolve("Gitignore.ftl"), "build/");
+    Files.writeString(templatesDir.resolve("Ignore.ftl"), "build/");
+    RecordingTemplateRepository repository = new RecordingTemplateRepository(
+        new FreemarkerTemplateRepository(templatesDir));
+
+    // When: the same template and context rendered twice stays traceable
+    GeneratedFile file = GeneratedFile.create(projectPath.resolve(".gitignore"),
+        repository.processTemplate("Gitignore.ftl", Map.of("name", "demo")));
+    repository.processTemplate("Gitignore.ftl", Map.of("name", "demo"));
+
+    // Then
+    assertEquals(1, repository.manifestEntries(projectPath, List.of(file), "1.0.0").size());
+
+    // When: another template renders the same output
+    repository.processTemplate("Ignore.ftl", Map.of("name", "demo"));
+
+    // Then
+    assertTrue(repository.manifestEntries(projectPath, List.of(file), "1.0.0").isEmpty());
+  }
+
+  @Test
+  void shouldHashContextIndependentlyOfMapOrder() {
+    // Given
+    Map<String, Object> first = new LinkedHashMap<>();
+    first.put("a", 1);
+    first.put("b", List.of("x"));
+    Map<String, Object> second = new LinkedHashMap<>();
+    second.put("b", List.of("x"));
+    second.put("a", 1);
+
+    // Then
+    assertEquals(RecordingTemplateRepository.contextHash(first), RecordingTemplateRepository.contextHash(second));
+  }
+}
@@ -0,0 +1,64 @@
+package com.pragma.archetype.infrastructure.adapter.out.template;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TemplateDependencyIndexTest {
+
+  @TempDir
+  Path templateRoot;
+
+  @Test
+  void shouldFindTemplatesIncludingChangedTemplateTransitively() throws Exception {
+    // Given
+    write("entity/Entity.java.ftl", "<#include \"header.ftl\">class ${name} {}");
+    write("entity/header.ftl", "<#import \"/common/macros.ftl\" as m>");
+    write("common/macros.ftl", "<#macro license>MIT</#macro>");
+    write("usecase/UseCase.java.ftl", "interface ${name} {}");
+    TemplateDependencyIndex index = new TemplateDependencyIndex(templateRoot);
+
+    // When
+    index.scan();
+
+    // Then
+    assertEquals(Set.of("common/macros.ftl", "entity/header.ftl", "entity/Entity.java.ftl"),
+        index.affectedBy(List.of("common/macros.ftl")));
+    assertEquals(Set.of("usecase/UseCase.java.ftl"), index.affectedBy(List.of("usecase/UseCase.java.ftl")));
+  }
+
+  @Test
+  void shouldForgetRemovedInclude() throws Exception {
+    // Given
+    write("Entity.java.ftl", "<#include 'header.ftl'>");
+    write("header.ftl", "// header");
+    TemplateDependencyIndex index = new TemplateDependencyIndex(templateRoot);
+    index.scan();
+
+    // When
+    write("Entity.java.ftl", "// no header");
+    index.update("Entity.java.ftl");
+
+    // Then
+    assertEquals(Set.of("header.ftl"), index.affectedBy(List.of("header.ftl")));
+  }
+
+  @Test
+  void shouldResolveIncludesLikeFreemarker() {
+    assertEquals("common/header.ftl", TemplateDependencyIndex.resolve("entity/Entity.java.ftl", "../common/header.ftl"));
+    assertEquals("common/header.ftl", TemplateDependencyIndex.resolve("entity/Entity.java.ftl", "/common/header.ftl"));
+    assertEquals("header.ftl", TemplateDependencyIndex.resolve("Entity.java.ftl", "header.ftl"));
+  }
+
+  private void write(String templatePath, String content) throws Exception {
+    Path file = templateRoot.resolve(templatePath);
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, content);
+  }
+}
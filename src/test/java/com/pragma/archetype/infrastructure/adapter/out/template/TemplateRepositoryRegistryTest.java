@@ -0,0 +1,97 @@
+package com.pragma.archetype.infrastructure.adapter.out.template;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.pragma.archetype.domain.model.config.TemplateConfig;
+import com.pragma.archetype.domain.model.config.TemplateMode;
+import com.pragma.archetype.domain.port.out.HttpClientPort;
+
+@DisplayName("TemplateRepositoryRegistry Tests")
+class TemplateRepositoryRegistryTest {
+
+  private final TemplateRepositoryRegistry registry = new TemplateRepositoryRegistry();
+
+  @Test
+  @DisplayName("Should reuse repository for the same local directory")
+  void shouldReuseRepositoryForSameLocalDirectory(@TempDir Path tempDir) {
+    // When
+    FreemarkerTemplateRepository first = registry.local(tempDir.resolve("templates"));
+    FreemarkerTemplateRepository second = registry.local(tempDir.resolve("other/../templates"));
+    FreemarkerTemplateRepository other = registry.local(tempDir.resolve("other"));
+
+    // Then
+    assertSame(first, second);
+    assertNotSame(first, other);
+    assertEquals(2, registry.size());
+  }
+
+  @Test
+  @DisplayName("Should reuse repository for the same URL")
+  void shouldReuseRepositoryForSameUrl() {
+    // When/Then
+    assertSame(registry.fromUrl("embedded"), registry.fromUrl("embedded"));
+  }
+
+  @Test
+  @DisplayName("Should share one HTTP client")
+  void shouldShareHttpClient() {
+    // When/Then
+    assertSame(registry.httpClient(), registry.httpClient());
+  }
+
+  @Test
+  @DisplayName("Should create new repositories after clear")
+  void shouldCreateNewRepositoriesAfterClear(@TempDir Path tempDir) {
+    // Given
+    FreemarkerTemplateRepository first = registry.local(tempDir);
+
+    // When
+    registry.clear();
+
+    // Then
+    assertEquals(0, registry.size());
+    assertNotSame(first, registry.local(tempDir));
+  }
+
+  @Test
+  @DisplayName("Should forget repositories the previous build did not request")
+  void shouldForgetRepositoriesNotRequestedBeforeRefresh(@TempDir Path tempDir) {
+    // Given
+    FreemarkerTemplateRepository kept = registry.local(tempDir.resolve("kept"));
+    registry.local(tempDir.resolve("dropped"));
+    registry.refresh();
+
+    // When
+    registry.local(tempDir.resolve("kept"));
+    registry.refresh();
+
+    // Then
+    assertEquals(1, registry.size());
+    assertSame(kept, registry.local(tempDir.resolve("kept")));
+  }
+
+  @Test
+  @DisplayName("Should replace HTTP client and its repositories after close")
+  void shouldReplaceHttpClientAndItsRepositoriesAfterClose(@TempDir Path tempDir) {
+    // Given
+    FreemarkerTemplateRepository local = registry.local(tempDir);
+    registry.configured(new TemplateConfig(TemplateMode.DEVELOPER, null, null, null, tempDir.toString(), false));
+    HttpClientPort client = registry.httpClient();
+
+    // When
+    registry.close();
+
+    // Then
+    assertEquals(1, registry.size());
+    assertSame(local, registry.local(tempDir));
+    assertNotSame(client, registry.httpClient());
+  }
+}
@@ -0,0 +1,108 @@
+package com.pragma.archetype.infrastructure.adapter.out.template;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.pragma.archetype.domain.model.manifest.GenerationManifest;
+import com.pragma.archetype.domain.model.manifest.ManifestEntry;
+import com.pragma.archetype.infrastructure.adapter.out.filesystem.LocalFileSystemAdapter;
+import com.pragma.archetype.infrastructure.adapter.out.template.TemplateWatcher.Cycle;
+
+class TemplateWatcherTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void shouldRenderEveryRecordedFileInitially() throws Exception {
+    // Given
+    TemplateWatcher watcher = watcher();
+
+    // When
+    Cycle cycle = watcher.renderAll();
+
+    // Then
+    assertEquals(1, cycle.number());
+    assertEquals(List.of("src/CreateUser.java", "src/Order.java", "src/User.java"), cycle.rendered());
+    assertEquals("class User {}", Files.readString(tempDir.resolve("scratch/src/User.java")));
+  }
+
+  @Test
+  void shouldRenderOnlyFilesOfChangedTemplates() throws Exception {
+    // Given
+    TemplateWatcher watcher = watcher();
+    watcher.renderAll();
+    write("entity/Entity.java.ftl", "record ${entityName}() {}");
+
+    // When
+    Cycle cycle = watcher.templatesChanged(Set.of("entity/Entity.java.ftl"));
+
+    // Then
+    assertEquals(2, cycle.number());
+    assertEquals(Set.of("entity/Entity.java.ftl"), cycle.affected());
+    assertEquals(List.of("src/Order.java", "src/User.java"), cycle.rendered());
+    assertEquals("record Order() {}", Files.readString(tempDir.resolve("scratch/src/Order.java")));
+  }
+
+  @Test
+  void shouldRenderFilesOfTemplatesIncludingChangedTemplate() throws Exception {
+    // Given
+    TemplateWatcher watcher = watcher();
+    watcher.renderAll();
+
+    // When
+    Cycle cycle = watcher.templatesChanged(Set.of("common/header.ftl"));
+
+    // Then
+    assertEquals(Set.of("common/header.ftl", "usecase/UseCase.java.ftl"), cycle.affected());
+    assertEquals(List.of("src/CreateUser.java"), cycle.rendered());
+  }
+
+  @Test
+  void shouldReportFilesWhoseTemplateWasDeleted() throws Exception {
+    // Given
+    TemplateWatcher watcher = watcher();
+    watcher.renderAll();
+    Files.delete(tempDir.resolve("templates/entity/Entity.java.ftl"));
+
+    // When
+    Cycle cycle = watcher.templatesChanged(Set.of("entity/Entity.java.ftl"));
+
+    // Then
+    assertTrue(cycle.rendered().isEmpty());
+    assertEquals(Set.of("src/User.java", "src/Order.java"), cycle.failures().keySet());
+  }
+
+  private TemplateWatcher watcher() throws Exception {
+    write("entity/Entity.java.ftl", "class ${entityName} {}");
+    write("usecase/UseCase.java.ftl", "<#include \"/common/header.ftl\">interface ${useCaseName} {}");
+    write("common/header.ftl", "// header");
+
+    GenerationManifest manifest = new GenerationManifest(List.of(
+        entry("src/User.java", "entity/Entity.java.ftl", Map.of("entityName", "User")),
+        entry("src/Order.java", "entity/Entity.java.ftl", Map.of("entityName", "Order")),
+        entry("src/CreateUser.java", "usecase/UseCase.java.ftl", Map.of("useCaseName", "CreateUser"))));
+    Path templateRoot = tempDir.resolve("templates");
+    return new TemplateWatcher(templateRoot, new FreemarkerTemplateRepository(templateRoot), manifest,
+        tempDir.resolve("scratch"), new LocalFileSystemAdapter());
+  }
+
+  private ManifestEntry entry(String path, String templatePath, Map<String, Object> context) {
+    return new ManifestEntry(path, templatePath, "t", "c", "dev", "o", context);
+  }
+
+  private void write(String templatePath, String content) throws Exception {
+    Path file = tempDir.resolve("templates").resolve(templatePath);
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, content);
+  }
+}
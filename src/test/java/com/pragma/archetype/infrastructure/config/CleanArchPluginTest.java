@@ -3,6 +3,8 @@ package com.pragma.archetype.infrastructure.config;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.gradle.api.Project;
 import org.gradle.api.Task;
@@ -41,9 +43,25 @@ class CleanArchPluginTest {
     assertNotNull(project.getTasks().findByName("generateUseCase"));
     assertNotNull(project.getTasks().findByName("generateOutputAdapter"));
     assertNotNull(project.getTasks().findByName("generateInputAdapter"));
+    assertNotNull(project.getTasks().findByName("generateFromSpec"));
     assertNotNull(project.getTasks().findByName("updateTemplates"));
     assertNotNull(project.getTasks().findByName("clearTemplateCache"));
     assertNotNull(project.getTasks().findByName("validateTemplates"));
+    assertNotNull(project.getTasks().findByName("regenerate"));
+    assertNotNull(project.getTasks().findByName("generatorDaemon"));
+    assertNotNull(project.getTasks().findByName("watchTemplates"));
+  }
+
+  @Test
+  void apply_shouldShareTemplateServiceBetweenTasks() {
+    // When
+    plugin.apply(project);
+
+    // Then
+    GenerateEntityTask entityTask = (GenerateEntityTask) project.getTasks().getByName("generateEntity");
+    ValidateTemplatesTask validateTask = (ValidateTemplatesTask) project.getTasks().getByName("validateTemplates");
+    assertTrue(entityTask.getTemplateService().isPresent());
+    assertSame(entityTask.getTemplateService().get(), validateTask.getTemplateService().get());
   }
 
   @Test
@@ -0,0 +1,4 @@
+package ${basePackage}.infrastructure.config;
+
+public class BeanConfiguration {
+}
@@ -0,0 +1 @@
+# ${projectName}
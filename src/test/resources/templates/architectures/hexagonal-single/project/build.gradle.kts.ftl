@@ -0,0 +1,10 @@
+plugins {
+    java
+    id("org.springframework.boot") version "3.2.0"
+}
+
+group = "${basePackage}"
+
+dependencies {
+    implementation("org.springframework.boot:spring-boot-starter-webflux")
+}
@@ -0,0 +1,4 @@
+package ${basePackage};
+
+public class ${projectNamePascalCase}Application {
+}
@@ -0,0 +1,3 @@
+spring:
+  application:
+    name: ${projectName}